@@ -0,0 +1,85 @@
+package com.eum.drawingservice.global.codec;
+
+import com.eum.drawingservice.domain.blackboard.entity.DrawingPoint;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 필기 한 묶음을 지금의 Jackson 경로와 StrokeCodec 으로 주고받을 때의 시간을 비교한다.
+ * 바이트 수는 setup 에서 한 번 출력한다. gc 프로파일러(-prof gc)와 함께 돌리면 점 하나당 할당량도 볼 수 있다.
+ * DrawingPoint 는 기본 생성자가 없어 JSON 은 트리로 읽는다 (문자열과 숫자 파싱 비용은 같다).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StrokeCodecBenchmark {
+
+    @Param({"64", "4096"})
+    private int pointCount;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final StrokeCodec strokeCodec = new StrokeCodec(100);
+
+    private List<DrawingPoint> points;
+    private byte[] json;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws JsonProcessingException {
+        points = new ArrayList<>(pointCount);
+        long timestamp = 1_700_000_000_000L;
+        for (int i = 0; i < pointCount; i++) {
+            // 선 하나가 보통 수십 개의 점으로 이루어지므로 32개마다 새 선을 시작한다
+            int line = i / 32;
+            points.add(DrawingPoint.builder()
+                    .userId("user-" + (line % 3))
+                    .lineId("line-" + line)
+                    .tool("pen")
+                    .color("#1E1E1E")
+                    .type("draw")
+                    .x(120.0 + Math.sin(i / 10.0) * 40.0)
+                    .y(80.0 + i * 0.37)
+                    .timestamp(timestamp + i * 16L)
+                    .build());
+        }
+        json = objectMapper.writeValueAsBytes(points);
+        encoded = strokeCodec.encode(points);
+        System.out.printf("%n점 %d개: JSON %d bytes, StrokeCodec %d bytes%n", pointCount, json.length, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] jacksonEncode() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(points);
+    }
+
+    @Benchmark
+    public byte[] strokeCodecEncode() {
+        return strokeCodec.encode(points);
+    }
+
+    @Benchmark
+    public JsonNode jacksonDecode() throws IOException {
+        return objectMapper.readTree(json);
+    }
+
+    @Benchmark
+    public List<DrawingPoint> strokeCodecDecode() {
+        return strokeCodec.decode(encoded);
+    }
+}
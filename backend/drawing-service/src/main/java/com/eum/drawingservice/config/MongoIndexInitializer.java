@@ -0,0 +1,50 @@
+package com.eum.drawingservice.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * 문서에 선언한 @Indexed / @CompoundIndex 를 애플리케이션이 뜬 뒤 ensureIndex 한다.
+ * 컨텍스트 생성 중에는 Mongo 에 접속하지 않으므로 Mongo 없이도 애플리케이션이 뜨고,
+ * 인덱스 생성에 실패하면 로그만 남긴다. 이미 같은 인덱스가 있으면 아무 일도 일어나지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MongoIndexInitializer {
+
+    private final MongoTemplate mongoTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        MongoMappingContext mappingContext = (MongoMappingContext) mongoTemplate.getConverter().getMappingContext();
+        MongoPersistentEntityIndexResolver resolver = new MongoPersistentEntityIndexResolver(mappingContext);
+
+        for (MongoPersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
+            if (!entity.isAnnotationPresent(Document.class)) {
+                continue;
+            }
+            try {
+                IndexOperations indexOperations = mongoTemplate.indexOps(entity.getType());
+                resolver.resolveIndexFor(entity.getType()).forEach(indexOperations::ensureIndex);
+            } catch (DataAccessResourceFailureException e) {
+                // 접속 자체가 안 되면 나머지 컬렉션도 같은 시간만큼 기다리다 실패하므로 멈춘다
+                log.error("Mongo 에 접속하지 못해 인덱스를 만들지 못했습니다.", e);
+                return;
+            } catch (RuntimeException e) {
+                log.error("인덱스를 만들지 못했습니다. collection: {}", entity.getCollection(), e);
+            }
+        }
+        log.info("Mongo 인덱스 확인 완료");
+    }
+}
@@ -1,10 +1,13 @@
 package com.eum.drawingservice.config;
 
+import com.eum.drawingservice.global.codec.StrokeCodec;
+import com.eum.drawingservice.global.codec.StrokeMessageConverter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.converter.MessageConverter;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.messaging.simp.stomp.StompCommand;
@@ -17,6 +20,7 @@ import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 
 import java.security.Principal;
+import java.util.List;
 
 @Configuration
 @RequiredArgsConstructor
@@ -24,6 +28,7 @@ import java.security.Principal;
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final ChannelInterceptor channelInterceptor;
+    private final StrokeCodec strokeCodec;
 
     @Bean
     public SimpleAsyncTaskScheduler customMessageBrokerTaskScheduler() {
@@ -51,6 +56,13 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .setAllowedOriginPatterns("*");
     }
 
+    // 바이너리 필기 변환기를 앞에 두고, 기본 변환기(JSON 등)도 그대로 등록한다
+    @Override
+    public boolean configureMessageConverters(List<MessageConverter> messageConverters) {
+        messageConverters.add(new StrokeMessageConverter(strokeCodec));
+        return true;
+    }
+
     public void configureClientInboundChannel(ChannelRegistration registration) {
         registration.interceptors(channelInterceptor);
     }
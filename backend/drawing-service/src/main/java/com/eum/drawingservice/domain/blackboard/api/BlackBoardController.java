@@ -3,13 +3,15 @@ package com.eum.drawingservice.domain.blackboard.api;
 import com.eum.drawingservice.domain.blackboard.dto.SnapShotRequestDTO;
 import com.eum.drawingservice.domain.blackboard.entity.DrawingPoint;
 import com.eum.drawingservice.domain.blackboard.service.BlackBoardService;
+import com.eum.drawingservice.global.broadcast.FrameBroadcaster;
+import com.eum.drawingservice.global.subscribe.ChannelName;
+import com.eum.drawingservice.global.subscribe.SubscriptionManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Controller;
-import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.util.MimeTypeUtils;
 
 import java.util.List;
 
@@ -17,13 +19,20 @@ import java.util.List;
 @RequiredArgsConstructor
 public class BlackBoardController {
 
-    private final SimpMessagingTemplate messagingTemplate;
+    private final FrameBroadcaster frameBroadcaster;
     private final BlackBoardService blackBoardService;
+    private final SubscriptionManager subscriptionManager;
 
+    // JSON 또는 바이너리(application/x-eum-stroke) 로 받은 필기를 frame 단위로 모아 두 형식의 구독자에게 각각 전달한다
     @MessageMapping("/drawing/classroom/{classroomId}")
     public void drawingBlackBoard(@Payload List<DrawingPoint> requestDTO, @DestinationVariable String classroomId) {
         blackBoardService.drawingBlackBoard(requestDTO, classroomId);
-        messagingTemplate.convertAndSend("/topic/classroom/" + classroomId, requestDTO);
+        frameBroadcaster.appendItems("/topic/classroom/" + classroomId, requestDTO);
+
+        if (!subscriptionManager.getSubscribedSessions(ChannelName.BLACKBOARD_BINARY, classroomId).isEmpty()) {
+            frameBroadcaster.appendItems("/topic/classroom/" + classroomId + "/binary", requestDTO,
+                    MimeTypeUtils.APPLICATION_OCTET_STREAM);
+        }
     }
 
     // SnapShot 저장 API
@@ -2,12 +2,18 @@ package com.eum.drawingservice.domain.blackboard.entity;
 
 import lombok.Builder;
 import lombok.Getter;
+import lombok.Setter;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
-import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * 칠판의 현재 스냅샷 버전과 그 이후 기록된 점 개수.
+ * 점 자체는 StrokeBucket 에 나눠 저장하고, 조회 응답을 만들 때만 points 에 채운다.
+ */
 @Getter
 @Builder
 @Document(collection = "drawing_operations")
@@ -15,19 +21,12 @@ public class DrawingOperation {
 
     @Id
     private String id;
-    private List<DrawingPoint> points = new ArrayList<>();
+    @Setter
+    @Transient
+    private List<DrawingPoint> points;
+    @Indexed(name = "classroom_idx", unique = true)
     private String classroomId;
     private int snapshotVersion;
-
-    public void snapshotVersionUp() {
-        this.snapshotVersion++;
-    }
-
-    public void addPoint(List<DrawingPoint> point) {
-        this.points.addAll(point);
-    }
-
-    public void removeAllPoints() {
-        this.points.clear();
-    }
+    private long pointCount;
+    private long compactedAt;
 }
@@ -4,11 +4,13 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @Getter
 @Builder
 @Document(collection = "snapshots")
+@CompoundIndex(name = "classroom_version_idx", def = "{'classroomId': 1, 'version': 1}", unique = true)
 public class SnapShot {
 
     @Id
@@ -18,8 +20,4 @@ public class SnapShot {
     private String classroomId;
     private int version;
     private long timestamp;
-
-    public void versionUp() {
-        this.version++;
-    }
 }
@@ -0,0 +1,35 @@
+package com.eum.drawingservice.domain.blackboard.entity;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.List;
+
+/**
+ * 칠판 필기 기록을 BUCKET_SIZE 개씩 나눠 담는 문서.
+ * 스냅샷 버전마다 bucketNo 0 부터 채워지며, 한 문서가 BUCKET_SIZE 를 넘지 않으므로 수업이 길어져도 커지지 않는다.
+ * 메시지 하나의 점들은 StrokeCodec 으로 인코딩해 chunks 에 하나씩 붙이고, points 는 이전 형식으로 저장된 버킷에만 있다.
+ * sealed 는 버전이 올라간 뒤 압축이나 스냅샷 저장이 이 버킷을 읽기 시작했다는 표시로, 그 뒤에는 점을 더하지 않는다.
+ */
+@Getter
+@Builder
+@Document(collection = "stroke_buckets")
+@CompoundIndex(name = "classroom_version_bucket_idx",
+        def = "{'classroomId': 1, 'snapshotVersion': 1, 'bucketNo': 1}", unique = true)
+public class StrokeBucket {
+
+    public static final int BUCKET_SIZE = 500;
+
+    @Id
+    private String id;
+    private String classroomId;
+    private int snapshotVersion;
+    private long bucketNo;
+    private int count;
+    private List<DrawingPoint> points;
+    private List<byte[]> chunks;
+    private boolean sealed;
+}
@@ -8,4 +8,6 @@ import java.util.Optional;
 public interface SnapShotRepository extends MongoRepository<SnapShot, String> {
 
     Optional<SnapShot> findByClassroomIdAndVersion(String classroomId, int snapshotVersion);
+
+    void deleteByClassroomIdAndVersionLessThan(String classroomId, int snapshotVersion);
 }
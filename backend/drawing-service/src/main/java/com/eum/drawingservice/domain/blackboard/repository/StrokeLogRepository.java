@@ -0,0 +1,201 @@
+package com.eum.drawingservice.domain.blackboard.repository;
+
+import com.eum.drawingservice.domain.blackboard.entity.DrawingOperation;
+import com.eum.drawingservice.domain.blackboard.entity.DrawingPoint;
+import com.eum.drawingservice.domain.blackboard.entity.SnapShot;
+import com.eum.drawingservice.domain.blackboard.entity.StrokeBucket;
+import com.eum.drawingservice.global.codec.StrokeCodec;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.stream.Stream;
+
+/**
+ * 칠판 필기를 추가만 하는 기록으로 저장한다.
+ * drawing_operations 의 pointCount 를 $inc 로 올려 이번 점들이 들어갈 위치를 먼저 받고,
+ * 그 위치의 StrokeBucket 에 $push 로 upsert 하므로 메시지당 비용은 기록 길이와 관계없이 일정하다.
+ * 점은 StrokeCodec 으로 인코딩한 chunk 로 저장하고, 예전 points 배열로 저장된 버킷도 그대로 읽는다.
+ * 버전을 올린 쪽은 이전 버전 버킷을 봉인(sealed)하고, 봉인된 버킷에 쓰려던 추가는 새 버전에 다시 쓴다.
+ * 그래서 봉인 뒤 읽은 이전 버전 기록은 더 바뀌지 않고, 점이 버전 사이에서 사라지거나 순서가 바뀌지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StrokeLogRepository {
+
+    private final MongoTemplate mongoTemplate;
+    private final StrokeCodec strokeCodec;
+
+    // 추가한 뒤 현재 버전에 쌓인 점 개수를 돌려준다
+    public long append(String classroomId, List<DrawingPoint> points) {
+        if (points == null || points.isEmpty()) {
+            return 0L;
+        }
+
+        DrawingOperation operation = mongoTemplate.findAndModify(
+                classroomQuery(classroomId),
+                new Update()
+                        .inc("pointCount", points.size())
+                        .setOnInsert("snapshotVersion", 0)
+                        .setOnInsert("compactedAt", System.currentTimeMillis()),
+                FindAndModifyOptions.options().upsert(true).returnNew(true),
+                DrawingOperation.class);
+
+        long position = operation.getPointCount() - points.size();
+        int from = 0;
+        while (from < points.size()) {
+            long bucketNo = position / StrokeBucket.BUCKET_SIZE;
+            int remaining = (int) (StrokeBucket.BUCKET_SIZE - position % StrokeBucket.BUCKET_SIZE);
+            int to = Math.min(points.size(), from + remaining);
+            List<DrawingPoint> chunk = points.subList(from, to);
+
+            if (!pushChunk(classroomId, operation.getSnapshotVersion(), bucketNo, chunk)) {
+                // 그 사이 버전이 올라가 이전 버전이 봉인되었다. 남은 점은 새 버전 뒤에 이어 쓴다
+                return append(classroomId, points.subList(from, points.size()));
+            }
+
+            position += chunk.size();
+            from = to;
+        }
+        return operation.getPointCount();
+    }
+
+    // 봉인되지 않은 버킷에만 쓴다. 봉인된 버킷이 있으면 upsert 가 같은 키로 새 문서를 만들려다 실패한다
+    // 같은 버킷을 동시에 처음 만드는 경우에도 실패하므로 한 번 더 시도해 보고, 그래도 실패하면 봉인된 것으로 본다
+    private boolean pushChunk(String classroomId, int snapshotVersion, long bucketNo, List<DrawingPoint> chunk) {
+        Query query = bucketQuery(classroomId, snapshotVersion, bucketNo)
+                .addCriteria(Criteria.where("sealed").ne(true));
+        Update update = new Update()
+                .push("chunks", strokeCodec.encode(chunk))
+                .inc("count", chunk.size());
+        for (int attempt = 0; attempt < 2; attempt++) {
+            try {
+                mongoTemplate.upsert(query, update, StrokeBucket.class);
+                return true;
+            } catch (DuplicateKeyException e) {
+                // 다시 시도한다
+            }
+        }
+        return false;
+    }
+
+    // 스냅샷을 저장하기 전에 칠판 기록 문서가 있어야 버전을 비교해 올릴 수 있다
+    public DrawingOperation findOrCreateOperation(String classroomId) {
+        Query query = classroomQuery(classroomId);
+        query.fields().exclude("points");
+        return mongoTemplate.findAndModify(query,
+                new Update()
+                        .setOnInsert("pointCount", 0L)
+                        .setOnInsert("snapshotVersion", 0)
+                        .setOnInsert("compactedAt", System.currentTimeMillis()),
+                FindAndModifyOptions.options().upsert(true).returnNew(true),
+                DrawingOperation.class);
+    }
+
+    public Optional<DrawingOperation> findOperation(String classroomId) {
+        Query query = classroomQuery(classroomId);
+        // 예전 방식으로 points 를 통째로 담고 있던 문서라도 읽지 않는다
+        query.fields().exclude("points");
+        return Optional.ofNullable(mongoTemplate.findOne(query, DrawingOperation.class));
+    }
+
+    // 스냅샷 이후의 버킷을 순서대로 커서로 읽는다. 호출한 쪽에서 Stream 을 닫아야 한다
+    public Stream<DrawingPoint> streamPoints(String classroomId, int snapshotVersion) {
+        Query query = Query.query(Criteria.where("classroomId").is(classroomId)
+                        .and("snapshotVersion").is(snapshotVersion))
+                .with(Sort.by(Sort.Direction.ASC, "bucketNo"));
+        query.fields().include("points").include("chunks");
+
+        return mongoTemplate.stream(query, StrokeBucket.class)
+                .flatMap(this::pointsOf);
+    }
+
+    public List<DrawingPoint> findPoints(String classroomId, int snapshotVersion) {
+        try (Stream<DrawingPoint> points = streamPoints(classroomId, snapshotVersion)) {
+            return points.toList();
+        }
+    }
+
+    /**
+     * 현재 버전이 currentVersion 일 때만 다음 버전으로 올린다. 이후 추가되는 점은 새 버전 버킷으로 간다.
+     * @return 올리기 직전까지 이전 버전에 기록된 점 개수, 그 사이 다른 곳에서 버전을 올렸으면 empty
+     */
+    public OptionalLong advanceVersion(String classroomId, int currentVersion) {
+        Query query = classroomQuery(classroomId).addCriteria(Criteria.where("snapshotVersion").is(currentVersion));
+        query.fields().exclude("points");
+
+        DrawingOperation before = mongoTemplate.findAndModify(query,
+                new Update()
+                        .inc("snapshotVersion", 1)
+                        .set("pointCount", 0L)
+                        .set("compactedAt", System.currentTimeMillis())
+                        .unset("points"),
+                FindAndModifyOptions.options().returnNew(false),
+                DrawingOperation.class);
+        return before == null ? OptionalLong.empty() : OptionalLong.of(before.getPointCount());
+    }
+
+    /**
+     * advanceVersion 으로 올리기 전 버전의 버킷을 봉인한다. 아직 쓰이지 않은 버킷은 빈 봉인 버킷으로 만든다.
+     * 봉인한 뒤에는 그 버전에 점이 더 추가되지 않으므로 findPoints 결과가 최종 기록이 된다.
+     */
+    public void sealBuckets(String classroomId, int snapshotVersion, long pointCount) {
+        long bucketCount = (pointCount + StrokeBucket.BUCKET_SIZE - 1) / StrokeBucket.BUCKET_SIZE;
+        if (bucketCount == 0) {
+            return;
+        }
+
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, StrokeBucket.class);
+        for (long bucketNo = 0; bucketNo < bucketCount; bucketNo++) {
+            bulkOperations.upsert(bucketQuery(classroomId, snapshotVersion, bucketNo), new Update()
+                    .set("sealed", true)
+                    .setOnInsert("count", 0));
+        }
+        bulkOperations.execute();
+    }
+
+    public void deleteBuckets(String classroomId, int beforeVersion) {
+        mongoTemplate.remove(Query.query(Criteria.where("classroomId").is(classroomId)
+                .and("snapshotVersion").lt(beforeVersion)), StrokeBucket.class);
+    }
+
+    // 마지막 압축 이후 점이 쌓였는데 compactedBefore 보다 오래 압축되지 않은 칠판
+    public List<String> findClassroomIdsToCompact(long compactedBefore) {
+        Query query = Query.query(Criteria.where("pointCount").gt(0)
+                .orOperator(
+                        Criteria.where("compactedAt").lt(compactedBefore),
+                        Criteria.where("compactedAt").exists(false)));
+        query.fields().include("classroomId");
+        return mongoTemplate.find(query, DrawingOperation.class).stream()
+                .map(DrawingOperation::getClassroomId)
+                .toList();
+    }
+
+    private Stream<DrawingPoint> pointsOf(StrokeBucket bucket) {
+        Stream<DrawingPoint> legacy = bucket.getPoints() == null ? Stream.empty() : bucket.getPoints().stream();
+        Stream<DrawingPoint> encoded = bucket.getChunks() == null
+                ? Stream.empty()
+                : bucket.getChunks().stream().flatMap(chunk -> strokeCodec.decode(chunk).stream());
+        return Stream.concat(legacy, encoded);
+    }
+
+    private Query classroomQuery(String classroomId) {
+        return Query.query(Criteria.where("classroomId").is(classroomId));
+    }
+
+    private Query bucketQuery(String classroomId, int snapshotVersion, long bucketNo) {
+        return Query.query(Criteria.where("classroomId").is(classroomId)
+                .and("snapshotVersion").is(snapshotVersion)
+                .and("bucketNo").is(bucketNo));
+    }
+}
@@ -5,8 +5,8 @@ import com.eum.drawingservice.domain.blackboard.dto.SnapShotResponseDTO;
 import com.eum.drawingservice.domain.blackboard.entity.DrawingOperation;
 import com.eum.drawingservice.domain.blackboard.entity.DrawingPoint;
 import com.eum.drawingservice.domain.blackboard.entity.SnapShot;
-import com.eum.drawingservice.domain.blackboard.repository.DrawingOperationRepository;
 import com.eum.drawingservice.domain.blackboard.repository.SnapShotRepository;
+import com.eum.drawingservice.domain.blackboard.repository.StrokeLogRepository;
 import com.eum.drawingservice.global.subscribe.ChannelName;
 import com.eum.drawingservice.global.subscribe.SubscriptionManager;
 import lombok.RequiredArgsConstructor;
@@ -18,10 +18,11 @@ import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.OptionalLong;
 import java.util.Set;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -31,37 +32,41 @@ public class BlackBoardServiceImpl implements BlackBoardService {
     private final SimpMessagingTemplate messagingTemplate;
     private final SubscriptionManager subscriptionManger;
 
-    private final DrawingOperationRepository drawingOperationRepository;
+    private final StrokeLogRepository strokeLogRepository;
     private final SnapShotRepository snapShotRepository;
+    private final SnapShotCompactor snapShotCompactor;
 
     @Override
     public void drawingBlackBoard(List<DrawingPoint> requestDTO, String classroomId) {
-        // 2. 해당 버전에 맞는 drawingOperation 가져오기. 없으면 생성
-        DrawingOperation drawingOperation = drawingOperationRepository
-                .findByClassroomId(classroomId).orElse(null);
-        if (drawingOperation == null) {
-            drawingOperation = DrawingOperation.builder()
-                    .classroomId(classroomId)
-                    .snapshotVersion(0)
-                    .points(new ArrayList<>())
-                    .build();
-        }
-
-        // 3. drawingOperation에 requestDTO 추가 및 저장
-        drawingOperation.addPoint(requestDTO);
-        drawingOperationRepository.save(drawingOperation);
+        // 현재 스냅샷 버전의 마지막 버킷에 점을 이어 붙인다 (기존 기록은 읽지 않는다)
+        long pointCount = strokeLogRepository.append(classroomId, requestDTO);
+        snapShotCompactor.onAppended(classroomId, pointCount);
     }
 
     @Override
     public SnapShotResponseDTO getSnapShot(String classroomId) {
         // 1. drawingOperation 가져오기
-        DrawingOperation drawingOperation = drawingOperationRepository.findByClassroomId(classroomId).orElse(null);
+        DrawingOperation drawingOperation = strokeLogRepository.findOperation(classroomId).orElse(null);
         int latestVersion = drawingOperation == null ? 0 : drawingOperation.getSnapshotVersion();
 
         // 2. 해당 버전에 맞는 snapshot 가져오기
         SnapShot snapShot = snapShotRepository
                 .findByClassroomIdAndVersion(classroomId, latestVersion).orElse(null);
 
+        // 3. 스냅샷 이후의 점을 버킷 순서대로 읽어 붙이기
+        //    압축이 버전만 올리고 아직 스냅샷을 저장하지 않았다면 이전 스냅샷과 이전 버전 기록부터 이어 붙인다
+        if (drawingOperation != null) {
+            boolean compacting = snapShot == null && latestVersion > 0;
+            if (compacting) {
+                snapShot = snapShotRepository.findByClassroomIdAndVersion(classroomId, latestVersion - 1).orElse(null);
+            }
+            try (Stream<DrawingPoint> previous = compacting
+                    ? strokeLogRepository.streamPoints(classroomId, latestVersion - 1) : Stream.empty();
+                 Stream<DrawingPoint> points = strokeLogRepository.streamPoints(classroomId, latestVersion)) {
+                drawingOperation.setPoints(Stream.concat(previous, points).toList());
+            }
+        }
+
         return SnapShotResponseDTO.builder()
                 .snapShot(snapShot)
                 .drawingOperation(drawingOperation)
@@ -88,32 +93,34 @@ public class BlackBoardServiceImpl implements BlackBoardService {
 
     @Override
     public void saveSnapShot(SnapShotRequestDTO requestDTO) {
-        // 1. 해당 클래스룸의 최신 버전 번호 받아오기
-        DrawingOperation drawingOperation = drawingOperationRepository
-                .findByClassroomId(String.valueOf(requestDTO.getClassroomId())).orElse(null);
-        int latestVersion = drawingOperation == null ? 0 : drawingOperation.getSnapshotVersion();
+        String classroomId = String.valueOf(requestDTO.getClassroomId());
 
-        // 2. 해당 imageData를 SnapShot으로 저장
-        SnapShot snapShot = snapShotRepository
-                .findByClassroomIdAndVersion(String.valueOf(requestDTO.getClassroomId()), latestVersion)
-                .orElse(null);
-
-        if (snapShot == null) {
-            snapShot = SnapShot.builder()
-                    .classroomId(String.valueOf(requestDTO.getClassroomId()))
-                    .version(latestVersion)
-                    .build();
+        // 1. 해당 클래스룸의 최신 버전 번호 받아오기
+        DrawingOperation drawingOperation = strokeLogRepository.findOrCreateOperation(classroomId);
+        int latestVersion = drawingOperation.getSnapshotVersion();
+
+        // 2. 압축기와 같은 조건으로 버전을 올린다. 그 사이 다른 쪽이 먼저 올렸으면 이 스냅샷은 버린다
+        OptionalLong recorded = strokeLogRepository.advanceVersion(classroomId, latestVersion);
+        if (recorded.isEmpty()) {
+            log.info("다른 스냅샷이 먼저 저장되어 건너뜁니다. classroomId: {}, version: {}", classroomId, latestVersion);
+            return;
         }
-        snapShot.setImageData(requestDTO.getImageData());
-        snapShot.versionUp();
-        snapShotRepository.save(snapShot);
 
-        // 3. drawingOperation 버전 업데이트
-        if (drawingOperation != null) {
-            drawingOperation.snapshotVersionUp();
-            drawingOperation.removeAllPoints();
-            drawingOperationRepository.save(drawingOperation);
-        }
+        // 압축기와 같이 이전 버전 버킷을 봉인해, 버전이 바뀌기 전에 위치를 받은 추가가 새 버전에 다시 쓰이게 한다
+        // 스냅샷이 저장되면 조회는 이전 버전을 보지 않으므로, 봉인하지 않으면 그 점들이 사라진다
+        strokeLogRepository.sealBuckets(classroomId, latestVersion, recorded.getAsLong());
+
+        // 3. 해당 imageData를 다음 버전 SnapShot으로 저장
+        snapShotRepository.insert(SnapShot.builder()
+                .classroomId(classroomId)
+                .version(latestVersion + 1)
+                .imageData(requestDTO.getImageData())
+                .timestamp(System.currentTimeMillis())
+                .build());
+
+        // 4. 이전 버전의 기록은 스냅샷에 담겼으므로 정리 (직전 버전은 조회 중인 사용자를 위해 다음 저장 때 지운다)
+        strokeLogRepository.deleteBuckets(classroomId, latestVersion);
+        snapShotRepository.deleteByClassroomIdAndVersionLessThan(classroomId, latestVersion);
     }
 
     private MessageHeaders createHeaders(String sessionId) {
@@ -0,0 +1,142 @@
+package com.eum.drawingservice.domain.blackboard.service;
+
+import com.eum.drawingservice.domain.blackboard.entity.DrawingOperation;
+import com.eum.drawingservice.domain.blackboard.entity.DrawingPoint;
+import com.eum.drawingservice.domain.blackboard.entity.SnapShot;
+import com.eum.drawingservice.domain.blackboard.repository.SnapShotRepository;
+import com.eum.drawingservice.domain.blackboard.repository.StrokeLogRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 클라이언트가 스냅샷을 올려 주지 않아도 서버에서 칠판 기록을 스냅샷 이미지로 압축한다.
+ * 현재 버전에 점이 point-threshold 개 이상 쌓이거나 max-age 동안 압축되지 않았으면,
+ * 별도 스레드에서 버전을 올리고 이전 버전 기록을 봉인한 뒤, 이전 스냅샷 위에 그 기록을 그려 다음 버전 스냅샷으로 저장한다.
+ * 새로 들어온 사용자는 스냅샷 한 장과 그 이후의 짧은 기록만 받는다.
+ */
+@Slf4j
+@Component
+public class SnapShotCompactor {
+
+    private final StrokeLogRepository strokeLogRepository;
+    private final SnapShotRepository snapShotRepository;
+    private final SnapShotRenderer snapShotRenderer;
+    private final Timer compactionTimer;
+    private final long pointThreshold;
+    private final long maxAgeMillis;
+    private final ExecutorService executorService;
+
+    private final Set<String> compactingClassrooms = ConcurrentHashMap.newKeySet();
+
+    public SnapShotCompactor(StrokeLogRepository strokeLogRepository, SnapShotRepository snapShotRepository,
+                             SnapShotRenderer snapShotRenderer, MeterRegistry meterRegistry,
+                             @Value("${drawing.compaction.point-threshold:2000}") long pointThreshold,
+                             @Value("${drawing.compaction.max-age-ms:300000}") long maxAgeMillis,
+                             @Value("${drawing.compaction.parallelism:2}") int parallelism) {
+        this.strokeLogRepository = strokeLogRepository;
+        this.snapShotRepository = snapShotRepository;
+        this.snapShotRenderer = snapShotRenderer;
+        this.compactionTimer = Timer.builder("drawing.snapshot.compaction")
+                .description("칠판 기록을 스냅샷 이미지로 압축하는 시간")
+                .register(meterRegistry);
+        this.pointThreshold = pointThreshold;
+        this.maxAgeMillis = maxAgeMillis;
+        this.executorService = Executors.newFixedThreadPool(parallelism,
+                new CustomizableThreadFactory("snapshot-compactor-"));
+    }
+
+    public void onAppended(String classroomId, long pointCount) {
+        if (pointCount >= pointThreshold) {
+            submit(classroomId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${drawing.compaction.check-interval-ms:60000}")
+    public void compactStaleClassrooms() {
+        strokeLogRepository.findClassroomIdsToCompact(System.currentTimeMillis() - maxAgeMillis)
+                .forEach(this::submit);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdown();
+    }
+
+    // 칠판마다 한 번에 하나의 압축만 실행한다
+    private void submit(String classroomId) {
+        if (!compactingClassrooms.add(classroomId)) {
+            return;
+        }
+        try {
+            executorService.execute(() -> {
+                try {
+                    compactionTimer.record(() -> compact(classroomId));
+                } catch (RuntimeException e) {
+                    log.error("스냅샷 압축 실패. classroomId: {}", classroomId, e);
+                } finally {
+                    compactingClassrooms.remove(classroomId);
+                }
+            });
+        } catch (RuntimeException e) {
+            compactingClassrooms.remove(classroomId);
+            throw e;
+        }
+    }
+
+    private void compact(String classroomId) {
+        DrawingOperation operation = strokeLogRepository.findOperation(classroomId).orElse(null);
+        if (operation == null || operation.getPointCount() == 0) {
+            return;
+        }
+        int version = operation.getSnapshotVersion();
+
+        // 1. 버전을 먼저 올려 이후의 점은 새 버전 기록으로 보낸다. 클라이언트 스냅샷 저장도 같은 조건으로 올리므로 한쪽만 성공한다
+        OptionalLong recorded = strokeLogRepository.advanceVersion(classroomId, version);
+        if (recorded.isEmpty()) {
+            return;
+        }
+
+        // 2. 이전 버전 버킷을 봉인한다. 봉인 전에 쓰지 못한 추가는 새 버전에 다시 쓰므로, 지금 읽은 점이 이전 버전의 전부다
+        strokeLogRepository.sealBuckets(classroomId, version, recorded.getAsLong());
+        List<DrawingPoint> points = strokeLogRepository.findPoints(classroomId, version);
+
+        // 3. 이전 스냅샷 위에 그려 다음 버전 스냅샷으로 저장한다. 저장 전까지 조회는 이전 스냅샷과 이전 버전 기록을 이어 본다
+        String imageData = snapShotRenderer.render(baseImage(classroomId, version), points);
+        snapShotRepository.insert(SnapShot.builder()
+                .classroomId(classroomId)
+                .version(version + 1)
+                .imageData(imageData)
+                .timestamp(System.currentTimeMillis())
+                .build());
+
+        // 4. 이전 버전 기록은 저장 직전에 조회를 시작한 사용자가 읽을 수 있도록 다음 압축 때 지운다
+        strokeLogRepository.deleteBuckets(classroomId, version);
+        snapShotRepository.deleteByClassroomIdAndVersionLessThan(classroomId, version);
+
+        log.info("스냅샷 압축 완료. classroomId: {}, version: {}, points: {}", classroomId, version + 1, points.size());
+    }
+
+    // 이전 압축이 버전만 올리고 스냅샷을 저장하지 못했다면 그 전 스냅샷에 남아 있는 기록을 그려 바탕으로 쓴다
+    private String baseImage(String classroomId, int version) {
+        return snapShotRepository.findByClassroomIdAndVersion(classroomId, version)
+                .map(SnapShot::getImageData)
+                .orElseGet(() -> version == 0 ? null : snapShotRenderer.render(
+                        snapShotRepository.findByClassroomIdAndVersion(classroomId, version - 1)
+                                .map(SnapShot::getImageData)
+                                .orElse(null),
+                        strokeLogRepository.findPoints(classroomId, version - 1)));
+    }
+}
@@ -0,0 +1,138 @@
+package com.eum.drawingservice.domain.blackboard.service;
+
+import com.eum.drawingservice.domain.blackboard.entity.DrawingPoint;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import java.awt.AlphaComposite;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Path2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이전 스냅샷 이미지 위에 DrawingPoint 를 선(lineId) 단위로 그려 새 스냅샷 이미지를 만든다.
+ * 클라이언트 캔버스와 같은 data URL(PNG) 형식으로 주고받으며, 화면 없이(headless) Java2D 로 그린다.
+ */
+@Slf4j
+@Component
+public class SnapShotRenderer {
+
+    private static final String DATA_URL_PREFIX = "data:image/png;base64,";
+    private static final String ERASER = "eraser";
+
+    private final int defaultWidth;
+    private final int defaultHeight;
+    private final float penWidth;
+    private final float eraserWidth;
+
+    public SnapShotRenderer(
+            @Value("${drawing.compaction.canvas-width:1920}") int defaultWidth,
+            @Value("${drawing.compaction.canvas-height:1080}") int defaultHeight,
+            @Value("${drawing.compaction.pen-width:3}") float penWidth,
+            @Value("${drawing.compaction.eraser-width:20}") float eraserWidth) {
+        this.defaultWidth = defaultWidth;
+        this.defaultHeight = defaultHeight;
+        this.penWidth = penWidth;
+        this.eraserWidth = eraserWidth;
+    }
+
+    public String render(String previousImageData, List<DrawingPoint> points) {
+        BufferedImage previous = decode(previousImageData);
+        int width = previous != null ? previous.getWidth() : defaultWidth;
+        int height = previous != null ? previous.getHeight() : defaultHeight;
+
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = image.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            if (previous != null) {
+                graphics.drawImage(previous, 0, 0, null);
+            }
+            groupByLine(points).forEach(line -> drawLine(graphics, line));
+        } finally {
+            graphics.dispose();
+        }
+        return encode(image);
+    }
+
+    // 같은 선의 점은 들어온 순서대로 잇는다
+    private List<List<DrawingPoint>> groupByLine(List<DrawingPoint> points) {
+        Map<String, List<DrawingPoint>> lines = new LinkedHashMap<>();
+        for (DrawingPoint point : points) {
+            String lineId = point.getUserId() + ":" + point.getLineId();
+            lines.computeIfAbsent(lineId, key -> new ArrayList<>()).add(point);
+        }
+        return new ArrayList<>(lines.values());
+    }
+
+    private void drawLine(Graphics2D graphics, List<DrawingPoint> line) {
+        DrawingPoint first = line.get(0);
+        boolean eraser = ERASER.equalsIgnoreCase(first.getTool());
+        float width = eraser ? eraserWidth : penWidth;
+
+        graphics.setComposite(eraser ? AlphaComposite.Clear : AlphaComposite.SrcOver);
+        graphics.setColor(parseColor(first.getColor()));
+        graphics.setStroke(new BasicStroke(width, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+
+        if (line.size() == 1) {
+            graphics.fill(new Ellipse2D.Double(first.getX() - width / 2, first.getY() - width / 2, width, width));
+            return;
+        }
+
+        Path2D.Double path = new Path2D.Double();
+        path.moveTo(first.getX(), first.getY());
+        for (int i = 1; i < line.size(); i++) {
+            path.lineTo(line.get(i).getX(), line.get(i).getY());
+        }
+        graphics.draw(path);
+    }
+
+    private Color parseColor(String color) {
+        if (color == null || color.isBlank()) {
+            return Color.BLACK;
+        }
+        try {
+            return Color.decode(color.startsWith("#") ? color : "#" + color);
+        } catch (NumberFormatException e) {
+            return Color.BLACK;
+        }
+    }
+
+    private BufferedImage decode(String imageData) {
+        if (imageData == null || imageData.isBlank()) {
+            return null;
+        }
+        String base64 = imageData.substring(imageData.indexOf(',') + 1);
+        try {
+            return ImageIO.read(new ByteArrayInputStream(Base64.getDecoder().decode(base64)));
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("이전 스냅샷 이미지를 읽을 수 없어 빈 캔버스에서 시작합니다.", e);
+            return null;
+        }
+    }
+
+    private String encode(BufferedImage image) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try {
+            ImageIO.write(image, "png", output);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return DATA_URL_PREFIX + Base64.getEncoder().encodeToString(output.toByteArray());
+    }
+}
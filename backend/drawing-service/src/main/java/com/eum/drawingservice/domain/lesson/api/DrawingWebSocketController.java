@@ -5,6 +5,7 @@ import com.eum.drawingservice.domain.lesson.dto.StudentInfoDTO;
 import com.eum.drawingservice.domain.lesson.entity.Role;
 import com.eum.drawingservice.global.subscribe.ChannelName;
 import com.eum.drawingservice.domain.lesson.service.DrawingService;
+import com.eum.drawingservice.global.broadcast.FrameBroadcaster;
 import com.eum.drawingservice.global.subscribe.SubscriptionManager;
 
 import io.micrometer.core.annotation.Counted;
@@ -28,16 +29,18 @@ public class DrawingWebSocketController {
     private final DrawingService drawingService;
     private final SubscriptionManager subscriptionManger;
     private final SimpMessagingTemplate messagingTemplate;
+    private final FrameBroadcaster frameBroadcaster;
 
     @MessageMapping("/draw")
     @Counted("websocket.drawing.events")
     @Timed("websocket.drawing.time")
     public void handleDrawingEvent(@Payload DrawingRequestDTO requestDTO, SimpMessageHeaderAccessor headerAccessor) {
-        drawingService.saveDrawing(requestDTO);
+        drawingService.saveDrawing(requestDTO, headerAccessor.getSessionId());
 
         if (requestDTO.getRole() == Role.TEACHER) {
             String sendUrl = "/topic/lesson/" + requestDTO.getLessonId() + "/question/" + requestDTO.getQuestionId();
-            messagingTemplate.convertAndSend(sendUrl, requestDTO);
+            // 캔버스 전체를 담고 있으므로 frame 동안 마지막 것만 학생들에게 보낸다
+            frameBroadcaster.sendLatest(sendUrl, requestDTO);
         } else {
             String subscriptionKey = requestDTO.getLessonId() + ":" + requestDTO.getMemberId();
             String teacherDestination = "/topic/teacher/lesson/" + requestDTO.getLessonId()
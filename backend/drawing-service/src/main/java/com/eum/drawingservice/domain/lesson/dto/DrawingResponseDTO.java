@@ -27,4 +27,16 @@ public class DrawingResponseDTO {
 				.questionId(Long.valueOf(drawing.getQuestionId()))
 				.build();
 	}
+
+	public static DrawingResponseDTO of(DrawingRequestDTO requestDTO) {
+		return DrawingResponseDTO.builder()
+				.drawingData(requestDTO.getDrawingData())
+				.width(requestDTO.getWidth())
+				.height(requestDTO.getHeight())
+				.ratio(requestDTO.getRatio())
+				.lessonId(requestDTO.getLessonId())
+				.memberId(requestDTO.getMemberId())
+				.questionId(requestDTO.getQuestionId())
+				.build();
+	}
 }
@@ -5,12 +5,15 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
 
 @Getter
 @Document(collection = "drawings")
+// write-behind flush 의 upsert 조건, 인덱스가 없으면 flush 마다 컬렉션 전체를 훑는다
+@CompoundIndex(name = "member_lesson_question_idx", def = "{'memberId': 1, 'lessonId': 1, 'questionId': 1}")
 @Builder
 public class Drawing {
 
@@ -5,7 +5,7 @@ import com.eum.drawingservice.domain.lesson.dto.DrawingResponseDTO;
 
 public interface DrawingService {
 
-    void saveDrawing(DrawingRequestDTO requestDTO);
+    void saveDrawing(DrawingRequestDTO requestDTO, String sessionId);
 
     DrawingResponseDTO getMemberDrawingData(Long memberId, Long lessonId, Long questionId);
 }
@@ -14,38 +14,25 @@ public class DrawingServiceImpl implements DrawingService {
     private static final String EMPTY_STRING = "eJyLjgUAARUAuQ==";
 
     private final DrawingRepository drawingRepository;
+    private final DrawingWriteBuffer drawingWriteBuffer;
 
+    // 저장은 DrawingWriteBuffer 가 모아서 비동기로 처리한다
     @Override
-    public void saveDrawing(DrawingRequestDTO requestDTO) {
+    public void saveDrawing(DrawingRequestDTO requestDTO, String sessionId) {
         if (requestDTO.getDrawingData().equals(EMPTY_STRING)) {
             return;
         }
-        
-        Drawing existingDrawing = drawingRepository.findByMemberIdAndLessonIdAndQuestionId(
-                String.valueOf(requestDTO.getMemberId()),
-                String.valueOf(requestDTO.getLessonId()),
-                String.valueOf(requestDTO.getQuestionId())
-        ).orElse(null);
-
-        if(existingDrawing == null) {
-            existingDrawing = Drawing.builder()
-                    .memberId(String.valueOf(requestDTO.getMemberId()))
-                    .lessonId(String.valueOf(requestDTO.getLessonId()))
-                    .questionId(String.valueOf(requestDTO.getQuestionId()))
-                    .width(String.valueOf(requestDTO.getWidth()))
-                    .height(String.valueOf(requestDTO.getHeight()))
-                    .ratio(String.valueOf(requestDTO.getRatio()))
-                    .drawingData(requestDTO.getDrawingData())
-                    .build();
-        } else {
-            existingDrawing.setDrawingData(requestDTO.getDrawingData());
-        }
 
-        drawingRepository.save(existingDrawing);
+        drawingWriteBuffer.put(requestDTO, sessionId);
     }
 
     @Override
     public DrawingResponseDTO getMemberDrawingData(Long memberId, Long lessonId, Long questionId) {
+        DrawingRequestDTO pending = drawingWriteBuffer.findPending(memberId, lessonId, questionId).orElse(null);
+        if (pending != null) {
+            return DrawingResponseDTO.of(pending);
+        }
+
         Drawing drawing = drawingRepository.findByMemberIdAndLessonIdAndQuestionId(
             String.valueOf(memberId),
             String.valueOf(lessonId),
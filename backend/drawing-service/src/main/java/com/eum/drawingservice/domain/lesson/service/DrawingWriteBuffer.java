@@ -0,0 +1,136 @@
+package com.eum.drawingservice.domain.lesson.service;
+
+import com.eum.drawingservice.domain.lesson.dto.DrawingRequestDTO;
+import com.eum.drawingservice.domain.lesson.entity.Drawing;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * 필기 저장을 메모리에 모아 두었다가 주기적으로 한 번에 쓰는 write-behind 버퍼.
+ * (memberId, lessonId, questionId) 마다 마지막 캔버스만 남기므로, 학생들이 동시에 필기해도
+ * Mongo 쓰기는 flush 주기마다 캔버스당 한 번으로 줄고 STOMP 수신 스레드는 Mongo 를 기다리지 않는다.
+ * 세션이 끊기면 그 세션의 캔버스를 바로 내려쓰고, 쓰기에 실패한 캔버스는 다음 주기에 다시 시도한다.
+ */
+@Slf4j
+@Component
+public class DrawingWriteBuffer {
+
+    private final MongoTemplate mongoTemplate;
+    private final Timer flushTimer;
+    private final Counter flushFailureCounter;
+
+    private final Map<DrawingKey, PendingDrawing> pendingDrawings = new ConcurrentHashMap<>();
+
+    public DrawingWriteBuffer(MongoTemplate mongoTemplate, MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.flushTimer = Timer.builder("drawing.write-behind.flush")
+                .description("버퍼에 쌓인 필기를 Mongo 에 bulk upsert 하는 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.flushFailureCounter = Counter.builder("drawing.write-behind.flush.failures")
+                .register(meterRegistry);
+        Gauge.builder("drawing.write-behind.size", pendingDrawings, Map::size)
+                .description("아직 저장되지 않은 캔버스 수")
+                .register(meterRegistry);
+    }
+
+    public void put(DrawingRequestDTO requestDTO, String sessionId) {
+        pendingDrawings.put(DrawingKey.of(requestDTO), new PendingDrawing(requestDTO, sessionId));
+    }
+
+    // 아직 저장되지 않은 캔버스가 있으면 그것이 가장 최신이다
+    public Optional<DrawingRequestDTO> findPending(Long memberId, Long lessonId, Long questionId) {
+        PendingDrawing pending = pendingDrawings.get(new DrawingKey(memberId, lessonId, questionId));
+        return pending == null ? Optional.empty() : Optional.of(pending.drawing());
+    }
+
+    @Scheduled(fixedDelayString = "${drawing.write-behind.flush-interval-ms:500}")
+    public void flush() {
+        flush(snapshot(pending -> true));
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        String sessionId = event.getSessionId();
+        flush(snapshot(pending -> sessionId.equals(pending.sessionId())));
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // 주기 flush 와 연결 종료 flush 가 같은 캔버스를 엇갈린 순서로 쓰지 않도록 한 번에 하나씩 실행한다
+    private synchronized void flush(List<Map.Entry<DrawingKey, PendingDrawing>> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        Timer.Sample sample = Timer.start();
+        try {
+            BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Drawing.class);
+            entries.forEach(entry ->
+                    bulkOperations.upsert(entry.getKey().toQuery(), toUpdate(entry.getValue().drawing())));
+            bulkOperations.execute();
+
+            // 쓰는 동안 새로 들어온 캔버스는 남겨 두었다가 다음 주기에 쓴다
+            entries.forEach(entry -> pendingDrawings.remove(entry.getKey(), entry.getValue()));
+        } catch (RuntimeException e) {
+            flushFailureCounter.increment();
+            log.error("필기 저장 실패, 다음 주기에 다시 시도합니다. size: {}", entries.size(), e);
+        } finally {
+            sample.stop(flushTimer);
+        }
+    }
+
+    private List<Map.Entry<DrawingKey, PendingDrawing>> snapshot(Predicate<PendingDrawing> filter) {
+        return pendingDrawings.entrySet().stream()
+                .filter(entry -> filter.test(entry.getValue()))
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    private Update toUpdate(DrawingRequestDTO requestDTO) {
+        return new Update()
+                .set("drawingData", requestDTO.getDrawingData())
+                .setOnInsert("width", String.valueOf(requestDTO.getWidth()))
+                .setOnInsert("height", String.valueOf(requestDTO.getHeight()))
+                .setOnInsert("ratio", String.valueOf(requestDTO.getRatio()));
+    }
+
+    private record DrawingKey(Long memberId, Long lessonId, Long questionId) {
+
+        static DrawingKey of(DrawingRequestDTO requestDTO) {
+            return new DrawingKey(requestDTO.getMemberId(), requestDTO.getLessonId(), requestDTO.getQuestionId());
+        }
+
+        // 기존 문서와 같게 id 는 문자열로 저장한다
+        Query toQuery() {
+            return Query.query(Criteria.where("memberId").is(String.valueOf(memberId))
+                    .and("lessonId").is(String.valueOf(lessonId))
+                    .and("questionId").is(String.valueOf(questionId)));
+        }
+    }
+
+    private record PendingDrawing(DrawingRequestDTO drawing, String sessionId) {
+    }
+}
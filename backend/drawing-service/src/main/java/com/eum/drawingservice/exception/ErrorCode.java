@@ -13,6 +13,7 @@ public enum ErrorCode {
 
     // Drawing
     DRAWING_HEADER_INVALID("D001", "헤더가 올바르지 않습니다.", HttpStatus.BAD_REQUEST),
+    STROKE_ENCODING_INVALID("D002", "필기 데이터 형식이 올바르지 않습니다.", HttpStatus.BAD_REQUEST),
     ;
 
     private final String code;
@@ -0,0 +1,144 @@
+package com.eum.drawingservice.global.broadcast;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 구독 주소(destination)마다 메시지를 frame-interval-ms 동안 모았다가 한 번에 보낸다.
+ * 활발한 수업에서 메시지마다 변환하고 구독자 수만큼 보내던 것을, frame 마다 한 번 변환하고 구독자당 한 번 보내는 것으로 줄인다.
+ * 점 목록은 이어 붙여 같은 모양의 목록 하나로, 캔버스 전체를 담는 메시지는 frame 안의 마지막 것만 보내므로 클라이언트는 바뀌지 않는다.
+ */
+@Slf4j
+@Component
+public class FrameBroadcaster {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final long frameIntervalMillis;
+    private final DistributionSummary frameSizeSummary;
+    private final Timer fanOutTimer;
+    private final Counter sendFailureCounter;
+
+    private final Map<String, Frame> frames = new ConcurrentHashMap<>();
+    private ScheduledExecutorService scheduler;
+
+    public FrameBroadcaster(SimpMessagingTemplate messagingTemplate, MeterRegistry meterRegistry,
+                            @Value("${drawing.broadcast.frame-interval-ms:25}") long frameIntervalMillis) {
+        this.messagingTemplate = messagingTemplate;
+        this.frameIntervalMillis = frameIntervalMillis;
+        this.frameSizeSummary = DistributionSummary.builder("drawing.broadcast.frame.size")
+                .description("frame 하나에 모인 메시지 수")
+                .register(meterRegistry);
+        this.fanOutTimer = Timer.builder("drawing.broadcast.fanout")
+                .description("frame 하나를 변환해 구독자에게 보내는 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.sendFailureCounter = Counter.builder("drawing.broadcast.failures")
+                .register(meterRegistry);
+    }
+
+    // 다른 @Scheduled 작업(필기 flush 등)에 밀리지 않도록 전용 스레드에서 보낸다
+    @PostConstruct
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("frame-broadcaster-"));
+        scheduler.scheduleAtFixedRate(this::flush, frameIntervalMillis, frameIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdown();
+        flush();
+    }
+
+    // frame 동안 들어온 목록을 순서대로 이어 붙여 보낸다
+    public void appendItems(String destination, List<?> items) {
+        appendItems(destination, items, null);
+    }
+
+    public void appendItems(String destination, List<?> items, MimeType contentType) {
+        if (items == null || items.isEmpty()) {
+            return;
+        }
+        frames.compute(destination, (key, frame) -> {
+            Frame current = frame != null ? frame : new Frame(contentType);
+            current.items.addAll(items);
+            current.messageCount++;
+            return current;
+        });
+    }
+
+    // 메시지가 전체 상태를 담고 있으면 frame 동안 마지막 것만 보낸다
+    public void sendLatest(String destination, Object payload) {
+        frames.compute(destination, (key, frame) -> {
+            Frame current = frame != null ? frame : new Frame(null);
+            current.latest = payload;
+            current.messageCount++;
+            return current;
+        });
+    }
+
+    void flush() {
+        for (String destination : frames.keySet()) {
+            Frame frame = frames.remove(destination);
+            if (frame == null) {
+                continue;
+            }
+            frameSizeSummary.record(frame.messageCount);
+            try {
+                fanOutTimer.record(() -> send(destination, frame));
+            } catch (RuntimeException e) {
+                // 스케줄 작업이 예외로 멈추지 않도록 여기서 끊는다
+                sendFailureCounter.increment();
+                log.error("frame 전송 실패. destination: {}, messages: {}", destination, frame.messageCount, e);
+            }
+        }
+    }
+
+    private void send(String destination, Frame frame) {
+        Object payload = frame.latest != null ? frame.latest : frame.items;
+        if (frame.contentType == null) {
+            messagingTemplate.convertAndSend(destination, payload);
+            return;
+        }
+        messagingTemplate.convertAndSend(destination, payload, createHeaders(frame.contentType));
+    }
+
+    private MessageHeaders createHeaders(MimeType contentType) {
+        SimpMessageHeaderAccessor headerAccessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        headerAccessor.setContentType(contentType);
+        headerAccessor.setLeaveMutable(true);
+        return headerAccessor.getMessageHeaders();
+    }
+
+    // ConcurrentHashMap.compute 안에서만 바뀌므로 따로 잠그지 않는다
+    private static class Frame {
+        private final MimeType contentType;
+        private final List<Object> items = new ArrayList<>();
+        private Object latest;
+        private int messageCount;
+
+        private Frame(MimeType contentType) {
+            this.contentType = contentType;
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.eum.drawingservice.global.codec;
+
+import com.eum.drawingservice.domain.blackboard.entity.DrawingPoint;
+import com.eum.drawingservice.exception.DrawingException;
+import com.eum.drawingservice.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * DrawingPoint 목록을 JSON 대신 작은 바이너리로 주고받기 위한 코덱.
+ * <pre>
+ * version(1) | scale | 문자열 표 | 첫 timestamp | 선 개수
+ * 선마다: userId, lineId, tool, color, type 의 문자열 표 번호 | 점 개수 | 점마다 (dx, dy, dt)
+ * </pre>
+ * 좌표는 scale 을 곱해 정수로 만든 뒤 직전 점과의 차이를, 시간은 직전 점과의 차이를 zigzag varint 로 쓴다.
+ * 같은 선의 연속된 점은 문자열을 한 번만 쓰므로 점 하나가 보통 3~6 바이트가 된다. 점 순서는 그대로 유지된다.
+ */
+@Component
+public class StrokeCodec {
+
+    private static final int FORMAT_VERSION = 1;
+    // 문자열 표 번호 0 은 null
+    private static final int NULL_INDEX = 0;
+    // 잘못되거나 악의적인 입력이 큰 배열을 만들지 못하도록 개수와 길이를 읽을 때마다 확인한다
+    static final int MAX_POINTS = 1_000_000;
+    static final int MAX_STRINGS = 100_000;
+    static final int MAX_STRING_BYTES = 1024;
+    // 선 하나는 문자열 번호 5개와 점 개수, 점 하나는 dx, dy, dt 로 각각 최소 1바이트씩 차지한다
+    private static final int MIN_RUN_BYTES = 6;
+    private static final int MIN_POINT_BYTES = 3;
+
+    private final int coordinateScale;
+
+    public StrokeCodec(@Value("${drawing.codec.coordinate-scale:100}") int coordinateScale) {
+        this.coordinateScale = coordinateScale;
+    }
+
+    public byte[] encode(List<DrawingPoint> points) {
+        List<String> strings = new ArrayList<>();
+        Map<String, Integer> indexes = new HashMap<>();
+        ByteArrayOutputStream body = new ByteArrayOutputStream(points.size() * 6 + 16);
+
+        List<Integer> runLengths = new ArrayList<>();
+        ByteArrayOutputStream runs = new ByteArrayOutputStream(points.size() * 6);
+        long previousX = 0L;
+        long previousY = 0L;
+        long previousTimestamp = points.isEmpty() ? 0L : points.get(0).getTimestamp();
+
+        int from = 0;
+        while (from < points.size()) {
+            DrawingPoint head = points.get(from);
+            int to = from + 1;
+            while (to < points.size() && sameLine(head, points.get(to))) {
+                to++;
+            }
+
+            writeVarint(runs, intern(head.getUserId(), strings, indexes));
+            writeVarint(runs, intern(head.getLineId(), strings, indexes));
+            writeVarint(runs, intern(head.getTool(), strings, indexes));
+            writeVarint(runs, intern(head.getColor(), strings, indexes));
+            writeVarint(runs, intern(head.getType(), strings, indexes));
+            writeVarint(runs, to - from);
+
+            for (int i = from; i < to; i++) {
+                DrawingPoint point = points.get(i);
+                long x = Math.round(point.getX() * coordinateScale);
+                long y = Math.round(point.getY() * coordinateScale);
+                writeSignedVarint(runs, x - previousX);
+                writeSignedVarint(runs, y - previousY);
+                writeSignedVarint(runs, point.getTimestamp() - previousTimestamp);
+                previousX = x;
+                previousY = y;
+                previousTimestamp = point.getTimestamp();
+            }
+            runLengths.add(to - from);
+            from = to;
+        }
+
+        body.write(FORMAT_VERSION);
+        writeVarint(body, coordinateScale);
+        writeVarint(body, strings.size());
+        for (String value : strings) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarint(body, bytes.length);
+            body.writeBytes(bytes);
+        }
+        writeSignedVarint(body, points.isEmpty() ? 0L : points.get(0).getTimestamp());
+        writeVarint(body, runLengths.size());
+        body.writeBytes(runs.toByteArray());
+        return body.toByteArray();
+    }
+
+    public List<DrawingPoint> decode(byte[] bytes) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            if (buffer.get() != FORMAT_VERSION) {
+                throw new DrawingException(ErrorCode.STROKE_ENCODING_INVALID);
+            }
+            long scale = readVarint(buffer);
+            if (scale <= 0 || scale > Integer.MAX_VALUE) {
+                throw new DrawingException(ErrorCode.STROKE_ENCODING_INVALID);
+            }
+
+            int stringCount = readCount(buffer, MAX_STRINGS, 1);
+            List<String> strings = new ArrayList<>(stringCount);
+            for (int i = 0; i < stringCount; i++) {
+                byte[] value = new byte[readCount(buffer, MAX_STRING_BYTES, 1)];
+                buffer.get(value);
+                strings.add(new String(value, StandardCharsets.UTF_8));
+            }
+
+            long timestamp = readSignedVarint(buffer);
+            int runCount = readCount(buffer, MAX_POINTS, MIN_RUN_BYTES);
+            long x = 0L;
+            long y = 0L;
+            List<DrawingPoint> points = new ArrayList<>();
+            for (int run = 0; run < runCount; run++) {
+                String userId = lookup(strings, readVarint(buffer));
+                String lineId = lookup(strings, readVarint(buffer));
+                String tool = lookup(strings, readVarint(buffer));
+                String color = lookup(strings, readVarint(buffer));
+                String type = lookup(strings, readVarint(buffer));
+                int count = readCount(buffer, MAX_POINTS - points.size(), MIN_POINT_BYTES);
+
+                for (int i = 0; i < count; i++) {
+                    x += readSignedVarint(buffer);
+                    y += readSignedVarint(buffer);
+                    timestamp += readSignedVarint(buffer);
+                    points.add(DrawingPoint.builder()
+                            .x(x / (double) scale)
+                            .y(y / (double) scale)
+                            .timestamp(timestamp)
+                            .userId(userId)
+                            .lineId(lineId)
+                            .tool(tool)
+                            .color(color)
+                            .type(type)
+                            .build());
+                }
+            }
+            return points;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new DrawingException(ErrorCode.STROKE_ENCODING_INVALID);
+        }
+    }
+
+    // 항목마다 최소 minBytesPerItem 바이트가 필요하므로 남은 바이트로 담을 수 없는 개수는 할당 전에 거절한다
+    private int readCount(ByteBuffer buffer, int max, int minBytesPerItem) {
+        long count = readVarint(buffer);
+        if (count < 0 || count > max || count > buffer.remaining() / minBytesPerItem) {
+            throw new DrawingException(ErrorCode.STROKE_ENCODING_INVALID);
+        }
+        return (int) count;
+    }
+
+    private boolean sameLine(DrawingPoint a, DrawingPoint b) {
+        return Objects.equals(a.getUserId(), b.getUserId())
+                && Objects.equals(a.getLineId(), b.getLineId())
+                && Objects.equals(a.getTool(), b.getTool())
+                && Objects.equals(a.getColor(), b.getColor())
+                && Objects.equals(a.getType(), b.getType());
+    }
+
+    private int intern(String value, List<String> strings, Map<String, Integer> indexes) {
+        if (value == null) {
+            return NULL_INDEX;
+        }
+        return indexes.computeIfAbsent(value, key -> {
+            strings.add(key);
+            return strings.size();
+        });
+    }
+
+    private String lookup(List<String> strings, long index) {
+        if (index == NULL_INDEX) {
+            return null;
+        }
+        if (index < 0 || index > strings.size()) {
+            throw new DrawingException(ErrorCode.STROKE_ENCODING_INVALID);
+        }
+        return strings.get((int) index - 1);
+    }
+
+    private void writeSignedVarint(ByteArrayOutputStream output, long value) {
+        writeVarint(output, (value << 1) ^ (value >> 63));
+    }
+
+    private void writeVarint(ByteArrayOutputStream output, long value) {
+        while ((value & ~0x7FL) != 0) {
+            output.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        output.write((int) value);
+    }
+
+    private long readSignedVarint(ByteBuffer buffer) {
+        long value = readVarint(buffer);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private long readVarint(ByteBuffer buffer) {
+        long value = 0L;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new DrawingException(ErrorCode.STROKE_ENCODING_INVALID);
+    }
+}
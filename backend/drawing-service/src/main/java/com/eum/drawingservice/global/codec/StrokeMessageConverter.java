@@ -0,0 +1,48 @@
+package com.eum.drawingservice.global.codec;
+
+import com.eum.drawingservice.domain.blackboard.entity.DrawingPoint;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.AbstractMessageConverter;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.List;
+
+/**
+ * content-type 이 application/x-eum-stroke 또는 application/octet-stream 인 DrawingPoint 목록을 StrokeCodec 으로 변환한다.
+ * content-type 이 일치할 때만 동작하므로 content-type 이 없거나 JSON 인 클라이언트는 기존 Jackson 변환을 그대로 쓴다.
+ * 보낼 때는 octet-stream 을 써야 STOMP 가 텍스트가 아닌 바이너리 프레임으로 내보낸다 (SockJS 세션은 바이너리를 지원하지 않는다).
+ */
+public class StrokeMessageConverter extends AbstractMessageConverter {
+
+    public static final MimeType STROKE_MIME_TYPE = new MimeType("application", "x-eum-stroke");
+
+    private final StrokeCodec strokeCodec;
+
+    public StrokeMessageConverter(StrokeCodec strokeCodec) {
+        super(List.of(STROKE_MIME_TYPE, MimeTypeUtils.APPLICATION_OCTET_STREAM));
+        this.strokeCodec = strokeCodec;
+        setStrictContentTypeMatch(true);
+        setSerializedPayloadClass(byte[].class);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return List.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected Object convertFromInternal(Message<?> message, Class<?> targetClass, Object conversionHint) {
+        Object payload = message.getPayload();
+        return payload instanceof byte[] bytes ? strokeCodec.decode(bytes) : null;
+    }
+
+    @Override
+    protected Object convertToInternal(Object payload, MessageHeaders headers, Object conversionHint) {
+        if (!(payload instanceof List<?> list) || !list.stream().allMatch(DrawingPoint.class::isInstance)) {
+            return null;
+        }
+        return strokeCodec.encode(list.stream().map(DrawingPoint.class::cast).toList());
+    }
+}
@@ -8,7 +8,8 @@ import lombok.RequiredArgsConstructor;
 public enum ChannelName {
 
     TEACHER_LESSON_MEMBER("teacher-lesson-member"),
-    BLACKBOARD("blackboard")
+    BLACKBOARD("blackboard"),
+    BLACKBOARD_BINARY("blackboard-binary")
     ;
 
     private final String channelName;
@@ -7,6 +7,7 @@ import org.springframework.stereotype.Component;
 public class BlackBoardSubscriptionPattern implements SubscriptionPattern {
 
     private static final String[] TOPIC_PARTS = {"topic", "classroom"};
+    private static final String BINARY_SUFFIX = "binary";
     private static final ChannelName CHANNEL_NAME = ChannelName.BLACKBOARD;
 
     @Override
@@ -19,7 +20,9 @@ public class BlackBoardSubscriptionPattern implements SubscriptionPattern {
 
     @Override
     public ChannelName getChannel(String destination) {
-        return CHANNEL_NAME;
+        // /topic/classroom/{classroomId}/binary 는 바이너리 필기를 받는 구독
+        String[] parts = destination.split(DIVIDER);
+        return parts.length >= 5 && parts[4].equals(BINARY_SUFFIX) ? ChannelName.BLACKBOARD_BINARY : CHANNEL_NAME;
     }
 
     @Override
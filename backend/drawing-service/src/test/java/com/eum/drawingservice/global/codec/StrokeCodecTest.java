@@ -0,0 +1,186 @@
+package com.eum.drawingservice.global.codec;
+
+import com.eum.drawingservice.domain.blackboard.entity.DrawingPoint;
+import com.eum.drawingservice.exception.DrawingException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StrokeCodecTest {
+
+    private final StrokeCodec strokeCodec = new StrokeCodec(100);
+
+    @Test
+    void 여러_선이_섞인_점을_순서와_값_그대로_되돌린다() {
+        List<DrawingPoint> points = List.of(
+                point("user-1", "line-1", "pen", "#000000", "draw", 10.25, 20.5, 1_700_000_000_000L),
+                point("user-1", "line-1", "pen", "#000000", "draw", 11.0, 19.75, 1_700_000_000_016L),
+                point("user-2", "line-2", "eraser", null, "erase", -3.5, 0.0, 1_700_000_000_010L),
+                point("user-1", "line-1", "pen", "#000000", "draw", 12.0, 18.0, 1_700_000_000_032L),
+                point(null, null, null, null, null, 0.01, -0.01, 1_700_000_000_000L));
+
+        List<DrawingPoint> decoded = strokeCodec.decode(strokeCodec.encode(points));
+
+        assertThat(decoded).hasSize(points.size());
+        for (int i = 0; i < points.size(); i++) {
+            DrawingPoint expected = points.get(i);
+            DrawingPoint actual = decoded.get(i);
+            assertThat(actual.getX()).isEqualTo(expected.getX());
+            assertThat(actual.getY()).isEqualTo(expected.getY());
+            assertThat(actual.getTimestamp()).isEqualTo(expected.getTimestamp());
+            assertThat(actual.getUserId()).isEqualTo(expected.getUserId());
+            assertThat(actual.getLineId()).isEqualTo(expected.getLineId());
+            assertThat(actual.getTool()).isEqualTo(expected.getTool());
+            assertThat(actual.getColor()).isEqualTo(expected.getColor());
+            assertThat(actual.getType()).isEqualTo(expected.getType());
+        }
+    }
+
+    @Test
+    void 좌표는_scale_단위로_반올림된다() {
+        List<DrawingPoint> decoded = strokeCodec.decode(strokeCodec.encode(List.of(
+                point("user-1", "line-1", "pen", "#000000", "draw", 1.234, 5.678, 0L))));
+
+        assertThat(decoded.get(0).getX()).isEqualTo(1.23);
+        assertThat(decoded.get(0).getY()).isEqualTo(5.68);
+    }
+
+    @Test
+    void 빈_목록도_되돌린다() {
+        assertThat(strokeCodec.decode(strokeCodec.encode(List.of()))).isEmpty();
+    }
+
+    @Test
+    void 같은_선의_점은_JSON_보다_훨씬_작게_인코딩된다() {
+        List<DrawingPoint> points = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            points.add(point("user-1", "line-1", "pen", "#000000", "draw", 100 + i * 0.5, 200 - i * 0.25,
+                    1_700_000_000_000L + i * 16L));
+        }
+
+        assertThat(strokeCodec.encode(points).length).isLessThan(points.size() * 8);
+    }
+
+    @Test
+    void 버전이_다르면_거절한다() {
+        byte[] bytes = strokeCodec.encode(List.of());
+        bytes[0] = 2;
+
+        assertThatThrownBy(() -> strokeCodec.decode(bytes)).isInstanceOf(DrawingException.class);
+    }
+
+    @Test
+    void 잘린_입력은_거절한다() {
+        byte[] bytes = strokeCodec.encode(List.of(
+                point("user-1", "line-1", "pen", "#000000", "draw", 1.0, 2.0, 3L),
+                point("user-1", "line-1", "pen", "#000000", "draw", 4.0, 5.0, 6L)));
+
+        for (int length = 0; length < bytes.length; length++) {
+            byte[] truncated = Arrays.copyOf(bytes, length);
+            assertThatThrownBy(() -> strokeCodec.decode(truncated)).isInstanceOf(DrawingException.class);
+        }
+    }
+
+    @Test
+    void 남은_바이트보다_큰_문자열_개수는_할당_전에_거절한다() {
+        ByteArrayOutputStream output = header();
+        writeVarint(output, Integer.MAX_VALUE);
+
+        assertThatThrownBy(() -> strokeCodec.decode(output.toByteArray())).isInstanceOf(DrawingException.class);
+    }
+
+    @Test
+    void 음수로_바뀌는_문자열_길이는_거절한다() {
+        ByteArrayOutputStream output = header();
+        writeVarint(output, 1);
+        writeVarint(output, -1L);
+        output.writeBytes(new byte[16]);
+
+        assertThatThrownBy(() -> strokeCodec.decode(output.toByteArray())).isInstanceOf(DrawingException.class);
+    }
+
+    @Test
+    void 상한을_넘는_문자열_길이는_거절한다() {
+        ByteArrayOutputStream output = header();
+        writeVarint(output, 1);
+        writeVarint(output, StrokeCodec.MAX_STRING_BYTES + 1);
+        output.writeBytes(new byte[StrokeCodec.MAX_STRING_BYTES + 1]);
+
+        assertThatThrownBy(() -> strokeCodec.decode(output.toByteArray())).isInstanceOf(DrawingException.class);
+    }
+
+    @Test
+    void 남은_바이트로_담을_수_없는_점_개수는_거절한다() {
+        ByteArrayOutputStream output = header();
+        writeVarint(output, 0);
+        writeVarint(output, 0);
+        writeVarint(output, 1);
+        for (int i = 0; i < 5; i++) {
+            writeVarint(output, 0);
+        }
+        writeVarint(output, StrokeCodec.MAX_POINTS);
+        output.writeBytes(new byte[30]);
+
+        assertThatThrownBy(() -> strokeCodec.decode(output.toByteArray())).isInstanceOf(DrawingException.class);
+    }
+
+    @Test
+    void 문자열_표에_없는_번호는_거절한다() {
+        ByteArrayOutputStream output = header();
+        writeVarint(output, 0);
+        writeVarint(output, 0);
+        writeVarint(output, 1);
+        writeVarint(output, 7);
+        output.writeBytes(new byte[8]);
+
+        assertThatThrownBy(() -> strokeCodec.decode(output.toByteArray())).isInstanceOf(DrawingException.class);
+    }
+
+    @Test
+    void scale_이_0_이면_거절한다() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        output.write(1);
+        writeVarint(output, 0);
+        writeVarint(output, 0);
+        writeVarint(output, 0);
+        writeVarint(output, 0);
+
+        assertThatThrownBy(() -> strokeCodec.decode(output.toByteArray())).isInstanceOf(DrawingException.class);
+    }
+
+    // version 과 scale 까지 쓴 입력
+    private ByteArrayOutputStream header() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        output.write(1);
+        writeVarint(output, 100);
+        return output;
+    }
+
+    private void writeVarint(ByteArrayOutputStream output, long value) {
+        while ((value & ~0x7FL) != 0) {
+            output.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        output.write((int) value);
+    }
+
+    private DrawingPoint point(String userId, String lineId, String tool, String color, String type, double x,
+                               double y, long timestamp) {
+        return DrawingPoint.builder()
+                .userId(userId)
+                .lineId(lineId)
+                .tool(tool)
+                .color(color)
+                .type(type)
+                .x(x)
+                .y(y)
+                .timestamp(timestamp)
+                .build();
+    }
+}
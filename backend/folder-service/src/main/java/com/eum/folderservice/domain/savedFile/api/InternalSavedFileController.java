@@ -0,0 +1,46 @@
+package com.eum.folderservice.domain.savedFile.api;
+
+import com.eum.folderservice.domain.savedFile.service.SavedFileService;
+import com.eum.folderservice.global.exception.ErrorCode;
+import com.eum.folderservice.global.exception.FolderException;
+import com.eum.folderservice.global.util.CommonResponse;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
+/**
+ * 다른 서비스(lecture-service 채점)만 부르는 API. 게이트웨이를 거친 사용자 요청은 공유 토큰을 모르므로 막힌다.
+ * internal.api-token 이 설정되지 않았으면 모든 요청을 거절한다.
+ */
+@RestController
+@RequestMapping("/internal/file")
+public class InternalSavedFileController {
+
+    private final SavedFileService savedFileService;
+    private final byte[] internalApiToken;
+
+    public InternalSavedFileController(SavedFileService savedFileService,
+                                       @Value("${internal.api-token:}") String internalApiToken) {
+        this.savedFileService = savedFileService;
+        this.internalApiToken = internalApiToken.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @GetMapping("/answers")
+    @Timed(value = "files.answers", longTask = true)
+    public CommonResponse<?> getAnswers(@RequestParam List<Long> fileIds,
+                                        @RequestHeader(value = "X-INTERNAL-TOKEN", required = false) String token) {
+        validateInternalToken(token);
+        return CommonResponse.success(savedFileService.getAnswers(fileIds), "정답 조회 성공");
+    }
+
+    private void validateInternalToken(String token) {
+        if (internalApiToken.length == 0 || token == null
+                || !MessageDigest.isEqual(internalApiToken, token.getBytes(StandardCharsets.UTF_8))) {
+            throw new FolderException(ErrorCode.INTERNAL_ACCESS_DENIED);
+        }
+    }
+}
@@ -28,8 +28,9 @@ public class SavedFileController {
 
     @GetMapping("/{fileId}")
     @Timed(value = "files.get", longTask = true)
-    public CommonResponse<?> getFileDetails(@PathVariable Long fileId) {
-        return CommonResponse.success(savedFileService.getSavedFileDetail(fileId), "문제 상세 조회 성공");
+    public CommonResponse<?> getFileDetails(@PathVariable Long fileId, HttpServletRequest request) {
+        Long memberId = Long.parseLong(request.getHeader("X-MEMBER-ID"));
+        return CommonResponse.success(savedFileService.getSavedFileDetail(fileId, memberId), "문제 상세 조회 성공");
     }
 
     @PutMapping
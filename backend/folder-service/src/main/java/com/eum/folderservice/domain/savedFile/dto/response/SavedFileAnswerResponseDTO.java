@@ -0,0 +1,19 @@
+package com.eum.folderservice.domain.savedFile.dto.response;
+
+import com.eum.folderservice.domain.savedFile.entity.SavedFile;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class SavedFileAnswerResponseDTO {
+    private Long fileId;
+    private String answer;
+
+    public static SavedFileAnswerResponseDTO of(SavedFile savedFile) {
+        return SavedFileAnswerResponseDTO.builder()
+                .fileId(savedFile.getId())
+                .answer(savedFile.getAnswer())
+                .build();
+    }
+}
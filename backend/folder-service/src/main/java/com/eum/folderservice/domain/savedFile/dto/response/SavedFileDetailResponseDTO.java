@@ -22,4 +22,13 @@ public class SavedFileDetailResponseDTO {
                 .answer(savedFile.getAnswer())
                 .build();
     }
+
+    public static SavedFileDetailResponseDTO withoutAnswer(SavedFile savedFile) {
+        return SavedFileDetailResponseDTO.builder()
+                .fileId(savedFile.getId())
+                .parentId(savedFile.getFolder().getId())
+                .title(savedFile.getTitle())
+                .content(savedFile.getContent())
+                .build();
+    }
 }
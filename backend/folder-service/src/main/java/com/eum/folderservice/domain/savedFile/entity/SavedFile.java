@@ -31,6 +31,12 @@ public class SavedFile extends BaseEntity {
     private String content;
     private String answer;
 
+    // 예전 문제는 memberId 가 비어 있을 수 있어 폴더 주인으로 판단한다
+    public boolean isOwnedBy(Long memberId) {
+        Long ownerId = this.memberId != null ? this.memberId : folder.getMemberId();
+        return ownerId != null && ownerId.equals(memberId);
+    }
+
     public void updateTitle(String title) {
         this.title = title;
     }
@@ -3,11 +3,16 @@ package com.eum.folderservice.domain.savedFile.service;
 import com.eum.folderservice.domain.savedFile.dto.request.SavedFileCreateRequestDTO;
 import com.eum.folderservice.domain.savedFile.dto.request.SavedFileModifyRequestDTO;
 import com.eum.folderservice.domain.savedFile.dto.request.SavedFileMoveRequestDTO;
+import com.eum.folderservice.domain.savedFile.dto.response.SavedFileAnswerResponseDTO;
 import com.eum.folderservice.domain.savedFile.dto.response.SavedFileDetailResponseDTO;
 
+import java.util.List;
+
 public interface SavedFileService {
 
-    SavedFileDetailResponseDTO getSavedFileDetail(Long fileId);
+    SavedFileDetailResponseDTO getSavedFileDetail(Long fileId, Long memberId);
+
+    List<SavedFileAnswerResponseDTO> getAnswers(List<Long> fileIds);
 
     SavedFileDetailResponseDTO createSavedFile(SavedFileCreateRequestDTO requestDTO);
 
@@ -8,12 +8,15 @@ import com.eum.folderservice.domain.savedFile.dto.request.SavedFileMoveRequestDT
 import com.eum.folderservice.global.exception.ErrorCode;
 import com.eum.folderservice.global.exception.FolderException;
 import com.eum.folderservice.domain.savedFile.entity.SavedFile;
+import com.eum.folderservice.domain.savedFile.dto.response.SavedFileAnswerResponseDTO;
 import com.eum.folderservice.domain.savedFile.dto.response.SavedFileDetailResponseDTO;
 import com.eum.folderservice.domain.savedFile.repository.SavedFileRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class SavedFileServiceImpl implements SavedFileService {
@@ -23,13 +26,26 @@ public class SavedFileServiceImpl implements SavedFileService {
 
     @Override
     @Transactional(readOnly = true)
-    public SavedFileDetailResponseDTO getSavedFileDetail(Long fileId) {
+    public SavedFileDetailResponseDTO getSavedFileDetail(Long fileId, Long memberId) {
         SavedFile savedFile = savedFileRepository.findById(fileId)
                 .orElseThrow(() -> new FolderException(ErrorCode.FILE_NOT_FOUND_ERROR));
 
+        // 정답은 문제를 만든 선생님에게만 보여준다
+        if (!savedFile.isOwnedBy(memberId)) {
+            return SavedFileDetailResponseDTO.withoutAnswer(savedFile);
+        }
         return SavedFileDetailResponseDTO.of(savedFile);
     }
 
+    // lecture-service 채점용(내부 호출 전용). 문제 본문 없이 정답만 한 번에 조회한다
+    @Override
+    @Transactional(readOnly = true)
+    public List<SavedFileAnswerResponseDTO> getAnswers(List<Long> fileIds) {
+        return savedFileRepository.findAllById(fileIds).stream()
+                .map(SavedFileAnswerResponseDTO::of)
+                .toList();
+    }
+
     @Override
     @Transactional
     public SavedFileDetailResponseDTO createSavedFile(SavedFileCreateRequestDTO requestDTO) {
@@ -10,6 +10,7 @@ public enum ErrorCode {
 
     // Server
     INTERNAL_SERVER_ERROR("S001", "내부 서버 오류", HttpStatus.INTERNAL_SERVER_ERROR),
+    INTERNAL_ACCESS_DENIED("S002", "서비스 간 호출만 허용됩니다.", HttpStatus.FORBIDDEN),
 
     // Folder
     FOLDER_NOT_FOUND_ERROR("F001", "해당 폴더를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
@@ -1,16 +1,21 @@
 package com.eum.lecture_service.command.controller.lecture;
 
+import java.util.List;
+
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.eum.lecture_service.command.dto.lecture.LectureCreateDto;
 import com.eum.lecture_service.command.dto.lecture.LectureDto;
+import com.eum.lecture_service.command.dto.lecture.LectureScheduleDto;
 import com.eum.lecture_service.command.service.lecture.LectureService;
 import com.eum.lecture_service.common.RoleType;
 import com.eum.lecture_service.config.exception.ErrorCode;
@@ -81,6 +86,24 @@ public class LectureController {
 		}
 	}
 
+	// 반 시간표에서 비어 있는 요일/교시 (기본: 월~금, 13교시까지)
+	@GetMapping("/class/{classId}/free-slots")
+	public CommonResponse<?> getFreeSlots(
+		@RequestHeader("X-MEMBER-ROLE") String role,
+		@PathVariable Long classId,
+		@RequestParam(defaultValue = "5") int days,
+		@RequestParam(defaultValue = "13") int lastPeriod) {
+		try {
+			if (RoleType.fromString(role) == RoleType.STUDENT) {
+				throw new EumException(ErrorCode.AUTHORITY_PERMISSION_ERROR);
+			}
+		} catch (IllegalArgumentException e) {
+			throw new EumException(ErrorCode.AUTHORITY_PERMISSION_ERROR);
+		}
+		List<LectureScheduleDto> freeSlots = lectureService.getFreeSlots(classId, days, lastPeriod);
+		return CommonResponse.success(freeSlots, "빈 시간 조회 성공");
+	}
+
 	@PostMapping("/{lectureId}/switch")
 	public CommonResponse<?> startLecture(
 		@RequestHeader("X-MEMBER-ID") Long memberId,
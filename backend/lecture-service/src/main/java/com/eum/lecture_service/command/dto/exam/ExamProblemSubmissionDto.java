@@ -22,8 +22,10 @@ public class ExamProblemSubmissionDto {
 	private Long studentId;
 	private Boolean isCorrect;
 	private String examSolution;
+	// 풀이 필기를 인식한 답. 있으면 서버에서 채점하고 isCorrect 는 무시한다
+	private String answerText;
 
-	public ExamProblemSubmission toEntity(ExamSubmission examSubmission, Long studentId) {
+	public ExamProblemSubmission toEntity(ExamSubmission examSubmission, Long studentId, boolean isCorrect) {
 		return ExamProblemSubmission.builder()
 			.examSubmission(examSubmission)
 			.questionId(questionId)
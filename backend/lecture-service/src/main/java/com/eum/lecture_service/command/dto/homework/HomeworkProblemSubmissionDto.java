@@ -22,8 +22,10 @@ public class HomeworkProblemSubmissionDto {
 	private Long studentId;
 	private Boolean isCorrect;
 	private String homeworkSolution;
+	// 풀이 필기를 인식한 답. 있으면 서버에서 채점하고 isCorrect 는 무시한다
+	private String answerText;
 
-	public HomeworkProblemSubmission toEntity(HomeworkSubmission homeworkSubmission, Long studentId) {
+	public HomeworkProblemSubmission toEntity(HomeworkSubmission homeworkSubmission, Long studentId, boolean isCorrect) {
 		return HomeworkProblemSubmission.builder()
 			.homeworkSubmission(homeworkSubmission)
 			.questionId(questionId)
@@ -44,6 +44,7 @@ public class LectureCreateDto {
 		return schedule.stream()
 			.map(s -> LectureSchedule.builder()
 				.lecture(lecture)
+				.classId(lecture.getClassId())
 				.day(s.getDay())
 				.period(s.getPeriod())
 				.build())
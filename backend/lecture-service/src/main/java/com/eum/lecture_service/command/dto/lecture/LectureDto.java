@@ -42,6 +42,7 @@ LectureDto {
 		return schedule.stream()
 			.map(s -> LectureSchedule.builder()
 				.lecture(lecture)
+				.classId(lecture.getClassId())
 				.day(s.getDay())
 				.period(s.getPeriod())
 				.build())
@@ -1,6 +1,7 @@
 package com.eum.lecture_service.command.entity.exam;
 
 import com.eum.lecture_service.command.entity.homework.Homework;
+import com.eum.lecture_service.config.jpa.PooledIdGenerator;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -11,6 +12,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -24,7 +26,15 @@ import lombok.NoArgsConstructor;
 @Table(name = "exam_question_submissions")
 public class ExamProblemSubmission {
 
-	@Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Id
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "exam_question_submission_id")
+	@TableGenerator(
+		name = "exam_question_submission_id",
+		table = PooledIdGenerator.TABLE,
+		pkColumnName = PooledIdGenerator.NAME_COLUMN,
+		valueColumnName = PooledIdGenerator.VALUE_COLUMN,
+		pkColumnValue = PooledIdGenerator.EXAM_QUESTION_SUBMISSION,
+		allocationSize = PooledIdGenerator.ALLOCATION_SIZE)
 	@Column(name = "exam_question_submission_id")
 	private Long examProblemSubmissionId;
 
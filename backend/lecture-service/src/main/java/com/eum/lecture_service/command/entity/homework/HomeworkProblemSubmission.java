@@ -1,5 +1,7 @@
 package com.eum.lecture_service.command.entity.homework;
 
+import com.eum.lecture_service.config.jpa.PooledIdGenerator;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -9,6 +11,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -24,7 +27,14 @@ import lombok.Setter;
 public class HomeworkProblemSubmission {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "homework_question_submission_id")
+	@TableGenerator(
+		name = "homework_question_submission_id",
+		table = PooledIdGenerator.TABLE,
+		pkColumnName = PooledIdGenerator.NAME_COLUMN,
+		valueColumnName = PooledIdGenerator.VALUE_COLUMN,
+		pkColumnValue = PooledIdGenerator.HOMEWORK_QUESTION_SUBMISSION,
+		allocationSize = PooledIdGenerator.ALLOCATION_SIZE)
 	@Column(name = "homework_question_submission_id")
 	private Long homeworkProblemSubmissionId;
 
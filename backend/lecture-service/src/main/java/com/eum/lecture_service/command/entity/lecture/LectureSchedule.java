@@ -9,6 +9,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -19,7 +20,9 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "lecture_schedules")
+@Table(name = "lecture_schedules", uniqueConstraints = {
+	@UniqueConstraint(name = "uk_lecture_schedules_class_slot", columnNames = {"class_id", "day", "period"})
+})
 public class LectureSchedule {
 
 	@Id
@@ -31,6 +34,10 @@ public class LectureSchedule {
 	@JoinColumn(name = "lecture_id", nullable = false)
 	private Lecture lecture;
 
+	// 같은 반의 같은 요일/교시에 두 수업이 들어가지 않도록 유니크 제약에 쓰는 반 ID (lectures.class_id 복사본)
+	@Column(name = "class_id")
+	private Long classId;
+
 	@Column(name = "day", nullable = false, length = 10)
 	private String day;
 
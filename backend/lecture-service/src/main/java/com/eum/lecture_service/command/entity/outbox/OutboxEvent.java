@@ -0,0 +1,78 @@
+package com.eum.lecture_service.command.entity.outbox;
+
+import java.time.LocalDateTime;
+
+import com.eum.lecture_service.config.jpa.PooledIdGenerator;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 커맨드 트랜잭션 안에서 함께 저장되는 발행 대기 Kafka 이벤트.
+ * 트랜잭션이 커밋된 이벤트만 OutboxRelay 가 키마다 keySeq 순서대로 발행한다.
+ * 다시 보내도 실패할 이벤트(역직렬화 실패)는 failedAt/error 를 남기고 발행하지 않은 채로 둔다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "outbox_events", indexes = {
+	@Index(name = "idx_outbox_events_relay_order", columnList = "published_at, key_seq, outbox_event_id")
+})
+public class OutboxEvent {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "outbox_event_id")
+	@TableGenerator(
+		name = "outbox_event_id",
+		table = PooledIdGenerator.TABLE,
+		pkColumnName = PooledIdGenerator.NAME_COLUMN,
+		valueColumnName = PooledIdGenerator.VALUE_COLUMN,
+		pkColumnValue = PooledIdGenerator.OUTBOX_EVENT,
+		allocationSize = PooledIdGenerator.ALLOCATION_SIZE)
+	@Column(name = "outbox_event_id")
+	private Long outboxEventId;
+
+	@Column(name = "topic", nullable = false)
+	private String topic;
+
+	@Column(name = "message_key")
+	private String messageKey;
+
+	@Column(name = "payload_type", nullable = false)
+	private String payloadType;
+
+	@Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+	private String payload;
+
+	// 같은 키 안에서 커밋 순서대로 증가하는 번호 (OutboxKeySequencer). 키가 없는 이벤트는 0
+	@Column(name = "key_seq", updatable = false)
+	private Long keySeq;
+
+	@Column(name = "created_at", nullable = false, updatable = false)
+	private LocalDateTime createdAt;
+
+	@Column(name = "published_at")
+	private LocalDateTime publishedAt;
+
+	// relay 가 발행하려고 가져간 점유의 만료 시각. 만료 전에는 다른 relay 가 이 이벤트와 같은 키를 가져가지 않는다
+	@Column(name = "claimed_until")
+	private LocalDateTime claimedUntil;
+
+	@Column(name = "failed_at")
+	private LocalDateTime failedAt;
+
+	@Column(name = "error", length = 1000)
+	private String error;
+}
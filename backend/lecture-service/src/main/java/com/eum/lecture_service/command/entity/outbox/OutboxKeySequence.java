@@ -0,0 +1,29 @@
+package com.eum.lecture_service.command.entity.outbox;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 메시지 키마다 마지막으로 매긴 outbox 이벤트 번호(key_seq).
+ * 값은 OutboxKeySequencer 가 네이티브 쿼리로만 올리고, 엔티티는 테이블을 만들기 위해 둔다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = OutboxKeySequence.TABLE)
+public class OutboxKeySequence {
+
+	public static final String TABLE = "outbox_key_sequences";
+
+	@Id
+	@Column(name = "message_key")
+	private String messageKey;
+
+	@Column(name = "last_seq", nullable = false)
+	private Long lastSeq;
+}
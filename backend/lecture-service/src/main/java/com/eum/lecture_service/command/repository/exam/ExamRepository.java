@@ -1,8 +1,20 @@
 package com.eum.lecture_service.command.repository.exam;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.eum.lecture_service.command.entity.exam.Exam;
 
 public interface ExamRepository extends JpaRepository<Exam, Long> {
+
+	@Query("select distinct e from Exam e left join fetch e.examQuestions where e.lecture.lectureId in :lectureIds")
+	List<Exam> findAllWithQuestionsByLectureIds(@Param("lectureIds") Collection<Long> lectureIds);
+
+	@Query("select e from Exam e left join fetch e.examQuestions where e.examId = :examId")
+	Optional<Exam> findWithQuestionsById(@Param("examId") Long examId);
 }
@@ -1,12 +1,22 @@
 package com.eum.lecture_service.command.repository.exam;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.eum.lecture_service.command.entity.exam.Exam;
 import com.eum.lecture_service.command.entity.exam.ExamSubmission;
 
 public interface ExamSubmissionRepository extends JpaRepository<ExamSubmission, Long> {
 	Optional<ExamSubmission> findByExamAndStudentId(Exam exam, Long studentId);
+
+	// 재구축용, 제출이 속한 숙제/시험과 문제별 제출을 한 번에 읽는다
+	@Query("select distinct s from ExamSubmission s join fetch s.exam e "
+		+ "left join fetch s.examProblemSubmissions where e.lecture.lectureId in :lectureIds")
+	List<ExamSubmission> findAllWithProblemSubmissionsByLectureIds(
+		@Param("lectureIds") Collection<Long> lectureIds);
 }
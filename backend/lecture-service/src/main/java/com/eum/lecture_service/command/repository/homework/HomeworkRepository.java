@@ -1,8 +1,20 @@
 package com.eum.lecture_service.command.repository.homework;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.eum.lecture_service.command.entity.homework.Homework;
 
 public interface HomeworkRepository extends JpaRepository<Homework, Long> {
+
+	@Query("select distinct h from Homework h left join fetch h.homeworkQuestions where h.lecture.lectureId in :lectureIds")
+	List<Homework> findAllWithQuestionsByLectureIds(@Param("lectureIds") Collection<Long> lectureIds);
+
+	@Query("select h from Homework h left join fetch h.homeworkQuestions where h.homeworkId = :homeworkId")
+	Optional<Homework> findWithQuestionsById(@Param("homeworkId") Long homeworkId);
 }
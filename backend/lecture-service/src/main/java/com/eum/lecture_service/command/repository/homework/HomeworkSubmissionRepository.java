@@ -1,8 +1,12 @@
 package com.eum.lecture_service.command.repository.homework;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.eum.lecture_service.command.entity.exam.Exam;
 import com.eum.lecture_service.command.entity.exam.ExamSubmission;
@@ -12,4 +16,10 @@ import com.eum.lecture_service.command.entity.homework.HomeworkSubmission;
 public interface HomeworkSubmissionRepository extends JpaRepository<HomeworkSubmission, Long> {
 	Optional<HomeworkSubmission> findByHomeworkAndStudentId(Homework homework, Long studentId);
 
+
+	// 재구축용, 제출이 속한 숙제/시험과 문제별 제출을 한 번에 읽는다
+	@Query("select distinct s from HomeworkSubmission s join fetch s.homework h "
+		+ "left join fetch s.homeworkProblemSubmissions where h.lecture.lectureId in :lectureIds")
+	List<HomeworkSubmission> findAllWithProblemSubmissionsByLectureIds(
+		@Param("lectureIds") Collection<Long> lectureIds);
 }
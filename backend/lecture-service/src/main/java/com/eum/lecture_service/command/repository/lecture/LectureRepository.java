@@ -2,6 +2,7 @@ package com.eum.lecture_service.command.repository.lecture;
 
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.eum.lecture_service.command.entity.lecture.Lecture;
@@ -9,4 +10,7 @@ import com.eum.lecture_service.command.entity.lecture.LectureSchedule;
 
 public interface LectureRepository extends JpaRepository<Lecture, Long> {
 	List<LectureSchedule> findByLectureId(Long lectureId);
+
+	// 읽기 모델 재구축용 키셋 페이징 (offset 없이 마지막 lectureId 다음부터 읽는다)
+	List<Lecture> findByLectureIdGreaterThanOrderByLectureIdAsc(Long lectureId, Pageable pageable);
 }
@@ -1,12 +1,25 @@
 package com.eum.lecture_service.command.repository.lecture;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.eum.lecture_service.command.entity.lecture.LectureSchedule;
 
 public interface LectureScheduleRepository extends JpaRepository<LectureSchedule, Long> {
 
-	List<LectureSchedule> findByLectureClassIdAndDayAndPeriod(Long classId, String day, Long period);
+	List<LectureSchedule> findByClassId(Long classId);
+
+	List<LectureSchedule> findByLectureLectureIdIn(Collection<Long> lectureIds);
+
+	// class_id 컬럼이 추가되기 전에 저장된 시간표에 강의의 반 ID 를 채운다
+	@Transactional
+	@Modifying
+	@Query(value = "UPDATE lecture_schedules s JOIN lectures l ON s.lecture_id = l.lecture_id "
+		+ "SET s.class_id = l.class_id WHERE s.class_id IS NULL", nativeQuery = true)
+	int backfillClassId();
 }
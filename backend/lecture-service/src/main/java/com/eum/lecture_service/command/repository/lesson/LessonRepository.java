@@ -1,8 +1,16 @@
 package com.eum.lecture_service.command.repository.lesson;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.eum.lecture_service.command.entity.lesson.Lesson;
 
 public interface LessonRepository extends JpaRepository<Lesson, Long> {
+
+	@Query("select distinct l from Lesson l left join fetch l.lessonQuestions where l.lecture.lectureId in :lectureIds")
+	List<Lesson> findAllWithQuestionsByLectureIds(@Param("lectureIds") Collection<Long> lectureIds);
 }
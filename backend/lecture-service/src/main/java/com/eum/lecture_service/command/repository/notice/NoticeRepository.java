@@ -1,8 +1,13 @@
 package com.eum.lecture_service.command.repository.notice;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.eum.lecture_service.command.entity.lecture.Notice;
 
 public interface NoticeRepository extends JpaRepository<Notice, Long> {
+
+	List<Notice> findByLectureLectureIdIn(Collection<Long> lectureIds);
 }
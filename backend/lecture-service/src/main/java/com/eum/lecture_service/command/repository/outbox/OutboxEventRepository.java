@@ -0,0 +1,55 @@
+package com.eum.lecture_service.command.repository.outbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.eum.lecture_service.command.entity.outbox.OutboxEvent;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+	// 점유하지 않았거나 점유가 만료된 미발행 이벤트를 keySeq 순서로 가져온다
+	// 키마다 keySeq 가 작은 것부터 담기므로 batch 에는 각 키의 미발행 이벤트가 앞에서부터 빠짐없이 들어간다
+	@Query("select o from OutboxEvent o where o.publishedAt is null and o.failedAt is null"
+		+ " and (o.claimedUntil is null or o.claimedUntil <= :now) order by o.keySeq, o.outboxEventId")
+	List<OutboxEvent> findClaimable(@Param("now") LocalDateTime now, Pageable pageable);
+
+	// 다른 relay 가 아직 발행 중인 키. 그 키의 뒤 이벤트를 먼저 보내지 않도록 이번에는 가져가지 않는다
+	@Query("select distinct o.messageKey from OutboxEvent o where o.publishedAt is null and o.failedAt is null"
+		+ " and o.claimedUntil > :now and o.messageKey is not null")
+	List<String> findClaimedKeys(@Param("now") LocalDateTime now);
+
+	@Modifying
+	@Query("update OutboxEvent o set o.claimedUntil = :claimedUntil where o.outboxEventId in :ids")
+	int claim(@Param("ids") List<Long> ids, @Param("claimedUntil") LocalDateTime claimedUntil);
+
+	@Modifying
+	@Query("update OutboxEvent o set o.claimedUntil = null where o.outboxEventId in :ids")
+	int releaseClaims(@Param("ids") List<Long> ids);
+
+	// MySQL named lock. 커넥션 단위라 같은 트랜잭션(커넥션) 안에서 잡고 풀어야 한다
+	@Query(value = "SELECT GET_LOCK(:name, 0)", nativeQuery = true)
+	Integer acquireNamedLock(@Param("name") String name);
+
+	@Query(value = "SELECT RELEASE_LOCK(:name)", nativeQuery = true)
+	Integer releaseNamedLock(@Param("name") String name);
+
+	@Modifying
+	@Query("update OutboxEvent o set o.publishedAt = :publishedAt where o.outboxEventId in :ids")
+	int markPublished(@Param("ids") List<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+	@Modifying
+	@Query("update OutboxEvent o set o.failedAt = :failedAt, o.error = :error where o.outboxEventId = :id")
+	int markFailed(@Param("id") Long id, @Param("error") String error, @Param("failedAt") LocalDateTime failedAt);
+
+	@Transactional
+	@Modifying
+	@Query(value = "DELETE FROM outbox_events WHERE published_at < :cutoff LIMIT :chunkSize", nativeQuery = true)
+	int deletePublishedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("chunkSize") int chunkSize);
+}
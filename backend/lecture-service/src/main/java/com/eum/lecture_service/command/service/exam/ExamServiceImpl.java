@@ -3,7 +3,6 @@ package com.eum.lecture_service.command.service.exam;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,11 +14,13 @@ import com.eum.lecture_service.command.repository.exam.ExamRepository;
 import com.eum.lecture_service.command.repository.lecture.LectureRepository;
 import com.eum.lecture_service.config.exception.ErrorCode;
 import com.eum.lecture_service.config.exception.EumException;
+import com.eum.lecture_service.event.EventKeys;
 import com.eum.lecture_service.event.event.exam.ExamCreateEvent;
 import com.eum.lecture_service.event.event.exam.ExamDeleteEvent;
 import com.eum.lecture_service.event.event.exam.ExamUpdateEvent;
 import com.eum.lecture_service.event.event.notification.ExamCreatedNotificationEvent;
 import com.eum.lecture_service.event.event.notification.HomeworkCreatedNotificationEvent;
+import com.eum.lecture_service.event.outbox.OutboxEventPublisher;
 import com.eum.lecture_service.query.document.eventModel.StudentModel;
 import com.eum.lecture_service.query.repository.StudentReadRepository;
 
@@ -31,7 +32,7 @@ public class ExamServiceImpl implements ExamService {
 
 	private final ExamRepository examRepository;
 	private final LectureRepository lectureRepository;
-	private final KafkaTemplate<String, Object> kafkaTemplate;
+	private final OutboxEventPublisher outboxEventPublisher;
 	private final StudentReadRepository studentReadRepository;
 
 	@Override
@@ -129,7 +130,7 @@ public class ExamServiceImpl implements ExamService {
 			exam.getEndTime(),
 			questionIds
 		);
-		kafkaTemplate.send("exam-create-topic", event);
+		outboxEventPublisher.publish("exam-create-topic", EventKeys.lecture(event.getLectureId()), event);
 	}
 
 	private void publishExamUpdateEvent(Exam exam, List<Long> questionIds) {
@@ -141,7 +142,7 @@ public class ExamServiceImpl implements ExamService {
 			exam.getEndTime(),
 			questionIds
 		);
-		kafkaTemplate.send("exam-update-topic", event);
+		outboxEventPublisher.publish("exam-update-topic", EventKeys.lecture(event.getLectureId()), event);
 	}
 
 	private void publishExamDeleteEvent(Exam exam) {
@@ -149,7 +150,7 @@ public class ExamServiceImpl implements ExamService {
 			exam.getExamId(),
 			exam.getLecture().getLectureId()
 		);
-		kafkaTemplate.send("exam-delete-topic", event);
+		outboxEventPublisher.publish("exam-delete-topic", EventKeys.lecture(event.getLectureId()), event);
 	}
 
 	private List<Long> getStudentIds(Long classId) {
@@ -164,6 +165,6 @@ public class ExamServiceImpl implements ExamService {
 		List<Long> studentIds = getStudentIds(savedExam.getLecture().getClassId());
 
 		ExamCreatedNotificationEvent event = ExamCreatedNotificationEvent.of(savedExam, studentIds, lecture.getSubject());
-		kafkaTemplate.send("exam-created-notification-topic", event);
+		outboxEventPublisher.publish("exam-created-notification-topic", event);
 	}
 }
@@ -1,24 +1,28 @@
 package com.eum.lecture_service.command.service.exam;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.eum.lecture_service.command.dto.exam.ExamProblemSubmissionDto;
 import com.eum.lecture_service.command.entity.exam.Exam;
 import com.eum.lecture_service.command.entity.exam.ExamProblemSubmission;
+import com.eum.lecture_service.command.entity.exam.ExamQuestion;
 import com.eum.lecture_service.command.entity.exam.ExamSubmission;
 import com.eum.lecture_service.command.repository.exam.ExamProblemSubmissionRepository;
 import com.eum.lecture_service.command.repository.exam.ExamRepository;
 import com.eum.lecture_service.command.repository.exam.ExamSubmissionRepository;
+import com.eum.lecture_service.command.service.grading.SubmissionGrader;
 import com.eum.lecture_service.config.exception.ErrorCode;
 import com.eum.lecture_service.config.exception.EumException;
+import com.eum.lecture_service.event.EventKeys;
 import com.eum.lecture_service.event.dto.ExamProblemSubmissionEventDto;
 import com.eum.lecture_service.event.event.exam.ExamSubmissionCreateEvent;
+import com.eum.lecture_service.event.outbox.OutboxEventPublisher;
 
 import lombok.RequiredArgsConstructor;
 
@@ -29,28 +33,46 @@ public class ExamSubmissionServiceImpl implements ExamSubmissionService {
 	private final ExamRepository examRepository;
 	private final ExamSubmissionRepository examSubmissionRepository;
 	private final ExamProblemSubmissionRepository examProblemSubmissionRepository;
-	private final KafkaTemplate<String, Object> kafkaTemplate;
+	private final OutboxEventPublisher outboxEventPublisher;
+	private final SubmissionGrader submissionGrader;
+	private final TransactionTemplate transactionTemplate;
 
 	@Override
-	@Transactional
 	public Long submitExamProblems(Long examId, Long studentId,
 		List<ExamProblemSubmissionDto> problemSubmissions) {
-
-		Exam exam = examRepository.findById(examId)
+		// 정답 조회(folder-service 호출) 전에 시험과 시험 기간을 확인해 잘못된 제출이 원격 호출까지 가지 않게 한다
+		Exam assignedExam = examRepository.findWithQuestionsById(examId)
 			.orElseThrow(() -> new EumException(ErrorCode.EXAM_NOT_FOUND));
 
-		validateExamTime(exam);
+		validateExamTime(assignedExam);
+
+		List<Long> questionIds = assignedExam.getExamQuestions().stream()
+			.map(ExamQuestion::getQuestionId)
+			.toList();
+
+		// 정답 조회가 DB 커넥션을 잡고 있지 않도록 채점은 트랜잭션 밖에서 먼저 한다
+		boolean[] results = submissionGrader.grade(questionIds, problemSubmissions,
+			ExamProblemSubmissionDto::getQuestionId, ExamProblemSubmissionDto::getAnswerText,
+			ExamProblemSubmissionDto::getIsCorrect);
+
+		return transactionTemplate.execute(status -> {
+			// 채점하는 동안 시험이 삭제되거나 시험 기간이 끝났을 수 있으므로 다시 확인한다
+			Exam exam = examRepository.findById(examId)
+				.orElseThrow(() -> new EumException(ErrorCode.EXAM_NOT_FOUND));
 
-		ExamSubmission examSubmission = findOrCreateExamSubmission(exam, studentId);
+			validateExamTime(exam);
 
-		List<ExamProblemSubmission> examProblemSubmissionList = saveExamProblemSubmissions(
-			problemSubmissions, examSubmission, studentId);
+			ExamSubmission examSubmission = findOrCreateExamSubmission(exam, studentId);
 
-		updateExamSubmissionScores(examSubmission, examProblemSubmissionList);
-		Long lectureId = exam.getLecture().getLectureId();
-		publishExamSubmissionCreateEvent(examSubmission, examProblemSubmissionList, lectureId);
+			List<ExamProblemSubmission> examProblemSubmissionList = saveExamProblemSubmissions(
+				problemSubmissions, results, examSubmission, studentId);
 
-		return examSubmission.getExamSubmissionId();
+			updateExamSubmissionScores(examSubmission, examProblemSubmissionList, questionIds.size());
+			Long lectureId = exam.getLecture().getLectureId();
+			publishExamSubmissionCreateEvent(examSubmission, examProblemSubmissionList, lectureId);
+
+			return examSubmission.getExamSubmissionId();
+		});
 	}
 
 	private void validateExamTime(Exam exam) {
@@ -81,25 +103,28 @@ public class ExamSubmissionServiceImpl implements ExamSubmissionService {
 
 	private List<ExamProblemSubmission> saveExamProblemSubmissions(
 		List<ExamProblemSubmissionDto> problemSubmissions,
+		boolean[] results,
 		ExamSubmission examSubmission,
 		Long studentId) {
 
-		List<ExamProblemSubmission> examProblemSubmissionList = problemSubmissions.stream()
-			.map(dto -> dto.toEntity(examSubmission, studentId))
-			.collect(Collectors.toList());
+		List<ExamProblemSubmission> examProblemSubmissionList = new ArrayList<>(problemSubmissions.size());
+		for (int i = 0; i < results.length; i++) {
+			examProblemSubmissionList.add(problemSubmissions.get(i).toEntity(examSubmission, studentId, results[i]));
+		}
 
 		return examProblemSubmissionRepository.saveAll(examProblemSubmissionList);
 	}
 
 
 	private void updateExamSubmissionScores(ExamSubmission examSubmission,
-		List<ExamProblemSubmission> examProblemSubmissionList) {
+		List<ExamProblemSubmission> examProblemSubmissionList, int questionCount) {
 		Long correctCount = examProblemSubmissionList.stream()
 			.filter(ExamProblemSubmission::getIsCorrect)
 			.count();
 
-		Long totalCount = (long) examProblemSubmissionList.size();
-		double score = (double) correctCount / totalCount * 100;
+		// 풀지 않은 문제도 점수에 들어가도록 제출한 문제 수가 아니라 시험의 문제 수로 나눈다
+		Long totalCount = (long) questionCount;
+		double score = totalCount > 0 ? (double) correctCount / totalCount * 100 : 0.0;
 
 		examSubmission.setCorrectCount(correctCount);
 		examSubmission.setTotalCount(totalCount);
@@ -115,7 +140,7 @@ public class ExamSubmissionServiceImpl implements ExamSubmissionService {
 
 		ExamSubmissionCreateEvent event = createExamSubmissionCreateEvent(examSubmission, lectureId, examProblemSubmissionList);
 
-		kafkaTemplate.send("exam-submission-event", event);
+		outboxEventPublisher.publish("exam-submission-event", EventKeys.studentLecture(event.getStudentId(), lectureId), event);
 	}
 
 	private ExamSubmissionCreateEvent createExamSubmissionCreateEvent(ExamSubmission examSubmission,
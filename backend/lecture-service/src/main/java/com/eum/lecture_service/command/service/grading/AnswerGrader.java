@@ -0,0 +1,81 @@
+package com.eum.lecture_service.command.service.grading;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 학생 답을 정답과 비교한다. 두 값 모두 AnswerNormalizer 를 거친 뒤 비교하고,
+ * 정답이 숫자면 학생 답도 숫자로 읽어 허용 오차 안에서 맞으면 정답으로 본다 (0.5 와 1/2 은 다르게 취급).
+ */
+@Component
+public class AnswerGrader {
+
+	private final List<AnswerNormalizer> normalizers;
+	private final double numericTolerance;
+
+	public AnswerGrader(List<AnswerNormalizer> normalizers,
+		@Value("${lecture.grading.numeric-tolerance:1e-6}") double numericTolerance) {
+		this.normalizers = normalizers;
+		this.numericTolerance = numericTolerance;
+	}
+
+	public AnswerKey toAnswerKey(Long questionId, String answer) {
+		if (answer == null) {
+			return new AnswerKey(questionId, null, null);
+		}
+		String normalized = normalize(answer);
+		return new AnswerKey(questionId, normalized, parseNumber(normalized));
+	}
+
+	public boolean isCorrect(AnswerKey answerKey, String answerText) {
+		if (answerText == null || !answerKey.hasAnswer()) {
+			return false;
+		}
+
+		String normalized = normalize(answerText);
+		if (normalized.equals(answerKey.normalizedAnswer())) {
+			return true;
+		}
+		if (answerKey.numericAnswer() == null) {
+			return false;
+		}
+
+		Double number = parseNumber(normalized);
+		return number != null && Math.abs(number - answerKey.numericAnswer()) <= numericTolerance;
+	}
+
+	private String normalize(String answer) {
+		String normalized = answer;
+		for (AnswerNormalizer normalizer : normalizers) {
+			normalized = normalizer.normalize(normalized);
+		}
+		return normalized;
+	}
+
+	// 숫자 모양이 아닌 답은 예외를 만들지 않도록 먼저 걸러낸다
+	private Double parseNumber(String answer) {
+		if (answer.isEmpty() || !looksNumeric(answer)) {
+			return null;
+		}
+		try {
+			return Double.parseDouble(answer.replace(",", ""));
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	private boolean looksNumeric(String answer) {
+		boolean digit = false;
+		for (int i = 0; i < answer.length(); i++) {
+			char c = answer.charAt(i);
+			if (c >= '0' && c <= '9') {
+				digit = true;
+			} else if (c != '.' && c != ',' && c != '-' && c != '+' && c != 'e') {
+				return false;
+			}
+		}
+		return digit;
+	}
+}
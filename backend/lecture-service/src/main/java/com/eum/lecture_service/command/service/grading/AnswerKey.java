@@ -0,0 +1,12 @@
+package com.eum.lecture_service.command.service.grading;
+
+/**
+ * 정규화까지 끝난 문제 정답. 캐시에 한 번 만들어 두고 채점할 때는 학생 답만 정규화한다.
+ * numericAnswer 는 정답이 숫자일 때만 값이 있다.
+ */
+public record AnswerKey(Long questionId, String normalizedAnswer, Double numericAnswer) {
+
+	public boolean hasAnswer() {
+		return normalizedAnswer != null && !normalizedAnswer.isEmpty();
+	}
+}
@@ -0,0 +1,77 @@
+package com.eum.lecture_service.command.service.grading;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.eum.lecture_service.config.exception.ErrorCode;
+import com.eum.lecture_service.config.exception.EumException;
+
+/**
+ * 문제 ID 별 정규화된 정답을 메모리에 보관한다. 반 전체가 동시에 제출해도 같은 시험의 정답은 한 번만 조회한다.
+ * 시험/숙제 수정 이벤트가 오면 해당 문제를 비우고, 그 외 변경은 TTL 로 만료시킨다.
+ */
+@Component
+public class AnswerKeyCache {
+
+	private static final int MAX_SIZE = 10_000;
+
+	private final AnswerKeyClient answerKeyClient;
+	private final AnswerGrader answerGrader;
+	private final long ttlMillis;
+
+	private final Map<Long, CachedAnswerKey> answerKeys = new ConcurrentHashMap<>();
+
+	public AnswerKeyCache(AnswerKeyClient answerKeyClient, AnswerGrader answerGrader,
+		@Value("${lecture.grading.answer-key-ttl-seconds:600}") long ttlSeconds) {
+		this.answerKeyClient = answerKeyClient;
+		this.answerGrader = answerGrader;
+		this.ttlMillis = ttlSeconds * 1000;
+	}
+
+	public Map<Long, AnswerKey> getAnswerKeys(Set<Long> questionIds) {
+		long now = System.currentTimeMillis();
+		Map<Long, AnswerKey> result = new HashMap<>();
+		Set<Long> missingIds = new LinkedHashSet<>();
+
+		for (Long questionId : questionIds) {
+			CachedAnswerKey cached = answerKeys.get(questionId);
+			if (cached != null && now - cached.loadedAt() < ttlMillis) {
+				result.put(questionId, cached.answerKey());
+			} else {
+				missingIds.add(questionId);
+			}
+		}
+
+		if (!missingIds.isEmpty()) {
+			if (answerKeys.size() + missingIds.size() > MAX_SIZE) {
+				answerKeys.clear();
+			}
+			for (AnswerKeyClient.AnswerResponse response : answerKeyClient.findAnswers(missingIds)) {
+				AnswerKey answerKey = answerGrader.toAnswerKey(response.fileId(), response.answer());
+				answerKeys.put(response.fileId(), new CachedAnswerKey(answerKey, now));
+				result.put(response.fileId(), answerKey);
+			}
+		}
+
+		if (result.size() < questionIds.size()) {
+			throw new EumException(ErrorCode.ANSWER_KEY_NOT_FOUND);
+		}
+		return result;
+	}
+
+	public void evict(Collection<Long> questionIds) {
+		if (questionIds != null) {
+			questionIds.forEach(answerKeys::remove);
+		}
+	}
+
+	private record CachedAnswerKey(AnswerKey answerKey, long loadedAt) {
+	}
+}
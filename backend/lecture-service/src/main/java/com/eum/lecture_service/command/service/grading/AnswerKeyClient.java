@@ -0,0 +1,55 @@
+package com.eum.lecture_service.command.service.grading;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import com.eum.lecture_service.config.exception.ErrorCode;
+import com.eum.lecture_service.config.exception.EumException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 문제 정답은 folder-service 의 saved_files 에 있으므로 문제 ID 목록으로 정답만 한 번에 조회한다.
+ * 정답 조회 API 는 서비스 간 호출 전용이라 공유 토큰(X-INTERNAL-TOKEN)을 함께 보낸다.
+ */
+@Slf4j
+@Component
+public class AnswerKeyClient {
+
+	private static final String INTERNAL_TOKEN_HEADER = "X-INTERNAL-TOKEN";
+
+	private final RestClient restClient;
+
+	public AnswerKeyClient(RestClient.Builder loadBalancedRestClientBuilder,
+		@Value("${lecture.grading.folder-service-url:http://folder-service}") String folderServiceUrl,
+		@Value("${internal.api-token:}") String internalApiToken) {
+		this.restClient = loadBalancedRestClientBuilder
+			.baseUrl(folderServiceUrl)
+			.defaultHeader(INTERNAL_TOKEN_HEADER, internalApiToken)
+			.build();
+	}
+
+	public List<AnswerResponse> findAnswers(Collection<Long> questionIds) {
+		try {
+			AnswersResponse response = restClient.get()
+				.uri(uriBuilder -> uriBuilder.path("/internal/file/answers").queryParam("fileIds", questionIds).build())
+				.retrieve()
+				.body(AnswersResponse.class);
+			return response == null || response.data() == null ? List.of() : response.data();
+		} catch (RestClientException e) {
+			log.error("정답 조회 실패. questionIds: {}", questionIds, e);
+			throw new EumException(ErrorCode.ANSWER_KEY_LOAD_FAILED);
+		}
+	}
+
+	public record AnswerResponse(Long fileId, String answer) {
+	}
+
+	private record AnswersResponse(List<AnswerResponse> data) {
+	}
+}
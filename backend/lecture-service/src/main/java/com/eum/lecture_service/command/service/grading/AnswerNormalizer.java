@@ -0,0 +1,10 @@
+package com.eum.lecture_service.command.service.grading;
+
+/**
+ * 정답과 학생 답에 똑같이 적용되는 비교 전 변환. 빈으로 등록하면 @Order 순서대로 적용된다.
+ * 바꿀 것이 없으면 입력 문자열을 그대로 돌려줘 채점 중 불필요한 할당을 만들지 않는다.
+ */
+public interface AnswerNormalizer {
+
+	String normalize(String answer);
+}
@@ -0,0 +1,17 @@
+package com.eum.lecture_service.command.service.grading;
+
+import java.util.Locale;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// 영문 답은 대소문자를 구분하지 않는다
+@Order(1)
+@Component
+public class CaseAnswerNormalizer implements AnswerNormalizer {
+
+	@Override
+	public String normalize(String answer) {
+		return answer.toLowerCase(Locale.ROOT);
+	}
+}
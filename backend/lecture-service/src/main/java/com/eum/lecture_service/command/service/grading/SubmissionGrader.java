@@ -0,0 +1,64 @@
+package com.eum.lecture_service.command.service.grading;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.eum.lecture_service.config.exception.ErrorCode;
+import com.eum.lecture_service.config.exception.EumException;
+
+/**
+ * 제출된 문제별 답을 서버에서 채점한다. 정답은 AnswerKeyCache 에서 제출 한 건당 한 번에 가져온다.
+ * answerText 를 보내지 않는 이전 클라이언트는 allow-client-result 를 켠 경우에만 클라이언트 채점 결과를 그대로 쓰고,
+ * 기본값(false)에서는 오답으로 처리한다.
+ * 시험/숙제에 출제되지 않은 문제나 같은 문제를 두 번 보낸 제출은 정답을 조회하기 전에 거절한다.
+ */
+@Component
+public class SubmissionGrader {
+
+	private final AnswerKeyCache answerKeyCache;
+	private final AnswerGrader answerGrader;
+	private final boolean allowClientResult;
+
+	public SubmissionGrader(AnswerKeyCache answerKeyCache, AnswerGrader answerGrader,
+		@Value("${lecture.grading.allow-client-result:false}") boolean allowClientResult) {
+		this.answerKeyCache = answerKeyCache;
+		this.answerGrader = answerGrader;
+		this.allowClientResult = allowClientResult;
+	}
+
+	public <T> boolean[] grade(Collection<Long> assessmentQuestionIds, List<T> submissions,
+		Function<T, Long> questionIdOf, Function<T, String> answerTextOf, Function<T, Boolean> clientResultOf) {
+		Set<Long> allowedQuestionIds = Set.copyOf(assessmentQuestionIds);
+		Set<Long> submittedQuestionIds = new HashSet<>();
+		Set<Long> questionIds = new HashSet<>();
+		for (T submission : submissions) {
+			Long questionId = questionIdOf.apply(submission);
+			if (questionId == null || !allowedQuestionIds.contains(questionId) || !submittedQuestionIds.add(questionId)) {
+				throw new EumException(ErrorCode.SUBMISSION_QUESTION_INVALID);
+			}
+			if (answerTextOf.apply(submission) != null) {
+				questionIds.add(questionId);
+			}
+		}
+		Map<Long, AnswerKey> answerKeys = questionIds.isEmpty() ? Map.of() : answerKeyCache.getAnswerKeys(questionIds);
+
+		boolean[] results = new boolean[submissions.size()];
+		for (int i = 0; i < results.length; i++) {
+			T submission = submissions.get(i);
+			String answerText = answerTextOf.apply(submission);
+			if (answerText != null) {
+				results[i] = answerGrader.isCorrect(answerKeys.get(questionIdOf.apply(submission)), answerText);
+			} else {
+				results[i] = allowClientResult && Boolean.TRUE.equals(clientResultOf.apply(submission));
+			}
+		}
+		return results;
+	}
+}
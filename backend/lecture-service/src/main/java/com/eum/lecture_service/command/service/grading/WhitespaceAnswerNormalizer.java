@@ -0,0 +1,42 @@
+package com.eum.lecture_service.command.service.grading;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// 앞뒤 공백을 없애고 OCR 로 생긴 연속 공백은 하나로 줄인다
+@Order(0)
+@Component
+public class WhitespaceAnswerNormalizer implements AnswerNormalizer {
+
+	@Override
+	public String normalize(String answer) {
+		String stripped = answer.strip();
+		if (!hasRepeatedWhitespace(stripped)) {
+			return stripped;
+		}
+
+		StringBuilder builder = new StringBuilder(stripped.length());
+		boolean previousWhitespace = false;
+		for (int i = 0; i < stripped.length(); i++) {
+			char c = stripped.charAt(i);
+			boolean whitespace = Character.isWhitespace(c);
+			if (whitespace && previousWhitespace) {
+				continue;
+			}
+			builder.append(whitespace ? ' ' : c);
+			previousWhitespace = whitespace;
+		}
+		return builder.toString();
+	}
+
+	private boolean hasRepeatedWhitespace(String answer) {
+		for (int i = 0; i < answer.length(); i++) {
+			char c = answer.charAt(i);
+			if (Character.isWhitespace(c) && (c != ' '
+				|| (i + 1 < answer.length() && Character.isWhitespace(answer.charAt(i + 1))))) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
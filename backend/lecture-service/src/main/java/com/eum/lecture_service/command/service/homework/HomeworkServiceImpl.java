@@ -4,7 +4,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,11 +15,13 @@ import com.eum.lecture_service.command.repository.homework.HomeworkRepository;
 import com.eum.lecture_service.command.repository.lecture.LectureRepository;
 import com.eum.lecture_service.config.exception.ErrorCode;
 import com.eum.lecture_service.config.exception.EumException;
+import com.eum.lecture_service.event.EventKeys;
 import com.eum.lecture_service.event.event.homework.HomeworkCreateEvent;
 import com.eum.lecture_service.event.event.homework.HomeworkDeleteEvent;
 import com.eum.lecture_service.event.event.homework.HomeworkTodoCreateEvent;
 import com.eum.lecture_service.event.event.homework.HomeworkUpdateEvent;
 import com.eum.lecture_service.event.event.notification.HomeworkCreatedNotificationEvent;
+import com.eum.lecture_service.event.outbox.OutboxEventPublisher;
 import com.eum.lecture_service.query.document.eventModel.ClassModel;
 import com.eum.lecture_service.query.document.eventModel.StudentModel;
 import com.eum.lecture_service.query.repository.ClassReadRepository;
@@ -36,7 +37,7 @@ public class HomeworkServiceImpl implements HomeworkService {
 	private final HomeworkRepository homeworkRepository;
 	private final LectureRepository lectureRepository;
 	private final StudentReadRepository studentReadRepository;
-	private final KafkaTemplate<String, Object> kafkaTemplate;
+	private final OutboxEventPublisher outboxEventPublisher;
 
 	@Override
 	@Transactional
@@ -136,7 +137,7 @@ public class HomeworkServiceImpl implements HomeworkService {
 			homework.getEndTime(),
 			questionIds
 		);
-		kafkaTemplate.send("homework-create-topic", event);
+		outboxEventPublisher.publish("homework-create-topic", EventKeys.lecture(event.getLectureId()), event);
 	}
 
 	private void publishHomeworkUpdateEvent(Homework homework, List<Long> questionIds) {
@@ -148,7 +149,7 @@ public class HomeworkServiceImpl implements HomeworkService {
 			homework.getEndTime(),
 			questionIds
 		);
-		kafkaTemplate.send("homework-update-topic", event);
+		outboxEventPublisher.publish("homework-update-topic", EventKeys.lecture(event.getLectureId()), event);
 	}
 
 	private void publishHomeworkTodoCreateEvent(Lecture lecture, Homework savedHomework, ClassModel classmodel) {
@@ -171,7 +172,7 @@ public class HomeworkServiceImpl implements HomeworkService {
 			.studentIds(students)
 			.build();
 
-		kafkaTemplate.send("homework-todo-create-topic", event);
+		outboxEventPublisher.publish("homework-todo-create-topic", event);
 	}
 
 	private void publishHomeworkDeleteEvent(Homework homework) {
@@ -179,7 +180,7 @@ public class HomeworkServiceImpl implements HomeworkService {
 			homework.getHomeworkId(),
 			homework.getLecture().getLectureId()
 		);
-		kafkaTemplate.send("homework-delete-topic", event);
+		outboxEventPublisher.publish("homework-delete-topic", EventKeys.lecture(event.getLectureId()), event);
 	}
 
 	private List<Long> getStudentIds(Long classId) {
@@ -194,6 +195,6 @@ public class HomeworkServiceImpl implements HomeworkService {
 		List<Long> studentIds = getStudentIds(savedHomework.getLecture().getClassId());
 
 		HomeworkCreatedNotificationEvent event = HomeworkCreatedNotificationEvent.of(savedHomework, studentIds, lecture.getSubject());
-		kafkaTemplate.send("homework-created-notification-topic", event);
+		outboxEventPublisher.publish("homework-created-notification-topic", event);
 	}
 }
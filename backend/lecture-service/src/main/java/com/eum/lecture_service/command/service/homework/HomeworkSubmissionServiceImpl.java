@@ -1,12 +1,12 @@
 package com.eum.lecture_service.command.service.homework;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.eum.lecture_service.command.dto.exam.ExamProblemSubmissionDto;
 import com.eum.lecture_service.command.dto.homework.HomeworkProblemSubmissionDto;
@@ -15,18 +15,22 @@ import com.eum.lecture_service.command.entity.exam.ExamProblemSubmission;
 import com.eum.lecture_service.command.entity.exam.ExamSubmission;
 import com.eum.lecture_service.command.entity.homework.Homework;
 import com.eum.lecture_service.command.entity.homework.HomeworkProblemSubmission;
+import com.eum.lecture_service.command.entity.homework.HomeworkQuestion;
 import com.eum.lecture_service.command.entity.homework.HomeworkSubmission;
 import com.eum.lecture_service.command.entity.lecture.Lecture;
 import com.eum.lecture_service.command.repository.homework.HomeworkProblemSubmissionRepository;
 import com.eum.lecture_service.command.repository.homework.HomeworkRepository;
 import com.eum.lecture_service.command.repository.homework.HomeworkSubmissionRepository;
+import com.eum.lecture_service.command.service.grading.SubmissionGrader;
 import com.eum.lecture_service.common.NotificationType;
 import com.eum.lecture_service.config.exception.ErrorCode;
 import com.eum.lecture_service.config.exception.EumException;
+import com.eum.lecture_service.event.EventKeys;
 import com.eum.lecture_service.event.dto.HomeworkProblemSubmissionEventDto;
 import com.eum.lecture_service.event.event.homework.HomeworkSubmissionCreateEvent;
 import com.eum.lecture_service.event.event.homework.HomeworkTodoDeleteEvent;
 import com.eum.lecture_service.event.event.notification.HomeworkSubmissionNotificationEvent;
+import com.eum.lecture_service.event.outbox.OutboxEventPublisher;
 import com.eum.lecture_service.query.document.eventModel.StudentModel;
 import com.eum.lecture_service.query.repository.StudentReadRepository;
 
@@ -39,40 +43,58 @@ public class HomeworkSubmissionServiceImpl implements HomeworkSubmissionService
 	private final HomeworkRepository homeworkRepository;
 	private final HomeworkSubmissionRepository homeworkSubmissionRepository;
 	private final HomeworkProblemSubmissionRepository homeworkProblemSubmissionRepository;
-	private final KafkaTemplate<String, Object> kafkaTemplate;
+	private final OutboxEventPublisher outboxEventPublisher;
+	private final SubmissionGrader submissionGrader;
+	private final TransactionTemplate transactionTemplate;
 	private final StudentReadRepository studentReadRepository;
 
 
 	@Override
-	@Transactional
 	public Long submitHomeworkProblems(Long homeworkId, Long studentId,
 		List<HomeworkProblemSubmissionDto> homeworkProblemSubmissions) {
-
-		Homework homework = homeworkRepository.findById(homeworkId)
+		// 정답 조회(folder-service 호출) 전에 숙제/학생/제출 기간을 확인해 잘못된 제출이 원격 호출까지 가지 않게 한다
+		Homework assignedHomework = homeworkRepository.findWithQuestionsById(homeworkId)
 			.orElseThrow(() -> new EumException(ErrorCode.HOMEWORK_NOT_FOUND));
 
 		StudentModel student = studentReadRepository.findById(studentId)
-				.orElseThrow(() -> new EumException(ErrorCode.STUDENT_NOT_FOUND));
+			.orElseThrow(() -> new EumException(ErrorCode.STUDENT_NOT_FOUND));
+
+		validateHomeworkTime(assignedHomework);
+
+		List<Long> questionIds = assignedHomework.getHomeworkQuestions().stream()
+			.map(HomeworkQuestion::getQuestionId)
+			.toList();
+
+		// 정답 조회가 DB 커넥션을 잡고 있지 않도록 채점은 트랜잭션 밖에서 먼저 한다
+		boolean[] results = submissionGrader.grade(questionIds, homeworkProblemSubmissions,
+			HomeworkProblemSubmissionDto::getQuestionId, HomeworkProblemSubmissionDto::getAnswerText,
+			HomeworkProblemSubmissionDto::getIsCorrect);
 
-		validateHomeworkTime(homework);
+		return transactionTemplate.execute(status -> {
+			// 채점하는 동안 숙제가 삭제되거나 제출 기간이 끝났을 수 있으므로 다시 확인한다
+			Homework homework = homeworkRepository.findById(homeworkId)
+				.orElseThrow(() -> new EumException(ErrorCode.HOMEWORK_NOT_FOUND));
 
-		HomeworkSubmission homeworkSubmission = findOrCreateHomeworkSubmission(homework, studentId);
+			validateHomeworkTime(homework);
 
-		List<HomeworkProblemSubmission> homeworkProblemSubmissionList = saveHomeworkProblemSubmissions(
-			homeworkProblemSubmissions, homeworkSubmission, studentId);
+			HomeworkSubmission homeworkSubmission = findOrCreateHomeworkSubmission(homework, studentId);
 
-		updateHomeworkSubmissionScores(homeworkSubmission, homeworkProblemSubmissionList);
+			List<HomeworkProblemSubmission> homeworkProblemSubmissionList = saveHomeworkProblemSubmissions(
+				homeworkProblemSubmissions, results, homeworkSubmission, studentId);
 
-		Lecture lecture = homework.getLecture();
-		Long lectureId = lecture.getLectureId();
-		publishHomeworkSubmissionCreateEvent(homeworkSubmission, homeworkProblemSubmissionList, lectureId);
+			updateHomeworkSubmissionScores(homeworkSubmission, homeworkProblemSubmissionList, questionIds.size());
 
-		publishHomeworkTodoDeleteEvent(homework.getHomeworkId(), studentId);
+			Lecture lecture = homework.getLecture();
+			Long lectureId = lecture.getLectureId();
+			publishHomeworkSubmissionCreateEvent(homeworkSubmission, homeworkProblemSubmissionList, lectureId);
 
-		//선생님한테 알림
-		publishHomeworkSubmissionNotificationEvent(homework, lecture, student);
+			publishHomeworkTodoDeleteEvent(homework.getHomeworkId(), studentId);
 
-		return homeworkSubmission.getHomeworkSubmissionId();
+			//선생님한테 알림
+			publishHomeworkSubmissionNotificationEvent(homework, lecture, student);
+
+			return homeworkSubmission.getHomeworkSubmissionId();
+		});
 	}
 
 	private void publishHomeworkSubmissionNotificationEvent(Homework homework, Lecture lecture, StudentModel student) {
@@ -88,7 +110,7 @@ public class HomeworkSubmissionServiceImpl implements HomeworkSubmissionService
 			.type(NotificationType.HOMEWORK_SUBMISSION.getDescription())
 			.build();
 
-		kafkaTemplate.send("homework-submission-notification-topic", event);
+		outboxEventPublisher.publish("homework-submission-notification-topic", event);
 	}
 
 	private void validateHomeworkTime(Homework homework) {
@@ -119,23 +141,26 @@ public class HomeworkSubmissionServiceImpl implements HomeworkSubmissionService
 
 	private List<HomeworkProblemSubmission> saveHomeworkProblemSubmissions(
 		List<HomeworkProblemSubmissionDto> problemSubmissions,
+		boolean[] results,
 		HomeworkSubmission homeworkSubmission,
 		Long studentId) {
 
-		List<HomeworkProblemSubmission> homeworkProblemSubmissionList = problemSubmissions.stream()
-			.map(dto -> dto.toEntity(homeworkSubmission, studentId))
-			.collect(Collectors.toList());
+		List<HomeworkProblemSubmission> homeworkProblemSubmissionList = new ArrayList<>(problemSubmissions.size());
+		for (int i = 0; i < results.length; i++) {
+			homeworkProblemSubmissionList.add(problemSubmissions.get(i).toEntity(homeworkSubmission, studentId, results[i]));
+		}
 
 		return homeworkProblemSubmissionRepository.saveAll(homeworkProblemSubmissionList);
 	}
 
 	private void updateHomeworkSubmissionScores(HomeworkSubmission homeworkSubmission,
-		List<HomeworkProblemSubmission> homeworkProblemSubmissionList) {
+		List<HomeworkProblemSubmission> homeworkProblemSubmissionList, int questionCount) {
 		Long correctCount = homeworkProblemSubmissionList.stream()
 			.filter(HomeworkProblemSubmission::getIsCorrect)
 			.count();
 
-		Long totalCount = (long) homeworkProblemSubmissionList.size();
+		// 풀지 않은 문제도 점수에 들어가도록 제출한 문제 수가 아니라 숙제의 문제 수로 나눈다
+		Long totalCount = (long) questionCount;
 		double score = totalCount > 0 ? ((double) correctCount / totalCount) * 100 : 0.0;
 
 		homeworkSubmission.setCorrectCount(correctCount);
@@ -151,7 +176,7 @@ public class HomeworkSubmissionServiceImpl implements HomeworkSubmissionService
 		Long lectureId) {
 
 		HomeworkSubmissionCreateEvent event = createHomeworkSubmissionCreateEvent(homeworkSubmission, lectureId, homeworkProblemSubmissionList);
-		kafkaTemplate.send("homework-submission-event", event);
+		outboxEventPublisher.publish("homework-submission-event", EventKeys.studentLecture(event.getStudentId(), lectureId), event);
 	}
 
 	private HomeworkSubmissionCreateEvent createHomeworkSubmissionCreateEvent(HomeworkSubmission homeworkSubmission, Long lectureId, List<HomeworkProblemSubmission> homeworkProblemSubmissionList) {
@@ -187,6 +212,6 @@ public class HomeworkSubmissionServiceImpl implements HomeworkSubmissionService
 	private void publishHomeworkTodoDeleteEvent(Long homeworkId, Long studentId) {
 		HomeworkTodoDeleteEvent event = new HomeworkTodoDeleteEvent(homeworkId, studentId);
 
-		kafkaTemplate.send("homework-todo-delete-topic", event);
+		outboxEventPublisher.publish("homework-todo-delete-topic", event);
 	}
 }
@@ -0,0 +1,76 @@
+package com.eum.lecture_service.command.service.lecture;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import com.eum.lecture_service.command.dto.lecture.LectureScheduleDto;
+import com.eum.lecture_service.command.entity.lecture.LectureSchedule;
+import com.eum.lecture_service.config.exception.ErrorCode;
+import com.eum.lecture_service.config.exception.EumException;
+
+/**
+ * 한 반의 주간 시간표. 요일 x 교시 칸이 차 있는지를 비트 하나로 표현해 칸마다 O(1) 로 확인한다.
+ */
+public class ClassTimetable {
+
+	public static final List<String> DAYS = List.of("월요일", "화요일", "수요일", "목요일", "금요일", "토요일", "일요일");
+	public static final int MAX_PERIOD = 16;
+
+	private final BitSet occupied = new BitSet(DAYS.size() * MAX_PERIOD);
+
+	// excludeLectureId 의 시간표는 빼고 만든다 (수정 중인 수업 자신과는 겹쳐도 된다)
+	public static ClassTimetable of(List<LectureSchedule> schedules, Long excludeLectureId) {
+		ClassTimetable timetable = new ClassTimetable();
+		for (LectureSchedule schedule : schedules) {
+			if (excludeLectureId != null && excludeLectureId.equals(schedule.getLecture().getLectureId())) {
+				continue;
+			}
+			int index = indexOrNegative(schedule.getDay(), schedule.getPeriod());
+			if (index >= 0) {
+				timetable.occupied.set(index);
+			}
+		}
+		return timetable;
+	}
+
+	// 비어 있던 칸이면 채우고 true, 이미 차 있으면 false
+	public boolean occupy(String day, Long period) {
+		int index = index(day, period);
+		if (occupied.get(index)) {
+			return false;
+		}
+		occupied.set(index);
+		return true;
+	}
+
+	public List<LectureScheduleDto> freeSlots(int days, int lastPeriod) {
+		int dayCount = Math.min(days, DAYS.size());
+		int periodCount = Math.min(lastPeriod, MAX_PERIOD);
+		List<LectureScheduleDto> slots = new ArrayList<>();
+		for (int day = 0; day < dayCount; day++) {
+			for (int period = 1; period <= periodCount; period++) {
+				if (!occupied.get(day * MAX_PERIOD + period - 1)) {
+					slots.add(new LectureScheduleDto(DAYS.get(day), (long)period));
+				}
+			}
+		}
+		return slots;
+	}
+
+	private static int index(String day, Long period) {
+		int index = indexOrNegative(day, period);
+		if (index < 0) {
+			throw new EumException(ErrorCode.SCHEDULE_INVALID);
+		}
+		return index;
+	}
+
+	private static int indexOrNegative(String day, Long period) {
+		int dayIndex = DAYS.indexOf(day);
+		if (dayIndex < 0 || period == null || period < 1 || period > MAX_PERIOD) {
+			return -1;
+		}
+		return dayIndex * MAX_PERIOD + period.intValue() - 1;
+	}
+}
@@ -0,0 +1,68 @@
+package com.eum.lecture_service.command.service.lecture;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.eum.lecture_service.command.repository.lecture.LectureScheduleRepository;
+
+/**
+ * 빈 시간 조회용으로 반별 시간표를 보관한다. 시간표 검증은 항상 새로 읽고 유니크 제약이 최종적으로 막으므로,
+ * 이 캐시는 같은 인스턴스의 수업 생성/수정/삭제가 커밋되면 비우고 다른 인스턴스의 변경은 TTL 로 반영한다.
+ */
+@Component
+public class ClassTimetableCache {
+
+	private static final int MAX_SIZE = 10_000;
+
+	private final LectureScheduleRepository lectureScheduleRepository;
+	private final long ttlMillis;
+
+	private final Map<Long, CachedTimetable> timetables = new ConcurrentHashMap<>();
+
+	public ClassTimetableCache(LectureScheduleRepository lectureScheduleRepository,
+		@Value("${lecture.timetable-cache.ttl-seconds:60}") long ttlSeconds) {
+		this.lectureScheduleRepository = lectureScheduleRepository;
+		this.ttlMillis = ttlSeconds * 1000;
+	}
+
+	public ClassTimetable get(Long classId) {
+		long now = System.currentTimeMillis();
+		CachedTimetable cached = timetables.get(classId);
+		if (cached != null && now - cached.loadedAt() < ttlMillis) {
+			return cached.timetable();
+		}
+
+		ClassTimetable timetable = ClassTimetable.of(lectureScheduleRepository.findByClassId(classId), null);
+		if (timetables.size() >= MAX_SIZE) {
+			timetables.clear();
+		}
+		timetables.put(classId, new CachedTimetable(timetable, now));
+		return timetable;
+	}
+
+	public void evict(Long classId) {
+		timetables.remove(classId);
+	}
+
+	// 커밋 전에 비우면 동시에 들어온 조회가 커밋 전 시간표를 다시 읽어 TTL 동안 보관하므로 커밋 뒤에 비운다
+	public void evictAfterCommit(Long classId) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			evict(classId);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				evict(classId);
+			}
+		});
+	}
+
+	private record CachedTimetable(ClassTimetable timetable, long loadedAt) {
+	}
+}
@@ -1,9 +1,11 @@
 package com.eum.lecture_service.command.service.lecture;
 
+import java.util.List;
 import java.util.Optional;
 
 import com.eum.lecture_service.command.dto.lecture.LectureCreateDto;
 import com.eum.lecture_service.command.dto.lecture.LectureDto;
+import com.eum.lecture_service.command.dto.lecture.LectureScheduleDto;
 import com.eum.lecture_service.command.entity.lecture.Lecture;
 
 public interface LectureService {
@@ -19,4 +21,6 @@ public interface LectureService {
 	void switchLecture(Long lectureId, Long memberId);
 
 	void minusStudentAttitude(Long lectureId, Long studentId);
+
+	List<LectureScheduleDto> getFreeSlots(Long classId, int days, int lastPeriod);
 }
@@ -1,23 +1,27 @@
 package com.eum.lecture_service.command.service.lecture;
 
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.eum.lecture_service.command.dto.lecture.LectureCreateDto;
 import com.eum.lecture_service.command.dto.lecture.LectureDto;
+import com.eum.lecture_service.command.dto.lecture.LectureScheduleDto;
 import com.eum.lecture_service.command.entity.lecture.Lecture;
 import com.eum.lecture_service.command.entity.lecture.LectureSchedule;
 import com.eum.lecture_service.command.repository.lecture.LectureRepository;
 import com.eum.lecture_service.command.repository.lecture.LectureScheduleRepository;
 import com.eum.lecture_service.config.exception.ErrorCode;
 import com.eum.lecture_service.config.exception.EumException;
+import com.eum.lecture_service.event.EventKeys;
 import com.eum.lecture_service.event.event.lecture.LectureCreatedEvent;
 import com.eum.lecture_service.event.event.lecture.LectureDeletedEvent;
 import com.eum.lecture_service.event.event.lecture.LectureMinusAttitudeEvent;
@@ -25,6 +29,7 @@ import com.eum.lecture_service.event.event.lecture.LectureStatusUpdatedEvent;
 import com.eum.lecture_service.event.event.lecture.LectureUpdatedEvent;
 import com.eum.lecture_service.event.event.notification.LectureCreatedNotificationEvent;
 import com.eum.lecture_service.event.event.notification.LectureStartedNotificationEvent;
+import com.eum.lecture_service.event.outbox.OutboxEventPublisher;
 import com.eum.lecture_service.query.document.eventModel.ClassModel;
 import com.eum.lecture_service.query.document.eventModel.StudentModel;
 import com.eum.lecture_service.query.repository.ClassReadRepository;
@@ -38,9 +43,10 @@ public class LectureServiceImpl implements LectureService{
 
 	private final LectureRepository lectureRepository;
 	private final LectureScheduleRepository lectureScheduleRepository;
-	private final KafkaTemplate<String, Object> kafkaTemplate;
+	private final OutboxEventPublisher outboxEventPublisher;
 	private final ClassReadRepository classReadRepository;
 	private final StudentReadRepository studentReadRepository;
+	private final ClassTimetableCache classTimetableCache;
 
 	@Override
 	@Transactional
@@ -56,15 +62,15 @@ public class LectureServiceImpl implements LectureService{
 
 		List<LectureSchedule> schedules = lectureDto.toLectureScheduleEntities(lecture);
 
-		validateLectureSchedule(schedules, lecture.getClassId());
+		validateLectureSchedule(schedules, lecture.getClassId(), lecture.getLectureId());
 
 		lecture.setLectureSchedules(schedules);
 
-		Lecture savedLecture = lectureRepository.save(lecture);
+		Lecture savedLecture = saveWithSchedules(lecture);
 
 		//이벤트 발행
 		LectureCreatedEvent event = new LectureCreatedEvent(savedLecture);
-		kafkaTemplate.send("lecture-created-topic", event);
+		outboxEventPublisher.publish("lecture-created-topic", EventKeys.lecture(event.getLectureId()), event);
 
 		//알림 이벤트 발생
 		publishCreateNotificationEvent(savedLecture);
@@ -73,17 +79,54 @@ public class LectureServiceImpl implements LectureService{
 	}
 
 
-	private void validateLectureSchedule(List<LectureSchedule> schedules, Long classId) {
+	// 반 전체 시간표를 한 번에 읽어 비트셋으로 확인한다. 요청 안에서 같은 칸이 두 번 나와도 충돌로 본다
+	private void validateLectureSchedule(List<LectureSchedule> schedules, Long classId, Long lectureId) {
+		ClassTimetable timetable = ClassTimetable.of(lectureScheduleRepository.findByClassId(classId), lectureId);
 		for (LectureSchedule schedule : schedules) {
-			List<LectureSchedule> existingSchedules = lectureScheduleRepository.findByLectureClassIdAndDayAndPeriod(
-				classId, schedule.getDay(), schedule.getPeriod());
-
-			if (!existingSchedules.isEmpty()) {
+			if (!timetable.occupy(schedule.getDay(), schedule.getPeriod())) {
 				throw new EumException(ErrorCode.SCHEDULE_CONFLICT);
 			}
 		}
 	}
 
+	// 검증 이후 다른 요청이 같은 칸을 먼저 저장했다면 유니크 제약에 걸린다
+	private Lecture saveWithSchedules(Lecture lecture) {
+		try {
+			Lecture savedLecture = lectureRepository.saveAndFlush(lecture);
+			classTimetableCache.evictAfterCommit(savedLecture.getClassId());
+			return savedLecture;
+		} catch (DataIntegrityViolationException e) {
+			throw new EumException(ErrorCode.SCHEDULE_CONFLICT);
+		}
+	}
+
+	// 유지되는 칸은 기존 행을 그대로 두어, 삭제보다 INSERT 가 먼저 flush 되어도 유니크 제약에 걸리지 않게 한다
+	private void replaceLectureSchedules(Lecture lecture, List<LectureSchedule> newSchedules) {
+		Set<String> newSlots = newSchedules.stream()
+			.map(schedule -> slotKey(schedule.getDay(), schedule.getPeriod()))
+			.collect(Collectors.toSet());
+		Set<String> keptSlots = new HashSet<>();
+
+		lecture.getLectureSchedules().removeIf(schedule -> {
+			String slot = slotKey(schedule.getDay(), schedule.getPeriod());
+			return !newSlots.contains(slot) || !keptSlots.add(slot);
+		});
+
+		for (LectureSchedule schedule : newSchedules) {
+			if (!keptSlots.contains(slotKey(schedule.getDay(), schedule.getPeriod()))) {
+				lecture.getLectureSchedules().add(schedule);
+			}
+		}
+	}
+
+	private String slotKey(String day, Long period) {
+		return day + "-" + period;
+	}
+
+	@Override
+	public List<LectureScheduleDto> getFreeSlots(Long classId, int days, int lastPeriod) {
+		return classTimetableCache.get(classId).freeSlots(days, lastPeriod);
+	}
 
 	@Override
 	@Transactional
@@ -94,17 +137,16 @@ public class LectureServiceImpl implements LectureService{
 		lecture.updateFromDTO(lectureDto);
 
 		if (lectureDto.getSchedule() != null) {
-			lecture.getLectureSchedules().clear();
 			List<LectureSchedule> newSchedules = lectureDto.toLectureScheduleEntities(lecture);
-			validateLectureSchedule(newSchedules, lecture.getClassId());
-			lecture.getLectureSchedules().addAll(newSchedules);
+			validateLectureSchedule(newSchedules, lecture.getClassId(), lectureId);
+			replaceLectureSchedules(lecture, newSchedules);
 		}
 
-		Lecture savedLecture = lectureRepository.save(lecture);
+		Lecture savedLecture = saveWithSchedules(lecture);
 
 		//이벤트 발생
 		LectureUpdatedEvent event = new LectureUpdatedEvent(savedLecture);
-		kafkaTemplate.send("lecture-updated-topic", event);
+		outboxEventPublisher.publish("lecture-updated-topic", EventKeys.lecture(event.getLectureId()), event);
 
 		return savedLecture.getLectureId();
 	}
@@ -112,13 +154,13 @@ public class LectureServiceImpl implements LectureService{
 	@Override
 	@Transactional
 	public void deleteLecture(Long lectureId) {
-		if (!lectureRepository.existsById(lectureId)) {
-			throw new EumException(ErrorCode.LECTURE_NOT_FOUND);
-		}
-		lectureRepository.deleteById(lectureId);
+		Lecture lecture = lectureRepository.findById(lectureId)
+			.orElseThrow(() -> new EumException(ErrorCode.LECTURE_NOT_FOUND));
+		lectureRepository.delete(lecture);
+		classTimetableCache.evictAfterCommit(lecture.getClassId());
 
 		LectureDeletedEvent event = new LectureDeletedEvent(lectureId);
-		kafkaTemplate.send("lecture-deleted-topic", event);
+		outboxEventPublisher.publish("lecture-deleted-topic", EventKeys.lecture(lectureId), event);
 	}
 
 	@Override
@@ -140,7 +182,7 @@ public class LectureServiceImpl implements LectureService{
 		Lecture savedlecture = lectureRepository.save(lecture);
 
 		LectureStatusUpdatedEvent event = new LectureStatusUpdatedEvent(lectureId, savedlecture.getLectureStatus());
-		kafkaTemplate.send("lecture-status-updated-topic", event);
+		outboxEventPublisher.publish("lecture-status-updated-topic", EventKeys.lecture(lectureId), event);
 
 		//스위칭 알림이벤트 -> 만약 lecture 상태가 true면
 		if(savedlecture.getLectureStatus()) {
@@ -155,7 +197,7 @@ public class LectureServiceImpl implements LectureService{
 		}
 
 		LectureMinusAttitudeEvent event = new LectureMinusAttitudeEvent(lectureId, studentId);
-		kafkaTemplate.send("lecture-minus-attitude-topic", event);
+		outboxEventPublisher.publish("lecture-minus-attitude-topic", EventKeys.studentLecture(studentId, lectureId), event);
 	}
 
 	private List<Long> getStudentIds(Long classId) {
@@ -172,7 +214,7 @@ public class LectureServiceImpl implements LectureService{
 
 		LectureCreatedNotificationEvent event = LectureCreatedNotificationEvent.of(savedLecture, studentIds);
 
-		kafkaTemplate.send("lecture-created-notification-topic", event);
+		outboxEventPublisher.publish("lecture-created-notification-topic", event);
 	}
 
 	private void publishStartNotificationEvent(Lecture savedLecture) {
@@ -180,6 +222,6 @@ public class LectureServiceImpl implements LectureService{
 
 		LectureStartedNotificationEvent event = LectureStartedNotificationEvent.of(savedLecture, studentIds);
 
-		kafkaTemplate.send("lecture-started-notification-topic", event);
+		outboxEventPublisher.publish("lecture-started-notification-topic", event);
 	}
 }
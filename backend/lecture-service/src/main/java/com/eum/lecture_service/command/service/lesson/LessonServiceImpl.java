@@ -2,7 +2,6 @@ package com.eum.lecture_service.command.service.lesson;
 
 import java.util.List;
 
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,9 +15,11 @@ import com.eum.lecture_service.command.repository.lecture.LectureRepository;
 import com.eum.lecture_service.command.repository.lesson.LessonRepository;
 import com.eum.lecture_service.config.exception.ErrorCode;
 import com.eum.lecture_service.config.exception.EumException;
+import com.eum.lecture_service.event.EventKeys;
 import com.eum.lecture_service.event.event.exam.ExamCreateEvent;
 import com.eum.lecture_service.event.event.lesson.LessonCreateEvent;
 import com.eum.lecture_service.event.event.lesson.LessonDeleteEvent;
+import com.eum.lecture_service.event.outbox.OutboxEventPublisher;
 
 import lombok.RequiredArgsConstructor;
 
@@ -28,7 +29,7 @@ public class LessonServiceImpl implements LessonService {
 
 	private final LectureRepository lectureRepository;
 	private final LessonRepository lessonRepository;
-	private final KafkaTemplate<String, Object> kafkaTemplate;
+	private final OutboxEventPublisher outboxEventPublisher;
 
 	@Override
 	@Transactional
@@ -109,7 +110,7 @@ public class LessonServiceImpl implements LessonService {
 			lesson.getLecture().getLectureId(),
 			lesson.getLessonId()
 		);
-		kafkaTemplate.send("lesson-delete-event", event);
+		outboxEventPublisher.publish("lesson-delete-event", EventKeys.lecture(event.getLectureId()), event);
 	}
 
 	private void publishLessonCreateEvent(Lesson savedLesson, List<Long> lessonQuestions) {
@@ -119,6 +120,6 @@ public class LessonServiceImpl implements LessonService {
 			savedLesson.getTitle(),
 			lessonQuestions
 		);
-		kafkaTemplate.send("lesson-create-event", event);
+		outboxEventPublisher.publish("lesson-create-event", EventKeys.lecture(event.getLectureId()), event);
 	}
 }
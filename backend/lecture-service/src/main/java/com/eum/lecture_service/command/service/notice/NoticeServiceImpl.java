@@ -3,7 +3,6 @@ package com.eum.lecture_service.command.service.notice;
 import java.util.Optional;
 
 import org.springframework.kafka.annotation.KafkaListener;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,8 +13,10 @@ import com.eum.lecture_service.command.repository.lecture.LectureRepository;
 import com.eum.lecture_service.command.repository.notice.NoticeRepository;
 import com.eum.lecture_service.config.exception.ErrorCode;
 import com.eum.lecture_service.config.exception.EumException;
+import com.eum.lecture_service.event.EventKeys;
 import com.eum.lecture_service.event.event.notice.NoticeCreateEvent;
 import com.eum.lecture_service.event.event.notice.NoticeDeletedEvent;
+import com.eum.lecture_service.event.outbox.OutboxEventPublisher;
 
 import lombok.RequiredArgsConstructor;
 
@@ -25,7 +26,7 @@ public class NoticeServiceImpl implements NoticeService{
 
 	private final NoticeRepository noticeRepository;
 	private final LectureRepository lectureRepository;
-	private final KafkaTemplate<String, Object> kafkaTemplate;
+	private final OutboxEventPublisher outboxEventPublisher;
 
 	@Override
 	@Transactional
@@ -38,7 +39,7 @@ public class NoticeServiceImpl implements NoticeService{
 		Notice savedNotice = noticeRepository.save(notice);
 
 		NoticeCreateEvent event = new NoticeCreateEvent(notice);
-		kafkaTemplate.send("notice-create-topic", event);
+		outboxEventPublisher.publish("notice-create-topic", EventKeys.lecture(event.getLectureId()), event);
 
 		return savedNotice.getNoticeId();
 	}
@@ -76,7 +77,7 @@ public class NoticeServiceImpl implements NoticeService{
 			.lectureId(notice.getLecture().getLectureId())
 			.noticeId(notice.getNoticeId())
 			.build();
-		kafkaTemplate.send("notice-delete-topic", event);
+		outboxEventPublisher.publish("notice-delete-topic", EventKeys.lecture(event.getLectureId()), event);
 	}
 
 	@Override
@@ -0,0 +1,38 @@
+package com.eum.lecture_service.config.actuator;
+
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import com.eum.lecture_service.event.retry.DeadLetterReplayer;
+import com.eum.lecture_service.event.retry.DeadLetterReplayer.ReplayResult;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 운영자용 DLT 조회 / 재처리 엔드포인트 (/actuator/deadletters).
+ * 사용자 API 와 달리 게이트웨이를 거치지 않는 관리 포트로만 노출한다 (management.endpoints.web.exposure.include).
+ */
+@Component
+@Endpoint(id = "deadletters")
+@RequiredArgsConstructor
+public class DeadLetterEndpoint {
+
+	private static final int DEFAULT_MAX_RECORDS = 100;
+
+	private final DeadLetterReplayer deadLetterReplayer;
+
+	@ReadOperation
+	public Map<String, Long> depths() {
+		return deadLetterReplayer.refreshDepths();
+	}
+
+	@WriteOperation
+	public ReplayResult replay(String topic, String groupId, @Nullable Integer maxRecords) {
+		return deadLetterReplayer.replay(topic, groupId, maxRecords != null ? maxRecords : DEFAULT_MAX_RECORDS);
+	}
+}
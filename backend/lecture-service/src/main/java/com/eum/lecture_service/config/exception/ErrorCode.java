@@ -17,6 +17,7 @@ public enum ErrorCode {
 	// Lecture
 	SCHEDULE_CONFLICT("L001", "스케줄 중복", HttpStatus.BAD_REQUEST),
 	LECTURE_NOT_FOUND("L002", "강의 없음", HttpStatus.BAD_REQUEST),
+	SCHEDULE_INVALID("L005", "잘못된 요일 또는 교시", HttpStatus.BAD_REQUEST),
 
 	// Notice
 	NOTICE_NOT_FOUND("N001", "공지사항 없음", HttpStatus.BAD_REQUEST),
@@ -50,6 +51,11 @@ public enum ErrorCode {
 
 	// Class
 	CLASS_NOT_FOUND("C002","수업 없음" , HttpStatus.BAD_REQUEST),
+
+	// Grading
+	ANSWER_KEY_NOT_FOUND("G001", "정답 없음", HttpStatus.BAD_REQUEST),
+	ANSWER_KEY_LOAD_FAILED("G002", "정답 조회 실패", HttpStatus.INTERNAL_SERVER_ERROR),
+	SUBMISSION_QUESTION_INVALID("G003", "출제되지 않았거나 중복된 문제 제출", HttpStatus.BAD_REQUEST),
 	;
 
 	private final String code;
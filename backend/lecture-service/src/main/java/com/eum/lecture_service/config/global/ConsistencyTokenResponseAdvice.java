@@ -0,0 +1,44 @@
+package com.eum.lecture_service.config.global;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import com.eum.lecture_service.event.consistency.ConsistencyToken;
+import com.eum.lecture_service.event.consistency.ConsistencyTokenRecorder;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 커맨드 요청에서 커밋된 이벤트가 있으면 응답 헤더로 ConsistencyToken 을 내려준다.
+ * 클라이언트는 이어지는 조회 요청에 같은 헤더를 붙여 자신의 변경이 반영된 읽기 모델을 받는다.
+ */
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class ConsistencyTokenResponseAdvice implements ResponseBodyAdvice<Object> {
+
+	private final ConsistencyTokenRecorder consistencyTokenRecorder;
+
+	@Override
+	public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+		return true;
+	}
+
+	@Override
+	public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+		Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+		ServerHttpResponse response) {
+		if (RequestContextHolder.getRequestAttributes() != null) {
+			String token = consistencyTokenRecorder.currentToken(RequestContextHolder.getRequestAttributes());
+			if (token != null) {
+				response.getHeaders().set(ConsistencyToken.HEADER, token);
+			}
+		}
+		return body;
+	}
+}
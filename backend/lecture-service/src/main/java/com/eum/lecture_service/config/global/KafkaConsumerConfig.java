@@ -0,0 +1,70 @@
+package com.eum.lecture_service.config.global;
+
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.CommonErrorHandler;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.FixedBackOff;
+
+import com.eum.lecture_service.event.metrics.ProjectionMetricsInterceptor;
+import com.eum.lecture_service.event.retry.RetryTopicRouter;
+
+@Configuration
+public class KafkaConsumerConfig {
+
+	public static final String BATCH_LISTENER_CONTAINER_FACTORY = "batchKafkaListenerContainerFactory";
+	public static final String RETRY_LISTENER_CONTAINER_FACTORY = "retryKafkaListenerContainerFactory";
+	// 인스턴스마다 따로 받는 consumer group (로컬 캐시 무효화 등), 공유 읽기 모델을 갱신하지 않는다
+	public static final String BROADCAST_GROUP_PREFIX = "broadcast-";
+
+	// spring.kafka.* 설정은 기본 팩토리와 동일하게 적용하고, poll 한 번에 받은 레코드를 List 로 전달한다
+	@Bean(BATCH_LISTENER_CONTAINER_FACTORY)
+	public ConcurrentKafkaListenerContainerFactory<Object, Object> batchKafkaListenerContainerFactory(
+		ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+		ConsumerFactory<Object, Object> consumerFactory,
+		ProjectionMetricsInterceptor projectionMetricsInterceptor) {
+		ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+		configurer.configure(factory, consumerFactory);
+		factory.setBatchListener(true);
+		factory.setBatchInterceptor(projectionMetricsInterceptor);
+		return factory;
+	}
+
+	// 재시도 토픽 레코드는 지연 시간이 지날 때까지 커밋하지 않고 되감아 두어야 하므로 수동 커밋을 쓴다
+	// 재시도 컨테이너에는 지표 인터셉터를 걸지 않고, 다시 반영된 이벤트는 RetryDispatcher 가 원래 group 기준으로 기록한다
+	@Bean(RETRY_LISTENER_CONTAINER_FACTORY)
+	public ConcurrentKafkaListenerContainerFactory<Object, Object> retryKafkaListenerContainerFactory(
+		ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+		ConsumerFactory<Object, Object> consumerFactory) {
+		ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+		configurer.configure(factory, consumerFactory);
+		factory.setRecordInterceptor(null);
+		factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+		return factory;
+	}
+
+	/**
+	 * 모든 컨테이너 공통 에러 핸들러. 제자리에서 재시도하지 않고 바로 재시도 토픽(또는 DLT)으로 넘겨
+	 * 실패한 레코드 하나 때문에 파티션 전체가 멈추지 않게 한다.
+	 * 배치 리스너가 BatchListenerFailedException 으로 실패 위치를 알려 주면 그 앞까지는 커밋하고
+	 * 실패한 레코드만 넘긴 뒤 나머지는 다시 받는다.
+	 */
+	@Bean
+	public CommonErrorHandler kafkaErrorHandler(KafkaTemplate<String, Object> kafkaTemplate,
+		RetryTopicRouter retryTopicRouter) {
+		DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(kafkaTemplate,
+			retryTopicRouter::destination);
+		recoverer.setHeadersFunction(retryTopicRouter::retryHeaders);
+		return new DefaultErrorHandler(recoverer, new FixedBackOff(0L, 0L));
+	}
+
+	public static boolean isBroadcastGroup(String groupId) {
+		return groupId != null && groupId.startsWith(BROADCAST_GROUP_PREFIX);
+	}
+}
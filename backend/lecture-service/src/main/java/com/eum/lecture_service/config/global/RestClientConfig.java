@@ -0,0 +1,17 @@
+package com.eum.lecture_service.config.global;
+
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestClient;
+
+@Configuration
+public class RestClientConfig {
+
+	// http://folder-service 처럼 Eureka 서비스 이름으로 다른 서비스를 호출한다
+	@Bean
+	@LoadBalanced
+	public RestClient.Builder loadBalancedRestClientBuilder() {
+		return RestClient.builder();
+	}
+}
@@ -0,0 +1,41 @@
+package com.eum.lecture_service.config.jpa;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * 제출 시 문제별 INSERT 가 한 번의 왕복으로 묶이도록 Hibernate JDBC 배치를 켠다.
+ * MySQL 드라이버는 rewriteBatchedStatements 가 있어야 배치를 multi-row INSERT 로 바꿔 보낸다.
+ */
+@Configuration
+public class JpaBatchConfig {
+
+	private static final int BATCH_SIZE = 50;
+
+	@Bean
+	public HibernatePropertiesCustomizer jdbcBatchCustomizer() {
+		return properties -> {
+			properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, BATCH_SIZE);
+			properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+			properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+		};
+	}
+
+	@Bean
+	public static BeanPostProcessor rewriteBatchedStatementsPostProcessor() {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessBeforeInitialization(Object bean, String beanName) {
+				if (bean instanceof HikariDataSource dataSource) {
+					dataSource.addDataSourceProperty("rewriteBatchedStatements", "true");
+				}
+				return bean;
+			}
+		};
+	}
+}
@@ -0,0 +1,20 @@
+package com.eum.lecture_service.config.jpa;
+
+/**
+ * 문제 단위 제출, outbox 이벤트처럼 한 번에 여러 행을 저장하는 엔티티의 ID 를 id_generators 테이블에서 블록 단위로 할당한다.
+ * IDENTITY 는 INSERT 마다 키를 받아와야 해서 Hibernate 배치 INSERT 가 꺼지므로 이 엔티티들에는 쓰지 않는다.
+ */
+public final class PooledIdGenerator {
+
+	public static final String TABLE = "id_generators";
+	public static final String NAME_COLUMN = "generator_name";
+	public static final String VALUE_COLUMN = "next_val";
+	public static final int ALLOCATION_SIZE = 50;
+
+	public static final String HOMEWORK_QUESTION_SUBMISSION = "homework_question_submissions";
+	public static final String EXAM_QUESTION_SUBMISSION = "exam_question_submissions";
+	public static final String OUTBOX_EVENT = "outbox_events";
+
+	private PooledIdGenerator() {
+	}
+}
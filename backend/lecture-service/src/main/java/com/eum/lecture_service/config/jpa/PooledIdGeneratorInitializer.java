@@ -0,0 +1,45 @@
+package com.eum.lecture_service.config.jpa;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * IDENTITY 로 쌓인 기존 행과 겹치지 않도록 id_generators 의 시작값을 테이블의 최대 ID 뒤로 맞춘다.
+ * 이미 행이 있으면 건드리지 않으므로 재시작해도 할당 중인 블록이 되돌아가지 않는다.
+ * 스키마 생성 이후, Kafka 리스너와 웹 요청이 시작되기 전에 실행되도록 싱글톤 초기화 직후에 수행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PooledIdGeneratorInitializer implements SmartInitializingSingleton {
+
+	// generator 이름 -> ID 컬럼
+	private static final Map<String, String> ID_COLUMNS = Map.of(
+		PooledIdGenerator.HOMEWORK_QUESTION_SUBMISSION, "homework_question_submission_id",
+		PooledIdGenerator.EXAM_QUESTION_SUBMISSION, "exam_question_submission_id",
+		PooledIdGenerator.OUTBOX_EVENT, "outbox_event_id"
+	);
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		ID_COLUMNS.forEach((table, idColumn) -> {
+			// pooled 방식은 저장된 값을 블록의 끝으로 보므로 최대 ID 에 블록 크기만큼 더해 둔다
+			int inserted = jdbcTemplate.update(
+				"INSERT IGNORE INTO " + PooledIdGenerator.TABLE
+					+ " (" + PooledIdGenerator.NAME_COLUMN + ", " + PooledIdGenerator.VALUE_COLUMN + ")"
+					+ " SELECT ?, COALESCE(MAX(" + idColumn + "), 0) + ? FROM " + table,
+				table, PooledIdGenerator.ALLOCATION_SIZE + 1);
+			if (inserted > 0) {
+				log.info("ID generator 초기화: {}", table);
+			}
+		});
+	}
+}
@@ -0,0 +1,29 @@
+package com.eum.lecture_service.config.migration;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import com.eum.lecture_service.command.repository.lecture.LectureScheduleRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * lecture_schedules.class_id 가 비어 있는 기존 시간표를 채운다. 채울 행이 없으면 아무것도 하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LectureScheduleClassIdBackfillRunner implements ApplicationRunner {
+
+	private final LectureScheduleRepository lectureScheduleRepository;
+
+	@Override
+	public void run(ApplicationArguments args) {
+		int updated = lectureScheduleRepository.backfillClassId();
+		if (updated > 0) {
+			log.info("lecture_schedules.class_id 채움: {}", updated);
+		}
+	}
+}
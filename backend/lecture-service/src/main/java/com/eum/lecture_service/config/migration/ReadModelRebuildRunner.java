@@ -0,0 +1,31 @@
+package com.eum.lecture_service.config.migration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import com.eum.lecture_service.event.rebuild.ReadModelRebuilder;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 읽기 모델이 MySQL 과 어긋났을 때 lecture.rebuild.enabled=true 로 한 인스턴스만 띄워 전체를 다시 만든다.
+ * 섀도 컬렉션을 교체하는 방식이라 중간에 실패해도 기존 컬렉션은 그대로 남는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReadModelRebuildRunner implements ApplicationRunner {
+
+	private final ReadModelRebuilder readModelRebuilder;
+
+	@Value("${lecture.rebuild.enabled:false}")
+	private boolean enabled;
+
+	@Override
+	public void run(ApplicationArguments args) {
+		if (enabled) {
+			readModelRebuilder.rebuild();
+		}
+	}
+}
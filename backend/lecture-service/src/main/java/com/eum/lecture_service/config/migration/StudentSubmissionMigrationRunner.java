@@ -0,0 +1,105 @@
+package com.eum.lecture_service.config.migration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import com.eum.lecture_service.query.document.StudentOverviewModel;
+import com.eum.lecture_service.query.document.StudentSubmissionModel;
+import com.eum.lecture_service.query.document.studentInfo.ExamSubmissionInfo;
+import com.eum.lecture_service.query.document.studentInfo.HomeworkSubmissionInfo;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * StudentOverviewModel 에 내장되어 있던 homeworkSubmissionInfo / examSubmissionInfo 를
+ * student_submissions 컬렉션으로 옮긴다. lecture.migration.student-submissions.enabled=true 로 한 번 실행한다.
+ * 옮긴 뒤 배열은 $unset 하므로 다시 실행해도 남은 문서만 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudentSubmissionMigrationRunner implements ApplicationRunner {
+
+	private final MongoTemplate mongoTemplate;
+
+	@Value("${lecture.migration.student-submissions.enabled:false}")
+	private boolean enabled;
+
+	@Override
+	public void run(ApplicationArguments args) {
+		if (!enabled) {
+			return;
+		}
+
+		String collectionName = mongoTemplate.getCollectionName(StudentOverviewModel.class);
+		Query query = new Query(new Criteria().orOperator(
+			Criteria.where("homeworkSubmissionInfo").exists(true),
+			Criteria.where("examSubmissionInfo").exists(true)));
+
+		long migratedOverviews = 0L;
+		long migratedSubmissions = 0L;
+		try (Stream<LegacyStudentOverview> overviews = mongoTemplate.stream(query, LegacyStudentOverview.class,
+			collectionName)) {
+			for (LegacyStudentOverview overview : (Iterable<LegacyStudentOverview>)overviews::iterator) {
+				migratedSubmissions += migrate(overview, collectionName);
+				migratedOverviews++;
+			}
+		}
+		log.info("student_submissions 이관 완료. overview: {}, submission: {}", migratedOverviews, migratedSubmissions);
+	}
+
+	private int migrate(LegacyStudentOverview overview, String collectionName) {
+		List<StudentSubmissionModel> submissions = new ArrayList<>();
+		if (overview.getHomeworkSubmissionInfo() != null) {
+			overview.getHomeworkSubmissionInfo().forEach(submission -> submissions.add(
+				StudentSubmissionModel.ofHomework(overview.getStudentId(), overview.getLectureId(), submission)));
+		}
+		if (overview.getExamSubmissionInfo() != null) {
+			overview.getExamSubmissionInfo().forEach(submission -> submissions.add(
+				StudentSubmissionModel.ofExam(overview.getStudentId(), overview.getLectureId(), submission)));
+		}
+
+		if (!submissions.isEmpty()) {
+			BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED,
+				StudentSubmissionModel.class);
+			submissions.forEach(submission -> bulkOperations.replaceOne(
+				Query.query(Criteria.where("_id").is(submission.getId())), submission,
+				FindAndReplaceOptions.options().upsert()));
+			bulkOperations.execute();
+		}
+
+		mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(overview.getId())),
+			new Update().unset("homeworkSubmissionInfo").unset("examSubmissionInfo"), collectionName);
+		return submissions.size();
+	}
+
+	@Getter
+	@Setter
+	@NoArgsConstructor
+	static class LegacyStudentOverview {
+
+		@Id
+		private String id;
+		private Long studentId;
+		private Long lectureId;
+		private List<HomeworkSubmissionInfo> homeworkSubmissionInfo;
+		private List<ExamSubmissionInfo> examSubmissionInfo;
+	}
+}
@@ -0,0 +1,41 @@
+package com.eum.lecture_service.config.mongo;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 읽기 모델의 @Indexed / @CompoundIndex 선언을 시작 시점에 모두 ensureIndex 한다.
+ * 조회와 이벤트 처리가 컬렉션 전체를 읽지 않도록 Kafka 리스너와 웹 요청이 시작되기 전에 수행한다.
+ * 이미 같은 인덱스가 있으면 아무 일도 일어나지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MongoIndexInitializer implements SmartInitializingSingleton {
+
+	private final MongoTemplate mongoTemplate;
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		MongoMappingContext mappingContext = (MongoMappingContext)mongoTemplate.getConverter().getMappingContext();
+		MongoPersistentEntityIndexResolver resolver = new MongoPersistentEntityIndexResolver(mappingContext);
+
+		for (MongoPersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
+			if (!entity.isAnnotationPresent(Document.class)) {
+				continue;
+			}
+			IndexOperations indexOperations = mongoTemplate.indexOps(entity.getType());
+			resolver.resolveIndexFor(entity.getType()).forEach(indexOperations::ensureIndex);
+		}
+		log.info("Mongo 인덱스 확인 완료");
+	}
+}
@@ -0,0 +1,21 @@
+package com.eum.lecture_service.config.scheduler;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.eum.lecture_service.event.projection.ClassAverageAggregator;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class ClassAverageReconcileScheduler {
+
+	private final ClassAverageAggregator classAverageAggregator;
+
+	// 증분 누적값이 어긋났을 경우를 대비해 새벽에 전체 학급 평균을 다시 계산
+	@Scheduled(cron = "0 0 4 * * *")
+	public void reconcileClassAverageScores() {
+		classAverageAggregator.reconcileAll();
+	}
+}
@@ -0,0 +1,21 @@
+package com.eum.lecture_service.config.scheduler;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.eum.lecture_service.event.consistency.ProjectionCheckpointStore;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class ConsistencyWaitScheduler {
+
+	private final ProjectionCheckpointStore projectionCheckpointStore;
+
+	// 다른 인스턴스의 컨슈머가 반영한 이벤트를 기다리는 조회 요청을 풀어 준다. 대기 중인 요청이 없으면 조회하지 않는다
+	@Scheduled(fixedDelayString = "${lecture.consistency.poll-interval-ms:50}")
+	public void releaseConsistencyWaiters() {
+		projectionCheckpointStore.releaseWaiters();
+	}
+}
@@ -0,0 +1,27 @@
+package com.eum.lecture_service.config.scheduler;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.eum.lecture_service.event.retry.DeadLetterReplayer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeadLetterDepthScheduler {
+
+	private final DeadLetterReplayer deadLetterReplayer;
+
+	// DLT 에 남은 레코드 수(lecture.kafka.dlt.depth) 갱신, 브로커 조회 실패는 다음 주기에 다시 시도
+	@Scheduled(fixedDelayString = "${lecture.kafka.dlt.depth-refresh-ms:60000}", initialDelay = 30000)
+	public void refreshDeadLetterDepths() {
+		try {
+			deadLetterReplayer.refreshDepths();
+		} catch (RuntimeException e) {
+			log.warn("DLT 적재량 갱신 실패", e);
+		}
+	}
+}
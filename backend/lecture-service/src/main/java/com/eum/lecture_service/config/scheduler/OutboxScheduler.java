@@ -0,0 +1,45 @@
+package com.eum.lecture_service.config.scheduler;
+
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.eum.lecture_service.command.repository.outbox.OutboxEventRepository;
+import com.eum.lecture_service.event.outbox.OutboxRelay;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxScheduler {
+
+	private static final int CLEANUP_CHUNK_SIZE = 1000;
+
+	private final OutboxRelay outboxRelay;
+	private final OutboxEventRepository outboxEventRepository;
+
+	@Value("${lecture.outbox.retention-hours:24}")
+	private long retentionHours;
+
+	@Scheduled(fixedDelayString = "${lecture.outbox.relay-interval-ms:200}")
+	public void relayOutboxEvents() {
+		outboxRelay.relayAll();
+	}
+
+	// 발행이 끝난 이벤트는 보관 기간이 지나면 잠금이 길어지지 않도록 나눠서 지운다
+	@Scheduled(cron = "0 30 * * * *")
+	public void cleanupPublishedEvents() {
+		LocalDateTime cutoff = LocalDateTime.now().minusHours(retentionHours);
+		long deleted = 0L;
+		int chunk;
+		do {
+			chunk = outboxEventRepository.deletePublishedBefore(cutoff, CLEANUP_CHUNK_SIZE);
+			deleted += chunk;
+		} while (chunk == CLEANUP_CHUNK_SIZE);
+		log.info("발행된 outbox 이벤트 정리 완료: {}", deleted);
+	}
+}
@@ -0,0 +1,56 @@
+package com.eum.lecture_service.event;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+/**
+ * 읽기 모델 이벤트에 붙는 Kafka 헤더.
+ * produced-at 은 커맨드가 outbox 에 이벤트를 기록한 시각(epoch millis)으로, relay 가 늦게 보내더라도 바뀌지 않는다.
+ * event-id 는 outbox 이벤트 id 로, 반영이 끝난 이벤트를 ConsistencyToken 과 맞춰 보는 데 쓴다.
+ */
+public final class EventHeaders {
+
+	public static final String PRODUCED_AT = "eum-produced-at";
+	public static final String EVENT_ID = "eum-event-id";
+
+	private EventHeaders() {
+	}
+
+	public static long toEpochMillis(LocalDateTime producedAt) {
+		return producedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
+
+	public static void putProducedAt(Headers headers, long producedAt) {
+		headers.add(PRODUCED_AT, String.valueOf(producedAt).getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static void putEventId(Headers headers, long eventId) {
+		headers.add(EVENT_ID, String.valueOf(eventId).getBytes(StandardCharsets.UTF_8));
+	}
+
+	// lecture-service 가 outbox 로 보낸 이벤트가 아니면 null
+	public static Long producedAt(Headers headers) {
+		return longHeader(headers, PRODUCED_AT);
+	}
+
+	// lecture-service 가 outbox 로 보낸 이벤트가 아니면 null
+	public static Long eventId(Headers headers) {
+		return longHeader(headers, EVENT_ID);
+	}
+
+	private static Long longHeader(Headers headers, String name) {
+		Header header = headers.lastHeader(name);
+		if (header == null) {
+			return null;
+		}
+		try {
+			return Long.parseLong(new String(header.value(), StandardCharsets.UTF_8));
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,31 @@
+package com.eum.lecture_service.event;
+
+/**
+ * 읽기 모델 이벤트의 Kafka 메시지 키.
+ * 같은 문서를 갱신하는 이벤트가 같은 파티션으로 가도록 해 컨슈머를 늘려도 키 단위 순서가 유지된다.
+ */
+public final class EventKeys {
+
+	private EventKeys() {
+	}
+
+	public static String lecture(Long lectureId) {
+		return String.valueOf(lectureId);
+	}
+
+	public static String studentLecture(Long studentId, Long lectureId) {
+		return studentId + "-" + lectureId;
+	}
+
+	// lecture / studentLecture 키에서 강의 ID 를 꺼낸다. 다른 형식의 키면 null
+	public static Long lectureIdOf(String key) {
+		if (key == null) {
+			return null;
+		}
+		try {
+			return Long.parseLong(key.substring(key.lastIndexOf('-') + 1));
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+}
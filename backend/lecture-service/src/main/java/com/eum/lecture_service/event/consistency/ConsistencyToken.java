@@ -0,0 +1,51 @@
+package com.eum.lecture_service.event.consistency;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 커맨드가 발행한 이벤트 목록. "lectureId:topic:eventId" 를 쉼표로 이은 문자열로 주고받는다.
+ * 조회 API 는 자기 강의의 항목만 골라 그 이벤트들이 읽기 모델에 반영될 때까지 기다린다.
+ */
+public record ConsistencyToken(List<Entry> entries) {
+
+	public static final String HEADER = "X-CONSISTENCY-TOKEN";
+
+	public record Entry(Long lectureId, String topic, long eventId) {
+	}
+
+	// 형식이 맞지 않는 항목은 무시한다 (기다리지 않고 바로 조회)
+	public static ConsistencyToken parse(String token) {
+		List<Entry> entries = new ArrayList<>();
+		if (token == null || token.isBlank()) {
+			return new ConsistencyToken(entries);
+		}
+		for (String value : token.split(",")) {
+			String[] parts = value.trim().split(":");
+			if (parts.length != 3) {
+				continue;
+			}
+			try {
+				entries.add(new Entry(Long.parseLong(parts[0]), parts[1], Long.parseLong(parts[2])));
+			} catch (NumberFormatException ignored) {
+				// 잘못된 항목은 건너뛴다
+			}
+		}
+		return new ConsistencyToken(entries);
+	}
+
+	public List<Entry> entriesFor(Long lectureId) {
+		return entries.stream().filter(entry -> entry.lectureId().equals(lectureId)).toList();
+	}
+
+	public boolean isEmpty() {
+		return entries.isEmpty();
+	}
+
+	public String format() {
+		return entries.stream()
+			.map(entry -> entry.lectureId() + ":" + entry.topic() + ":" + entry.eventId())
+			.collect(Collectors.joining(","));
+	}
+}
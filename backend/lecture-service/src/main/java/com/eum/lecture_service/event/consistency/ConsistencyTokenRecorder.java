@@ -0,0 +1,90 @@
+package com.eum.lecture_service.event.consistency;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import com.eum.lecture_service.config.global.KafkaConsumerConfig;
+import com.eum.lecture_service.event.EventKeys;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * HTTP 요청 안에서 outbox 에 기록된 이벤트를 모아 응답의 ConsistencyToken 으로 돌려준다.
+ * 이 서비스가 읽기 모델로 반영하는 토픽의 강의 키 이벤트만 담고, 트랜잭션이 커밋된 뒤에만 추가한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConsistencyTokenRecorder {
+
+	private static final String REQUEST_ATTRIBUTE = ConsistencyTokenRecorder.class.getName() + ".ENTRIES";
+
+	private final KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+
+	private volatile Set<String> projectedTopics;
+
+	public void record(String topic, String key, long eventId) {
+		RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+		Long lectureId = EventKeys.lectureIdOf(key);
+		if (requestAttributes == null || lectureId == null || !projectedTopics().contains(topic)) {
+			return;
+		}
+
+		ConsistencyToken.Entry entry = new ConsistencyToken.Entry(lectureId, topic, eventId);
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			add(requestAttributes, entry);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				add(requestAttributes, entry);
+			}
+		});
+	}
+
+	// 현재 요청에서 커밋된 이벤트가 없으면 null
+	public String currentToken(RequestAttributes requestAttributes) {
+		List<ConsistencyToken.Entry> entries = entries(requestAttributes, false);
+		return entries == null || entries.isEmpty() ? null : new ConsistencyToken(entries).format();
+	}
+
+	private void add(RequestAttributes requestAttributes, ConsistencyToken.Entry entry) {
+		entries(requestAttributes, true).add(entry);
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<ConsistencyToken.Entry> entries(RequestAttributes requestAttributes, boolean create) {
+		List<ConsistencyToken.Entry> entries = (List<ConsistencyToken.Entry>)requestAttributes.getAttribute(
+			REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+		if (entries == null && create) {
+			entries = new ArrayList<>();
+			requestAttributes.setAttribute(REQUEST_ATTRIBUTE, entries, RequestAttributes.SCOPE_REQUEST);
+		}
+		return entries;
+	}
+
+	// 인스턴스별 그룹(캐시 무효화 등)은 읽기 모델을 갱신하지 않으므로 제외한다
+	private Set<String> projectedTopics() {
+		if (projectedTopics == null) {
+			projectedTopics = kafkaListenerEndpointRegistry.getListenerContainers().stream()
+				.filter(container -> !KafkaConsumerConfig.isBroadcastGroup(container.getGroupId()))
+				.flatMap(container -> {
+					String[] topics = container.getContainerProperties().getTopics();
+					return topics == null ? Stream.<String>empty() : Arrays.stream(topics);
+				})
+				.collect(Collectors.toUnmodifiableSet());
+		}
+		return projectedTopics;
+	}
+}
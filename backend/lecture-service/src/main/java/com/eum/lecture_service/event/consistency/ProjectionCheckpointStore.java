@@ -0,0 +1,224 @@
+package com.eum.lecture_service.event.consistency;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import com.eum.lecture_service.config.global.KafkaConsumerConfig;
+import com.eum.lecture_service.event.EventHeaders;
+import com.eum.lecture_service.event.EventKeys;
+import com.eum.lecture_service.query.document.AppliedEventModel;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 읽기 모델에 반영이 끝난 이벤트를 이벤트 id 로 기록하고, 조회 요청이 ConsistencyToken 의 이벤트가 모두 반영된 뒤 응답하게 한다.
+ * 한 강의의 이벤트는 학생별 키로 여러 파티션에 나뉘고 실패한 이벤트는 재시도 토픽에서 나중에 반영되므로,
+ * 시각이나 위치의 최댓값이 아니라 반영된 이벤트 자체를 기록한다.
+ * 기다리는 동안 요청 스레드를 잡지 않도록 DeferredResult 로 응답을 미루고, 이 인스턴스의 markApplied 나
+ * 다른 인스턴스의 반영을 확인하는 releaseWaiters 에서 대기를 풀어 조회를 실행한다.
+ */
+@Slf4j
+@Component
+public class ProjectionCheckpointStore {
+
+	private static final String LECTURE_ID = "lectureId";
+	private static final String APPLIED_AT = "appliedAt";
+
+	private final MongoTemplate mongoTemplate;
+	private final TaskScheduler taskScheduler;
+	private final AsyncTaskExecutor queryExecutor;
+	private final long maxWaitMillis;
+	private final Map<Long, Set<Waiter<?>>> waitersByLecture = new ConcurrentHashMap<>();
+
+	public ProjectionCheckpointStore(MongoTemplate mongoTemplate, TaskScheduler taskScheduler,
+		@Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) AsyncTaskExecutor queryExecutor,
+		@Value("${lecture.consistency.max-wait-ms:2000}") long maxWaitMillis) {
+		this.mongoTemplate = mongoTemplate;
+		this.taskScheduler = taskScheduler;
+		this.queryExecutor = queryExecutor;
+		this.maxWaitMillis = maxWaitMillis;
+	}
+
+	/**
+	 * groupId 가 반영을 끝낸 레코드 중 lecture-service 가 outbox 로 보낸 강의 이벤트를 기록한다. 배치 하나를 한 번의 bulk 로 기록한다.
+	 * 기록에 실패해도 이미 반영된 이벤트를 다시 처리하지 않도록 예외를 밖으로 던지지 않는다 (대기 중인 조회는 제한 시간 뒤 응답한다).
+	 */
+	public void markApplied(String groupId, Iterable<? extends ConsumerRecord<?, ?>> records) {
+		if (KafkaConsumerConfig.isBroadcastGroup(groupId)) {
+			return;
+		}
+
+		Map<Long, Long> lectureIdByEventId = new LinkedHashMap<>();
+		for (ConsumerRecord<?, ?> record : records) {
+			Long eventId = EventHeaders.eventId(record.headers());
+			Long lectureId = record.key() != null ? EventKeys.lectureIdOf(record.key().toString()) : null;
+			if (eventId != null && lectureId != null) {
+				lectureIdByEventId.put(eventId, lectureId);
+			}
+		}
+		if (lectureIdByEventId.isEmpty()) {
+			return;
+		}
+
+		try {
+			Instant appliedAt = Instant.now();
+			BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED,
+				AppliedEventModel.class);
+			lectureIdByEventId.forEach((eventId, lectureId) -> bulkOperations.upsert(
+				Query.query(Criteria.where("_id").is(eventId)),
+				new Update().setOnInsert(LECTURE_ID, lectureId).set(APPLIED_AT, appliedAt)));
+			bulkOperations.execute();
+
+			releaseApplied(Set.copyOf(lectureIdByEventId.values()));
+		} catch (RuntimeException e) {
+			log.warn("읽기 모델 반영 기록 실패. groupId: {}", groupId, e);
+		}
+	}
+
+	/**
+	 * token 중 lectureId 에 해당하는 이벤트가 모두 반영된 뒤 query 를 실행해 응답한다.
+	 * 이미 반영되었으면 요청 스레드에서 바로 실행하고, 아니면 요청 스레드를 반납한 채 기다린다.
+	 * 제한 시간을 넘기면 기다림을 멈추고 그 시점의 읽기 모델로 응답한다.
+	 */
+	public <T> DeferredResult<T> afterApplied(Long lectureId, String token, Supplier<T> query) {
+		DeferredResult<T> result = new DeferredResult<>();
+		List<ConsistencyToken.Entry> entries = ConsistencyToken.parse(token).entriesFor(lectureId);
+		if (entries.isEmpty() || isApplied(findApplied(eventIdsOf(entries)), entries)) {
+			result.setResult(query.get());
+			return result;
+		}
+
+		Waiter<T> waiter = new Waiter<>(lectureId, entries, result, query);
+		waitersByLecture.computeIfAbsent(lectureId, id -> ConcurrentHashMap.newKeySet()).add(waiter);
+		result.onCompletion(() -> remove(waiter));
+		waiter.timeout = taskScheduler.schedule(() -> {
+			log.debug("읽기 모델 반영 대기 시간 초과. lectureId: {}, token: {}", lectureId, token);
+			release(waiter);
+		}, Instant.now().plusMillis(maxWaitMillis));
+
+		// 등록 직전에 반영이 끝나 markApplied 가 이 대기를 보지 못한 경우
+		if (isApplied(findApplied(eventIdsOf(entries)), entries)) {
+			release(waiter);
+		}
+		return result;
+	}
+
+	// 다른 인스턴스가 반영한 이벤트는 markApplied 로 알 수 없으므로 대기 중인 요청의 이벤트를 한 번에 확인한다
+	public void releaseWaiters() {
+		if (!waitersByLecture.isEmpty()) {
+			releaseApplied(Set.copyOf(waitersByLecture.keySet()));
+		}
+	}
+
+	private void releaseApplied(Collection<Long> lectureIds) {
+		List<Long> waitingLectureIds = lectureIds.stream()
+			.filter(waitersByLecture::containsKey)
+			.toList();
+		if (waitingLectureIds.isEmpty()) {
+			return;
+		}
+
+		List<Waiter<?>> waiters = waitingLectureIds.stream()
+			.map(waitersByLecture::get)
+			.filter(Objects::nonNull)
+			.flatMap(Set::stream)
+			.toList();
+		Set<Long> appliedEventIds = findApplied(waiters.stream()
+			.flatMap(waiter -> eventIdsOf(waiter.entries).stream())
+			.collect(Collectors.toSet()));
+
+		waiters.stream()
+			.filter(waiter -> isApplied(appliedEventIds, waiter.entries))
+			.forEach(this::release);
+	}
+
+	// 조회는 Kafka 컨슈머나 스케줄러 스레드가 아니라 애플리케이션 작업 스레드에서 실행한다
+	private void release(Waiter<?> waiter) {
+		if (!waiter.released.compareAndSet(false, true)) {
+			return;
+		}
+		remove(waiter);
+		queryExecutor.execute(waiter::respond);
+	}
+
+	private void remove(Waiter<?> waiter) {
+		ScheduledFuture<?> timeout = waiter.timeout;
+		if (timeout != null) {
+			timeout.cancel(false);
+		}
+		waitersByLecture.computeIfPresent(waiter.lectureId, (lectureId, waiters) -> {
+			waiters.remove(waiter);
+			return waiters.isEmpty() ? null : waiters;
+		});
+	}
+
+	private Set<Long> findApplied(Collection<Long> eventIds) {
+		if (eventIds.isEmpty()) {
+			return Set.of();
+		}
+		Query query = Query.query(Criteria.where("_id").in(eventIds));
+		query.fields().include("_id");
+
+		return mongoTemplate.find(query, AppliedEventModel.class).stream()
+			.map(AppliedEventModel::getEventId)
+			.collect(Collectors.toSet());
+	}
+
+	private static List<Long> eventIdsOf(List<ConsistencyToken.Entry> entries) {
+		return entries.stream().map(ConsistencyToken.Entry::eventId).toList();
+	}
+
+	private static boolean isApplied(Set<Long> appliedEventIds, List<ConsistencyToken.Entry> entries) {
+		return entries.stream().allMatch(entry -> appliedEventIds.contains(entry.eventId()));
+	}
+
+	private static final class Waiter<T> {
+
+		private final Long lectureId;
+		private final List<ConsistencyToken.Entry> entries;
+		private final DeferredResult<T> result;
+		private final Supplier<T> query;
+		private final AtomicBoolean released = new AtomicBoolean();
+		private volatile ScheduledFuture<?> timeout;
+
+		private Waiter(Long lectureId, List<ConsistencyToken.Entry> entries, DeferredResult<T> result,
+			Supplier<T> query) {
+			this.lectureId = lectureId;
+			this.entries = entries;
+			this.result = result;
+			this.query = query;
+		}
+
+		private void respond() {
+			try {
+				result.setResult(query.get());
+			} catch (Exception e) {
+				result.setErrorResult(e);
+			}
+		}
+	}
+}
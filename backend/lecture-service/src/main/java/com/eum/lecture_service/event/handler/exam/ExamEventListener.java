@@ -1,16 +1,21 @@
 package com.eum.lecture_service.event.handler.exam;
 
+import java.util.List;
+import java.util.Set;
+
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Service;
 
-import com.eum.lecture_service.config.exception.ErrorCode;
-import com.eum.lecture_service.config.exception.EumException;
+import com.eum.lecture_service.config.global.KafkaConsumerConfig;
 import com.eum.lecture_service.event.event.exam.ExamCreateEvent;
 import com.eum.lecture_service.event.event.exam.ExamDeleteEvent;
 import com.eum.lecture_service.event.event.exam.ExamUpdateEvent;
-import com.eum.lecture_service.query.document.LectureModel;
+import com.eum.lecture_service.event.projection.LectureArrayMutation;
+import com.eum.lecture_service.event.projection.LectureModelProjection;
+import com.eum.lecture_service.event.projection.QuestionStatsProjection;
+import com.eum.lecture_service.event.retry.BatchFailures;
 import com.eum.lecture_service.query.document.lectureInfo.ExamInfo;
-import com.eum.lecture_service.query.repository.LectureReadRepository;
+import com.eum.lecture_service.query.document.studentInfo.AssessmentType;
 
 import lombok.RequiredArgsConstructor;
 
@@ -18,43 +23,46 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ExamEventListener {
 
-	private final LectureReadRepository lectureReadRepository;
+	private static final String EXAMS = "exams";
+	private static final String EXAM_ID = "examId";
+
+	private final LectureModelProjection lectureModelProjection;
+	private final QuestionStatsProjection questionStatsProjection;
 
-	@KafkaListener(topics = "exam-create-topic", groupId = "exam-group", properties = {
+	@KafkaListener(topics = "exam-create-topic", groupId = "exam-group",
+		containerFactory = KafkaConsumerConfig.BATCH_LISTENER_CONTAINER_FACTORY, properties = {
 		"spring.json.value.default.type=com.eum.lecture_service.event.event.exam.ExamCreateEvent"
 	})
-	public void handleExamCreate(ExamCreateEvent event) {
-		LectureModel lecture = lectureReadRepository.findById(event.getLectureId())
-			.orElseThrow(() -> new EumException(ErrorCode.LECTURE_NOT_FOUND));
-
-		ExamInfo examInfo = createExamInfo(event);
-		lecture.getExams().add(examInfo);
-		lectureReadRepository.save(lecture);
+	public void handleExamCreate(List<ExamCreateEvent> events) {
+		Set<Long> missingLectureIds = lectureModelProjection.apply(EXAMS, EXAM_ID, events.stream()
+			.map(event -> LectureArrayMutation.upsert(event.getLectureId(), event.getExamId(), createExamInfo(event)))
+			.toList());
+		BatchFailures.throwFirstMissingLecture(events, missingLectureIds, ExamCreateEvent::getLectureId);
 	}
 
-	@KafkaListener(topics = "exam-update-topic", groupId = "exam-group", properties = {
+	@KafkaListener(topics = "exam-update-topic", groupId = "exam-group",
+		containerFactory = KafkaConsumerConfig.BATCH_LISTENER_CONTAINER_FACTORY, properties = {
 		"spring.json.value.default.type=com.eum.lecture_service.event.event.exam.ExamUpdateEvent"
 	})
-	public void handleExamUpdated(ExamUpdateEvent event) {
-		LectureModel lecture = lectureReadRepository.findById(event.getLectureId())
-			.orElseThrow(() -> new EumException(ErrorCode.LECTURE_NOT_FOUND));
-
-		lecture.getExams().removeIf(hw -> hw.getExamId().equals(event.getExamId()));
-
-		ExamInfo examInfo = updateExamInfo(event);
-		lecture.getExams().add(examInfo);
-		lectureReadRepository.save(lecture);
+	public void handleExamUpdated(List<ExamUpdateEvent> events) {
+		Set<Long> missingLectureIds = lectureModelProjection.apply(EXAMS, EXAM_ID, events.stream()
+			.map(event -> LectureArrayMutation.upsert(event.getLectureId(), event.getExamId(), updateExamInfo(event)))
+			.toList());
+		BatchFailures.throwFirstMissingLecture(events, missingLectureIds, ExamUpdateEvent::getLectureId);
 	}
 
-	@KafkaListener(topics = "exam-delete-topic", groupId = "exam-group", properties = {
+	@KafkaListener(topics = "exam-delete-topic", groupId = "exam-group",
+		containerFactory = KafkaConsumerConfig.BATCH_LISTENER_CONTAINER_FACTORY, properties = {
 		"spring.json.value.default.type=com.eum.lecture_service.event.event.exam.ExamDeleteEvent"
 	})
-	public void handleExamDeleted(ExamDeleteEvent event) {
-		LectureModel lecture = lectureReadRepository.findById(event.getLectureId())
-			.orElseThrow(() -> new EumException(ErrorCode.LECTURE_NOT_FOUND));
-
-		lecture.getExams().removeIf(hw -> hw.getExamId().equals(event.getExamId()));
-		lectureReadRepository.save(lecture);
+	public void handleExamDeleted(List<ExamDeleteEvent> events) {
+		Set<Long> missingLectureIds = lectureModelProjection.apply(EXAMS, EXAM_ID, events.stream()
+			.map(event -> LectureArrayMutation.<ExamInfo>remove(event.getLectureId(), event.getExamId()))
+			.toList());
+		questionStatsProjection.removeAssessments(AssessmentType.EXAM, events.stream()
+			.map(ExamDeleteEvent::getExamId)
+			.toList());
+		BatchFailures.throwFirstMissingLecture(events, missingLectureIds, ExamDeleteEvent::getLectureId);
 	}
 
 	private ExamInfo createExamInfo(ExamCreateEvent event) {
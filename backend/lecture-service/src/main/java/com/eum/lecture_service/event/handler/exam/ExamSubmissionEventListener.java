@@ -1,25 +1,23 @@
 package com.eum.lecture_service.event.handler.exam;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Service;
 
-import com.eum.lecture_service.config.exception.ErrorCode;
-import com.eum.lecture_service.config.exception.EumException;
+import com.eum.lecture_service.config.global.KafkaConsumerConfig;
 import com.eum.lecture_service.event.dto.ExamProblemSubmissionEventDto;
 import com.eum.lecture_service.event.event.exam.ExamSubmissionCreateEvent;
-import com.eum.lecture_service.query.document.StudentOverviewModel;
-import com.eum.lecture_service.query.document.TeacherOverviewModel;
+import com.eum.lecture_service.event.projection.KeyOrderedExecutor;
+import com.eum.lecture_service.event.projection.OverviewProjection;
+import com.eum.lecture_service.event.retry.BatchFailures;
 import com.eum.lecture_service.query.document.studentInfo.ExamProblemSubmissionInfo;
 import com.eum.lecture_service.query.document.studentInfo.ExamSubmissionInfo;
-import com.eum.lecture_service.query.document.studentInfo.Overview;
-import com.eum.lecture_service.query.document.studentInfo.StudentScores;
-import com.eum.lecture_service.query.document.teacherInfo.ClassAverageScores;
-import com.eum.lecture_service.query.document.teacherInfo.StudentInfo;
-import com.eum.lecture_service.query.repository.StudentOverviewRepository;
-import com.eum.lecture_service.query.repository.TeacherOverviewRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,32 +27,34 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class ExamSubmissionEventListener {
 
-	private final StudentOverviewRepository studentOverviewRepository;
-	private final TeacherOverviewRepository teacherOverviewRepository;
+	private final OverviewProjection overviewProjection;
+	private final KeyOrderedExecutor keyOrderedExecutor;
 
-	@KafkaListener(topics = "exam-submission-event", groupId = "exam-group", properties = {
+	@KafkaListener(topics = "exam-submission-event", groupId = "exam-group",
+		containerFactory = KafkaConsumerConfig.BATCH_LISTENER_CONTAINER_FACTORY, properties = {
 		"spring.json.value.default.type=com.eum.lecture_service.event.event.exam.ExamSubmissionCreateEvent"
 	})
-	public void handleExamSubmissionCreatedEvent(ExamSubmissionCreateEvent event) {
-		Long studentId = event.getStudentId();
-		Long lectureId = event.getLectureId();
-
-		StudentOverviewModel studentModel = studentOverviewRepository.findByStudentIdAndLectureId(studentId, lectureId)
-			.orElseThrow(() -> new EumException(ErrorCode.STUDENT_NOT_FOUND));
-
-		ExamSubmissionInfo examSubmissionInfo = createExamSubmissionInfo(event);
-
-		if (studentModel.getExamSubmissionInfo() == null) {
-			studentModel.setExamSubmissionInfo(new ArrayList<>());
+	public void handleExamSubmissionCreatedEvent(List<ExamSubmissionCreateEvent> events) {
+		// 강의 -> 학생 순으로 묶어 같은 문서에 대한 갱신을 한 번으로 합친다 (수신 순서 유지)
+		Map<Long, Map<Long, List<ExamSubmissionInfo>>> submissionsByLecture = new LinkedHashMap<>();
+		for (ExamSubmissionCreateEvent event : events) {
+			submissionsByLecture
+				.computeIfAbsent(event.getLectureId(), id -> new LinkedHashMap<>())
+				.computeIfAbsent(event.getStudentId(), id -> new ArrayList<>())
+				.add(createExamSubmissionInfo(event));
 		}
-		studentModel.getExamSubmissionInfo().add(examSubmissionInfo);
-
-		updateStudentScores(studentModel);
-		updateStudentOverview(studentModel);
-
-		studentOverviewRepository.save(studentModel);
 
-		updateTeacherOverviewModel(studentId, lectureId);
+		// 강의마다 병렬로 처리하되, 한 강의의 제출은 하나의 작업 안에서 순서대로 반영된다
+		// 학생 정보가 아직 없어 반영하지 못한 제출은 배치의 첫 실패 위치부터 재시도 토픽으로 넘긴다
+		Map<Long, Set<Long>> failedStudentsByLecture = new ConcurrentHashMap<>();
+		keyOrderedExecutor.executeByKey(submissionsByLecture, (lectureId, submissionsByStudent) -> {
+			Set<Long> failedStudentIds = overviewProjection.applyExamSubmissions(lectureId, submissionsByStudent);
+			if (!failedStudentIds.isEmpty()) {
+				failedStudentsByLecture.put(lectureId, failedStudentIds);
+			}
+		});
+		BatchFailures.throwFirstFailure(events, failedStudentsByLecture, ExamSubmissionCreateEvent::getLectureId,
+			ExamSubmissionCreateEvent::getStudentId);
 	}
 
 	private ExamSubmissionInfo createExamSubmissionInfo(ExamSubmissionCreateEvent event) {
@@ -83,102 +83,4 @@ public class ExamSubmissionEventListener {
 			dto.getExamSolution()
 		);
 	}
-
-	private void updateStudentOverview(StudentOverviewModel studentModel) {
-		Overview overview = studentModel.getOverview();
-		if (overview == null) {
-			overview = new Overview();
-			studentModel.setOverview(overview);
-		}
-		List<ExamSubmissionInfo> examSubmissionInfo = studentModel.getExamSubmissionInfo();
-		overview.setExamCount((long)examSubmissionInfo.size());
-	}
-
-	private void updateStudentScores(StudentOverviewModel studentModel) {
-		List<ExamSubmissionInfo> submissions = studentModel.getExamSubmissionInfo();
-
-		int count = 0;
-		double totalScore = 0;
-		//우선 반복문을 돌면서 해당 이 제출된거면, 제출된것만 카운트해서 평균을 구합니다.
-		for(ExamSubmissionInfo examSubmissionInfo : submissions) {
-			if(examSubmissionInfo.getIsCompleted()) {
-				count++;
-				totalScore += examSubmissionInfo.getScore();
-			}
-		}
-		double avgScore = count > 0 ? totalScore / count : 0.0;
-
-		StudentScores scores = studentModel.getStudentScores();
-		if (scores == null) {
-			scores = new StudentScores();
-			studentModel.setStudentScores(scores);
-		}
-		scores.setExamAvgScore(avgScore);
-	}
-
-	private void updateTeacherOverviewModel(Long studentId, Long lectureId) {
-		String teacherOverviewId = generateTeacherOverviewId(lectureId);
-		TeacherOverviewModel teacherOverview = teacherOverviewRepository.findById(teacherOverviewId)
-			.orElseThrow(() -> new EumException(ErrorCode.TEACHER_NOT_FOUND));
-
-		List<StudentInfo> studentInfos = teacherOverview.getStudents();
-		for (StudentInfo studentInfo : studentInfos) {
-			if (studentInfo.getStudentId().equals(studentId)) {
-				StudentOverviewModel studentOverview = studentOverviewRepository.findByStudentIdAndLectureId(studentId, lectureId)
-					.orElseThrow(() -> new EumException(ErrorCode.STUDENT_NOT_FOUND));
-				studentInfo.setStudentScores(studentOverview.getStudentScores());
-				break;
-			}
-		}
-
-		updateClassAverageScores(teacherOverview);
-
-		teacherOverviewRepository.save(teacherOverview);
-	}
-
-	private void updateClassAverageScores(TeacherOverviewModel teacherOverview) {
-		List<StudentInfo> studentInfos = teacherOverview.getStudents();
-
-		double totalHomework = 0.0;
-		double totalExam = 0.0;
-		double totalAttitude = 0.0;
-
-		int homeworkCount = 0;
-		int examCount = 0;
-		int attitudeCount = 0;
-
-		for (StudentInfo studentInfo : studentInfos) {
-			StudentScores scores = studentInfo.getStudentScores();
-			if (scores != null) {
-				if (scores.getHomeworkAvgScore() != null) {
-					totalHomework += scores.getHomeworkAvgScore();
-					homeworkCount++;
-				}
-				if (scores.getExamAvgScore() != null) {
-					totalExam += scores.getExamAvgScore();
-					examCount++;
-				}
-				if (scores.getAttitudeAvgScore() != null) {
-					totalAttitude += scores.getAttitudeAvgScore();
-					attitudeCount++;
-				}
-			}
-		}
-
-		double averageHomework = homeworkCount > 0 ? totalHomework / homeworkCount : 0.0;
-		double averageExam = examCount > 0 ? totalExam / examCount : 0.0;
-		double averageAttitude = attitudeCount > 0 ? totalAttitude / attitudeCount : 100.0;
-
-		ClassAverageScores classAverageScores = new ClassAverageScores(
-			averageHomework,
-			averageExam,
-			averageAttitude
-		);
-
-		teacherOverview.setClassAverageScores(classAverageScores);
-	}
-
-	private String generateTeacherOverviewId(Long lectureId) {
-		return "teacher-overview-" + lectureId;
-	}
 }
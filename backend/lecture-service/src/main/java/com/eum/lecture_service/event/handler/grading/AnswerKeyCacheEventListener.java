@@ -0,0 +1,43 @@
+package com.eum.lecture_service.event.handler.grading;
+
+import java.util.List;
+
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+import com.eum.lecture_service.command.service.grading.AnswerKeyCache;
+import com.eum.lecture_service.config.global.KafkaConsumerConfig;
+import com.eum.lecture_service.event.event.exam.ExamUpdateEvent;
+import com.eum.lecture_service.event.event.homework.HomeworkUpdateEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 정답 캐시는 인스턴스마다 따로 있으므로 인스턴스별 consumer group 으로 수정 이벤트를 모두 받아 무효화한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AnswerKeyCacheEventListener {
+
+	private final AnswerKeyCache answerKeyCache;
+
+	@KafkaListener(topics = "exam-update-topic", groupId = KafkaConsumerConfig.BROADCAST_GROUP_PREFIX
+		+ "answer-key-cache-#{T(java.util.UUID).randomUUID()}",
+		containerFactory = KafkaConsumerConfig.BATCH_LISTENER_CONTAINER_FACTORY, properties = {
+		"spring.json.value.default.type=com.eum.lecture_service.event.event.exam.ExamUpdateEvent",
+		"auto.offset.reset=latest"
+	})
+	public void evictExamAnswerKeys(List<ExamUpdateEvent> events) {
+		events.forEach(event -> answerKeyCache.evict(event.getQuestionIds()));
+	}
+
+	@KafkaListener(topics = "homework-update-topic", groupId = KafkaConsumerConfig.BROADCAST_GROUP_PREFIX
+		+ "answer-key-cache-#{T(java.util.UUID).randomUUID()}",
+		containerFactory = KafkaConsumerConfig.BATCH_LISTENER_CONTAINER_FACTORY, properties = {
+		"spring.json.value.default.type=com.eum.lecture_service.event.event.homework.HomeworkUpdateEvent",
+		"auto.offset.reset=latest"
+	})
+	public void evictHomeworkAnswerKeys(List<HomeworkUpdateEvent> events) {
+		events.forEach(event -> answerKeyCache.evict(event.getQuestionIds()));
+	}
+}
@@ -1,16 +1,22 @@
 package com.eum.lecture_service.event.handler.homework;
 
+import java.util.List;
+import java.util.Set;
+
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Service;
 
-import com.eum.lecture_service.config.exception.ErrorCode;
-import com.eum.lecture_service.config.exception.EumException;
+import com.eum.lecture_service.config.global.KafkaConsumerConfig;
 import com.eum.lecture_service.event.event.homework.HomeworkCreateEvent;
 import com.eum.lecture_service.event.event.homework.HomeworkDeleteEvent;
 import com.eum.lecture_service.event.event.homework.HomeworkUpdateEvent;
-import com.eum.lecture_service.query.document.LectureModel;
+import com.eum.lecture_service.event.projection.HomeworkDashboardProjection;
+import com.eum.lecture_service.event.projection.LectureArrayMutation;
+import com.eum.lecture_service.event.projection.LectureModelProjection;
+import com.eum.lecture_service.event.projection.QuestionStatsProjection;
+import com.eum.lecture_service.event.retry.BatchFailures;
 import com.eum.lecture_service.query.document.lectureInfo.HomeworkInfo;
-import com.eum.lecture_service.query.repository.LectureReadRepository;
+import com.eum.lecture_service.query.document.studentInfo.AssessmentType;
 
 import lombok.RequiredArgsConstructor;
 
@@ -18,43 +24,58 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class HomeworkEventListener {
 
-	private final LectureReadRepository lectureReadRepository;
+	private static final String HOMEWORKS = "homeworks";
+	private static final String HOMEWORK_ID = "homeworkId";
+
+	private final LectureModelProjection lectureModelProjection;
+	private final HomeworkDashboardProjection homeworkDashboardProjection;
+	private final QuestionStatsProjection questionStatsProjection;
 
-	@KafkaListener(topics = "homework-create-topic", groupId = "homework-group", properties = {
+	@KafkaListener(topics = "homework-create-topic", groupId = "homework-group",
+		containerFactory = KafkaConsumerConfig.BATCH_LISTENER_CONTAINER_FACTORY, properties = {
 		"spring.json.value.default.type=com.eum.lecture_service.event.event.homework.HomeworkCreateEvent"
 	})
-	public void handleHomeworkCreate(HomeworkCreateEvent event) {
-		LectureModel lecture = lectureReadRepository.findById(event.getLectureId())
-			.orElseThrow(() -> new EumException(ErrorCode.LECTURE_NOT_FOUND));
+	public void handleHomeworkCreate(List<HomeworkCreateEvent> events) {
+		List<LectureArrayMutation<HomeworkInfo>> mutations = events.stream()
+			.map(event -> LectureArrayMutation.upsert(event.getLectureId(), event.getHomeworkId(),
+				createHomeworkInfo(event)))
+			.toList();
 
-		HomeworkInfo homeworkInfo = createHomeworkInfo(event);
-		lecture.getHomeworks().add(homeworkInfo);
-		lectureReadRepository.save(lecture);
+		Set<Long> missingLectureIds = lectureModelProjection.apply(HOMEWORKS, HOMEWORK_ID, mutations);
+		homeworkDashboardProjection.addHomeworks(mutations);
+		BatchFailures.throwFirstMissingLecture(events, missingLectureIds, HomeworkCreateEvent::getLectureId);
 	}
 
-	@KafkaListener(topics = "homework-update-topic", groupId = "homework-group", properties = {
+	@KafkaListener(topics = "homework-update-topic", groupId = "homework-group",
+		containerFactory = KafkaConsumerConfig.BATCH_LISTENER_CONTAINER_FACTORY, properties = {
 		"spring.json.value.default.type=com.eum.lecture_service.event.event.homework.HomeworkUpdateEvent"
 	})
-	public void handleHomeworkUpdated(HomeworkUpdateEvent event) {
-		LectureModel lecture = lectureReadRepository.findById(event.getLectureId())
-			.orElseThrow(() -> new EumException(ErrorCode.LECTURE_NOT_FOUND));
-
-		lecture.getHomeworks().removeIf(hw -> hw.getHomeworkId().equals(event.getHomeworkId()));
+	public void handleHomeworkUpdated(List<HomeworkUpdateEvent> events) {
+		List<LectureArrayMutation<HomeworkInfo>> mutations = events.stream()
+			.map(event -> LectureArrayMutation.upsert(event.getLectureId(), event.getHomeworkId(),
+				updateHomeworkInfo(event)))
+			.toList();
 
-		HomeworkInfo homeworkInfo = updateHomeworkInfo(event);
-		lecture.getHomeworks().add(homeworkInfo);
-		lectureReadRepository.save(lecture);
+		Set<Long> missingLectureIds = lectureModelProjection.apply(HOMEWORKS, HOMEWORK_ID, mutations);
+		homeworkDashboardProjection.updateHomeworks(mutations);
+		BatchFailures.throwFirstMissingLecture(events, missingLectureIds, HomeworkUpdateEvent::getLectureId);
 	}
 
-	@KafkaListener(topics = "homework-delete-topic", groupId = "homework-group", properties = {
+	@KafkaListener(topics = "homework-delete-topic", groupId = "homework-group",
+		containerFactory = KafkaConsumerConfig.BATCH_LISTENER_CONTAINER_FACTORY, properties = {
 		"spring.json.value.default.type=com.eum.lecture_service.event.event.homework.HomeworkDeleteEvent"
 	})
-	public void handleHomeworkDeleted(HomeworkDeleteEvent event) {
-		LectureModel lecture = lectureReadRepository.findById(event.getLectureId())
-			.orElseThrow(() -> new EumException(ErrorCode.LECTURE_NOT_FOUND));
+	public void handleHomeworkDeleted(List<HomeworkDeleteEvent> events) {
+		List<LectureArrayMutation<HomeworkInfo>> mutations = events.stream()
+			.map(event -> LectureArrayMutation.<HomeworkInfo>remove(event.getLectureId(), event.getHomeworkId()))
+			.toList();
 
-		lecture.getHomeworks().removeIf(hw -> hw.getHomeworkId().equals(event.getHomeworkId()));
-		lectureReadRepository.save(lecture);
+		Set<Long> missingLectureIds = lectureModelProjection.apply(HOMEWORKS, HOMEWORK_ID, mutations);
+		homeworkDashboardProjection.removeHomeworks(mutations);
+		questionStatsProjection.removeAssessments(AssessmentType.HOMEWORK, events.stream()
+			.map(HomeworkDeleteEvent::getHomeworkId)
+			.toList());
+		BatchFailures.throwFirstMissingLecture(events, missingLectureIds, HomeworkDeleteEvent::getLectureId);
 	}
 
 	private HomeworkInfo createHomeworkInfo(HomeworkCreateEvent event) {
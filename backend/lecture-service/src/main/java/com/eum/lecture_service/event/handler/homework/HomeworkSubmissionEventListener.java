@@ -1,26 +1,23 @@
 package com.eum.lecture_service.event.handler.homework;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Service;
 
-import com.eum.lecture_service.config.exception.ErrorCode;
-import com.eum.lecture_service.config.exception.EumException;
+import com.eum.lecture_service.config.global.KafkaConsumerConfig;
 import com.eum.lecture_service.event.dto.HomeworkProblemSubmissionEventDto;
 import com.eum.lecture_service.event.event.homework.HomeworkSubmissionCreateEvent;
-import com.eum.lecture_service.query.document.StudentOverviewModel;
-import com.eum.lecture_service.query.document.TeacherOverviewModel;
-import com.eum.lecture_service.query.document.studentInfo.ExamSubmissionInfo;
+import com.eum.lecture_service.event.projection.KeyOrderedExecutor;
+import com.eum.lecture_service.event.projection.OverviewProjection;
+import com.eum.lecture_service.event.retry.BatchFailures;
 import com.eum.lecture_service.query.document.studentInfo.HomeworkProblemSubmissionInfo;
 import com.eum.lecture_service.query.document.studentInfo.HomeworkSubmissionInfo;
-import com.eum.lecture_service.query.document.studentInfo.Overview;
-import com.eum.lecture_service.query.document.studentInfo.StudentScores;
-import com.eum.lecture_service.query.document.teacherInfo.ClassAverageScores;
-import com.eum.lecture_service.query.document.teacherInfo.StudentInfo;
-import com.eum.lecture_service.query.repository.StudentOverviewRepository;
-import com.eum.lecture_service.query.repository.TeacherOverviewRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,33 +27,34 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class HomeworkSubmissionEventListener {
 
-	private final StudentOverviewRepository studentOverviewRepository;
-	private final TeacherOverviewRepository teacherOverviewRepository;
+	private final OverviewProjection overviewProjection;
+	private final KeyOrderedExecutor keyOrderedExecutor;
 
-	@KafkaListener(topics = "homework-submission-event", groupId = "homework-group", properties = {
+	@KafkaListener(topics = "homework-submission-event", groupId = "homework-group",
+		containerFactory = KafkaConsumerConfig.BATCH_LISTENER_CONTAINER_FACTORY, properties = {
 		"spring.json.value.default.type=com.eum.lecture_service.event.event.homework.HomeworkSubmissionCreateEvent"
 	})
-	public void handleHomeworkSubmissionCreatedEvent(HomeworkSubmissionCreateEvent event) {
-		Long studentId = event.getStudentId();
-		Long lectureId = event.getLectureId();
-		System.out.println("들어오나?");
-
-		StudentOverviewModel studentModel = studentOverviewRepository.findByStudentIdAndLectureId(studentId, lectureId)
-			.orElseThrow(() -> new EumException(ErrorCode.STUDENT_NOT_FOUND));
-
-		HomeworkSubmissionInfo homeworkSubmissionInfo = createHomeworkSubmissionInfo(event);
-
-		if (studentModel.getHomeworkSubmissionInfo() == null) {
-			studentModel.setHomeworkSubmissionInfo(new ArrayList<>());
+	public void handleHomeworkSubmissionCreatedEvent(List<HomeworkSubmissionCreateEvent> events) {
+		// 강의 -> 학생 순으로 묶어 같은 문서에 대한 갱신을 한 번으로 합친다 (수신 순서 유지)
+		Map<Long, Map<Long, List<HomeworkSubmissionInfo>>> submissionsByLecture = new LinkedHashMap<>();
+		for (HomeworkSubmissionCreateEvent event : events) {
+			submissionsByLecture
+				.computeIfAbsent(event.getLectureId(), id -> new LinkedHashMap<>())
+				.computeIfAbsent(event.getStudentId(), id -> new ArrayList<>())
+				.add(createHomeworkSubmissionInfo(event));
 		}
-		studentModel.getHomeworkSubmissionInfo().add(homeworkSubmissionInfo);
-
-		updateStudentScores(studentModel);
-		updateStudentOverview(studentModel);
-
-		studentOverviewRepository.save(studentModel);
 
-		updateTeacherOverviewModel(studentId, lectureId);
+		// 강의마다 병렬로 처리하되, 한 강의의 제출은 하나의 작업 안에서 순서대로 반영된다
+		// 학생 정보가 아직 없어 반영하지 못한 제출은 배치의 첫 실패 위치부터 재시도 토픽으로 넘긴다
+		Map<Long, Set<Long>> failedStudentsByLecture = new ConcurrentHashMap<>();
+		keyOrderedExecutor.executeByKey(submissionsByLecture, (lectureId, submissionsByStudent) -> {
+			Set<Long> failedStudentIds = overviewProjection.applyHomeworkSubmissions(lectureId, submissionsByStudent);
+			if (!failedStudentIds.isEmpty()) {
+				failedStudentsByLecture.put(lectureId, failedStudentIds);
+			}
+		});
+		BatchFailures.throwFirstFailure(events, failedStudentsByLecture, HomeworkSubmissionCreateEvent::getLectureId,
+			HomeworkSubmissionCreateEvent::getStudentId);
 	}
 
 	private HomeworkSubmissionInfo createHomeworkSubmissionInfo(HomeworkSubmissionCreateEvent event) {
@@ -85,105 +83,4 @@ public class HomeworkSubmissionEventListener {
 			dto.getHomeworkSolution()
 		);
 	}
-
-	private void updateStudentOverview(StudentOverviewModel studentModel) {
-		Overview overview = studentModel.getOverview();
-		if (overview == null) {
-			overview = new Overview();
-			studentModel.setOverview(overview);
-		}
-
-		List<HomeworkSubmissionInfo> submissions = studentModel.getHomeworkSubmissionInfo();
-
-		overview.setHomeworkCount((long)submissions.size());
-	}
-
-	private void updateStudentScores(StudentOverviewModel studentModel) {
-		List<HomeworkSubmissionInfo> submissions = studentModel.getHomeworkSubmissionInfo();
-
-		double totalScore = 0;
-		int count = 0;
-
-		for(HomeworkSubmissionInfo homeworkSubmissionInfo : submissions) {
-			if(homeworkSubmissionInfo.getIsComplete()) {
-				count++;
-				totalScore += homeworkSubmissionInfo.getScore();
-			}
-		}
-		double avgScore = count > 0 ? totalScore / count : 0.0;
-
-		StudentScores scores = studentModel.getStudentScores();
-		if (scores == null) {
-			scores = new StudentScores();
-			studentModel.setStudentScores(scores);
-		}
-		scores.setHomeworkAvgScore(avgScore);
-	}
-
-	private void updateTeacherOverviewModel(Long studentId, Long lectureId) {
-		String teacherOverviewId = generateTeacherOverviewId(lectureId);
-		TeacherOverviewModel teacherOverview = teacherOverviewRepository.findById(teacherOverviewId)
-			.orElseThrow(() -> new EumException(ErrorCode.TEACHER_NOT_FOUND));
-
-		List<StudentInfo> studentInfos = teacherOverview.getStudents();
-		for (StudentInfo studentInfo : studentInfos) {
-			if (studentInfo.getStudentId().equals(studentId)) {
-
-				StudentOverviewModel studentOverview = studentOverviewRepository.findByStudentIdAndLectureId(studentId, lectureId)
-					.orElseThrow(() -> new EumException(ErrorCode.STUDENT_NOT_FOUND));
-				studentInfo.setStudentScores(studentOverview.getStudentScores());
-				break;
-			}
-		}
-
-		updateClassAverageScores(teacherOverview);
-
-		teacherOverviewRepository.save(teacherOverview);
-	}
-
-	private void updateClassAverageScores(TeacherOverviewModel teacherOverview) {
-		List<StudentInfo> studentInfos = teacherOverview.getStudents();
-
-		double totalHomework = 0.0;
-		double totalExam = 0.0;
-		double totalAttitude = 0.0;
-
-		int homeworkCount = 0;
-		int examCount = 0;
-		int attitudeCount = 0;
-
-		for (StudentInfo studentInfo : studentInfos) {
-			StudentScores scores = studentInfo.getStudentScores();
-			if (scores != null) {
-				if (scores.getHomeworkAvgScore() != null) {
-					totalHomework += scores.getHomeworkAvgScore();
-					homeworkCount++;
-				}
-				if (scores.getExamAvgScore() != null) {
-					totalExam += scores.getExamAvgScore();
-					examCount++;
-				}
-				if (scores.getAttitudeAvgScore() != null) {
-					totalAttitude += scores.getAttitudeAvgScore();
-					attitudeCount++;
-				}
-			}
-		}
-
-		double averageHomework = homeworkCount > 0 ? totalHomework / homeworkCount : 0.0;
-		double averageExam = examCount > 0 ? totalExam / examCount : 0.0;
-		double averageAttitude = attitudeCount > 0 ? totalAttitude / attitudeCount : 100.0;
-
-		ClassAverageScores classAverageScores = new ClassAverageScores(
-			averageHomework,
-			averageExam,
-			averageAttitude
-		);
-
-		teacherOverview.setClassAverageScores(classAverageScores);
-	}
-
-	private String generateTeacherOverviewId(Long lectureId) {
-		return "teacher-overview-" + lectureId;
-	}
 }
@@ -1,6 +1,7 @@
 package com.eum.lecture_service.event.handler.lecture;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.kafka.annotation.KafkaListener;
@@ -13,6 +14,10 @@ import com.eum.lecture_service.event.event.lecture.LectureDeletedEvent;
 import com.eum.lecture_service.event.event.lecture.LectureMinusAttitudeEvent;
 import com.eum.lecture_service.event.event.lecture.LectureStatusUpdatedEvent;
 import com.eum.lecture_service.event.event.lecture.LectureUpdatedEvent;
+import com.eum.lecture_service.event.projection.ClassAverageAggregator;
+import com.eum.lecture_service.event.projection.HomeworkDashboardProjection;
+import com.eum.lecture_service.event.projection.OverviewProjection;
+import com.eum.lecture_service.event.projection.QuestionStatsProjection;
 import com.eum.lecture_service.query.document.LectureModel;
 import com.eum.lecture_service.query.document.TeacherOverviewModel;
 import com.eum.lecture_service.query.document.studentInfo.Overview;
@@ -39,6 +44,10 @@ public class LectureEventListener {
 	private final StudentReadRepository studentReadRepository;
 	private final TeacherOverviewRepository teacherOverviewRepository;
 	private final StudentOverviewRepository studentOverviewRepository;
+	private final OverviewProjection overviewProjection;
+	private final ClassAverageAggregator classAverageAggregator;
+	private final HomeworkDashboardProjection homeworkDashboardProjection;
+	private final QuestionStatsProjection questionStatsProjection;
 
 
 	// 강의 생성 이벤트 처리
@@ -97,19 +106,7 @@ public class LectureEventListener {
 
 			teacherOverviewRepository.save(teacherOverview);
 
-			studentInfos.forEach(studentInfo -> {
-				String studentOverviewId = generateStudentOverviewId(studentInfo.getStudentId(), lectureId);
-				StudentOverviewModel studentOverview = StudentOverviewModel.builder()
-					.id(studentOverviewId)
-					.studentId(studentInfo.getStudentId())
-					.lectureId(lectureId)
-					.overview(new Overview())
-					.studentScores(new StudentScores(0.0, 0.0, 100.0))
-					.build();
-
-				studentOverviewRepository.save(studentOverview);
-			});
-
+			overviewProjection.insertStudentOverviews(toStudentOverviews(studentInfos, lectureId));
 		}
 	}
 
@@ -122,8 +119,7 @@ public class LectureEventListener {
 				updateLectureModel(lecture, event);
 
 				//원래 이 수업의 학생 수
-				Long originalStudentSize = (long)studentOverviewRepository.findByLectureId(
-					lecture.getLectureId()).size();
+				long originalStudentSize = studentOverviewRepository.countByLectureId(lecture.getLectureId());
 
 				//현재 이 학급의 학생 수
 				List<StudentModel> studentSize = studentReadRepository.findByClassId(lecture.getClassId());
@@ -137,16 +133,16 @@ public class LectureEventListener {
 						.orElse(createNewTeacherOverview(event.getTeacherId(), lectureId));
 
 					teacherOverview.setStudents(studentInfos);
-
-					ClassAverageScores classAverageScores = calculateClassAverageScores(studentScoresList(studentInfos));
-					teacherOverview.setClassAverageScores(classAverageScores);
-
 					teacherOverviewRepository.save(teacherOverview);
 
+					// 학생 구성이 바뀌었으므로 누적값을 students 배열 기준으로 다시 맞춘다
+					classAverageAggregator.reconcile(lectureId);
+
 					updateStudentOverviews(studentInfos, lectureId);
 				}
 
 				lectureReadRepository.save(lecture);
+				homeworkDashboardProjection.updateLecture(lecture);
 			},
 			() -> log.error("강의를 찾을 수 없습니다. Lecture ID: {}", event.getLectureId())
 		);
@@ -186,38 +182,36 @@ public class LectureEventListener {
 			.orElseThrow(() -> new IllegalArgumentException("강의를 찾을 수 없습니다. Lecture ID: " + lectureId));
 
 		List<StudentModel> students = studentReadRepository.findByClassId(lecture.getClassId());
+		Map<Long, StudentScores> scoresByStudent = studentOverviewRepository.findByLectureId(lectureId).stream()
+			.filter(studentOverview -> studentOverview.getStudentScores() != null)
+			.collect(Collectors.toMap(StudentOverviewModel::getStudentId, StudentOverviewModel::getStudentScores,
+				(first, second) -> first));
 
 		return students.stream()
-			.map(student -> {
-				StudentOverviewModel studentOverview = studentOverviewRepository
-					.findByStudentIdAndLectureId(student.getStudentId(), lectureId)
-					.orElse(null);
-				StudentScores studentScores = studentOverview != null ? studentOverview.getStudentScores() : new StudentScores(0.0, 0.0, 100.0);
-
-				return StudentInfo.builder()
-					.studentId(student.getStudentId())
-					.studentImage(student.getImage())
-					.studentName(student.getName())
-					.studentScores(studentScores)
-					.build();
-			})
+			.map(student -> StudentInfo.builder()
+				.studentId(student.getStudentId())
+				.studentImage(student.getImage())
+				.studentName(student.getName())
+				.studentScores(scoresByStudent.getOrDefault(student.getStudentId(), new StudentScores(0.0, 0.0, 100.0)))
+				.build())
 			.collect(Collectors.toList());
 	}
 
+	// 이미 있는 StudentOverviewModel 은 그대로 두고 새 학생 것만 만든다
 	private void updateStudentOverviews(List<StudentInfo> studentInfos, Long lectureId) {
-		studentInfos.forEach(studentInfo -> {
-			String studentOverviewId = generateStudentOverviewId(studentInfo.getStudentId(), lectureId);
-			StudentOverviewModel studentOverview = studentOverviewRepository.findById(studentOverviewId)
-				.orElse(StudentOverviewModel.builder()
-					.id(studentOverviewId)
-					.studentId(studentInfo.getStudentId())
-					.lectureId(lectureId)
-					.overview(new Overview())
-					.studentScores(studentInfo.getStudentScores())
-					.build());
-
-			studentOverviewRepository.save(studentOverview);
-		});
+		overviewProjection.insertStudentOverviews(toStudentOverviews(studentInfos, lectureId));
+	}
+
+	private List<StudentOverviewModel> toStudentOverviews(List<StudentInfo> studentInfos, Long lectureId) {
+		return studentInfos.stream()
+			.map(studentInfo -> StudentOverviewModel.builder()
+				.id(generateStudentOverviewId(studentInfo.getStudentId(), lectureId))
+				.studentId(studentInfo.getStudentId())
+				.lectureId(lectureId)
+				.overview(new Overview())
+				.studentScores(studentInfo.getStudentScores())
+				.build())
+			.toList();
 	}
 
 	// 강의 삭제 이벤트 처리
@@ -231,64 +225,16 @@ public class LectureEventListener {
 				String teacherOverviewId = generateTeacherOverviewId(lectureId);
 
 				lectureReadRepository.deleteById(event.getLectureId());
+				homeworkDashboardProjection.removeLecture(lecture.getClassId(), lectureId);
 
-				teacherOverviewRepository.findById(teacherOverviewId).ifPresent(existingTeacherOverview -> {
-					teacherOverviewRepository.deleteById(existingTeacherOverview.getId());
-				});
-
-				List<StudentOverviewModel> studentOverviews = studentOverviewRepository.findByLectureId(lectureId);
-				studentOverviews.forEach(studentOverview -> {
-					String studentOverviewId = generateStudentOverviewId(studentOverview.getStudentId(), lectureId);
-					studentOverviewRepository.deleteById(studentOverviewId);
-				});
+				teacherOverviewRepository.deleteById(teacherOverviewId);
+				studentOverviewRepository.deleteByLectureId(lectureId);
+				questionStatsProjection.removeLecture(lectureId);
 			},
 			() -> log.error("강의를 찾을 수 없습니다. Lecture ID: {}", event.getLectureId())
 		);
 	}
 
-	private ClassAverageScores calculateClassAverageScores(List<StudentScores> studentScoresList) {
-		double totalHomework = 0.0;
-		double totalExam = 0.0;
-		double totalAttitude = 0.0;
-
-		int homeworkCount = 0;
-		int examCount = 0;
-		int attitudeCount = 0;
-
-		for (StudentScores scores : studentScoresList) {
-			if (scores.getHomeworkAvgScore() != null) {
-				totalHomework += scores.getHomeworkAvgScore();
-				homeworkCount++;
-			}
-			if (scores.getExamAvgScore() != null) {
-				totalExam += scores.getExamAvgScore();
-				examCount++;
-			}
-			if (scores.getAttitudeAvgScore() != null) {
-				totalAttitude += scores.getAttitudeAvgScore();
-				attitudeCount++;
-			}
-		}
-
-		double averageHomework = homeworkCount > 0 ? totalHomework / homeworkCount : 0.0;
-		double averageExam = examCount > 0 ? totalExam / examCount : 0.0;
-		double averageAttitude = attitudeCount > 0 ? totalAttitude / attitudeCount : 100.0;
-
-		return ClassAverageScores.builder()
-			.homeworkAvgScore(averageHomework)
-			.examAvgScore(averageExam)
-			.attitudeAvgScore(averageAttitude)
-			.build();
-	}
-
-
-	private List<StudentScores> studentScoresList(List<StudentInfo> studentInfos) {
-		return studentInfos.stream()
-			.map(StudentInfo::getStudentScores)
-			.filter(scores -> scores != null)
-			.collect(Collectors.toList());
-	}
-
 	private String generateTeacherOverviewId(Long lectureId) {
 		return "teacher-overview-" + lectureId;
 	}
@@ -311,86 +257,6 @@ public class LectureEventListener {
 	@KafkaListener(topics = "lecture-minus-attitude-topic", groupId = "lecture-group" , properties = {
 		"spring.json.value.default.type=com.eum.lecture_service.event.event.lecture.LectureMinusAttitudeEvent" })
 	public void handleLectureMinusAttitude(LectureMinusAttitudeEvent event) {
-
-		StudentOverviewModel studentModel = studentOverviewRepository.findByStudentIdAndLectureId(event.getStudentId(),
-				event.getLectureId())
-			.orElseThrow(() -> new EumException(ErrorCode.STUDENT_NOT_FOUND));
-
-		StudentScores scores = studentModel.getStudentScores();
-		if (scores == null) {
-			scores = new StudentScores();
-			studentModel.setStudentScores(scores);
-		}
-		Double currentAttitudeScore = scores.getAttitudeAvgScore();
-		if (currentAttitudeScore == null) {
-			currentAttitudeScore = 100.0;
-		}
-		scores.setAttitudeAvgScore(currentAttitudeScore - 2);
-
-		studentOverviewRepository.save(studentModel);
-
-		updateTeacherOverviewModel(event.getStudentId(), studentModel.getLectureId());
-	}
-
-	private void updateTeacherOverviewModel(Long studentId, Long lectureId) {
-		String teacherOverviewId = generateTeacherOverviewId(lectureId);
-		TeacherOverviewModel teacherOverview = teacherOverviewRepository.findById(teacherOverviewId)
-			.orElseThrow(() -> new EumException(ErrorCode.TEACHER_NOT_FOUND));
-
-		List<StudentInfo> studentInfos = teacherOverview.getStudents();
-		for (StudentInfo studentInfo : studentInfos) {
-			if (studentInfo.getStudentId().equals(studentId)) {
-				StudentOverviewModel studentOverview = studentOverviewRepository.findByStudentIdAndLectureId(studentId, lectureId)
-					.orElseThrow(() -> new EumException(ErrorCode.STUDENT_NOT_FOUND));
-				studentInfo.setStudentScores(studentOverview.getStudentScores());
-				break;
-			}
-		}
-
-		updateClassAverageScores(teacherOverview);
-
-		teacherOverviewRepository.save(teacherOverview);
-	}
-
-	private void updateClassAverageScores(TeacherOverviewModel teacherOverview) {
-		List<StudentInfo> studentInfos = teacherOverview.getStudents();
-
-		double totalHomework = 0.0;
-		double totalExam = 0.0;
-		double totalAttitude = 0.0;
-
-		int homeworkCount = 0;
-		int examCount = 0;
-		int attitudeCount = 0;
-
-		for (StudentInfo studentInfo : studentInfos) {
-			StudentScores scores = studentInfo.getStudentScores();
-			if (scores != null) {
-				if (scores.getHomeworkAvgScore() != null) {
-					totalHomework += scores.getHomeworkAvgScore();
-					homeworkCount++;
-				}
-				if (scores.getExamAvgScore() != null) {
-					totalExam += scores.getExamAvgScore();
-					examCount++;
-				}
-				if (scores.getAttitudeAvgScore() != null) {
-					totalAttitude += scores.getAttitudeAvgScore();
-					attitudeCount++;
-				}
-			}
-		}
-
-		double averageHomework = homeworkCount > 0 ? totalHomework / homeworkCount : 0.0;
-		double averageExam = examCount > 0 ? totalExam / examCount : 0.0;
-		double averageAttitude = attitudeCount > 0 ? totalAttitude / attitudeCount : 100.0;
-
-		ClassAverageScores classAverageScores = new ClassAverageScores(
-			averageHomework,
-			averageExam,
-			averageAttitude
-		);
-
-		teacherOverview.setClassAverageScores(classAverageScores);
+		overviewProjection.applyAttitudeDelta(event.getStudentId(), event.getLectureId(), -2.0);
 	}
 }
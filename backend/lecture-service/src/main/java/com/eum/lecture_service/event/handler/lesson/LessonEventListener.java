@@ -1,19 +1,18 @@
 package com.eum.lecture_service.event.handler.lesson;
 
+import java.util.List;
+import java.util.Set;
+
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Service;
 
-import com.eum.lecture_service.command.repository.lecture.LectureRepository;
-import com.eum.lecture_service.config.exception.ErrorCode;
-import com.eum.lecture_service.config.exception.EumException;
+import com.eum.lecture_service.config.global.KafkaConsumerConfig;
 import com.eum.lecture_service.event.event.lesson.LessonCreateEvent;
 import com.eum.lecture_service.event.event.lesson.LessonDeleteEvent;
-import com.eum.lecture_service.event.event.notice.NoticeCreateEvent;
-import com.eum.lecture_service.event.event.notice.NoticeDeletedEvent;
-import com.eum.lecture_service.query.document.LectureModel;
+import com.eum.lecture_service.event.projection.LectureArrayMutation;
+import com.eum.lecture_service.event.projection.LectureModelProjection;
+import com.eum.lecture_service.event.retry.BatchFailures;
 import com.eum.lecture_service.query.document.lectureInfo.LessonInfo;
-import com.eum.lecture_service.query.document.lectureInfo.NoticeInfo;
-import com.eum.lecture_service.query.repository.LectureReadRepository;
 
 import lombok.RequiredArgsConstructor;
 
@@ -21,29 +20,31 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class LessonEventListener {
 
-	private final LectureReadRepository lectureReadRepository;
+	private static final String LESSONS = "lessons";
+	private static final String LESSON_ID = "lessonId";
+
+	private final LectureModelProjection lectureModelProjection;
 
-	@KafkaListener(topics = "lesson-create-event", groupId = "lesson-group",  properties = {
+	@KafkaListener(topics = "lesson-create-event", groupId = "lesson-group",
+		containerFactory = KafkaConsumerConfig.BATCH_LISTENER_CONTAINER_FACTORY, properties = {
 		"spring.json.value.default.type=com.eum.lecture_service.event.event.lesson.LessonCreateEvent"
 	})
-	public void handleLessonCreate(LessonCreateEvent event) {
-		LectureModel lecture = lectureReadRepository.findById(event.getLectureId())
-			.orElseThrow(() -> new EumException(ErrorCode.LECTURE_NOT_FOUND));
-
-		LessonInfo lesson = createLessonInfo(event);
-		lecture.getLessons().add(lesson);
-		lectureReadRepository.save(lecture);
+	public void handleLessonCreate(List<LessonCreateEvent> events) {
+		Set<Long> missingLectureIds = lectureModelProjection.apply(LESSONS, LESSON_ID, events.stream()
+			.map(event -> LectureArrayMutation.upsert(event.getLectureId(), event.getLessonId(), createLessonInfo(event)))
+			.toList());
+		BatchFailures.throwFirstMissingLecture(events, missingLectureIds, LessonCreateEvent::getLectureId);
 	}
 
-	@KafkaListener(topics = "lesson-delete-event", groupId = "lesson-group",  properties = {
+	@KafkaListener(topics = "lesson-delete-event", groupId = "lesson-group",
+		containerFactory = KafkaConsumerConfig.BATCH_LISTENER_CONTAINER_FACTORY, properties = {
 		"spring.json.value.default.type=com.eum.lecture_service.event.event.lesson.LessonDeleteEvent"
 	})
-	public void handleLessonDelete(LessonDeleteEvent event) {
-		LectureModel lecture = lectureReadRepository.findById(event.getLectureId())
-			.orElseThrow(() -> new EumException(ErrorCode.LECTURE_NOT_FOUND));
-
-		lecture.getLessons().removeIf(lesson -> lesson.getLessonId().equals(event.getLessonId()));
-		lectureReadRepository.save(lecture);
+	public void handleLessonDelete(List<LessonDeleteEvent> events) {
+		Set<Long> missingLectureIds = lectureModelProjection.apply(LESSONS, LESSON_ID, events.stream()
+			.map(event -> LectureArrayMutation.<LessonInfo>remove(event.getLectureId(), event.getLessonId()))
+			.toList());
+		BatchFailures.throwFirstMissingLecture(events, missingLectureIds, LessonDeleteEvent::getLectureId);
 	}
 
 	private LessonInfo createLessonInfo(LessonCreateEvent event) {
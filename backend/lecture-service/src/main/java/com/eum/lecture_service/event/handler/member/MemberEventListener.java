@@ -6,16 +6,17 @@ import java.util.Optional;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Service;
 
-import com.eum.lecture_service.config.exception.ErrorCode;
-import com.eum.lecture_service.config.exception.EumException;
 import com.eum.lecture_service.event.event.member.ClassEvent;
 import com.eum.lecture_service.event.event.member.StudentImageEvent;
 import com.eum.lecture_service.event.event.member.StudentInfoEvent;
 import com.eum.lecture_service.event.event.member.TeacherImageEvent;
 import com.eum.lecture_service.event.event.member.TeacherInfoEvent;
+import com.eum.lecture_service.event.projection.ClassAverageAggregator;
+import com.eum.lecture_service.event.projection.HomeworkDashboardProjection;
+import com.eum.lecture_service.event.projection.OverviewProjection;
+import com.eum.lecture_service.query.cache.ReferenceDataCache;
 import com.eum.lecture_service.query.document.LectureModel;
 import com.eum.lecture_service.query.document.StudentOverviewModel;
-import com.eum.lecture_service.query.document.TeacherOverviewModel;
 import com.eum.lecture_service.query.document.eventModel.ClassModel;
 import com.eum.lecture_service.query.document.eventModel.StudentModel;
 import com.eum.lecture_service.query.document.eventModel.TeacherModel;
@@ -24,9 +25,7 @@ import com.eum.lecture_service.query.document.studentInfo.StudentScores;
 import com.eum.lecture_service.query.document.teacherInfo.StudentInfo;
 import com.eum.lecture_service.query.repository.ClassReadRepository;
 import com.eum.lecture_service.query.repository.LectureReadRepository;
-import com.eum.lecture_service.query.repository.StudentOverviewRepository;
 import com.eum.lecture_service.query.repository.StudentReadRepository;
-import com.eum.lecture_service.query.repository.TeacherOverviewRepository;
 import com.eum.lecture_service.query.repository.TeacherReadRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -41,8 +40,10 @@ public class MemberEventListener {
 	private final ClassReadRepository classReadRepository;
 	private final StudentReadRepository studentReadRepository;
 	private final LectureReadRepository lectureReadRepository;
-	private final TeacherOverviewRepository teacherOverviewRepository;
-	private final StudentOverviewRepository studentOverviewRepository;
+	private final ClassAverageAggregator classAverageAggregator;
+	private final OverviewProjection overviewProjection;
+	private final HomeworkDashboardProjection homeworkDashboardProjection;
+	private final ReferenceDataCache referenceDataCache;
 
 	@KafkaListener(topics = "create_teacher", groupId = "member-group", properties = {
 		"spring.json.value.default.type=com.eum.lecture_service.event.event.member.TeacherInfoEvent"
@@ -58,6 +59,7 @@ public class MemberEventListener {
 			.build();
 
 		teacherReadRepository.save(teacher);
+		referenceDataCache.evictTeacher(teacher.getTeacherId());
 	}
 
 	@KafkaListener(topics = "update_teacher", groupId = "member-group", properties = {
@@ -69,6 +71,7 @@ public class MemberEventListener {
 				teacher.setImage(event.getImage());
 
 				teacherReadRepository.save(teacher);
+				referenceDataCache.evictTeacher(teacher.getTeacherId());
 			},
 			() -> log.error("선생님 ID 찾을 수 없어서 업뎃 불가", event.getTeacherId())
 		);
@@ -94,6 +97,7 @@ public class MemberEventListener {
 			.build();
 
 		classReadRepository.save(classModel);
+		referenceDataCache.evictClass(classModel.getClassId());
 	}
 
 
@@ -112,41 +116,39 @@ public class MemberEventListener {
 			.build();
 
 		studentReadRepository.save(student);
+		homeworkDashboardProjection.createDashboards(event.getClassId(), List.of(student.getStudentId()));
 
 		List<LectureModel> lectures = lectureReadRepository.findByClassId(event.getClassId());
 
 		if (lectures.isEmpty()) {
 			log.warn("Class ID {}에 속한 강의가 없습니다. 학생을 강의에 추가하지 않습니다.", event.getClassId());
-		} else {
-			for (LectureModel lecture : lectures) {
-				TeacherOverviewModel teacherOverview = teacherOverviewRepository.findByLectureId(lecture.getLectureId())
-					.orElseThrow(() -> new EumException(ErrorCode.TEACHERMODEL_NOT_FOUND));
-				if (teacherOverview != null) {
-					StudentInfo studentInfo = StudentInfo.builder()
-						.studentId(student.getStudentId())
-						.studentImage(student.getImage())
-						.studentName(student.getName())
-						.studentScores(new StudentScores(0.0, 0.0, 100.0))
-						.build();
-
-					teacherOverview.getStudents().add(studentInfo);
-					teacherOverviewRepository.save(teacherOverview);
-
-					String studentOverviewId = generateStudentOverviewId(studentInfo.getStudentId(), lecture.getLectureId());
-					StudentOverviewModel studentOverview = StudentOverviewModel.builder()
-						.id(studentOverviewId)
-						.studentId(studentInfo.getStudentId())
-						.lectureId(lecture.getLectureId())
-						.overview(new Overview())
-						.studentScores(new StudentScores(0.0, 0.0, 100.0))
-						.build();
-
-					studentOverviewRepository.save(studentOverview);
-				} else {
-					log.warn("Lecture ID {}에 대한 TeacherOverviewModel을 찾을 수 없습니다.", lecture.getLectureId());
-				}
-			}
+			return;
 		}
+
+		StudentInfo studentInfo = StudentInfo.builder()
+			.studentId(student.getStudentId())
+			.studentImage(student.getImage())
+			.studentName(student.getName())
+			.studentScores(new StudentScores(0.0, 0.0, 100.0))
+			.build();
+
+		// 반의 모든 강의에 대해 TeacherOverviewModel 추가, 학급 평균 재계산, StudentOverviewModel 생성을 각각 한 번에 처리
+		List<Long> lectureIds = lectures.stream()
+			.map(LectureModel::getLectureId)
+			.toList();
+		overviewProjection.addStudentToLectures(studentInfo, lectures);
+		classAverageAggregator.reconcile(lectureIds);
+
+		List<StudentOverviewModel> studentOverviews = lectureIds.stream()
+			.map(lectureId -> StudentOverviewModel.builder()
+				.id(generateStudentOverviewId(student.getStudentId(), lectureId))
+				.studentId(student.getStudentId())
+				.lectureId(lectureId)
+				.overview(new Overview())
+				.studentScores(new StudentScores(0.0, 0.0, 100.0))
+				.build())
+			.toList();
+		overviewProjection.insertStudentOverviews(studentOverviews);
 	}
 
 	@KafkaListener(topics = "update_student", groupId = "member-group", properties = {
@@ -159,20 +161,8 @@ public class MemberEventListener {
 				student.setImage(event.getImage());
 				studentReadRepository.save(student);
 
-				List<TeacherOverviewModel> teacherOverviews = teacherOverviewRepository.findByStudents_StudentId(student.getStudentId());
-
-				for (TeacherOverviewModel teacherOverview : teacherOverviews) {
-					boolean isUpdated = false;
-					for (StudentInfo studentInfo : teacherOverview.getStudents()) {
-						if (studentInfo.getStudentId().equals(student.getStudentId())) {
-							studentInfo.setStudentImage(student.getImage());
-							isUpdated = true;
-						}
-					}
-					if (isUpdated) {
-						teacherOverviewRepository.save(teacherOverview);
-					}
-				}
+				long modified = overviewProjection.updateStudentImage(student.getStudentId(), student.getImage());
+				log.info("학생 이미지 변경 반영. studentId: {}, teacherOverview: {}", student.getStudentId(), modified);
 			},
 			() -> log.error("학생 아이디 찾을 수 없어서 업뎃 불가: {}", event.getStudentId())
 		);
@@ -0,0 +1,55 @@
+package com.eum.lecture_service.event.handler.member;
+
+import java.util.List;
+
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+import com.eum.lecture_service.config.global.KafkaConsumerConfig;
+import com.eum.lecture_service.event.event.member.ClassEvent;
+import com.eum.lecture_service.event.event.member.TeacherImageEvent;
+import com.eum.lecture_service.event.event.member.TeacherInfoEvent;
+import com.eum.lecture_service.query.cache.ReferenceDataCache;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ReferenceDataCache 는 인스턴스마다 따로 있으므로 인스턴스별 consumer group 으로 선생님 / 반 이벤트를 모두 받아 무효화한다.
+ * member-group 이 읽기 모델을 저장하기 전에 무효화될 수 있어, 저장한 인스턴스는 MemberEventListener 에서 한 번 더 무효화한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReferenceDataCacheEventListener {
+
+	private final ReferenceDataCache referenceDataCache;
+
+	@KafkaListener(topics = "create_teacher", groupId = KafkaConsumerConfig.BROADCAST_GROUP_PREFIX
+		+ "reference-cache-#{T(java.util.UUID).randomUUID()}",
+		containerFactory = KafkaConsumerConfig.BATCH_LISTENER_CONTAINER_FACTORY, properties = {
+		"spring.json.value.default.type=com.eum.lecture_service.event.event.member.TeacherInfoEvent",
+		"auto.offset.reset=latest"
+	})
+	public void evictCreatedTeachers(List<TeacherInfoEvent> events) {
+		events.forEach(event -> referenceDataCache.evictTeacher(event.getTeacherId()));
+	}
+
+	@KafkaListener(topics = "update_teacher", groupId = KafkaConsumerConfig.BROADCAST_GROUP_PREFIX
+		+ "reference-cache-#{T(java.util.UUID).randomUUID()}",
+		containerFactory = KafkaConsumerConfig.BATCH_LISTENER_CONTAINER_FACTORY, properties = {
+		"spring.json.value.default.type=com.eum.lecture_service.event.event.member.TeacherImageEvent",
+		"auto.offset.reset=latest"
+	})
+	public void evictUpdatedTeachers(List<TeacherImageEvent> events) {
+		events.forEach(event -> referenceDataCache.evictTeacher(event.getTeacherId()));
+	}
+
+	@KafkaListener(topics = "create_class", groupId = KafkaConsumerConfig.BROADCAST_GROUP_PREFIX
+		+ "reference-cache-#{T(java.util.UUID).randomUUID()}",
+		containerFactory = KafkaConsumerConfig.BATCH_LISTENER_CONTAINER_FACTORY, properties = {
+		"spring.json.value.default.type=com.eum.lecture_service.event.event.member.ClassEvent",
+		"auto.offset.reset=latest"
+	})
+	public void evictCreatedClasses(List<ClassEvent> events) {
+		events.forEach(event -> referenceDataCache.evictClass(event.getClassId()));
+	}
+}
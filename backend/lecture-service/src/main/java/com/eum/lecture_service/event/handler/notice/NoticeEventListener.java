@@ -1,15 +1,18 @@
 package com.eum.lecture_service.event.handler.notice;
 
+import java.util.List;
+import java.util.Set;
+
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Service;
 
-import com.eum.lecture_service.config.exception.ErrorCode;
-import com.eum.lecture_service.config.exception.EumException;
+import com.eum.lecture_service.config.global.KafkaConsumerConfig;
 import com.eum.lecture_service.event.event.notice.NoticeCreateEvent;
 import com.eum.lecture_service.event.event.notice.NoticeDeletedEvent;
-import com.eum.lecture_service.query.document.LectureModel;
+import com.eum.lecture_service.event.projection.LectureArrayMutation;
+import com.eum.lecture_service.event.projection.LectureModelProjection;
+import com.eum.lecture_service.event.retry.BatchFailures;
 import com.eum.lecture_service.query.document.lectureInfo.NoticeInfo;
-import com.eum.lecture_service.query.repository.LectureReadRepository;
 
 import lombok.RequiredArgsConstructor;
 
@@ -17,29 +20,31 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class NoticeEventListener {
 
-	private final LectureReadRepository lectureReadRepository;
+	private static final String NOTICES = "notices";
+	private static final String NOTICE_ID = "noticeId";
+
+	private final LectureModelProjection lectureModelProjection;
 
-	@KafkaListener(topics = "notice-create-topic", groupId = "notice-group",  properties = {
+	@KafkaListener(topics = "notice-create-topic", groupId = "notice-group",
+		containerFactory = KafkaConsumerConfig.BATCH_LISTENER_CONTAINER_FACTORY, properties = {
 		"spring.json.value.default.type=com.eum.lecture_service.event.event.notice.NoticeCreateEvent"
 	})
-	public void handleNoticeCreate(NoticeCreateEvent event) {
-		LectureModel lecture = lectureReadRepository.findById(event.getLectureId())
-			.orElseThrow(() -> new EumException(ErrorCode.LECTURE_NOT_FOUND));
-
-		NoticeInfo notice = createNoticeInfo(event);
-		lecture.getNotices().add(notice);
-		lectureReadRepository.save(lecture);
+	public void handleNoticeCreate(List<NoticeCreateEvent> events) {
+		Set<Long> missingLectureIds = lectureModelProjection.apply(NOTICES, NOTICE_ID, events.stream()
+			.map(event -> LectureArrayMutation.upsert(event.getLectureId(), event.getNoticeId(), createNoticeInfo(event)))
+			.toList());
+		BatchFailures.throwFirstMissingLecture(events, missingLectureIds, NoticeCreateEvent::getLectureId);
 	}
 
-	@KafkaListener(topics = "notice-delete-topic", groupId = "notice-group",  properties = {
+	@KafkaListener(topics = "notice-delete-topic", groupId = "notice-group",
+		containerFactory = KafkaConsumerConfig.BATCH_LISTENER_CONTAINER_FACTORY, properties = {
 		"spring.json.value.default.type=com.eum.lecture_service.event.event.notice.NoticeDeletedEvent"
 	})
-	public void handleNoticeDelete(NoticeDeletedEvent event) {
-		LectureModel lecture = lectureReadRepository.findById(event.getLectureId())
-			.orElseThrow(() -> new EumException(ErrorCode.LECTURE_NOT_FOUND));
-
-		lecture.getNotices().removeIf(notice -> notice.getNoticeId().equals(event.getNoticeId()));
-		lectureReadRepository.save(lecture);
+	public void handleNoticeDelete(List<NoticeDeletedEvent> events) {
+		Set<Long> missingLectureIds = lectureModelProjection.apply(NOTICES, NOTICE_ID, events.stream()
+			.map(event -> LectureArrayMutation.<NoticeInfo>remove(event.getLectureId(), event.getNoticeId()))
+			.toList());
+		BatchFailures.throwFirstMissingLecture(events, missingLectureIds, NoticeDeletedEvent::getLectureId);
 	}
 
 	private NoticeInfo createNoticeInfo(NoticeCreateEvent event) {
@@ -0,0 +1,145 @@
+package com.eum.lecture_service.event.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.springframework.kafka.listener.BatchInterceptor;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.listener.RecordInterceptor;
+import org.springframework.stereotype.Component;
+
+import com.eum.lecture_service.event.EventHeaders;
+import com.eum.lecture_service.event.consistency.ProjectionCheckpointStore;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 모든 리스너의 처리 전후를 감싸 읽기 모델이 얼마나 늦는지 기록한다.
+ * - lecture.projection.event.age: 이벤트 produced-at 부터 반영 완료까지 걸린 시간 (토픽별 히스토그램)
+ * - lecture.projection.process: 리스너 한 번(레코드 또는 배치)의 처리 시간 (토픽, 결과별)
+ * 반영이 끝난 lecture-service 이벤트는 ProjectionCheckpointStore 에 기록해 ConsistencyToken 대기를 풀어 준다.
+ * 배치가 BatchListenerFailedException 으로 일부만 실패하면 실패 위치 앞의 레코드는 반영되어 커밋되므로 그 레코드까지 기록한다.
+ * consumer lag 은 Spring Boot 가 등록하는 Kafka 클라이언트 지표(kafka.consumer.fetch.manager.records.lag)를 쓴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectionMetricsInterceptor
+	implements RecordInterceptor<Object, Object>, BatchInterceptor<Object, Object> {
+
+	private static final String EVENT_AGE = "lecture.projection.event.age";
+	private static final String PROCESS = "lecture.projection.process";
+
+	private final MeterRegistry meterRegistry;
+	private final ProjectionCheckpointStore projectionCheckpointStore;
+
+	private final ThreadLocal<Timer.Sample> processSample = new ThreadLocal<>();
+	private final Map<String, Timer> eventAgeTimers = new ConcurrentHashMap<>();
+
+	@Override
+	public ConsumerRecord<Object, Object> intercept(ConsumerRecord<Object, Object> record,
+		Consumer<Object, Object> consumer) {
+		processSample.set(Timer.start(meterRegistry));
+		return record;
+	}
+
+	@Override
+	public void success(ConsumerRecord<Object, Object> record, Consumer<Object, Object> consumer) {
+		stopProcessTimer(record.topic(), "success");
+		applied(List.of(record), consumer);
+	}
+
+	@Override
+	public void failure(ConsumerRecord<Object, Object> record, Exception exception,
+		Consumer<Object, Object> consumer) {
+		stopProcessTimer(record.topic(), "failure");
+	}
+
+	@Override
+	public ConsumerRecords<Object, Object> intercept(ConsumerRecords<Object, Object> records,
+		Consumer<Object, Object> consumer) {
+		processSample.set(Timer.start(meterRegistry));
+		return records;
+	}
+
+	@Override
+	public void success(ConsumerRecords<Object, Object> records, Consumer<Object, Object> consumer) {
+		stopProcessTimer(topicOf(records), "success");
+		List<ConsumerRecord<Object, Object>> appliedRecords = new ArrayList<>(records.count());
+		records.forEach(appliedRecords::add);
+		applied(appliedRecords, consumer);
+	}
+
+	@Override
+	public void failure(ConsumerRecords<Object, Object> records, Exception exception,
+		Consumer<Object, Object> consumer) {
+		stopProcessTimer(topicOf(records), "failure");
+
+		int failedIndex = failedIndex(exception);
+		if (failedIndex <= 0) {
+			return;
+		}
+		List<ConsumerRecord<Object, Object>> appliedRecords = new ArrayList<>(failedIndex);
+		for (ConsumerRecord<Object, Object> record : records) {
+			if (appliedRecords.size() == failedIndex) {
+				break;
+			}
+			appliedRecords.add(record);
+		}
+		applied(appliedRecords, consumer);
+	}
+
+	private void applied(List<ConsumerRecord<Object, Object>> records, Consumer<Object, Object> consumer) {
+		long now = System.currentTimeMillis();
+		for (ConsumerRecord<Object, Object> record : records) {
+			Long producedAt = EventHeaders.producedAt(record.headers());
+			long eventTime = producedAt != null ? producedAt : record.timestamp();
+			if (eventTime > 0) {
+				eventAgeTimer(record.topic()).record(Math.max(0L, now - eventTime), TimeUnit.MILLISECONDS);
+			}
+		}
+		projectionCheckpointStore.markApplied(consumer.groupMetadata().groupId(), records);
+	}
+
+	// 리스너가 알려 준 첫 실패 레코드의 배치 내 위치. 알 수 없으면 -1
+	private int failedIndex(Exception exception) {
+		for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+			if (cause instanceof BatchListenerFailedException failed) {
+				return failed.getIndex();
+			}
+		}
+		return -1;
+	}
+
+	private void stopProcessTimer(String topic, String outcome) {
+		Timer.Sample sample = processSample.get();
+		processSample.remove();
+		if (sample == null) {
+			return;
+		}
+		sample.stop(Timer.builder(PROCESS)
+			.tag("topic", topic)
+			.tag("outcome", outcome)
+			.register(meterRegistry));
+	}
+
+	private Timer eventAgeTimer(String topic) {
+		return eventAgeTimers.computeIfAbsent(topic, key -> Timer.builder(EVENT_AGE)
+			.description("이벤트 produced-at 부터 읽기 모델 반영까지 걸린 시간")
+			.tag("topic", key)
+			.publishPercentileHistogram()
+			.register(meterRegistry));
+	}
+
+	// 이 서비스의 리스너는 토픽 하나씩 구독하므로 배치의 첫 파티션 토픽으로 구분한다
+	private String topicOf(ConsumerRecords<Object, Object> records) {
+		return records.partitions().isEmpty() ? "unknown" : records.partitions().iterator().next().topic();
+	}
+}
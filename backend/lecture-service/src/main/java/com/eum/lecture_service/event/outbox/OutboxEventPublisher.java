@@ -0,0 +1,56 @@
+package com.eum.lecture_service.event.outbox;
+
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.eum.lecture_service.command.entity.outbox.OutboxEvent;
+import com.eum.lecture_service.command.repository.outbox.OutboxEventRepository;
+import com.eum.lecture_service.event.consistency.ConsistencyTokenRecorder;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 커맨드 서비스에서 Kafka 로 직접 보내는 대신 outbox_events 에 이벤트를 기록한다.
+ * 호출한 트랜잭션에 참여하므로 롤백되면 이벤트도 함께 사라지고, 요청 스레드는 Kafka 를 기다리지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEventPublisher {
+
+	private final OutboxEventRepository outboxEventRepository;
+	private final OutboxKeySequencer outboxKeySequencer;
+	private final ObjectMapper objectMapper;
+	private final ConsistencyTokenRecorder consistencyTokenRecorder;
+
+	@Transactional
+	public void publish(String topic, Object event) {
+		publish(topic, null, event);
+	}
+
+	@Transactional
+	public void publish(String topic, String key, Object event) {
+		LocalDateTime createdAt = LocalDateTime.now();
+		OutboxEvent outboxEvent = outboxEventRepository.save(OutboxEvent.builder()
+			.topic(topic)
+			.messageKey(key)
+			.keySeq(outboxKeySequencer.next(key))
+			.payloadType(event.getClass().getName())
+			.payload(serialize(event))
+			.createdAt(createdAt)
+			.build());
+		// pooled id 는 persist 시점에 정해지므로 INSERT 전이어도 이벤트 id 를 알 수 있다
+		consistencyTokenRecorder.record(topic, key, outboxEvent.getOutboxEventId());
+	}
+
+	private String serialize(Object event) {
+		try {
+			return objectMapper.writeValueAsString(event);
+		} catch (JsonProcessingException e) {
+			throw new IllegalArgumentException("outbox 이벤트 직렬화 실패: " + event.getClass().getName(), e);
+		}
+	}
+}
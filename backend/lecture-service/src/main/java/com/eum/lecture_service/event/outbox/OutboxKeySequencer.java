@@ -0,0 +1,36 @@
+package com.eum.lecture_service.event.outbox;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.eum.lecture_service.command.entity.outbox.OutboxKeySequence;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * outbox 이벤트에 메시지 키마다 커밋 순서대로 증가하는 번호를 매긴다.
+ * 번호를 올리며 잡은 키 행의 잠금이 커밋까지 유지되므로 같은 키의 트랜잭션은 번호 순서대로만 커밋되고,
+ * relay 가 키 안에서 번호 순서로 보내면 커밋 순서대로 나간다. (풀링된 outbox_event_id 는 인스턴스마다
+ * 블록이 달라 커밋 순서와 다르다)
+ * 호출한 트랜잭션의 커넥션을 그대로 쓰고, Hibernate 를 거치지 않으므로 쌓아 둔 배치 INSERT 를 flush 하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxKeySequencer {
+
+	// 키가 없는 이벤트는 순서를 지킬 대상이 없으므로 잠금 없이 0 을 준다
+	static final long NO_KEY_SEQ = 0L;
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public long next(String key) {
+		if (key == null) {
+			return NO_KEY_SEQ;
+		}
+		// LAST_INSERT_ID(expr) 는 커넥션마다 따로 기억되므로 다른 트랜잭션의 값과 섞이지 않는다
+		jdbcTemplate.update("INSERT INTO " + OutboxKeySequence.TABLE + " (message_key, last_seq)"
+			+ " VALUES (?, LAST_INSERT_ID(1))"
+			+ " ON DUPLICATE KEY UPDATE last_seq = LAST_INSERT_ID(last_seq + 1)", key);
+		return jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID()", Long.class);
+	}
+}
@@ -0,0 +1,215 @@
+package com.eum.lecture_service.event.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.eum.lecture_service.command.entity.outbox.OutboxEvent;
+import com.eum.lecture_service.command.repository.outbox.OutboxEventRepository;
+import com.eum.lecture_service.event.EventHeaders;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * outbox_events 의 미발행 이벤트를 키마다 keySeq(커밋 순서) 순서대로 batch 단위로 Kafka 에 보낸다.
+ * 짧은 트랜잭션에서 보낼 이벤트를 점유(claimedUntil)하고 커밋한 뒤, 트랜잭션 밖에서 보내고
+ * 두 번째 짧은 트랜잭션에서 발행 완료를 표시한다. Kafka ack 를 기다리는 동안 DB 잠금이나 커넥션을 잡지 않는다.
+ * 점유는 MySQL named lock 아래에서만 하고, 다른 relay 가 점유 중인 키는 가져가지 않으므로
+ * 인스턴스가 여러 개여도 같은 키의 이벤트가 순서를 바꿔 나가지 않는다.
+ * batch 는 키마다 한 건씩 묶은 wave 로 나눠 보내고, wave 마다 flush 후 ack 를 기다린다.
+ * 보내기에 실패한 키의 뒤 이벤트는 이번 주기에 보내지 않고 점유를 풀어 다음 주기에 다시 보낸다 (at-least-once).
+ * 다른 키의 이벤트는 계속 발행한다. 표시 전에 멈추면 점유가 만료된 뒤 다시 보낸다.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+	private static final long SEND_TIMEOUT_SECONDS = 10L;
+	private static final String LEADER_LOCK = "lecture-outbox-relay";
+	private static final int MAX_ERROR_LENGTH = 1000;
+
+	private final OutboxEventRepository outboxEventRepository;
+	private final KafkaTemplate<String, Object> kafkaTemplate;
+	private final ObjectMapper objectMapper;
+	private final TransactionTemplate transactionTemplate;
+	private final int batchSize;
+	private final long claimTimeoutMillis;
+
+	public OutboxRelay(OutboxEventRepository outboxEventRepository, KafkaTemplate<String, Object> kafkaTemplate,
+		ObjectMapper objectMapper, TransactionTemplate transactionTemplate,
+		@Value("${lecture.outbox.relay-batch-size:500}") int batchSize,
+		@Value("${lecture.outbox.claim-timeout-ms:60000}") long claimTimeoutMillis) {
+		this.outboxEventRepository = outboxEventRepository;
+		this.kafkaTemplate = kafkaTemplate;
+		this.objectMapper = objectMapper;
+		this.transactionTemplate = transactionTemplate;
+		this.batchSize = batchSize;
+		this.claimTimeoutMillis = claimTimeoutMillis;
+	}
+
+	// 쌓인 이벤트를 batch 가 덜 찰 때까지 연속으로 보낸다
+	public long relayAll() {
+		long relayed = 0L;
+		int published;
+		do {
+			published = relayBatch();
+			relayed += published;
+		} while (published == batchSize);
+		return relayed;
+	}
+
+	public int relayBatch() {
+		List<OutboxEvent> events = claim();
+		if (events.isEmpty()) {
+			return 0;
+		}
+
+		RelayResult result = send(events);
+		transactionTemplate.executeWithoutResult(status -> {
+			LocalDateTime now = LocalDateTime.now();
+			if (!result.publishedIds.isEmpty()) {
+				outboxEventRepository.markPublished(result.publishedIds, now);
+			}
+			result.errors.forEach((id, error) -> outboxEventRepository.markFailed(id, error, now));
+			if (!result.unsentIds.isEmpty()) {
+				outboxEventRepository.releaseClaims(result.unsentIds);
+			}
+		});
+		return result.publishedIds.size();
+	}
+
+	// named lock 은 보낼 이벤트를 고르고 점유하는 동안만 잡는다. 다른 인스턴스가 잡고 있으면 이번 주기는 건너뛴다
+	private List<OutboxEvent> claim() {
+		List<OutboxEvent> claimed = transactionTemplate.execute(status -> {
+			if (!Integer.valueOf(1).equals(outboxEventRepository.acquireNamedLock(LEADER_LOCK))) {
+				return List.of();
+			}
+			try {
+				LocalDateTime now = LocalDateTime.now();
+				Set<String> claimedKeys = new HashSet<>(outboxEventRepository.findClaimedKeys(now));
+				List<OutboxEvent> events = outboxEventRepository.findClaimable(now, PageRequest.of(0, batchSize))
+					.stream()
+					.filter(event -> event.getMessageKey() == null || !claimedKeys.contains(event.getMessageKey()))
+					.toList();
+				if (!events.isEmpty()) {
+					outboxEventRepository.claim(events.stream().map(OutboxEvent::getOutboxEventId).toList(),
+						now.plus(Duration.ofMillis(claimTimeoutMillis)));
+				}
+				return events;
+			} finally {
+				outboxEventRepository.releaseNamedLock(LEADER_LOCK);
+			}
+		});
+		return claimed == null ? List.of() : claimed;
+	}
+
+	private RelayResult send(List<OutboxEvent> events) {
+		RelayResult result = new RelayResult();
+		Set<String> failedKeys = new HashSet<>();
+		List<OutboxEvent> pending = events;
+		while (!pending.isEmpty()) {
+			List<OutboxEvent> wave = new ArrayList<>();
+			List<OutboxEvent> deferred = new ArrayList<>();
+			Set<String> waveKeys = new HashSet<>();
+			for (OutboxEvent event : pending) {
+				String key = event.getMessageKey();
+				if (key != null && failedKeys.contains(key)) {
+					result.unsentIds.add(event.getOutboxEventId());
+					continue;
+				}
+				// 같은 키의 다음 이벤트는 앞 이벤트의 ack 를 확인한 뒤 다음 wave 에서 보낸다
+				if (key != null && !waveKeys.add(key)) {
+					deferred.add(event);
+					continue;
+				}
+				wave.add(event);
+			}
+
+			List<CompletableFuture<SendResult<String, Object>>> futures = new ArrayList<>(wave.size());
+			for (OutboxEvent event : wave) {
+				futures.add(send(event, result));
+			}
+			kafkaTemplate.flush();
+
+			for (int i = 0; i < wave.size(); i++) {
+				OutboxEvent event = wave.get(i);
+				CompletableFuture<SendResult<String, Object>> future = futures.get(i);
+				if (future != null && awaitSent(event, future)) {
+					result.publishedIds.add(event.getOutboxEventId());
+					continue;
+				}
+				// 역직렬화에 실패한 이벤트도 키를 막아, 그 뒤 이벤트가 이번 주기에 앞질러 나가지 않게 한다
+				if (future != null) {
+					result.unsentIds.add(event.getOutboxEventId());
+				}
+				if (event.getMessageKey() != null) {
+					failedKeys.add(event.getMessageKey());
+				}
+			}
+			pending = deferred;
+		}
+		return result;
+	}
+
+	private CompletableFuture<SendResult<String, Object>> send(OutboxEvent event, RelayResult result) {
+		Object payload;
+		try {
+			payload = objectMapper.readValue(event.getPayload(), Class.forName(event.getPayloadType()));
+		} catch (Exception e) {
+			// 역직렬화할 수 없는 이벤트는 다시 시도해도 실패하므로 발행하지 않은 채로 실패 상태를 남긴다
+			log.error("outbox 이벤트 역직렬화 실패. id: {}, type: {}", event.getOutboxEventId(), event.getPayloadType(), e);
+			result.errors.put(event.getOutboxEventId(), abbreviate(String.valueOf(e)));
+			return null;
+		}
+		// 레코드 타임스탬프와 헤더 모두 relay 시각이 아닌 커맨드 시각을 쓴다
+		long producedAt = EventHeaders.toEpochMillis(event.getCreatedAt());
+		ProducerRecord<String, Object> record = new ProducerRecord<>(event.getTopic(), null, producedAt,
+			event.getMessageKey(), payload);
+		EventHeaders.putProducedAt(record.headers(), producedAt);
+		EventHeaders.putEventId(record.headers(), event.getOutboxEventId());
+		return kafkaTemplate.send(record);
+	}
+
+	private String abbreviate(String error) {
+		return error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+	}
+
+	private boolean awaitSent(OutboxEvent event, CompletableFuture<SendResult<String, Object>> future) {
+		try {
+			future.get(SEND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		} catch (Exception e) {
+			log.warn("outbox 이벤트 발행 실패, 다음 주기에 재시도. id: {}, topic: {}",
+				event.getOutboxEventId(), event.getTopic(), e);
+			return false;
+		}
+	}
+
+	private static final class RelayResult {
+
+		private final List<Long> publishedIds = new ArrayList<>();
+		// 보내지 못해 점유를 풀고 다음 주기에 다시 보낼 이벤트
+		private final List<Long> unsentIds = new ArrayList<>();
+		// 역직렬화에 실패한 이벤트 id -> 오류
+		private final Map<Long, String> errors = new LinkedHashMap<>();
+	}
+}
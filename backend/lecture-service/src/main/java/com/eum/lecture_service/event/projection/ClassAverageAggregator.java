@@ -0,0 +1,135 @@
+package com.eum.lecture_service.event.projection;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import com.eum.lecture_service.query.document.TeacherOverviewModel;
+import com.eum.lecture_service.query.document.studentInfo.StudentScores;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * TeacherOverviewModel.classAverageScores 를 학생 한 명의 점수 변화량만으로 갱신한다.
+ * 합계와 인원은 classScoreTotals 에 누적하고, 평균은 같은 update 파이프라인 안에서 다시 계산한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClassAverageAggregator {
+
+	private static final String TOTALS = "classScoreTotals";
+	private static final String AVERAGES = "classAverageScores";
+
+	private final MongoTemplate mongoTemplate;
+
+	public void applyStudentScoreChange(Long lectureId, StudentScores before, StudentScores after) {
+		apply(lectureId, new ClassScoreDelta().add(before, after));
+	}
+
+	public void apply(Long lectureId, ClassScoreDelta delta) {
+		if (delta.isEmpty()) {
+			return;
+		}
+
+		Document increments = new Document();
+		appendDelta(increments, "homework", delta.getHomeworkScoreSum(), delta.getHomeworkCount());
+		appendDelta(increments, "exam", delta.getExamScoreSum(), delta.getExamCount());
+		appendDelta(increments, "attitude", delta.getAttitudeScoreSum(), delta.getAttitudeCount());
+
+		long matched = mongoTemplate.updateFirst(
+			Query.query(Criteria.where("_id").is(generateTeacherOverviewId(lectureId)).and(TOTALS).exists(true)),
+			pipeline(new Document("$set", increments), averagesStage()),
+			TeacherOverviewModel.class).getMatchedCount();
+
+		// 누적값이 아직 없는 문서는 현재 students 배열 기준으로 한 번 채운다 (이미 이번 변경이 반영된 상태)
+		if (matched == 0) {
+			reconcile(lectureId);
+		}
+	}
+
+	public void reconcile(Long lectureId) {
+		mongoTemplate.updateFirst(
+			Query.query(Criteria.where("_id").is(generateTeacherOverviewId(lectureId))),
+			reconcilePipeline(),
+			TeacherOverviewModel.class);
+	}
+
+	public void reconcile(Collection<Long> lectureIds) {
+		if (lectureIds.isEmpty()) {
+			return;
+		}
+		List<String> teacherOverviewIds = lectureIds.stream()
+			.map(this::generateTeacherOverviewId)
+			.toList();
+		mongoTemplate.updateMulti(
+			Query.query(Criteria.where("_id").in(teacherOverviewIds)),
+			reconcilePipeline(),
+			TeacherOverviewModel.class);
+	}
+
+	public long reconcileAll() {
+		long modified = mongoTemplate.updateMulti(new Query(), reconcilePipeline(), TeacherOverviewModel.class)
+			.getModifiedCount();
+		log.info("학급 평균 재계산 완료, 변경된 TeacherOverviewModel: {}", modified);
+		return modified;
+	}
+
+	private void appendDelta(Document increments, String prefix, double sumDelta, long countDelta) {
+		increments.append(TOTALS + "." + prefix + "ScoreSum", add(TOTALS + "." + prefix + "ScoreSum", sumDelta));
+		increments.append(TOTALS + "." + prefix + "Count", add(TOTALS + "." + prefix + "Count", countDelta));
+	}
+
+	// students 배열 전체로 합계를 다시 구한다. 서버에서 원자적으로 실행되므로 동시에 들어온 증분과 어긋나지 않는다
+	private AggregationUpdate reconcilePipeline() {
+		Document totals = new Document();
+		for (String prefix : List.of("homework", "exam", "attitude")) {
+			String scores = "$students.studentScores." + prefix + "AvgScore";
+			totals.append(TOTALS + "." + prefix + "ScoreSum", new Document("$sum", scores));
+			totals.append(TOTALS + "." + prefix + "Count", new Document("$size", new Document("$filter",
+				new Document("input", new Document("$ifNull", List.of(scores, List.of())))
+					.append("cond", new Document("$ne", Arrays.asList("$$this", null))))));
+		}
+		return pipeline(new Document("$set", totals), averagesStage());
+	}
+
+	private Document averagesStage() {
+		return new Document("$set", new Document()
+			.append(AVERAGES + ".homeworkAvgScore", average("homework", 0.0))
+			.append(AVERAGES + ".examAvgScore", average("exam", 0.0))
+			.append(AVERAGES + ".attitudeAvgScore", average("attitude", 100.0)));
+	}
+
+	private Document average(String prefix, double defaultScore) {
+		String sum = "$" + TOTALS + "." + prefix + "ScoreSum";
+		String count = "$" + TOTALS + "." + prefix + "Count";
+		return new Document("$cond", List.of(
+			new Document("$gt", List.of(count, 0)),
+			new Document("$divide", List.of(sum, count)),
+			defaultScore));
+	}
+
+	private Document add(String field, Number delta) {
+		return new Document("$add", List.of(new Document("$ifNull", List.of("$" + field, 0)), delta));
+	}
+
+	private AggregationUpdate pipeline(Document... stages) {
+		List<AggregationOperation> operations = Arrays.stream(stages)
+			.map(stage -> (AggregationOperation)context -> stage)
+			.toList();
+		return AggregationUpdate.from(operations);
+	}
+
+	private String generateTeacherOverviewId(Long lectureId) {
+		return "teacher-overview-" + lectureId;
+	}
+}
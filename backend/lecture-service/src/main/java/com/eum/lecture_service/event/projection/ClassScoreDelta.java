@@ -0,0 +1,50 @@
+package com.eum.lecture_service.event.projection;
+
+import java.util.function.Function;
+
+import com.eum.lecture_service.query.document.studentInfo.StudentScores;
+
+import lombok.Getter;
+
+/**
+ * 한 강의에서 여러 학생의 점수 변경을 모아 classScoreTotals 에 더할 합계/인원 변화량으로 합친다.
+ */
+@Getter
+public class ClassScoreDelta {
+
+	private double homeworkScoreSum;
+	private long homeworkCount;
+	private double examScoreSum;
+	private long examCount;
+	private double attitudeScoreSum;
+	private long attitudeCount;
+	private boolean empty = true;
+
+	public ClassScoreDelta add(StudentScores before, StudentScores after) {
+		homeworkScoreSum += scoreDelta(before, after, StudentScores::getHomeworkAvgScore);
+		homeworkCount += countDelta(before, after, StudentScores::getHomeworkAvgScore);
+		examScoreSum += scoreDelta(before, after, StudentScores::getExamAvgScore);
+		examCount += countDelta(before, after, StudentScores::getExamAvgScore);
+		attitudeScoreSum += scoreDelta(before, after, StudentScores::getAttitudeAvgScore);
+		attitudeCount += countDelta(before, after, StudentScores::getAttitudeAvgScore);
+		empty = false;
+		return this;
+	}
+
+	private double scoreDelta(StudentScores before, StudentScores after, Function<StudentScores, Double> score) {
+		return scoreOf(after, score) - scoreOf(before, score);
+	}
+
+	private long countDelta(StudentScores before, StudentScores after, Function<StudentScores, Double> score) {
+		return countOf(after, score) - countOf(before, score);
+	}
+
+	private double scoreOf(StudentScores scores, Function<StudentScores, Double> score) {
+		Double value = scores != null ? score.apply(scores) : null;
+		return value != null ? value : 0.0;
+	}
+
+	private long countOf(StudentScores scores, Function<StudentScores, Double> score) {
+		return scores != null && score.apply(scores) != null ? 1 : 0;
+	}
+}
@@ -0,0 +1,230 @@
+package com.eum.lecture_service.event.projection;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import com.eum.lecture_service.query.document.LectureModel;
+import com.eum.lecture_service.query.document.StudentHomeworkDashboardModel;
+import com.eum.lecture_service.query.document.StudentSubmissionModel;
+import com.eum.lecture_service.query.document.eventModel.StudentModel;
+import com.eum.lecture_service.query.document.lectureInfo.HomeworkInfo;
+import com.eum.lecture_service.query.document.studentInfo.AssessmentType;
+import com.eum.lecture_service.query.document.studentInfo.DashboardHomeworkInfo;
+import com.eum.lecture_service.query.document.studentInfo.HomeworkSubmissionInfo;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * student_homework_dashboard 를 숙제/강의/제출 이벤트로 갱신한다.
+ * 숙제 생성은 학급 학생 전체 문서에, 제출은 해당 학생 문서에만 반영된다.
+ * 문서는 학생 가입, 숙제 생성, 제출 때 없으면 $setOnInsert 로 만들고, 이후 변경은 모두 필드 단위 update 로 반영한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class HomeworkDashboardProjection {
+
+	private static final String HOMEWORKS = "homeworks";
+
+	private final MongoTemplate mongoTemplate;
+
+	public void addHomeworks(List<LectureArrayMutation<HomeworkInfo>> mutations) {
+		Map<Long, LectureModel> lectures = findLectures(mutations.stream()
+			.map(LectureArrayMutation::getLectureId)
+			.collect(Collectors.toSet()));
+		createClassDashboards(lectures.values().stream()
+			.map(LectureModel::getClassId)
+			.collect(Collectors.toSet()));
+		BulkOperations bulkOperations = bulkOps();
+		int operationCount = 0;
+
+		for (LectureArrayMutation<HomeworkInfo> mutation : mutations) {
+			LectureModel lecture = lectures.get(mutation.getLectureId());
+			if (lecture == null) {
+				continue;
+			}
+			Query query = Query.query(Criteria.where("classId").is(lecture.getClassId()));
+			bulkOperations.updateMulti(query, pullHomework(mutation.getItemId()));
+			bulkOperations.updateMulti(query,
+				new Update().push(HOMEWORKS, DashboardHomeworkInfo.of(lecture, mutation.getItem())));
+			operationCount++;
+		}
+
+		execute(bulkOperations, operationCount);
+	}
+
+	// 제출 결과는 그대로 두고 숙제 정보만 바꾼다
+	public void updateHomeworks(List<LectureArrayMutation<HomeworkInfo>> mutations) {
+		BulkOperations bulkOperations = bulkOps();
+
+		for (LectureArrayMutation<HomeworkInfo> mutation : mutations) {
+			HomeworkInfo homework = mutation.getItem();
+			bulkOperations.updateMulti(Query.query(Criteria.where("homeworks.homeworkId").is(mutation.getItemId())),
+				new Update()
+					.set("homeworks.$[h].title", homework.getTitle())
+					.set("homeworks.$[h].startTime", homework.getStartTime())
+					.set("homeworks.$[h].endTime", homework.getEndTime())
+					.set("homeworks.$[h].questions", homework.getQuestions())
+					.filterArray(Criteria.where("h.homeworkId").is(mutation.getItemId())));
+		}
+
+		execute(bulkOperations, mutations.size());
+	}
+
+	public void removeHomeworks(List<LectureArrayMutation<HomeworkInfo>> mutations) {
+		BulkOperations bulkOperations = bulkOps();
+
+		for (LectureArrayMutation<HomeworkInfo> mutation : mutations) {
+			bulkOperations.updateMulti(Query.query(Criteria.where("homeworks.homeworkId").is(mutation.getItemId())),
+				pullHomework(mutation.getItemId()));
+		}
+
+		execute(bulkOperations, mutations.size());
+	}
+
+	public void applySubmissions(List<StudentSubmissionModel> submissions) {
+		createSubmitterDashboards(submissions);
+		BulkOperations bulkOperations = bulkOps();
+
+		for (StudentSubmissionModel submission : submissions) {
+			HomeworkSubmissionInfo homeworkSubmission = submission.getHomeworkSubmission();
+			bulkOperations.updateOne(Query.query(Criteria.where("_id").is(submission.getStudentId())),
+				new Update()
+					.set("homeworks.$[h].score", homeworkSubmission.getScore())
+					.set("homeworks.$[h].correctCount", homeworkSubmission.getCorrectCount())
+					.set("homeworks.$[h].totalCount", homeworkSubmission.getTotalCount())
+					.set("homeworks.$[h].isComplete", homeworkSubmission.getIsComplete())
+					.filterArray(Criteria.where("h.homeworkId").is(submission.getAssessmentId())));
+		}
+
+		execute(bulkOperations, submissions.size());
+	}
+
+	public void updateLecture(LectureModel lecture) {
+		mongoTemplate.updateMulti(Query.query(Criteria.where("classId").is(lecture.getClassId())),
+			new Update()
+				.set("homeworks.$[h].subject", lecture.getSubject())
+				.set("homeworks.$[h].backgroundColor", lecture.getBackgroundColor())
+				.set("homeworks.$[h].fontColor", lecture.getFontColor())
+				.filterArray(Criteria.where("h.lectureId").is(lecture.getLectureId())),
+			StudentHomeworkDashboardModel.class);
+	}
+
+	public void removeLecture(Long classId, Long lectureId) {
+		mongoTemplate.updateMulti(Query.query(Criteria.where("classId").is(classId)),
+			new Update().pull(HOMEWORKS, new Document("lectureId", lectureId)),
+			StudentHomeworkDashboardModel.class);
+	}
+
+	/**
+	 * 대시보드 문서가 없는 학생의 문서를 반의 강의 숙제와 학생의 제출 결과로 채워 만든다.
+	 * $setOnInsert 로만 쓰므로 그 사이 다른 이벤트가 먼저 만든 문서는 건드리지 않고,
+	 * 각 이벤트는 문서가 있음을 확인한 뒤 자기 변경을 필드 단위로 반영하므로 변경이 사라지지 않는다.
+	 */
+	public void createDashboards(Long classId, Collection<Long> studentIds) {
+		if (classId == null || studentIds.isEmpty()) {
+			return;
+		}
+
+		Query existingQuery = Query.query(Criteria.where("_id").in(studentIds));
+		existingQuery.fields().include("_id");
+		Set<Long> missingStudentIds = new LinkedHashSet<>(studentIds);
+		mongoTemplate.find(existingQuery, StudentHomeworkDashboardModel.class)
+			.forEach(dashboard -> missingStudentIds.remove(dashboard.getStudentId()));
+		if (missingStudentIds.isEmpty()) {
+			return;
+		}
+
+		Query lectureQuery = Query.query(Criteria.where("classId").is(classId));
+		lectureQuery.fields().include("classId", "subject", "backgroundColor", "fontColor", HOMEWORKS);
+		List<LectureModel> lectures = mongoTemplate.find(lectureQuery, LectureModel.class);
+		Map<Long, Map<Long, HomeworkSubmissionInfo>> submissionsByStudent = findHomeworkSubmissions(missingStudentIds);
+
+		BulkOperations bulkOperations = bulkOps();
+		for (Long studentId : missingStudentIds) {
+			bulkOperations.upsert(Query.query(Criteria.where("_id").is(studentId)), new Update()
+				.setOnInsert("classId", classId)
+				.setOnInsert(HOMEWORKS, DashboardHomeworkInfo.listOf(lectures,
+					submissionsByStudent.getOrDefault(studentId, Map.of()))));
+		}
+		bulkOperations.execute();
+	}
+
+	private void createClassDashboards(Collection<Long> classIds) {
+		if (classIds.isEmpty()) {
+			return;
+		}
+		Query query = Query.query(Criteria.where("classId").in(classIds));
+		query.fields().include("classId");
+
+		mongoTemplate.find(query, StudentModel.class).stream()
+			.collect(Collectors.groupingBy(StudentModel::getClassId,
+				Collectors.mapping(StudentModel::getStudentId, Collectors.toList())))
+			.forEach(this::createDashboards);
+	}
+
+	private void createSubmitterDashboards(List<StudentSubmissionModel> submissions) {
+		Map<Long, LectureModel> lectures = findLectures(submissions.stream()
+			.map(StudentSubmissionModel::getLectureId)
+			.collect(Collectors.toSet()));
+
+		Map<Long, Set<Long>> studentIdsByClass = new LinkedHashMap<>();
+		for (StudentSubmissionModel submission : submissions) {
+			LectureModel lecture = lectures.get(submission.getLectureId());
+			if (lecture != null && lecture.getClassId() != null) {
+				studentIdsByClass.computeIfAbsent(lecture.getClassId(), id -> new LinkedHashSet<>())
+					.add(submission.getStudentId());
+			}
+		}
+		studentIdsByClass.forEach(this::createDashboards);
+	}
+
+	private Map<Long, Map<Long, HomeworkSubmissionInfo>> findHomeworkSubmissions(Collection<Long> studentIds) {
+		Query query = Query.query(Criteria.where("studentId").in(studentIds)
+			.and("assessmentType").is(AssessmentType.HOMEWORK));
+		query.fields().exclude("homeworkSubmission.problemSubmissions");
+
+		Map<Long, Map<Long, HomeworkSubmissionInfo>> submissionsByStudent = new HashMap<>();
+		for (StudentSubmissionModel submission : mongoTemplate.find(query, StudentSubmissionModel.class)) {
+			submissionsByStudent.computeIfAbsent(submission.getStudentId(), id -> new HashMap<>())
+				.putIfAbsent(submission.getAssessmentId(), submission.getHomeworkSubmission());
+		}
+		return submissionsByStudent;
+	}
+
+	private Map<Long, LectureModel> findLectures(Set<Long> lectureIds) {
+		Query query = Query.query(Criteria.where("_id").in(lectureIds));
+		query.fields().include("classId", "subject", "backgroundColor", "fontColor");
+
+		return mongoTemplate.find(query, LectureModel.class).stream()
+			.collect(Collectors.toMap(LectureModel::getLectureId, Function.identity()));
+	}
+
+	private Update pullHomework(Long homeworkId) {
+		return new Update().pull(HOMEWORKS, new Document("homeworkId", homeworkId));
+	}
+
+	private BulkOperations bulkOps() {
+		return mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, StudentHomeworkDashboardModel.class);
+	}
+
+	private void execute(BulkOperations bulkOperations, int operationCount) {
+		if (operationCount > 0) {
+			bulkOperations.execute();
+		}
+	}
+}
@@ -0,0 +1,54 @@
+package com.eum.lecture_service.event.projection;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiConsumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 배치 리스너가 키별로 묶은 작업을 서로 다른 키끼리는 병렬로, 같은 키 안에서는 순서대로 실행한다.
+ * 모든 작업이 끝난 뒤에 반환하므로 오프셋 커밋은 배치 전체가 반영된 이후에 일어난다.
+ */
+@Component
+public class KeyOrderedExecutor {
+
+	private final ExecutorService executorService;
+
+	public KeyOrderedExecutor(@Value("${lecture.projection.parallelism:8}") int parallelism) {
+		this.executorService = Executors.newFixedThreadPool(parallelism, new CustomizableThreadFactory("projection-"));
+	}
+
+	public <K, V> void executeByKey(Map<K, V> tasksByKey, BiConsumer<K, V> task) {
+		if (tasksByKey.size() <= 1) {
+			tasksByKey.forEach(task);
+			return;
+		}
+
+		List<CompletableFuture<Void>> futures = tasksByKey.entrySet().stream()
+			.map(entry -> CompletableFuture.runAsync(() -> task.accept(entry.getKey(), entry.getValue()), executorService))
+			.toList();
+
+		try {
+			CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executorService.shutdown();
+	}
+}
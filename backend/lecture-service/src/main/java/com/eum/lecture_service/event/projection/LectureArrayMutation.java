@@ -0,0 +1,26 @@
+package com.eum.lecture_service.event.projection;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * LectureModel 의 하위 목록(homeworks, exams, lessons, notices) 중 한 항목에 대한 변경.
+ * item 이 null 이면 삭제를 의미한다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class LectureArrayMutation<T> {
+
+	private final Long lectureId;
+	private final Long itemId;
+	private final T item;
+
+	public static <T> LectureArrayMutation<T> upsert(Long lectureId, Long itemId, T item) {
+		return new LectureArrayMutation<>(lectureId, itemId, item);
+	}
+
+	public static <T> LectureArrayMutation<T> remove(Long lectureId, Long itemId) {
+		return new LectureArrayMutation<>(lectureId, itemId, null);
+	}
+}
@@ -0,0 +1,104 @@
+package com.eum.lecture_service.event.projection;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import com.eum.lecture_service.query.document.LectureModel;
+import com.mongodb.bulk.BulkWriteResult;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 배치로 받은 LectureModel 하위 목록 변경을 강의별로 합친 뒤 한 번의 bulk write 로 반영한다.
+ * 문서를 읽어 전체를 저장하지 않고 항목 단위 연산만 보낸다. 삭제는 $pull, 생성/수정은 항목이 없을 때만 $push 한 뒤
+ * arrayFilters 로 해당 항목을 $set 하므로 같은 강의에 대한 다른 변경을 덮어쓰지 않고, 재전송되어도 중복되지 않는다.
+ * 같은 항목에 대한 생성/수정/삭제가 한 배치에 섞여 있으면 마지막 상태 하나로 합쳐진다.
+ * 아직 LectureModel 이 없는 강의(순서가 뒤바뀐 이벤트)는 돌려주어 호출한 리스너가 재시도 토픽으로 보내게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LectureModelProjection {
+
+	private final MongoTemplate mongoTemplate;
+
+	/**
+	 * @return LectureModel 을 찾지 못해 반영하지 못한 lectureId
+	 */
+	public <T> Set<Long> apply(String arrayField, String idField, List<LectureArrayMutation<T>> mutations) {
+		if (mutations.isEmpty()) {
+			return Set.of();
+		}
+
+		// 강의별 항목의 최종 상태 (null 이면 삭제)
+		Map<Long, Map<Long, T>> finalItems = new LinkedHashMap<>();
+		for (LectureArrayMutation<T> mutation : mutations) {
+			finalItems.computeIfAbsent(mutation.getLectureId(), id -> new LinkedHashMap<>())
+				.put(mutation.getItemId(), mutation.getItem());
+		}
+
+		BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, LectureModel.class);
+		// 모든 연산의 필터에 _id 가 들어가므로 전부 매칭되면 모든 강의가 있다는 뜻이다
+		// $push 는 항목이 이미 있으면 매칭되지 않으므로, 덜 매칭된 경우에만 실제로 없는 강의를 조회한다
+		int operationCount = 0;
+		for (Map.Entry<Long, Map<Long, T>> entry : finalItems.entrySet()) {
+			Query lectureQuery = Query.query(Criteria.where("_id").is(entry.getKey()));
+
+			List<Long> removedIds = new ArrayList<>();
+			for (Map.Entry<Long, T> item : entry.getValue().entrySet()) {
+				if (item.getValue() == null) {
+					removedIds.add(item.getKey());
+					continue;
+				}
+
+				bulkOperations.updateOne(
+					Query.query(Criteria.where("_id").is(entry.getKey()).and(arrayField + "." + idField).ne(item.getKey())),
+					new Update().push(arrayField, item.getValue()));
+				bulkOperations.updateOne(lectureQuery, new Update()
+					.set(arrayField + ".$[item]", item.getValue())
+					.filterArray(Criteria.where("item." + idField).is(item.getKey())));
+				operationCount += 2;
+			}
+
+			if (!removedIds.isEmpty()) {
+				bulkOperations.updateOne(lectureQuery,
+					new Update().pull(arrayField, new Document(idField, new Document("$in", removedIds))));
+				operationCount++;
+			}
+		}
+
+		BulkWriteResult result = bulkOperations.execute();
+		if (result.getMatchedCount() >= operationCount) {
+			return Set.of();
+		}
+
+		Set<Long> missingLectureIds = findMissingLectureIds(finalItems.keySet());
+		if (missingLectureIds.isEmpty()) {
+			return Set.of();
+		}
+		log.warn("LectureModel 을 찾지 못한 변경이 있습니다. field: {}, lectureIds: {}", arrayField, missingLectureIds);
+		return missingLectureIds;
+	}
+
+	private Set<Long> findMissingLectureIds(Set<Long> lectureIds) {
+		Query query = Query.query(Criteria.where("_id").in(lectureIds));
+		query.fields().include("_id");
+
+		Set<Long> missing = new HashSet<>(lectureIds);
+		mongoTemplate.find(query, LectureModel.class).forEach(lecture -> missing.remove(lecture.getLectureId()));
+		return missing;
+	}
+}
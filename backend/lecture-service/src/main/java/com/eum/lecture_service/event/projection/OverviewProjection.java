@@ -0,0 +1,505 @@
+package com.eum.lecture_service.event.projection;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.ArithmeticOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import org.springframework.stereotype.Component;
+
+import com.eum.lecture_service.config.exception.ErrorCode;
+import com.eum.lecture_service.config.exception.EumException;
+import com.eum.lecture_service.query.document.LectureModel;
+import com.eum.lecture_service.query.document.StudentOverviewModel;
+import com.eum.lecture_service.query.document.StudentSubmissionModel;
+import com.eum.lecture_service.query.document.TeacherOverviewModel;
+import com.eum.lecture_service.query.document.studentInfo.AssessmentType;
+import com.eum.lecture_service.query.document.studentInfo.ExamSubmissionInfo;
+import com.eum.lecture_service.query.document.studentInfo.HomeworkSubmissionInfo;
+import com.eum.lecture_service.query.document.studentInfo.ScoreTotals;
+import com.eum.lecture_service.query.document.studentInfo.StudentScores;
+import com.eum.lecture_service.query.document.teacherInfo.ClassAverageScores;
+import com.eum.lecture_service.query.document.teacherInfo.StudentInfo;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * StudentOverviewModel / TeacherOverviewModel 을 문서 전체 save 대신 Mongo update 연산자로 갱신한다.
+ * 같은 강의에 대한 이벤트가 동시에 처리되어도 서로의 변경을 덮어쓰지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OverviewProjection {
+
+	private static final double DEFAULT_ATTITUDE_SCORE = 100.0;
+
+	private final MongoTemplate mongoTemplate;
+	private final ClassAverageAggregator classAverageAggregator;
+	private final HomeworkDashboardProjection homeworkDashboardProjection;
+	private final QuestionStatsProjection questionStatsProjection;
+	private final MeterRegistry meterRegistry;
+
+	public Set<Long> applyHomeworkSubmissions(Long lectureId,
+		Map<Long, List<HomeworkSubmissionInfo>> submissionsByStudent) {
+		return applySubmissions(lectureId, AssessmentType.HOMEWORK, submissionsByStudent.entrySet().stream()
+			.flatMap(entry -> entry.getValue().stream()
+				.map(submission -> StudentSubmissionModel.ofHomework(entry.getKey(), lectureId, submission)))
+			.toList());
+	}
+
+	public Set<Long> applyExamSubmissions(Long lectureId, Map<Long, List<ExamSubmissionInfo>> submissionsByStudent) {
+		return applySubmissions(lectureId, AssessmentType.EXAM, submissionsByStudent.entrySet().stream()
+			.flatMap(entry -> entry.getValue().stream()
+				.map(submission -> StudentSubmissionModel.ofExam(entry.getKey(), lectureId, submission)))
+			.toList());
+	}
+
+	// 배치로 받은 한 강의의 제출을 student_submissions 에 upsert 한 뒤 학생별로 합쳐 학생당 한 번씩 집계를 갱신하고
+	// 학급 평균은 마지막에 한 번 반영한다. 집계에 더해졌는지는 제출 문서의 totalsApplied 로 판단하므로
+	// upsert 뒤에 실패해도 재시도 때 아직 더해지지 않은 제출만 다시 더한다 (재전송된 이벤트는 다시 집계하지 않는다)
+	// 문항 통계는 statsApplied 가 표시되지 않은 제출만 문제별로 합쳐 한 번에 더한 뒤 표시한다
+	// 집계하지 못한 학생은 반환해 재시도 토픽으로 보낸다
+	private Set<Long> applySubmissions(Long lectureId, AssessmentType assessmentType,
+		List<StudentSubmissionModel> submissions) {
+		if (submissions.isEmpty()) {
+			return Set.of();
+		}
+
+		upsertSubmissions(submissions);
+		if (assessmentType == AssessmentType.HOMEWORK) {
+			homeworkDashboardProjection.applySubmissions(submissions);
+		}
+
+		Map<Long, List<StudentSubmissionModel>> submissionsByStudent = new LinkedHashMap<>();
+		for (StudentSubmissionModel submission : submissions) {
+			submissionsByStudent.computeIfAbsent(submission.getStudentId(), id -> new ArrayList<>()).add(submission);
+		}
+		Set<String> statsPendingIds = findStatsPendingIds(submissions);
+
+		ClassScoreDelta classScoreDelta = new ClassScoreDelta();
+		QuestionStatsDelta questionStatsDelta = new QuestionStatsDelta();
+		List<String> statsAppliedIds = new ArrayList<>();
+		Set<Long> failedStudentIds = new LinkedHashSet<>();
+		boolean replayed = false;
+		for (Map.Entry<Long, List<StudentSubmissionModel>> entry : submissionsByStudent.entrySet()) {
+			Long studentId = entry.getKey();
+			try {
+				replayed |= !applyStudentSubmissions(studentId, lectureId, assessmentType, entry.getValue(),
+					classScoreDelta);
+			} catch (RuntimeException e) {
+				log.warn("제출을 반영하지 못해 재시도합니다. studentId: {}, lectureId: {}, type: {}", studentId, lectureId,
+					assessmentType, e);
+				failedStudentIds.add(studentId);
+				continue;
+			}
+			List<StudentSubmissionModel> statsPending = entry.getValue().stream()
+				.filter(submission -> statsPendingIds.contains(submission.getId()))
+				.toList();
+			questionStatsDelta.addAll(statsPending);
+			statsPending.forEach(submission -> statsAppliedIds.add(submission.getId()));
+		}
+
+		classAverageAggregator.apply(lectureId, classScoreDelta);
+		// 이전 시도가 학생 점수까지만 반영하고 멈췄다면 학급 평균 변화량이 빠졌을 수 있으므로 students 기준으로 다시 맞춘다
+		if (replayed) {
+			classAverageAggregator.reconcile(lectureId);
+		}
+		questionStatsProjection.apply(questionStatsDelta);
+		markStatsApplied(statsAppliedIds);
+		return failedStudentIds;
+	}
+
+	// 문서 전체를 바꾸지 않고 제출 필드만 $set 으로 덮어써 statsApplied / totalsApplied 표시는 그대로 둔다
+	private void upsertSubmissions(List<StudentSubmissionModel> submissions) {
+		BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED,
+			StudentSubmissionModel.class);
+		for (StudentSubmissionModel submission : submissions) {
+			Document document = new Document();
+			mongoTemplate.getConverter().write(submission, document);
+
+			Update update = new Update();
+			document.forEach((key, value) -> {
+				if (!"_id".equals(key)) {
+					update.set(key, value);
+				}
+			});
+			bulkOperations.upsert(Query.query(Criteria.where("_id").is(submission.getId())), update);
+		}
+		bulkOperations.execute();
+	}
+
+	private Set<String> findStatsPendingIds(List<StudentSubmissionModel> submissions) {
+		Query query = Query.query(Criteria.where("_id").in(submissions.stream()
+				.map(StudentSubmissionModel::getId)
+				.toList())
+			.and("statsApplied").ne(true));
+		query.fields().include("_id");
+
+		return mongoTemplate.find(query, StudentSubmissionModel.class).stream()
+			.map(StudentSubmissionModel::getId)
+			.collect(Collectors.toSet());
+	}
+
+	private void markStatsApplied(List<String> submissionIds) {
+		if (submissionIds.isEmpty()) {
+			return;
+		}
+		mongoTemplate.updateMulti(Query.query(Criteria.where("_id").in(submissionIds)),
+			new Update().set("statsApplied", true), StudentSubmissionModel.class);
+	}
+
+	private Set<String> findTotalsPendingIds(List<String> submissionIds) {
+		Query query = Query.query(Criteria.where("_id").in(submissionIds).and("totalsApplied").ne(true));
+		query.fields().include("_id");
+
+		return mongoTemplate.find(query, StudentSubmissionModel.class).stream()
+			.map(StudentSubmissionModel::getId)
+			.collect(Collectors.toSet());
+	}
+
+	private void markTotalsApplied(Collection<String> submissionIds) {
+		if (submissionIds == null || submissionIds.isEmpty()) {
+			return;
+		}
+		mongoTemplate.updateMulti(Query.query(Criteria.where("_id").in(submissionIds).and("totalsApplied").ne(true)),
+			new Update().set("totalsApplied", true), StudentSubmissionModel.class);
+	}
+
+	// totalsApplied 가 표시되지 않은 제출만 더한다. 더할 것이 없었으면(재시도) false 를 돌려준다
+	// 교사 화면 점수는 버전으로 보호되므로 재시도 때도 항상 다시 반영한다
+	private boolean applyStudentSubmissions(Long studentId, Long lectureId, AssessmentType assessmentType,
+		List<StudentSubmissionModel> submissions, ClassScoreDelta classScoreDelta) {
+		String prefix = assessmentType == AssessmentType.HOMEWORK ? "homework" : "exam";
+		String studentOverviewId = generateStudentOverviewId(studentId, lectureId);
+		List<String> submissionIds = submissions.stream().map(StudentSubmissionModel::getId).toList();
+
+		StudentOverviewModel current = findStudentOverview(studentOverviewId);
+		if (current != null && current.getLastAppliedSubmissionIds() == null) {
+			initializeScoreTotals(studentOverviewId, studentId, lectureId, submissionIds);
+			current = findStudentOverview(studentOverviewId);
+		}
+		if (current == null) {
+			throw new EumException(ErrorCode.STUDENT_NOT_FOUND);
+		}
+
+		// 이전 시도가 집계를 더한 뒤 제출에 표시하기 전에 멈췄다면 그 제출을 먼저 표시해 다시 더하지 않는다
+		List<String> lastAppliedIds = current.getLastAppliedSubmissionIds();
+		markTotalsApplied(lastAppliedIds);
+		Set<String> pendingIds = findTotalsPendingIds(submissionIds);
+		List<StudentSubmissionModel> toApply = submissions.stream()
+			.filter(submission -> pendingIds.contains(submission.getId()))
+			.toList();
+
+		StudentOverviewModel updated = current;
+		if (!toApply.isEmpty()) {
+			updated = incrementSubmissions(studentOverviewId, prefix, toApply, lastAppliedIds);
+			markTotalsApplied(updated.getLastAppliedSubmissionIds());
+		}
+
+		ScoreTotals totals = updated.getScoreTotals();
+		Long count = assessmentType == AssessmentType.HOMEWORK
+			? totals.getHomeworkCompletedCount() : totals.getExamCompletedCount();
+		Double sum = assessmentType == AssessmentType.HOMEWORK
+			? totals.getHomeworkScoreSum() : totals.getExamScoreSum();
+		if (count != null && count > 0) {
+			setStudentAverage(updated.getId(), prefix + "AvgScore", prefix + "CompletedCount", count, average(sum, count));
+		}
+
+		updateTeacherStudentScores(studentId, lectureId, toStudentScores(updated), totals.getVersion(), classScoreDelta);
+		return !toApply.isEmpty();
+	}
+
+	// 집계 증가와 lastAppliedSubmissionIds 교체를 한 번의 findAndModify 로 처리한다
+	// 읽어 둔 lastAppliedSubmissionIds 가 그대로일 때만 더하므로, 그 사이 다른 소비자가 먼저 더했다면 null 이 되고
+	// 재시도 때 그 소비자가 더한 제출을 표시한 뒤 남은 제출만 다시 계산한다
+	private StudentOverviewModel incrementSubmissions(String studentOverviewId, String prefix,
+		List<StudentSubmissionModel> toApply, List<String> lastAppliedIds) {
+		double scoreSum = 0.0;
+		long completedCount = 0L;
+		for (StudentSubmissionModel submission : toApply) {
+			if (submission.completed()) {
+				scoreSum += submission.score();
+				completedCount++;
+			}
+		}
+
+		List<String> toApplyIds = toApply.stream().map(StudentSubmissionModel::getId).toList();
+		Update update = new Update()
+			.inc("overview." + prefix + "Count", toApply.size())
+			.inc("scoreTotals.version", 1)
+			.set("lastAppliedSubmissionIds", toApplyIds);
+		if (completedCount > 0) {
+			update.inc("scoreTotals." + prefix + "ScoreSum", scoreSum)
+				.inc("scoreTotals." + prefix + "CompletedCount", completedCount);
+		}
+
+		Query query = Query.query(Criteria.where("_id").is(studentOverviewId)
+			.and("scoreTotals").exists(true)
+			.and("lastAppliedSubmissionIds").is(lastAppliedIds));
+		StudentOverviewModel updated = mongoTemplate.findAndModify(query, update,
+			FindAndModifyOptions.options().returnNew(true), StudentOverviewModel.class);
+		if (updated == null) {
+			throw new IllegalStateException("다른 소비자가 먼저 제출을 반영했습니다. studentOverviewId: " + studentOverviewId);
+		}
+		return updated;
+	}
+
+	private StudentOverviewModel findStudentOverview(String studentOverviewId) {
+		return mongoTemplate.findById(studentOverviewId, StudentOverviewModel.class);
+	}
+
+	// 없는 문서만 만든다. 이미 있는 문서는 건드리지 않으므로 이벤트가 다시 와도 점수가 초기화되지 않는다
+	public void insertStudentOverviews(Collection<StudentOverviewModel> studentOverviews) {
+		if (studentOverviews.isEmpty()) {
+			return;
+		}
+
+		BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED,
+			StudentOverviewModel.class);
+		for (StudentOverviewModel studentOverview : studentOverviews) {
+			Document document = new Document();
+			mongoTemplate.getConverter().write(studentOverview, document);
+
+			Update update = new Update();
+			document.forEach((key, value) -> {
+				if (!"_id".equals(key)) {
+					update.setOnInsert(key, value);
+				}
+			});
+			bulkOperations.upsert(Query.query(Criteria.where("_id").is(studentOverview.getId())), update);
+		}
+		bulkOperations.execute();
+	}
+
+	// 반에 새로 들어온 학생을 그 반 강의들의 TeacherOverviewModel 에 한 번의 bulk write 로 추가한다
+	// 학생이 없던 반의 강의는 TeacherOverviewModel 이 아직 없으므로 먼저 빈 문서를 만든다
+	public void addStudentToLectures(StudentInfo studentInfo, Collection<LectureModel> lectures) {
+		if (lectures.isEmpty()) {
+			return;
+		}
+
+		BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED,
+			TeacherOverviewModel.class);
+		for (LectureModel lecture : lectures) {
+			String teacherOverviewId = generateTeacherOverviewId(lecture.getLectureId());
+			bulkOperations.upsert(Query.query(Criteria.where("_id").is(teacherOverviewId)), new Update()
+				.setOnInsert("teacherId", lecture.getTeacherId())
+				.setOnInsert("lectureId", lecture.getLectureId())
+				.setOnInsert("students", List.of())
+				.setOnInsert("classAverageScores", new ClassAverageScores(0.0, 0.0, 100.0)));
+			bulkOperations.updateOne(
+				Query.query(Criteria.where("_id").is(teacherOverviewId)
+					.and("students.studentId").ne(studentInfo.getStudentId())),
+				new Update().push("students", studentInfo));
+		}
+		bulkOperations.execute();
+	}
+
+	// students.studentId 인덱스로 해당 학생이 속한 TeacherOverviewModel 만 찾아 이미지 필드 하나만 바꾼다
+	public long updateStudentImage(Long studentId, String image) {
+		Timer timer = Timer.builder("lecture.projection.student-image")
+			.description("학생 이미지 변경을 TeacherOverviewModel 에 반영하는 시간")
+			.register(meterRegistry);
+
+		Timer.Sample sample = Timer.start(meterRegistry);
+		try {
+			return mongoTemplate.updateMulti(
+				Query.query(Criteria.where("students.studentId").is(studentId)),
+				new Update()
+					.set("students.$[s].studentImage", image)
+					.filterArray(Criteria.where("s.studentId").is(studentId)),
+				TeacherOverviewModel.class).getModifiedCount();
+		} finally {
+			sample.stop(timer);
+		}
+	}
+
+	// 태도 점수가 아직 없는(null 또는 필드 없음) 문서는 $inc 가 실패하거나 0 에서 시작하므로
+	// 파이프라인 업데이트로 기본값 100 에서 출발해 더한다
+	public void applyAttitudeDelta(Long studentId, Long lectureId, double delta) {
+		AggregationUpdate update = AggregationUpdate.update()
+			.set("studentScores.attitudeAvgScore").toValue(ArithmeticOperators.valueOf(
+				ConditionalOperators.ifNull("studentScores.attitudeAvgScore").then(DEFAULT_ATTITUDE_SCORE)).add(delta))
+			.set("scoreTotals.version").toValue(ArithmeticOperators.valueOf(
+				ConditionalOperators.ifNull("scoreTotals.version").then(0L)).add(1));
+
+		StudentOverviewModel updated = incrementStudentOverview(studentId, lectureId, update);
+
+		ClassScoreDelta classScoreDelta = new ClassScoreDelta();
+		updateTeacherStudentScores(studentId, lectureId, toStudentScores(updated),
+			updated.getScoreTotals().getVersion(), classScoreDelta);
+		classAverageAggregator.apply(lectureId, classScoreDelta);
+	}
+
+	private StudentOverviewModel incrementStudentOverview(Long studentId, Long lectureId, UpdateDefinition update) {
+		String studentOverviewId = generateStudentOverviewId(studentId, lectureId);
+
+		StudentOverviewModel updated = findAndModifyInitialized(studentOverviewId, update);
+		if (updated == null) {
+			initializeScoreTotals(studentOverviewId, studentId, lectureId, List.of());
+			updated = findAndModifyInitialized(studentOverviewId, update);
+		}
+		if (updated == null) {
+			throw new EumException(ErrorCode.STUDENT_NOT_FOUND);
+		}
+		return updated;
+	}
+
+	private StudentOverviewModel findAndModifyInitialized(String studentOverviewId, UpdateDefinition update) {
+		Query query = Query.query(Criteria.where("_id").is(studentOverviewId).and("scoreTotals").exists(true));
+
+		return mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true),
+			StudentOverviewModel.class);
+	}
+
+	// lastAppliedSubmissionIds 가 없는 문서(이전 버전에서 만들어진 문서 포함)는 한 번만 student_submissions 로 개수와 합계를 채운다
+	// 이번에 더해질 제출(pendingSubmissionIds)은 중복 집계되지 않도록 제외하고, 채운 제출은 합계를 쓰기 전에 totalsApplied 로 표시한다
+	// 표시 뒤에 멈춰도 다음 시도가 표시와 관계없이 다시 세어 덮어쓰므로 빠지거나 두 번 더해지지 않는다
+	private void initializeScoreTotals(String studentOverviewId, Long studentId, Long lectureId,
+		List<String> pendingSubmissionIds) {
+		StudentOverviewModel existing = findStudentOverview(studentOverviewId);
+		if (existing == null) {
+			return;
+		}
+
+		Query query = Query.query(Criteria.where("studentId").is(studentId)
+			.and("lectureId").is(lectureId)
+			.and("_id").nin(pendingSubmissionIds));
+		query.fields()
+			.exclude("homeworkSubmission.problemSubmissions")
+			.exclude("examSubmission.problemSubmissions");
+
+		List<String> appliedIds = new ArrayList<>();
+		long homeworkCount = 0L;
+		long examCount = 0L;
+		double homeworkScoreSum = 0.0;
+		long homeworkCompletedCount = 0L;
+		double examScoreSum = 0.0;
+		long examCompletedCount = 0L;
+		for (StudentSubmissionModel submission : mongoTemplate.find(query, StudentSubmissionModel.class)) {
+			appliedIds.add(submission.getId());
+			boolean homework = submission.getAssessmentType() == AssessmentType.HOMEWORK;
+			if (homework) {
+				homeworkCount++;
+			} else {
+				examCount++;
+			}
+			if (!submission.completed()) {
+				continue;
+			}
+			if (homework) {
+				homeworkScoreSum += submission.score();
+				homeworkCompletedCount++;
+			} else {
+				examScoreSum += submission.score();
+				examCompletedCount++;
+			}
+		}
+
+		Update update = new Update()
+			.set("overview.homeworkCount", homeworkCount)
+			.set("overview.examCount", examCount)
+			.set("lastAppliedSubmissionIds", List.of())
+			.unset("appliedSubmissionIds");
+		// 이미 있는 scoreTotals 는 버전을 이어 가야 교사 화면의 점수 갱신이 막히지 않는다
+		if (existing.getScoreTotals() == null) {
+			update.set("scoreTotals", new ScoreTotals(homeworkScoreSum, homeworkCompletedCount, examScoreSum,
+				examCompletedCount, 0L));
+		} else {
+			update.set("scoreTotals.homeworkScoreSum", homeworkScoreSum)
+				.set("scoreTotals.homeworkCompletedCount", homeworkCompletedCount)
+				.set("scoreTotals.examScoreSum", examScoreSum)
+				.set("scoreTotals.examCompletedCount", examCompletedCount)
+				.inc("scoreTotals.version", 1);
+		}
+
+		markTotalsApplied(appliedIds);
+		mongoTemplate.updateFirst(
+			Query.query(Criteria.where("_id").is(studentOverviewId).and("lastAppliedSubmissionIds").exists(false)),
+			update,
+			StudentOverviewModel.class);
+	}
+
+	// 그 사이 다른 제출이 반영되었다면 더 최신 이벤트가 평균을 다시 쓰므로 건너뛴다
+	private void setStudentAverage(String studentOverviewId, String scoreField, String countField, Long count,
+		double average) {
+		mongoTemplate.updateFirst(
+			Query.query(Criteria.where("_id").is(studentOverviewId).and("scoreTotals." + countField).is(count)),
+			new Update().set("studentScores." + scoreField, average),
+			StudentOverviewModel.class);
+	}
+
+	// 변경 전 StudentInfo 를 돌려받아 학급 평균에는 변화량만 반영한다
+	private void updateTeacherStudentScores(Long studentId, Long lectureId, StudentScores studentScores, Long version,
+		ClassScoreDelta classScoreDelta) {
+		Query query = Query.query(Criteria.where("_id").is(generateTeacherOverviewId(lectureId)));
+		query.fields().elemMatch("students", Criteria.where("studentId").is(studentId));
+
+		Update update = new Update()
+			.set("students.$[s].studentScores", studentScores)
+			.set("students.$[s].scoreVersion", version)
+			.filterArray(Criteria.where("s.studentId").is(studentId).and("s.scoreVersion").not().gte(version));
+
+		TeacherOverviewModel before = mongoTemplate.findAndModify(query, update, TeacherOverviewModel.class);
+		if (before == null) {
+			throw new EumException(ErrorCode.TEACHER_NOT_FOUND);
+		}
+		if (before.getStudents() == null || before.getStudents().isEmpty()) {
+			return;
+		}
+
+		StudentInfo previous = before.getStudents().get(0);
+		if (previous.getScoreVersion() != null && previous.getScoreVersion() >= version) {
+			return;
+		}
+		classScoreDelta.add(previous.getStudentScores(), studentScores);
+	}
+
+	private StudentScores toStudentScores(StudentOverviewModel studentOverview) {
+		ScoreTotals totals = studentOverview.getScoreTotals();
+		StudentScores current = studentOverview.getStudentScores();
+		Double attitudeAvgScore = current != null && current.getAttitudeAvgScore() != null
+			? current.getAttitudeAvgScore() : DEFAULT_ATTITUDE_SCORE;
+
+		return new StudentScores(
+			average(totals.getHomeworkScoreSum(), totals.getHomeworkCompletedCount()),
+			average(totals.getExamScoreSum(), totals.getExamCompletedCount()),
+			attitudeAvgScore
+		);
+	}
+
+	private double average(Double sum, Long count) {
+		return count != null && count > 0 ? scoreOf(sum) / count : 0.0;
+	}
+
+	private double scoreOf(Double score) {
+		return score != null ? score : 0.0;
+	}
+
+	private String generateTeacherOverviewId(Long lectureId) {
+		return "teacher-overview-" + lectureId;
+	}
+
+	private String generateStudentOverviewId(Long studentId, Long lectureId) {
+		return "student-overview-" + studentId + "-" + lectureId;
+	}
+}
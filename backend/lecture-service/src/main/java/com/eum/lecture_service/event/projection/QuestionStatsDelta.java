@@ -0,0 +1,81 @@
+package com.eum.lecture_service.event.projection;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.eum.lecture_service.query.document.QuestionStatsModel;
+import com.eum.lecture_service.query.document.StudentSubmissionModel;
+import com.eum.lecture_service.query.document.studentInfo.AssessmentType;
+import com.eum.lecture_service.query.document.studentInfo.ExamProblemSubmissionInfo;
+import com.eum.lecture_service.query.document.studentInfo.HomeworkProblemSubmissionInfo;
+
+/**
+ * 여러 제출의 문제별 응시/정답 수를 (평가, 문제) 마다 하나로 합친다.
+ * 증분 반영에서는 $inc 한 번으로, 재구축에서는 그대로 question_stats 문서로 쓴다.
+ */
+public class QuestionStatsDelta {
+
+	private final Map<String, QuestionStatsModel> statsById = new LinkedHashMap<>();
+
+	public QuestionStatsDelta add(StudentSubmissionModel submission) {
+		String scoreBucket = QuestionStatsModel.scoreBucket(submission.score());
+		if (submission.getAssessmentType() == AssessmentType.HOMEWORK) {
+			List<HomeworkProblemSubmissionInfo> problems = submission.getHomeworkSubmission().getProblemSubmissions();
+			if (problems != null) {
+				problems.forEach(problem -> add(submission, problem.getQuestionId(), problem.getIsCorrect(),
+					scoreBucket));
+			}
+		} else {
+			List<ExamProblemSubmissionInfo> problems = submission.getExamSubmission().getProblemSubmissions();
+			if (problems != null) {
+				problems.forEach(problem -> add(submission, problem.getQuestionId(), problem.getIsCorrect(),
+					scoreBucket));
+			}
+		}
+		return this;
+	}
+
+	public QuestionStatsDelta addAll(Collection<StudentSubmissionModel> submissions) {
+		submissions.forEach(this::add);
+		return this;
+	}
+
+	public Collection<QuestionStatsModel> getStats() {
+		return statsById.values();
+	}
+
+	public boolean isEmpty() {
+		return statsById.isEmpty();
+	}
+
+	private void add(StudentSubmissionModel submission, Long questionId, Boolean isCorrect, String scoreBucket) {
+		if (questionId == null) {
+			return;
+		}
+
+		String id = QuestionStatsModel.generateId(submission.getAssessmentType(), submission.getAssessmentId(),
+			questionId);
+		QuestionStatsModel stats = statsById.computeIfAbsent(id, key -> QuestionStatsModel.builder()
+			.id(key)
+			.lectureId(submission.getLectureId())
+			.assessmentType(submission.getAssessmentType())
+			.assessmentId(submission.getAssessmentId())
+			.questionId(questionId)
+			.attempts(0L)
+			.corrects(0L)
+			.bucketAttempts(new HashMap<>())
+			.bucketCorrects(new HashMap<>())
+			.build());
+
+		long correct = Boolean.TRUE.equals(isCorrect) ? 1L : 0L;
+		stats.setAttempts(stats.getAttempts() + 1);
+		stats.setCorrects(stats.getCorrects() + correct);
+		stats.getBucketAttempts().merge(scoreBucket, 1L, Long::sum);
+		if (correct > 0) {
+			stats.getBucketCorrects().merge(scoreBucket, correct, Long::sum);
+		}
+	}
+}
@@ -0,0 +1,61 @@
+package com.eum.lecture_service.event.projection;
+
+import java.util.Collection;
+
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import com.eum.lecture_service.query.document.QuestionStatsModel;
+import com.eum.lecture_service.query.document.studentInfo.AssessmentType;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * question_stats 를 (평가, 문제) 당 한 번의 $inc upsert 로 갱신한다.
+ * 새로 추가된 제출만 넘겨받으므로 재전송된 이벤트는 다시 더해지지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class QuestionStatsProjection {
+
+	private final MongoTemplate mongoTemplate;
+
+	public void apply(QuestionStatsDelta delta) {
+		if (delta.isEmpty()) {
+			return;
+		}
+
+		BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED,
+			QuestionStatsModel.class);
+		for (QuestionStatsModel stats : delta.getStats()) {
+			Update update = new Update()
+				.setOnInsert("lectureId", stats.getLectureId())
+				.setOnInsert("assessmentType", stats.getAssessmentType())
+				.setOnInsert("assessmentId", stats.getAssessmentId())
+				.setOnInsert("questionId", stats.getQuestionId())
+				.inc("attempts", stats.getAttempts())
+				.inc("corrects", stats.getCorrects());
+			stats.getBucketAttempts().forEach((bucket, count) -> update.inc("bucketAttempts." + bucket, count));
+			stats.getBucketCorrects().forEach((bucket, count) -> update.inc("bucketCorrects." + bucket, count));
+
+			bulkOperations.upsert(Query.query(Criteria.where("_id").is(stats.getId())), update);
+		}
+		bulkOperations.execute();
+	}
+
+	public void removeAssessments(AssessmentType assessmentType, Collection<Long> assessmentIds) {
+		if (assessmentIds.isEmpty()) {
+			return;
+		}
+		mongoTemplate.remove(Query.query(Criteria.where("assessmentType").is(assessmentType)
+			.and("assessmentId").in(assessmentIds)), QuestionStatsModel.class);
+	}
+
+	public void removeLecture(Long lectureId) {
+		mongoTemplate.remove(Query.query(Criteria.where("lectureId").is(lectureId)), QuestionStatsModel.class);
+	}
+}
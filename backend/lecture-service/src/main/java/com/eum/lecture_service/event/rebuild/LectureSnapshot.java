@@ -0,0 +1,27 @@
+package com.eum.lecture_service.event.rebuild;
+
+import java.util.List;
+
+import com.eum.lecture_service.command.entity.exam.Exam;
+import com.eum.lecture_service.command.entity.exam.ExamSubmission;
+import com.eum.lecture_service.command.entity.homework.Homework;
+import com.eum.lecture_service.command.entity.homework.HomeworkSubmission;
+import com.eum.lecture_service.command.entity.lecture.Lecture;
+import com.eum.lecture_service.command.entity.lecture.LectureSchedule;
+import com.eum.lecture_service.command.entity.lecture.Notice;
+import com.eum.lecture_service.command.entity.lesson.Lesson;
+
+/**
+ * 재구축에 필요한 강의 하나의 MySQL 상태. 트랜잭션 안에서 필요한 연관관계를 모두 읽어 둔 엔티티만 담는다
+ */
+public record LectureSnapshot(
+	Lecture lecture,
+	List<LectureSchedule> schedules,
+	List<Notice> notices,
+	List<Homework> homeworks,
+	List<Exam> exams,
+	List<Lesson> lessons,
+	List<HomeworkSubmission> homeworkSubmissions,
+	List<ExamSubmission> examSubmissions
+) {
+}
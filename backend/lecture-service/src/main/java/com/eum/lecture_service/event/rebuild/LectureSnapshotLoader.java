@@ -0,0 +1,97 @@
+package com.eum.lecture_service.event.rebuild;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.eum.lecture_service.command.entity.exam.Exam;
+import com.eum.lecture_service.command.entity.exam.ExamSubmission;
+import com.eum.lecture_service.command.entity.homework.Homework;
+import com.eum.lecture_service.command.entity.homework.HomeworkSubmission;
+import com.eum.lecture_service.command.entity.lecture.Lecture;
+import com.eum.lecture_service.command.entity.lecture.LectureSchedule;
+import com.eum.lecture_service.command.entity.lecture.Notice;
+import com.eum.lecture_service.command.entity.lesson.Lesson;
+import com.eum.lecture_service.command.repository.exam.ExamRepository;
+import com.eum.lecture_service.command.repository.exam.ExamSubmissionRepository;
+import com.eum.lecture_service.command.repository.homework.HomeworkRepository;
+import com.eum.lecture_service.command.repository.homework.HomeworkSubmissionRepository;
+import com.eum.lecture_service.command.repository.lecture.LectureRepository;
+import com.eum.lecture_service.command.repository.lecture.LectureScheduleRepository;
+import com.eum.lecture_service.command.repository.lesson.LessonRepository;
+import com.eum.lecture_service.command.repository.notice.NoticeRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * lectureId 키셋 페이징으로 강의를 묶음 단위로 읽고, 하위 엔티티는 묶음 전체에 대해 종류별로 한 번씩 조회한다.
+ * 반환된 스냅샷은 트랜잭션 밖(병렬 작업)에서 지연 로딩 없이 읽을 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LectureSnapshotLoader {
+
+	private final LectureRepository lectureRepository;
+	private final LectureScheduleRepository lectureScheduleRepository;
+	private final NoticeRepository noticeRepository;
+	private final HomeworkRepository homeworkRepository;
+	private final ExamRepository examRepository;
+	private final LessonRepository lessonRepository;
+	private final HomeworkSubmissionRepository homeworkSubmissionRepository;
+	private final ExamSubmissionRepository examSubmissionRepository;
+
+	@Transactional(readOnly = true)
+	public List<LectureSnapshot> loadChunk(Long afterLectureId, int chunkSize) {
+		List<Lecture> lectures = lectureRepository.findByLectureIdGreaterThanOrderByLectureIdAsc(afterLectureId,
+			PageRequest.of(0, chunkSize));
+		if (lectures.isEmpty()) {
+			return List.of();
+		}
+
+		List<Long> lectureIds = lectures.stream().map(Lecture::getLectureId).toList();
+		Map<Long, List<LectureSchedule>> schedules = groupByLecture(
+			lectureScheduleRepository.findByLectureLectureIdIn(lectureIds),
+			schedule -> schedule.getLecture().getLectureId());
+		Map<Long, List<Notice>> notices = groupByLecture(noticeRepository.findByLectureLectureIdIn(lectureIds),
+			notice -> notice.getLecture().getLectureId());
+		Map<Long, List<Homework>> homeworks = groupByLecture(
+			homeworkRepository.findAllWithQuestionsByLectureIds(lectureIds),
+			homework -> homework.getLecture().getLectureId());
+		Map<Long, List<Exam>> exams = groupByLecture(examRepository.findAllWithQuestionsByLectureIds(lectureIds),
+			exam -> exam.getLecture().getLectureId());
+		Map<Long, List<Lesson>> lessons = groupByLecture(
+			lessonRepository.findAllWithQuestionsByLectureIds(lectureIds),
+			lesson -> lesson.getLecture().getLectureId());
+		Map<Long, List<HomeworkSubmission>> homeworkSubmissions = groupByLecture(
+			homeworkSubmissionRepository.findAllWithProblemSubmissionsByLectureIds(lectureIds),
+			submission -> submission.getHomework().getLecture().getLectureId());
+		Map<Long, List<ExamSubmission>> examSubmissions = groupByLecture(
+			examSubmissionRepository.findAllWithProblemSubmissionsByLectureIds(lectureIds),
+			submission -> submission.getExam().getLecture().getLectureId());
+
+		return lectures.stream()
+			.map(lecture -> {
+				Long lectureId = lecture.getLectureId();
+				return new LectureSnapshot(
+					lecture,
+					schedules.getOrDefault(lectureId, List.of()),
+					notices.getOrDefault(lectureId, List.of()),
+					homeworks.getOrDefault(lectureId, List.of()),
+					exams.getOrDefault(lectureId, List.of()),
+					lessons.getOrDefault(lectureId, List.of()),
+					homeworkSubmissions.getOrDefault(lectureId, List.of()),
+					examSubmissions.getOrDefault(lectureId, List.of()));
+			})
+			.toList();
+	}
+
+	// 지연 로딩 프록시의 식별자만 읽으므로 강의 엔티티를 다시 조회하지 않는다
+	private <T> Map<Long, List<T>> groupByLecture(List<T> entities, Function<T, Long> lectureIdOf) {
+		return entities.stream().collect(Collectors.groupingBy(lectureIdOf));
+	}
+}
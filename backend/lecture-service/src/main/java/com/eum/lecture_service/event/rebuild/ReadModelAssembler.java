@@ -0,0 +1,313 @@
+package com.eum.lecture_service.event.rebuild;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.eum.lecture_service.command.entity.exam.Exam;
+import com.eum.lecture_service.command.entity.exam.ExamProblemSubmission;
+import com.eum.lecture_service.command.entity.exam.ExamQuestion;
+import com.eum.lecture_service.command.entity.exam.ExamSubmission;
+import com.eum.lecture_service.command.entity.homework.Homework;
+import com.eum.lecture_service.command.entity.homework.HomeworkProblemSubmission;
+import com.eum.lecture_service.command.entity.homework.HomeworkQuestion;
+import com.eum.lecture_service.command.entity.homework.HomeworkSubmission;
+import com.eum.lecture_service.command.entity.lecture.Lecture;
+import com.eum.lecture_service.command.entity.lesson.Lesson;
+import com.eum.lecture_service.command.entity.lesson.LessonQuestion;
+import com.eum.lecture_service.event.projection.QuestionStatsDelta;
+import com.eum.lecture_service.query.document.LectureModel;
+import com.eum.lecture_service.query.document.StudentOverviewModel;
+import com.eum.lecture_service.query.document.StudentSubmissionModel;
+import com.eum.lecture_service.query.document.TeacherOverviewModel;
+import com.eum.lecture_service.query.document.eventModel.StudentModel;
+import com.eum.lecture_service.query.document.lectureInfo.ExamInfo;
+import com.eum.lecture_service.query.document.lectureInfo.HomeworkInfo;
+import com.eum.lecture_service.query.document.lectureInfo.LessonInfo;
+import com.eum.lecture_service.query.document.lectureInfo.NoticeInfo;
+import com.eum.lecture_service.query.document.lectureInfo.ScheduleInfo;
+import com.eum.lecture_service.query.document.studentInfo.ExamProblemSubmissionInfo;
+import com.eum.lecture_service.query.document.studentInfo.ExamSubmissionInfo;
+import com.eum.lecture_service.query.document.studentInfo.HomeworkProblemSubmissionInfo;
+import com.eum.lecture_service.query.document.studentInfo.HomeworkSubmissionInfo;
+import com.eum.lecture_service.query.document.studentInfo.Overview;
+import com.eum.lecture_service.query.document.studentInfo.ScoreTotals;
+import com.eum.lecture_service.query.document.studentInfo.StudentScores;
+import com.eum.lecture_service.query.document.teacherInfo.ClassAverageScores;
+import com.eum.lecture_service.query.document.teacherInfo.ClassScoreTotals;
+import com.eum.lecture_service.query.document.teacherInfo.StudentInfo;
+
+/**
+ * LectureSnapshot 한 건으로 강의의 읽기 문서를 만든다. DB 에 접근하지 않으므로 강의별로 병렬 실행해도 된다.
+ * 합계와 평균은 OverviewProjection / ClassAverageAggregator 가 이벤트로 누적하는 값과 같은 규칙으로 계산한다.
+ */
+@Component
+public class ReadModelAssembler {
+
+	private static final double DEFAULT_ATTITUDE_SCORE = 100.0;
+
+	/**
+	 * @param classStudents     강의가 속한 반의 학생
+	 * @param existingOverviews 기존 student_overviews (studentId 기준), MySQL 에 없는 태도 점수와 버전을 이어받는다
+	 */
+	public RebuiltLecture assemble(LectureSnapshot snapshot, List<StudentModel> classStudents,
+		Map<Long, StudentOverviewModel> existingOverviews) {
+		Lecture lecture = snapshot.lecture();
+		Long lectureId = lecture.getLectureId();
+
+		Map<Long, List<HomeworkSubmissionInfo>> homeworkSubmissions = snapshot.homeworkSubmissions().stream()
+			.collect(Collectors.groupingBy(HomeworkSubmission::getStudentId,
+				Collectors.mapping(this::toHomeworkSubmissionInfo, Collectors.toList())));
+		Map<Long, List<ExamSubmissionInfo>> examSubmissions = snapshot.examSubmissions().stream()
+			.collect(Collectors.groupingBy(ExamSubmission::getStudentId,
+				Collectors.mapping(this::toExamSubmissionInfo, Collectors.toList())));
+
+		// 반 학생 외에 제출 기록이나 기존 overview 만 남아 있는 학생도 잃지 않도록 함께 만든다
+		Set<Long> studentIds = new LinkedHashSet<>();
+		classStudents.forEach(student -> studentIds.add(student.getStudentId()));
+		studentIds.addAll(homeworkSubmissions.keySet());
+		studentIds.addAll(examSubmissions.keySet());
+		studentIds.addAll(existingOverviews.keySet());
+
+		List<StudentOverviewModel> studentOverviews = new ArrayList<>();
+		List<StudentSubmissionModel> submissions = new ArrayList<>();
+		for (Long studentId : studentIds) {
+			List<HomeworkSubmissionInfo> homeworks = homeworkSubmissions.getOrDefault(studentId, List.of());
+			List<ExamSubmissionInfo> exams = examSubmissions.getOrDefault(studentId, List.of());
+			// 재구축한 문항 통계와 학생 집계에 바로 더해지므로 둘 다 반영 완료로 표시한다
+			homeworks.forEach(info -> submissions.add(applied(StudentSubmissionModel.ofHomework(studentId,
+				lectureId, info))));
+			exams.forEach(info -> submissions.add(applied(StudentSubmissionModel.ofExam(studentId, lectureId,
+				info))));
+			studentOverviews.add(toStudentOverview(studentId, lectureId, homeworks, exams,
+				existingOverviews.get(studentId)));
+		}
+
+		Map<Long, StudentOverviewModel> overviewsByStudent = studentOverviews.stream()
+			.collect(Collectors.toMap(StudentOverviewModel::getStudentId, overview -> overview));
+		List<StudentInfo> studentInfos = classStudents.stream()
+			.map(student -> toStudentInfo(student, overviewsByStudent.get(student.getStudentId())))
+			.toList();
+
+		return new RebuiltLecture(toLectureModel(snapshot), toTeacherOverview(lecture, studentInfos),
+			studentOverviews, submissions, List.copyOf(new QuestionStatsDelta().addAll(submissions).getStats()));
+	}
+
+	private LectureModel toLectureModel(LectureSnapshot snapshot) {
+		Lecture lecture = snapshot.lecture();
+		return LectureModel.builder()
+			.lectureId(lecture.getLectureId())
+			.title(lecture.getTitle())
+			.subject(lecture.getSubject())
+			.introduction(lecture.getIntroduction())
+			.backgroundColor(lecture.getBackgroundColor())
+			.fontColor(lecture.getFontColor())
+			.year(lecture.getYear())
+			.semester(lecture.getSemester())
+			.classId(lecture.getClassId())
+			.teacherId(lecture.getTeacherId())
+			.lectureStatus(lecture.getLectureStatus())
+			.schedule(snapshot.schedules().stream()
+				.map(schedule -> ScheduleInfo.builder()
+					.day(schedule.getDay())
+					.period(schedule.getPeriod())
+					.build())
+				.collect(Collectors.toCollection(ArrayList::new)))
+			.notices(snapshot.notices().stream()
+				.map(notice -> NoticeInfo.builder()
+					.noticeId(notice.getNoticeId())
+					.title(notice.getTitle())
+					.content(notice.getContent())
+					.createdAt(notice.getCreatedAt())
+					.build())
+				.collect(Collectors.toCollection(ArrayList::new)))
+			.homeworks(snapshot.homeworks().stream()
+				.map(this::toHomeworkInfo)
+				.collect(Collectors.toCollection(ArrayList::new)))
+			.exams(snapshot.exams().stream()
+				.map(this::toExamInfo)
+				.collect(Collectors.toCollection(ArrayList::new)))
+			.lessons(snapshot.lessons().stream()
+				.map(this::toLessonInfo)
+				.collect(Collectors.toCollection(ArrayList::new)))
+			.build();
+	}
+
+	private HomeworkInfo toHomeworkInfo(Homework homework) {
+		return HomeworkInfo.builder()
+			.homeworkId(homework.getHomeworkId())
+			.title(homework.getTitle())
+			.startTime(homework.getStartTime())
+			.endTime(homework.getEndTime())
+			.questions(homework.getHomeworkQuestions().stream().map(HomeworkQuestion::getQuestionId).toList())
+			.build();
+	}
+
+	private ExamInfo toExamInfo(Exam exam) {
+		return ExamInfo.builder()
+			.examId(exam.getExamId())
+			.title(exam.getTitle())
+			.startTime(exam.getStartTime())
+			.endTime(exam.getEndTime())
+			.questions(exam.getExamQuestions().stream().map(ExamQuestion::getQuestionId).toList())
+			.build();
+	}
+
+	private LessonInfo toLessonInfo(Lesson lesson) {
+		return LessonInfo.builder()
+			.lessonId(lesson.getLessonId())
+			.title(lesson.getTitle())
+			.questions(lesson.getLessonQuestions().stream().map(LessonQuestion::getQuestionId).toList())
+			.build();
+	}
+
+	private HomeworkSubmissionInfo toHomeworkSubmissionInfo(HomeworkSubmission submission) {
+		List<HomeworkProblemSubmissionInfo> problemSubmissions = new ArrayList<>();
+		if (submission.getHomeworkProblemSubmissions() != null) {
+			for (HomeworkProblemSubmission problem : submission.getHomeworkProblemSubmissions()) {
+				problemSubmissions.add(new HomeworkProblemSubmissionInfo(
+					problem.getHomeworkProblemSubmissionId(),
+					problem.getQuestionId(),
+					problem.getIsCorrect(),
+					problem.getHomeworkSolution()));
+			}
+		}
+
+		return new HomeworkSubmissionInfo(
+			submission.getHomeworkSubmissionId(),
+			submission.getHomework().getHomeworkId(),
+			submission.getScore(),
+			submission.getCorrectCount(),
+			submission.getTotalCount(),
+			submission.getIsCompleted(),
+			problemSubmissions
+		);
+	}
+
+	private ExamSubmissionInfo toExamSubmissionInfo(ExamSubmission submission) {
+		List<ExamProblemSubmissionInfo> problemSubmissions = new ArrayList<>();
+		if (submission.getExamProblemSubmissions() != null) {
+			for (ExamProblemSubmission problem : submission.getExamProblemSubmissions()) {
+				problemSubmissions.add(new ExamProblemSubmissionInfo(
+					problem.getExamProblemSubmissionId(),
+					problem.getQuestionId(),
+					problem.getIsCorrect(),
+					problem.getExamSolution()));
+			}
+		}
+
+		return new ExamSubmissionInfo(
+			submission.getExamSubmissionId(),
+			submission.getExam().getExamId(),
+			submission.getScore(),
+			submission.getCorrectCount(),
+			submission.getTotalCount(),
+			submission.getIsCompleted(),
+			problemSubmissions
+		);
+	}
+
+	private StudentOverviewModel toStudentOverview(Long studentId, Long lectureId,
+		List<HomeworkSubmissionInfo> homeworks, List<ExamSubmissionInfo> exams, StudentOverviewModel existing) {
+		double homeworkScoreSum = 0.0;
+		long homeworkCompletedCount = 0L;
+		for (HomeworkSubmissionInfo homework : homeworks) {
+			if (Boolean.TRUE.equals(homework.getIsComplete())) {
+				homeworkScoreSum += scoreOf(homework.getScore());
+				homeworkCompletedCount++;
+			}
+		}
+		double examScoreSum = 0.0;
+		long examCompletedCount = 0L;
+		for (ExamSubmissionInfo exam : exams) {
+			if (Boolean.TRUE.equals(exam.getIsCompleted())) {
+				examScoreSum += scoreOf(exam.getScore());
+				examCompletedCount++;
+			}
+		}
+
+		// 재구축 전 값보다 큰 버전을 주어야 이후 이벤트의 점수 갱신이 TeacherOverviewModel 에 그대로 반영된다
+		Long previousVersion = existing != null && existing.getScoreTotals() != null
+			? existing.getScoreTotals().getVersion() : null;
+		long version = previousVersion != null ? previousVersion + 1 : 1L;
+		Double attitudeAvgScore = existing != null && existing.getStudentScores() != null
+			&& existing.getStudentScores().getAttitudeAvgScore() != null
+			? existing.getStudentScores().getAttitudeAvgScore() : DEFAULT_ATTITUDE_SCORE;
+
+		return StudentOverviewModel.builder()
+			.id(generateStudentOverviewId(studentId, lectureId))
+			.studentId(studentId)
+			.lectureId(lectureId)
+			.overview(new Overview((long)homeworks.size(), (long)exams.size(), null))
+			.studentScores(new StudentScores(
+				average(homeworkScoreSum, homeworkCompletedCount),
+				average(examScoreSum, examCompletedCount),
+				attitudeAvgScore))
+			.scoreTotals(new ScoreTotals(homeworkScoreSum, homeworkCompletedCount, examScoreSum,
+				examCompletedCount, version))
+			.lastAppliedSubmissionIds(List.of())
+			.build();
+	}
+
+	private StudentSubmissionModel applied(StudentSubmissionModel submission) {
+		submission.setStatsApplied(true);
+		submission.setTotalsApplied(true);
+		return submission;
+	}
+
+	private StudentInfo toStudentInfo(StudentModel student, StudentOverviewModel overview) {
+		return StudentInfo.builder()
+			.studentId(student.getStudentId())
+			.studentName(student.getName())
+			.studentImage(student.getImage())
+			.studentScores(overview.getStudentScores())
+			.scoreVersion(overview.getScoreTotals().getVersion())
+			.build();
+	}
+
+	private TeacherOverviewModel toTeacherOverview(Lecture lecture, List<StudentInfo> studentInfos) {
+		double homeworkScoreSum = 0.0;
+		double examScoreSum = 0.0;
+		double attitudeScoreSum = 0.0;
+		for (StudentInfo studentInfo : studentInfos) {
+			homeworkScoreSum += studentInfo.getStudentScores().getHomeworkAvgScore();
+			examScoreSum += studentInfo.getStudentScores().getExamAvgScore();
+			attitudeScoreSum += studentInfo.getStudentScores().getAttitudeAvgScore();
+		}
+		long count = studentInfos.size();
+
+		return TeacherOverviewModel.builder()
+			.id(generateTeacherOverviewId(lecture.getLectureId()))
+			.teacherId(lecture.getTeacherId())
+			.lectureId(lecture.getLectureId())
+			.students(new ArrayList<>(studentInfos))
+			.classScoreTotals(new ClassScoreTotals(homeworkScoreSum, count, examScoreSum, count, attitudeScoreSum,
+				count))
+			.classAverageScores(new ClassAverageScores(
+				average(homeworkScoreSum, count),
+				average(examScoreSum, count),
+				count > 0 ? attitudeScoreSum / count : DEFAULT_ATTITUDE_SCORE))
+			.build();
+	}
+
+	private double average(double sum, long count) {
+		return count > 0 ? sum / count : 0.0;
+	}
+
+	private double scoreOf(Double score) {
+		return score != null ? score : 0.0;
+	}
+
+	private String generateTeacherOverviewId(Long lectureId) {
+		return "teacher-overview-" + lectureId;
+	}
+
+	private String generateStudentOverviewId(Long studentId, Long lectureId) {
+		return "student-overview-" + studentId + "-" + lectureId;
+	}
+}
@@ -0,0 +1,279 @@
+package com.eum.lecture_service.event.rebuild;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.ConsumerGroupDescription;
+import org.apache.kafka.clients.admin.MemberDescription;
+import org.apache.kafka.common.ConsumerGroupState;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import com.eum.lecture_service.event.projection.HomeworkDashboardProjection;
+import com.eum.lecture_service.query.document.LectureModel;
+import com.eum.lecture_service.query.document.QuestionStatsModel;
+import com.eum.lecture_service.query.document.StudentHomeworkDashboardModel;
+import com.eum.lecture_service.query.document.StudentOverviewModel;
+import com.eum.lecture_service.query.document.StudentSubmissionModel;
+import com.eum.lecture_service.query.document.TeacherOverviewModel;
+import com.eum.lecture_service.query.document.eventModel.StudentModel;
+import com.mongodb.MongoNamespace;
+import com.mongodb.client.model.RenameCollectionOptions;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * MySQL 의 명령 모델을 기준으로 lectures / teacher_overviews / student_overviews / student_submissions / question_stats 를
+ * 다시 만든다.
+ * 강의 묶음마다 문서를 ForkJoinPool 에서 강의 단위로 병렬 생성해 "_rebuild" 섀도 컬렉션에 순서 없는 bulk insert 로 쓰고,
+ * 모두 끝나면 섀도 컬렉션을 renameCollection(dropTarget) 으로 교체한다.
+ * 교체는 컬렉션마다 원자적이며, 재구축 동안에는 Kafka 리스너를 멈춰 두었다가 교체 후 밀린 이벤트부터 다시 처리한다.
+ * 리스너를 멈출 수 있는 것은 이 인스턴스뿐이므로, 같은 컨슈머 그룹의 파티션을 다른 인스턴스가 잡고 있으면
+ * 시작 전과 교체 직전에 확인해 재구축을 중단한다 (다른 인스턴스를 모두 내린 뒤 실행해야 한다).
+ */
+@Slf4j
+@Component
+public class ReadModelRebuilder {
+
+	private static final String SHADOW_SUFFIX = "_rebuild";
+	private static final List<Class<?>> REBUILT_DOCUMENTS = List.of(
+		LectureModel.class, TeacherOverviewModel.class, StudentOverviewModel.class, StudentSubmissionModel.class,
+		QuestionStatsModel.class);
+	private static final long PAUSE_WAIT_MILLIS = 30_000L;
+	private static final long ADMIN_TIMEOUT_SECONDS = 10L;
+
+	private final LectureSnapshotLoader lectureSnapshotLoader;
+	private final ReadModelAssembler readModelAssembler;
+	private final HomeworkDashboardProjection homeworkDashboardProjection;
+	private final MongoTemplate mongoTemplate;
+	private final KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+	private final KafkaAdmin kafkaAdmin;
+	private final int chunkSize;
+	private final int parallelism;
+
+	public ReadModelRebuilder(LectureSnapshotLoader lectureSnapshotLoader, ReadModelAssembler readModelAssembler,
+		HomeworkDashboardProjection homeworkDashboardProjection, MongoTemplate mongoTemplate, KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry, KafkaAdmin kafkaAdmin,
+		@Value("${lecture.rebuild.chunk-size:200}") int chunkSize,
+		@Value("${lecture.rebuild.parallelism:0}") int parallelism) {
+		this.lectureSnapshotLoader = lectureSnapshotLoader;
+		this.readModelAssembler = readModelAssembler;
+		this.homeworkDashboardProjection = homeworkDashboardProjection;
+		this.mongoTemplate = mongoTemplate;
+		this.kafkaListenerEndpointRegistry = kafkaListenerEndpointRegistry;
+		this.kafkaAdmin = kafkaAdmin;
+		this.chunkSize = chunkSize;
+		this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+	}
+
+	public synchronized void rebuild() {
+		long startedAt = System.currentTimeMillis();
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		try {
+			pauseListeners();
+			ensureSoleConsumer();
+			prepareShadowCollections();
+
+			long lectureCount = 0L;
+			long studentOverviewCount = 0L;
+			long submissionCount = 0L;
+			Long lastLectureId = 0L;
+			List<LectureSnapshot> chunk;
+			while (!(chunk = lectureSnapshotLoader.loadChunk(lastLectureId, chunkSize)).isEmpty()) {
+				List<RebuiltLecture> rebuilt = assemble(pool, chunk);
+				writeShadow(rebuilt);
+
+				lastLectureId = chunk.get(chunk.size() - 1).lecture().getLectureId();
+				lectureCount += rebuilt.size();
+				studentOverviewCount += rebuilt.stream().mapToLong(lecture -> lecture.studentOverviews().size()).sum();
+				submissionCount += rebuilt.stream().mapToLong(lecture -> lecture.submissions().size()).sum();
+			}
+
+			// 재구축 중에 다른 인스턴스가 그룹에 들어와 파티션을 받았다면 그 변경이 교체로 지워지므로 교체하지 않는다
+			ensureSoleConsumer();
+			swapShadowCollections();
+			rebuildHomeworkDashboards();
+
+			log.info("읽기 모델 재구축 완료. lecture: {}, studentOverview: {}, submission: {}, {}ms", lectureCount,
+				studentOverviewCount, submissionCount, System.currentTimeMillis() - startedAt);
+		} finally {
+			pool.shutdown();
+			resumeListeners();
+		}
+	}
+
+	// 숙제 대시보드는 교체된 lectures / student_submissions 로 반마다 다시 만든다
+	private void rebuildHomeworkDashboards() {
+		mongoTemplate.remove(new Query(), StudentHomeworkDashboardModel.class);
+
+		Query query = new Query();
+		query.fields().include("classId");
+		mongoTemplate.find(query, StudentModel.class).stream()
+			.filter(student -> student.getClassId() != null)
+			.collect(Collectors.groupingBy(StudentModel::getClassId,
+				Collectors.mapping(StudentModel::getStudentId, Collectors.toList())))
+			.forEach(homeworkDashboardProjection::createDashboards);
+	}
+
+	private List<RebuiltLecture> assemble(ForkJoinPool pool, List<LectureSnapshot> chunk) {
+		List<Long> lectureIds = chunk.stream().map(snapshot -> snapshot.lecture().getLectureId()).toList();
+		List<Long> classIds = chunk.stream().map(snapshot -> snapshot.lecture().getClassId()).distinct().toList();
+
+		Map<Long, List<StudentModel>> studentsByClass = mongoTemplate.find(
+				Query.query(Criteria.where("classId").in(classIds)), StudentModel.class).stream()
+			.collect(Collectors.groupingBy(StudentModel::getClassId));
+
+		Query overviewQuery = Query.query(Criteria.where("lectureId").in(lectureIds));
+		overviewQuery.fields().include("studentId", "lectureId", "studentScores", "scoreTotals");
+		Map<Long, Map<Long, StudentOverviewModel>> overviewsByLecture = mongoTemplate.find(overviewQuery,
+				StudentOverviewModel.class).stream()
+			.collect(Collectors.groupingBy(StudentOverviewModel::getLectureId,
+				Collectors.toMap(StudentOverviewModel::getStudentId, Function.identity(), (first, second) -> first)));
+
+		// 강의마다 하나의 작업으로 나누어 병렬로 문서를 만든다
+		return pool.submit(() -> chunk.parallelStream()
+				.map(snapshot -> readModelAssembler.assemble(snapshot,
+					studentsByClass.getOrDefault(snapshot.lecture().getClassId(), List.of()),
+					overviewsByLecture.getOrDefault(snapshot.lecture().getLectureId(), Map.of())))
+				.toList())
+			.join();
+	}
+
+	private void writeShadow(List<RebuiltLecture> rebuilt) {
+		insert(LectureModel.class, rebuilt.stream().map(RebuiltLecture::lecture).toList());
+		insert(TeacherOverviewModel.class, rebuilt.stream().map(RebuiltLecture::teacherOverview).toList());
+		insert(StudentOverviewModel.class, rebuilt.stream()
+			.flatMap(lecture -> lecture.studentOverviews().stream())
+			.toList());
+		insert(StudentSubmissionModel.class, rebuilt.stream()
+			.flatMap(lecture -> lecture.submissions().stream())
+			.toList());
+		insert(QuestionStatsModel.class, rebuilt.stream()
+			.flatMap(lecture -> lecture.questionStats().stream())
+			.toList());
+	}
+
+	private void insert(Class<?> documentClass, Collection<?> documents) {
+		if (documents.isEmpty()) {
+			return;
+		}
+		mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, documentClass, shadowCollectionName(documentClass))
+			.insert(new ArrayList<>(documents))
+			.execute();
+	}
+
+	private void prepareShadowCollections() {
+		for (Class<?> documentClass : REBUILT_DOCUMENTS) {
+			String shadowCollectionName = shadowCollectionName(documentClass);
+			mongoTemplate.dropCollection(shadowCollectionName);
+			mongoTemplate.createCollection(shadowCollectionName);
+		}
+	}
+
+	// 인덱스를 섀도 컬렉션에 먼저 만들어 두어야 교체 직후의 이벤트 처리가 느려지지 않는다
+	private void swapShadowCollections() {
+		MongoPersistentEntityIndexResolver resolver = new MongoPersistentEntityIndexResolver(
+			mongoTemplate.getConverter().getMappingContext());
+		String databaseName = mongoTemplate.getDb().getName();
+
+		for (Class<?> documentClass : REBUILT_DOCUMENTS) {
+			String shadowCollectionName = shadowCollectionName(documentClass);
+			IndexOperations indexOperations = mongoTemplate.indexOps(shadowCollectionName);
+			resolver.resolveIndexFor(documentClass).forEach(indexOperations::ensureIndex);
+
+			mongoTemplate.getCollection(shadowCollectionName).renameCollection(
+				new MongoNamespace(databaseName, mongoTemplate.getCollectionName(documentClass)),
+				new RenameCollectionOptions().dropTarget(true));
+		}
+	}
+
+	private String shadowCollectionName(Class<?> documentClass) {
+		return mongoTemplate.getCollectionName(documentClass) + SHADOW_SUFFIX;
+	}
+
+	// pause 는 현재 처리 중인 배치가 끝난 뒤 적용되므로 실제로 멈출 때까지 기다린다
+	// 제한 시간 안에 멈추지 않으면 그 리스너가 쓰는 변경이 교체 때 지워지므로 재구축을 중단한다
+	private void pauseListeners() {
+		Collection<MessageListenerContainer> containers = kafkaListenerEndpointRegistry.getListenerContainers();
+		containers.forEach(MessageListenerContainer::pause);
+
+		long deadline = System.currentTimeMillis() + PAUSE_WAIT_MILLIS;
+		while (containers.stream().anyMatch(container -> container.isRunning() && !container.isContainerPaused())) {
+			if (System.currentTimeMillis() > deadline) {
+				throw new IllegalStateException("Kafka 리스너가 " + PAUSE_WAIT_MILLIS + "ms 안에 멈추지 않아 재구축을 중단합니다.");
+			}
+			try {
+				Thread.sleep(100L);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Kafka 리스너를 멈추는 중에 재구축이 중단되었습니다.", e);
+			}
+		}
+	}
+
+	// pause 는 이 인스턴스의 컨테이너만 멈추므로, 같은 그룹의 다른 인스턴스가 파티션을 하나라도 잡고 있으면
+	// 그 인스턴스가 기존 컬렉션에 쓴 변경이 renameCollection(dropTarget) 으로 사라진다. 이 경우 재구축하지 않는다
+	private void ensureSoleConsumer() {
+		Map<String, Set<TopicPartition>> localAssignments = new HashMap<>();
+		for (MessageListenerContainer container : kafkaListenerEndpointRegistry.getListenerContainers()) {
+			Collection<TopicPartition> assigned = container.getAssignedPartitions();
+			localAssignments.computeIfAbsent(container.getGroupId(), groupId -> new HashSet<>())
+				.addAll(assigned != null ? assigned : List.of());
+		}
+		if (localAssignments.isEmpty()) {
+			return;
+		}
+
+		Map<String, ConsumerGroupDescription> groups;
+		try (AdminClient adminClient = AdminClient.create(kafkaAdmin.getConfigurationProperties())) {
+			groups = adminClient.describeConsumerGroups(localAssignments.keySet())
+				.all()
+				.get(ADMIN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("컨슈머 그룹을 확인하는 중에 재구축이 중단되었습니다.", e);
+		} catch (ExecutionException | TimeoutException e) {
+			throw new IllegalStateException("컨슈머 그룹을 확인하지 못해 재구축을 중단합니다.", e);
+		}
+
+		groups.forEach((groupId, group) -> {
+			if (group.state() != ConsumerGroupState.STABLE) {
+				throw new IllegalStateException("컨슈머 그룹이 리밸런스 중이라 재구축을 중단합니다. groupId: " + groupId);
+			}
+			Set<TopicPartition> local = localAssignments.get(groupId);
+			for (MemberDescription member : group.members()) {
+				for (TopicPartition partition : member.assignment().topicPartitions()) {
+					if (!local.contains(partition)) {
+						throw new IllegalStateException("다른 인스턴스가 컨슈머 그룹에서 소비 중이라 재구축을 중단합니다. groupId: "
+							+ groupId + ", partition: " + partition + ", host: " + member.host());
+					}
+				}
+			}
+		});
+	}
+
+	private void resumeListeners() {
+		kafkaListenerEndpointRegistry.getListenerContainers().forEach(MessageListenerContainer::resume);
+	}
+}
@@ -0,0 +1,21 @@
+package com.eum.lecture_service.event.rebuild;
+
+import java.util.List;
+
+import com.eum.lecture_service.query.document.LectureModel;
+import com.eum.lecture_service.query.document.QuestionStatsModel;
+import com.eum.lecture_service.query.document.StudentOverviewModel;
+import com.eum.lecture_service.query.document.StudentSubmissionModel;
+import com.eum.lecture_service.query.document.TeacherOverviewModel;
+
+/**
+ * 강의 하나에서 만들어지는 읽기 문서 전체
+ */
+public record RebuiltLecture(
+	LectureModel lecture,
+	TeacherOverviewModel teacherOverview,
+	List<StudentOverviewModel> studentOverviews,
+	List<StudentSubmissionModel> submissions,
+	List<QuestionStatsModel> questionStats
+) {
+}
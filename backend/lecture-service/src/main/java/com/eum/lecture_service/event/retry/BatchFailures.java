@@ -0,0 +1,50 @@
+package com.eum.lecture_service.event.retry;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+/**
+ * 배치 리스너에서 일부 (강의, 학생) 또는 일부 강의만 반영에 실패했을 때 배치 안의 첫 실패 위치를 에러 핸들러에 알린다.
+ * 그 앞의 레코드는 커밋되고, 실패한 레코드는 재시도 토픽으로, 뒤의 레코드는 다시 전달된다.
+ * 다시 전달된 레코드는 제출 문서의 totalsApplied 로 이미 더해진 제출을 걸러내므로 두 번 집계되지 않는다.
+ */
+public final class BatchFailures {
+
+	private BatchFailures() {
+	}
+
+	// LectureModel 이 아직 없는 강의에 대한 이벤트. 다시 전달된 항목 변경은 멱등이므로 다시 반영되어도 괜찮다
+	public static <E> void throwFirstMissingLecture(List<E> events, Set<Long> missingLectureIds,
+		Function<E, Long> lectureIdOf) {
+		if (missingLectureIds.isEmpty()) {
+			return;
+		}
+
+		for (int index = 0; index < events.size(); index++) {
+			Long lectureId = lectureIdOf.apply(events.get(index));
+			if (missingLectureIds.contains(lectureId)) {
+				throw new BatchListenerFailedException("강의를 찾을 수 없습니다. lectureId: " + lectureId, index);
+			}
+		}
+	}
+
+	public static <E> void throwFirstFailure(List<E> events, Map<Long, Set<Long>> failedStudentsByLecture,
+		Function<E, Long> lectureIdOf, Function<E, Long> studentIdOf) {
+		if (failedStudentsByLecture.isEmpty()) {
+			return;
+		}
+
+		for (int index = 0; index < events.size(); index++) {
+			E event = events.get(index);
+			Set<Long> failedStudentIds = failedStudentsByLecture.get(lectureIdOf.apply(event));
+			if (failedStudentIds != null && failedStudentIds.contains(studentIdOf.apply(event))) {
+				throw new BatchListenerFailedException("제출 반영 실패. lectureId: " + lectureIdOf.apply(event)
+					+ ", studentId: " + studentIdOf.apply(event), index);
+			}
+		}
+	}
+}
@@ -0,0 +1,205 @@
+package com.eum.lecture_service.event.retry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import com.eum.lecture_service.config.global.KafkaConsumerConfig;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DLT 에 쌓인 레코드를 원인 수정 후 원래 리스너로 다시 흘려보내고, 남은 건수를 lecture.kafka.dlt.depth 로 노출한다.
+ * 어디까지 재처리했는지는 전용 consumer group 의 커밋 위치로 관리하므로 같은 레코드를 두 번 재처리하지 않는다.
+ * 레코드가 또 실패하면 그 파티션은 거기서 멈추고 다음 재처리 때 같은 위치부터 다시 시도한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeadLetterReplayer {
+
+	public static final String REPLAY_GROUP = "lecture-dlt-replay";
+
+	private static final String DEPTH_GAUGE = "lecture.kafka.dlt.depth";
+	private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
+
+	private final ConsumerFactory<Object, Object> consumerFactory;
+	private final KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+	private final RetryDispatcher retryDispatcher;
+	private final MeterRegistry meterRegistry;
+
+	private final Map<String, AtomicLong> depths = new ConcurrentHashMap<>();
+
+	public synchronized ReplayResult replay(String topic, String groupId, int maxRecords) {
+		String deadLetterTopic = RetryTopics.deadLetterTopic(topic, groupId);
+		int replayed = 0;
+		int failed = 0;
+
+		try (Consumer<Object, Object> consumer = createConsumer()) {
+			List<TopicPartition> partitions = partitionsOf(consumer, deadLetterTopic);
+			if (partitions.isEmpty()) {
+				return new ReplayResult(deadLetterTopic, 0, 0, 0L);
+			}
+			consumer.assign(partitions);
+			seekToCommitted(consumer, partitions);
+
+			Set<TopicPartition> stopped = new HashSet<>();
+			Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+			while (replayed < maxRecords && !caughtUp(consumer, endOffsets, stopped)) {
+				ConsumerRecords<Object, Object> records = consumer.poll(POLL_TIMEOUT);
+				if (records.isEmpty()) {
+					break;
+				}
+				for (TopicPartition partition : records.partitions()) {
+					if (stopped.contains(partition)) {
+						continue;
+					}
+					for (ConsumerRecord<Object, Object> record : records.records(partition)) {
+						if (replayed >= maxRecords) {
+							break;
+						}
+						try {
+							retryDispatcher.dispatch(record, consumer);
+						} catch (RuntimeException e) {
+							log.error("DLT 재처리 실패, 파티션을 멈춥니다. topic: {}, offset: {}", partition, record.offset(), e);
+							failed++;
+							stopped.add(partition);
+							consumer.pause(List.of(partition));
+							break;
+						}
+						consumer.commitSync(Map.of(partition, new OffsetAndMetadata(record.offset() + 1)));
+						replayed++;
+					}
+				}
+			}
+
+			long depth = depthOf(consumer, partitions);
+			depthGauge(deadLetterTopic).set(depth);
+			log.info("DLT 재처리 완료. topic: {}, replayed: {}, failed: {}, remaining: {}", deadLetterTopic, replayed,
+				failed, depth);
+			return new ReplayResult(deadLetterTopic, replayed, failed, depth);
+		}
+	}
+
+	// 리스너 (토픽, group) 마다 DLT 하나. 아직 만들어지지 않은 DLT 는 0 으로 본다
+	public synchronized Map<String, Long> refreshDepths() {
+		Map<String, Long> result = new LinkedHashMap<>();
+		try (Consumer<Object, Object> consumer = createConsumer()) {
+			Set<String> existing = consumer.listTopics().keySet();
+			for (String deadLetterTopic : deadLetterTopics()) {
+				long depth = existing.contains(deadLetterTopic)
+					? depthOf(consumer, partitionsOf(consumer, deadLetterTopic))
+					: 0L;
+				depthGauge(deadLetterTopic).set(depth);
+				result.put(deadLetterTopic, depth);
+			}
+		}
+		return result;
+	}
+
+	public List<String> deadLetterTopics() {
+		List<String> topics = new ArrayList<>();
+		for (MessageListenerContainer container : kafkaListenerEndpointRegistry.getListenerContainers()) {
+			String groupId = container.getGroupId();
+			String[] listenerTopics = container.getContainerProperties().getTopics();
+			// 재시도 컨테이너(topicPattern)와 인스턴스별 broadcast group 은 DLT 를 따로 두지 않는다
+			if (listenerTopics == null || KafkaConsumerConfig.isBroadcastGroup(groupId)) {
+				continue;
+			}
+			Arrays.stream(listenerTopics).forEach(topic -> topics.add(RetryTopics.deadLetterTopic(topic, groupId)));
+		}
+		Collections.sort(topics);
+		return topics;
+	}
+
+	private Consumer<Object, Object> createConsumer() {
+		Properties properties = new Properties();
+		properties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+		properties.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+		properties.put("spring.json.use.type.headers", "true");
+		properties.put("spring.json.trusted.packages", "com.eum.lecture_service.*");
+		return consumerFactory.createConsumer(REPLAY_GROUP, null, null, properties);
+	}
+
+	private List<TopicPartition> partitionsOf(Consumer<Object, Object> consumer, String topic) {
+		List<PartitionInfo> infos = consumer.partitionsFor(topic);
+		if (infos == null) {
+			return List.of();
+		}
+		return infos.stream()
+			.map(info -> new TopicPartition(info.topic(), info.partition()))
+			.toList();
+	}
+
+	private void seekToCommitted(Consumer<Object, Object> consumer, List<TopicPartition> partitions) {
+		Map<TopicPartition, OffsetAndMetadata> committed = consumer.committed(Set.copyOf(partitions));
+		Map<TopicPartition, Long> beginnings = consumer.beginningOffsets(partitions);
+		for (TopicPartition partition : partitions) {
+			OffsetAndMetadata offset = committed.get(partition);
+			consumer.seek(partition, offset != null ? offset.offset() : beginnings.get(partition));
+		}
+	}
+
+	private boolean caughtUp(Consumer<Object, Object> consumer, Map<TopicPartition, Long> endOffsets,
+		Set<TopicPartition> stopped) {
+		return endOffsets.entrySet().stream()
+			.allMatch(entry -> stopped.contains(entry.getKey())
+				|| consumer.position(entry.getKey()) >= entry.getValue());
+	}
+
+	// 끝 offset 과 재처리 group 의 커밋 위치(없으면 시작 offset)의 차이
+	private long depthOf(Consumer<Object, Object> consumer, List<TopicPartition> partitions) {
+		if (partitions.isEmpty()) {
+			return 0L;
+		}
+		Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+		Map<TopicPartition, Long> beginnings = consumer.beginningOffsets(partitions);
+		Map<TopicPartition, OffsetAndMetadata> committed = consumer.committed(Set.copyOf(partitions));
+
+		long depth = 0L;
+		for (TopicPartition partition : partitions) {
+			OffsetAndMetadata offset = committed.get(partition);
+			long from = Math.max(offset != null ? offset.offset() : 0L, beginnings.get(partition));
+			depth += Math.max(0L, endOffsets.get(partition) - from);
+		}
+		return depth;
+	}
+
+	private AtomicLong depthGauge(String deadLetterTopic) {
+		return depths.computeIfAbsent(deadLetterTopic, topic -> {
+			AtomicLong depth = new AtomicLong();
+			Gauge.builder(DEPTH_GAUGE, depth, AtomicLong::get)
+				.description("재처리되지 않고 DLT 에 남아 있는 레코드 수")
+				.tag("topic", topic)
+				.register(meterRegistry);
+			return depth;
+		});
+	}
+
+	public record ReplayResult(String deadLetterTopic, int replayed, int failed, long remaining) {
+	}
+}
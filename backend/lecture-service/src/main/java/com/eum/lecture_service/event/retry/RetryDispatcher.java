@@ -0,0 +1,67 @@
+package com.eum.lecture_service.event.retry;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.BatchMessageListener;
+import org.springframework.kafka.listener.MessageListener;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import com.eum.lecture_service.event.consistency.ProjectionCheckpointStore;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 재시도 / DLT 레코드를 원래 (토픽, group) 을 구독하는 리스너에 그대로 전달한다.
+ * 원래 토픽에 다시 발행하면 다른 group 까지 같은 이벤트를 또 받으므로, 컨테이너의 리스너 어댑터를 직접 호출한다.
+ * 배치 리스너에는 레코드 하나짜리 배치로 전달한다.
+ * 컨테이너 인터셉터를 거치지 않으므로 반영이 끝난 이벤트는 원래 group 기준으로 여기서 기록한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RetryDispatcher {
+
+	private final KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+	private final ProjectionCheckpointStore projectionCheckpointStore;
+
+	private final Map<String, Object> listeners = new ConcurrentHashMap<>();
+
+	@SuppressWarnings("unchecked")
+	public void dispatch(ConsumerRecord<Object, Object> record, Consumer<?, ?> consumer) {
+		String topic = RetryTopics.header(record.headers(), RetryTopics.ORIGINAL_TOPIC);
+		String groupId = RetryTopics.header(record.headers(), RetryTopics.ORIGINAL_GROUP);
+		if (topic == null || groupId == null) {
+			throw new IllegalStateException("재시도 헤더가 없는 레코드입니다. topic: " + record.topic());
+		}
+
+		Object listener = listeners.computeIfAbsent(groupId + "/" + topic, key -> findListener(topic, groupId));
+		if (listener instanceof BatchMessageListener<?, ?> batchListener) {
+			((BatchMessageListener<Object, Object>)batchListener).onMessage(List.of(record), null, consumer);
+		} else if (listener instanceof MessageListener<?, ?> recordListener) {
+			((MessageListener<Object, Object>)recordListener).onMessage(record, null, consumer);
+		} else {
+			throw new IllegalStateException("지원하지 않는 리스너입니다. topic: " + topic + ", group: " + groupId);
+		}
+		projectionCheckpointStore.markApplied(groupId, List.of(record));
+	}
+
+	private Object findListener(String topic, String groupId) {
+		return kafkaListenerEndpointRegistry.getListenerContainers().stream()
+			.filter(container -> groupId.equals(container.getGroupId()) && subscribes(container, topic))
+			.map(container -> container.getContainerProperties().getMessageListener())
+			.findFirst()
+			.orElseThrow(() -> new IllegalStateException(
+				"재시도할 리스너가 없습니다. topic: " + topic + ", group: " + groupId));
+	}
+
+	private boolean subscribes(MessageListenerContainer container, String topic) {
+		String[] topics = container.getContainerProperties().getTopics();
+		return topics != null && Arrays.asList(topics).contains(topic);
+	}
+}
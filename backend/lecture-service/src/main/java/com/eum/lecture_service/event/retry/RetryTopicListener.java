@@ -0,0 +1,92 @@
+package com.eum.lecture_service.event.retry;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+import com.eum.lecture_service.config.global.KafkaConsumerConfig;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 재시도 단계마다 별도 컨테이너로 재시도 토픽을 읽어, 지연 시간이 지난 레코드를 원래 리스너에 다시 전달한다.
+ * 아직 때가 안 된 레코드는 그 위치로 되감고 해당 파티션만 pausePartition 으로 멈춘 뒤 남은 시간이 지나면 다시 연다.
+ * (Acknowledgment.nack(Duration) 은 consumer 전체를 멈추므로 같은 컨테이너의 다른 재시도 토픽까지 늦어진다)
+ * 다시 실패하면 공통 에러 핸들러가 다음 단계 토픽 또는 DLT 로 보낸다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RetryTopicListener implements ConsumerSeekAware {
+
+	private static final String PROPERTIES = "spring.json.use.type.headers=true";
+	private static final String TRUSTED_PACKAGES = "spring.json.trusted.packages=com.eum.lecture_service.*";
+	// 처음 실패한 뒤 만들어지는 재시도 토픽을 늦지 않게 구독하도록 메타데이터를 자주 갱신한다
+	private static final String METADATA_MAX_AGE = "metadata.max.age.ms=30000";
+
+	private final RetryDispatcher retryDispatcher;
+	private final KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+	private final TaskScheduler taskScheduler;
+
+	// 멈춘 파티션과 되감은 위치. 같은 poll 에서 이미 받은 그 뒤 레코드는 되감은 위치부터 다시 받으므로 건너뛴다
+	private final Map<TopicPartition, Long> backedOffPartitions = new ConcurrentHashMap<>();
+
+	@KafkaListener(id = RetryTopics.RETRY_LISTENER_ID_PREFIX + "0", topicPattern = ".*\\.retry-0",
+		groupId = "lecture-retry-group", containerFactory = KafkaConsumerConfig.RETRY_LISTENER_CONTAINER_FACTORY,
+		properties = {PROPERTIES, TRUSTED_PACKAGES, METADATA_MAX_AGE})
+	@KafkaListener(id = RetryTopics.RETRY_LISTENER_ID_PREFIX + "1", topicPattern = ".*\\.retry-1",
+		groupId = "lecture-retry-group", containerFactory = KafkaConsumerConfig.RETRY_LISTENER_CONTAINER_FACTORY,
+		properties = {PROPERTIES, TRUSTED_PACKAGES, METADATA_MAX_AGE})
+	@KafkaListener(id = RetryTopics.RETRY_LISTENER_ID_PREFIX + "2", topicPattern = ".*\\.retry-2",
+		groupId = "lecture-retry-group", containerFactory = KafkaConsumerConfig.RETRY_LISTENER_CONTAINER_FACTORY,
+		properties = {PROPERTIES, TRUSTED_PACKAGES, METADATA_MAX_AGE})
+	public void retry(ConsumerRecord<Object, Object> record, Acknowledgment acknowledgment, Consumer<?, ?> consumer) {
+		TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+		Long backedOffAt = backedOffPartitions.get(partition);
+		if (backedOffAt != null) {
+			if (record.offset() > backedOffAt) {
+				return;
+			}
+			backedOffPartitions.remove(partition);
+		}
+
+		long waitMillis = RetryTopics.longHeader(record.headers(), RetryTopics.DUE_AT, 0L) - System.currentTimeMillis();
+		if (waitMillis > 0) {
+			backOff(partition, record.offset(), waitMillis, consumer);
+			return;
+		}
+
+		retryDispatcher.dispatch(record, consumer);
+		acknowledgment.acknowledge();
+	}
+
+	@Override
+	public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+		partitions.forEach(backedOffPartitions::remove);
+	}
+
+	// 리스너는 consumer 스레드에서 호출되므로 여기서 바로 되감을 수 있다
+	private void backOff(TopicPartition partition, long offset, long waitMillis, Consumer<?, ?> consumer) {
+		MessageListenerContainer container = kafkaListenerEndpointRegistry.getListenerContainer(
+			RetryTopics.retryListenerId(partition.topic()));
+		if (container == null) {
+			throw new IllegalStateException("재시도 컨테이너가 없습니다. topic: " + partition.topic());
+		}
+
+		backedOffPartitions.put(partition, offset);
+		consumer.seek(partition, offset);
+		container.pausePartition(partition);
+		taskScheduler.schedule(() -> container.resumePartition(partition), Instant.now().plusMillis(waitMillis));
+	}
+}
@@ -0,0 +1,97 @@
+package com.eum.lecture_service.event.retry;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.support.KafkaUtils;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 처리에 실패한 레코드를 다음 재시도 단계 토픽으로, 단계를 모두 쓰면 DLT 로 보낸다.
+ * 역직렬화/변환 오류는 다시 시도해도 같으므로 바로 DLT 로 보낸다.
+ * 파티션을 지정하지 않아(-1) 같은 키는 재시도 토픽에서도 같은 파티션으로 간다.
+ */
+@Slf4j
+@Component
+public class RetryTopicRouter {
+
+	private static final String RETRY_COUNTER = "lecture.kafka.retry";
+	private static final String DLT_COUNTER = "lecture.kafka.dlt";
+
+	private final MeterRegistry meterRegistry;
+	private final long initialDelayMillis;
+	private final double multiplier;
+
+	public RetryTopicRouter(MeterRegistry meterRegistry,
+		@Value("${lecture.kafka.retry.initial-delay-ms:1000}") long initialDelayMillis,
+		@Value("${lecture.kafka.retry.multiplier:4}") double multiplier) {
+		this.meterRegistry = meterRegistry;
+		this.initialDelayMillis = initialDelayMillis;
+		this.multiplier = multiplier;
+	}
+
+	public TopicPartition destination(ConsumerRecord<?, ?> record, Exception exception) {
+		String topic = originalTopic(record);
+		String groupId = originalGroup(record);
+		int attempt = attempt(record);
+
+		if (!isRetryable(exception) || attempt >= RetryTopics.RETRY_LEVELS) {
+			meterRegistry.counter(DLT_COUNTER, "topic", topic, "group", groupId).increment();
+			log.error("재시도하지 않고 DLT 로 보냅니다. topic: {}, group: {}, attempt: {}, key: {}", topic, groupId,
+				attempt, record.key(), exception);
+			return new TopicPartition(RetryTopics.deadLetterTopic(topic, groupId), -1);
+		}
+
+		meterRegistry.counter(RETRY_COUNTER, "topic", topic, "group", groupId, "attempt", String.valueOf(attempt + 1))
+			.increment();
+		log.warn("처리 실패, 재시도 토픽으로 보냅니다. topic: {}, group: {}, attempt: {}, key: {}, cause: {}", topic,
+			groupId, attempt + 1, record.key(), exception.getMessage());
+		return new TopicPartition(RetryTopics.retryTopic(topic, groupId, attempt), -1);
+	}
+
+	// DeadLetterPublishingRecoverer 가 원래 헤더 뒤에 덧붙이므로 읽을 때는 마지막 값을 쓴다
+	public Headers retryHeaders(ConsumerRecord<?, ?> record, Exception exception) {
+		int attempt = attempt(record);
+		Headers headers = new RecordHeaders();
+		RetryTopics.putHeader(headers, RetryTopics.ORIGINAL_TOPIC, originalTopic(record));
+		RetryTopics.putHeader(headers, RetryTopics.ORIGINAL_GROUP, originalGroup(record));
+		RetryTopics.putHeader(headers, RetryTopics.ATTEMPT, attempt + 1);
+		RetryTopics.putHeader(headers, RetryTopics.DUE_AT, System.currentTimeMillis() + delayMillis(attempt));
+		return headers;
+	}
+
+	public long delayMillis(int level) {
+		return (long)(initialDelayMillis * Math.pow(multiplier, level));
+	}
+
+	private String originalTopic(ConsumerRecord<?, ?> record) {
+		String topic = RetryTopics.header(record.headers(), RetryTopics.ORIGINAL_TOPIC);
+		return topic != null ? topic : record.topic();
+	}
+
+	// 원래 리스너 스레드에서 호출되므로 현재 consumer group 이 곧 원래 group 이다
+	private String originalGroup(ConsumerRecord<?, ?> record) {
+		String groupId = RetryTopics.header(record.headers(), RetryTopics.ORIGINAL_GROUP);
+		return groupId != null ? groupId : KafkaUtils.getConsumerGroupId();
+	}
+
+	private int attempt(ConsumerRecord<?, ?> record) {
+		return (int)RetryTopics.longHeader(record.headers(), RetryTopics.ATTEMPT, 0L);
+	}
+
+	private boolean isRetryable(Throwable exception) {
+		for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+			if (cause instanceof DeserializationException || cause instanceof MessageConversionException) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,63 @@
+package com.eum.lecture_service.event.retry;
+
+import java.nio.charset.StandardCharsets;
+
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+/**
+ * 재시도 / DLT 토픽 이름과 헤더.
+ * 같은 토픽을 여러 consumer group 이 구독하므로 재시도 토픽은 (원래 토픽, group) 마다 따로 두어
+ * 재시도가 실패한 group 의 리스너에게만 다시 전달되게 한다.
+ * 단계마다 지연이 같도록 토픽을 나누므로 한 재시도 토픽 안에서는 먼저 들어온 레코드가 먼저 만료된다.
+ */
+public final class RetryTopics {
+
+	public static final int RETRY_LEVELS = 3;
+
+	public static final String ORIGINAL_TOPIC = "eum-retry-original-topic";
+	public static final String ORIGINAL_GROUP = "eum-retry-original-group";
+	public static final String ATTEMPT = "eum-retry-attempt";
+	public static final String DUE_AT = "eum-retry-due-at";
+	// 재시도 단계별 리스너 id 는 이 접두사 뒤에 단계 번호를 붙인다
+	public static final String RETRY_LISTENER_ID_PREFIX = "lecture-retry-";
+
+	private static final String RETRY_SUFFIX = ".retry-";
+	private static final String DLT_SUFFIX = ".dlt";
+
+	private RetryTopics() {
+	}
+
+	public static String retryTopic(String topic, String groupId, int level) {
+		return topic + "." + groupId + RETRY_SUFFIX + level;
+	}
+
+	public static String retryListenerId(String retryTopic) {
+		return RETRY_LISTENER_ID_PREFIX + retryTopic.substring(retryTopic.lastIndexOf(RETRY_SUFFIX) + RETRY_SUFFIX.length());
+	}
+
+	public static String deadLetterTopic(String topic, String groupId) {
+		return topic + "." + groupId + DLT_SUFFIX;
+	}
+
+	public static String header(Headers headers, String name) {
+		Header header = headers.lastHeader(name);
+		return header == null ? null : new String(header.value(), StandardCharsets.UTF_8);
+	}
+
+	public static long longHeader(Headers headers, String name, long defaultValue) {
+		String value = header(headers, name);
+		if (value == null) {
+			return defaultValue;
+		}
+		try {
+			return Long.parseLong(value);
+		} catch (NumberFormatException e) {
+			return defaultValue;
+		}
+	}
+
+	public static void putHeader(Headers headers, String name, Object value) {
+		headers.add(name, String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,89 @@
+package com.eum.lecture_service.query.cache;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.eum.lecture_service.query.document.eventModel.ClassModel;
+import com.eum.lecture_service.query.document.eventModel.TeacherModel;
+import com.eum.lecture_service.query.repository.ClassReadRepository;
+import com.eum.lecture_service.query.repository.TeacherReadRepository;
+
+/**
+ * 강의 목록 응답에 붙는 ClassModel / TeacherModel 을 메모리에 보관한다.
+ * 캐시에 없는 ID 만 모아 findAllById 한 번으로 채우고, ReferenceDataCacheEventListener 가 인스턴스별 consumer group 으로
+ * 생성/수정 이벤트를 모두 받아 무효화한다. 무효화와 읽기 모델 저장 사이에 다시 채워진 항목은 TTL 로 만료된다.
+ */
+@Component
+public class ReferenceDataCache {
+
+	private static final int MAX_SIZE = 10_000;
+
+	private final ClassReadRepository classReadRepository;
+	private final TeacherReadRepository teacherReadRepository;
+	private final long ttlMillis;
+
+	private final Map<Long, CachedEntry<ClassModel>> classes = new ConcurrentHashMap<>();
+	private final Map<Long, CachedEntry<TeacherModel>> teachers = new ConcurrentHashMap<>();
+
+	public ReferenceDataCache(ClassReadRepository classReadRepository, TeacherReadRepository teacherReadRepository,
+		@Value("${lecture.reference-cache.ttl-seconds:300}") long ttlSeconds) {
+		this.classReadRepository = classReadRepository;
+		this.teacherReadRepository = teacherReadRepository;
+		this.ttlMillis = ttlSeconds * 1000;
+	}
+
+	public Map<Long, ClassModel> getClasses(Collection<Long> classIds) {
+		return resolve(classIds, classes, classReadRepository::findAllById, ClassModel::getClassId);
+	}
+
+	public Map<Long, TeacherModel> getTeachers(Collection<Long> teacherIds) {
+		return resolve(teacherIds, teachers, teacherReadRepository::findAllById, TeacherModel::getTeacherId);
+	}
+
+	public void evictClass(Long classId) {
+		classes.remove(classId);
+	}
+
+	public void evictTeacher(Long teacherId) {
+		teachers.remove(teacherId);
+	}
+
+	private <T> Map<Long, T> resolve(Collection<Long> ids, Map<Long, CachedEntry<T>> cache,
+		Function<Set<Long>, Iterable<T>> loader, Function<T, Long> idOf) {
+		long now = System.currentTimeMillis();
+		Map<Long, T> result = new HashMap<>();
+		Set<Long> missingIds = new LinkedHashSet<>();
+
+		for (Long id : ids) {
+			CachedEntry<T> entry = cache.get(id);
+			if (entry != null && now - entry.loadedAt() < ttlMillis) {
+				result.put(id, entry.value());
+			} else {
+				missingIds.add(id);
+			}
+		}
+
+		if (!missingIds.isEmpty()) {
+			if (cache.size() + missingIds.size() > MAX_SIZE) {
+				cache.clear();
+			}
+			for (T value : loader.apply(missingIds)) {
+				Long id = idOf.apply(value);
+				cache.put(id, new CachedEntry<>(value, now));
+				result.put(id, value);
+			}
+		}
+		return result;
+	}
+
+	private record CachedEntry<T>(T value, long loadedAt) {
+	}
+}
@@ -7,17 +7,23 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import com.eum.lecture_service.common.RoleType;
 import com.eum.lecture_service.config.exception.ErrorCode;
 import com.eum.lecture_service.config.exception.EumException;
 import com.eum.lecture_service.config.global.CommonResponse;
+import com.eum.lecture_service.event.consistency.ConsistencyToken;
+import com.eum.lecture_service.event.consistency.ProjectionCheckpointStore;
+import com.eum.lecture_service.query.document.studentInfo.AssessmentType;
 import com.eum.lecture_service.query.dto.exam.ExamInfoResponse;
 import com.eum.lecture_service.query.dto.exam.ExamProblemSubmissionInfoResponse;
 import com.eum.lecture_service.query.dto.exam.ExamSubmissionInfoResponse;
 import com.eum.lecture_service.query.dto.exam.ExamSubmissionsInfoResponse;
+import com.eum.lecture_service.query.dto.question.QuestionStatsResponse;
 import com.eum.lecture_service.query.service.exam.ExamQueryService;
 import com.eum.lecture_service.query.service.exam.ExamSubmissionQueryService;
+import com.eum.lecture_service.query.service.question.QuestionStatsQueryService;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -29,31 +35,52 @@ public class ExamQueryController {
 
 	private final ExamQueryService examQueryService;
 	private final ExamSubmissionQueryService examSubmissionQueryService;
+	private final QuestionStatsQueryService questionStatsQueryService;
+	private final ProjectionCheckpointStore projectionCheckpointStore;
 
 	@GetMapping("/{lectureId}/{examId}")
-	public CommonResponse<?> getExamDetail(
+	public DeferredResult<CommonResponse<?>> getExamDetail(
 		@RequestHeader("X-MEMBER-ROLE") String role,
 		@RequestHeader("X-MEMBER_ID") Long memberId,
 		@PathVariable Long lectureId,
-		@PathVariable Long examId) {
-
-		ExamInfoResponse response = examQueryService.getExamDetail(lectureId, examId);
-		return CommonResponse.success(response, "시험 상세 조회 성공");
+		@PathVariable Long examId,
+		@RequestHeader(value = ConsistencyToken.HEADER, required = false) String consistencyToken) {
+		return projectionCheckpointStore.afterApplied(lectureId, consistencyToken, () -> {
+			ExamInfoResponse response = examQueryService.getExamDetail(lectureId, examId);
+			return CommonResponse.success(response, "시험 상세 조회 성공");
+		});
 	}
 
 	//특정 시험에 대한 모든 제출 조회
 	@GetMapping("/{lectureId}/{examId}/submissions")
-	public CommonResponse<?> getExamSubmissions(
+	public DeferredResult<CommonResponse<?>> getExamSubmissions(
 		@RequestHeader("X-MEMBER-ROLE") String role,
 		@RequestHeader("X-MEMBER-ID") Long memberId,
 		@PathVariable Long lectureId,
-		@PathVariable Long examId) {
-
+		@PathVariable Long examId,
+		@RequestHeader(value = ConsistencyToken.HEADER, required = false) String consistencyToken) {
 		checkTeacherRole(role);
+		return projectionCheckpointStore.afterApplied(lectureId, consistencyToken, () -> {
+			List<ExamSubmissionsInfoResponse> responses = examSubmissionQueryService.getExamSubmissions(
+				lectureId, examId);
+			return CommonResponse.success(responses, "시험 제출 내역 조회 성공");
+		});
+	}
 
-		List<ExamSubmissionsInfoResponse> responses = examSubmissionQueryService.getExamSubmissions(
-			lectureId, examId);
-		return CommonResponse.success(responses, "시험 제출 내역 조회 성공");
+	// 문항별 정답률 / 점수 구간별 정답 수 조회
+	@GetMapping("/{lectureId}/{examId}/question-stats")
+	public DeferredResult<CommonResponse<?>> getExamQuestionStats(
+		@RequestHeader("X-MEMBER-ROLE") String role,
+		@RequestHeader("X-MEMBER-ID") Long memberId,
+		@PathVariable Long lectureId,
+		@PathVariable Long examId,
+		@RequestHeader(value = ConsistencyToken.HEADER, required = false) String consistencyToken) {
+		checkTeacherRole(role);
+		return projectionCheckpointStore.afterApplied(lectureId, consistencyToken, () -> {
+			List<QuestionStatsResponse> responses = questionStatsQueryService.getQuestionStats(
+				lectureId, AssessmentType.EXAM, examId);
+			return CommonResponse.success(responses, "시험 문항 분석 조회 성공");
+		});
 	}
 
 	//특정 학생의 시험 제출 내역 조회
@@ -7,13 +7,17 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import com.eum.lecture_service.command.service.homework.HomeworkService;
 import com.eum.lecture_service.common.RoleType;
 import com.eum.lecture_service.config.exception.ErrorCode;
 import com.eum.lecture_service.config.exception.EumException;
 import com.eum.lecture_service.config.global.CommonResponse;
+import com.eum.lecture_service.event.consistency.ConsistencyToken;
+import com.eum.lecture_service.event.consistency.ProjectionCheckpointStore;
 import com.eum.lecture_service.query.document.lectureInfo.HomeworkInfo;
+import com.eum.lecture_service.query.document.studentInfo.AssessmentType;
 import com.eum.lecture_service.query.document.studentInfo.HomeworkProblemSubmissionInfo;
 import com.eum.lecture_service.query.document.studentInfo.HomeworkSubmissionInfo;
 import com.eum.lecture_service.query.dto.homework.HomeworkInfoResponse;
@@ -21,8 +25,10 @@ import com.eum.lecture_service.query.dto.homework.HomeworkProblemSubmissionInfoR
 import com.eum.lecture_service.query.dto.homework.HomeworkSubmissionInfoResponse;
 import com.eum.lecture_service.query.dto.homework.HomeworkSubmissionsInfoResponse;
 import com.eum.lecture_service.query.dto.homework.StudentHomeworkResponse;
+import com.eum.lecture_service.query.dto.question.QuestionStatsResponse;
 import com.eum.lecture_service.query.service.homework.HomeworkQueryService;
 import com.eum.lecture_service.query.service.homework.HomeworkSubmissionQueryService;
+import com.eum.lecture_service.query.service.question.QuestionStatsQueryService;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -34,32 +40,53 @@ public class HomeworkQueryController {
 
 	private final HomeworkQueryService homeworkQueryService;
 	private final HomeworkSubmissionQueryService homeworkSubmissionQueryService;
+	private final QuestionStatsQueryService questionStatsQueryService;
+	private final ProjectionCheckpointStore projectionCheckpointStore;
 
 	//숙제 상세 조회
 	@GetMapping("/{lectureId}/{homeworkId}")
-	public CommonResponse<?> getHomeworkDetail(
+	public DeferredResult<CommonResponse<?>> getHomeworkDetail(
 		@RequestHeader("X-MEMBER-ROLE") String role,
 		@RequestHeader("X-MEMBER-ID") Long memberId,
 		@PathVariable Long lectureId,
-		@PathVariable Long homeworkId) {
-
-		HomeworkInfoResponse response = homeworkQueryService.getHomeworkDetail(lectureId, homeworkId);
-		return CommonResponse.success(response, "숙제 상세 조회 성공");
+		@PathVariable Long homeworkId,
+		@RequestHeader(value = ConsistencyToken.HEADER, required = false) String consistencyToken) {
+		return projectionCheckpointStore.afterApplied(lectureId, consistencyToken, () -> {
+			HomeworkInfoResponse response = homeworkQueryService.getHomeworkDetail(lectureId, homeworkId);
+			return CommonResponse.success(response, "숙제 상세 조회 성공");
+		});
 	}
 
 	//특정 숙제에 대한 모든 제출 조회
 	@GetMapping("/{lectureId}/{homeworkId}/submissions")
-	public CommonResponse<?> getHomeworkSubmissions(
+	public DeferredResult<CommonResponse<?>> getHomeworkSubmissions(
 		@RequestHeader("X-MEMBER-ROLE") String role,
 		@RequestHeader("X-MEMBER-ID") Long memberId,
 		@PathVariable Long lectureId,
-		@PathVariable Long homeworkId) {
-
+		@PathVariable Long homeworkId,
+		@RequestHeader(value = ConsistencyToken.HEADER, required = false) String consistencyToken) {
 		checkTeacherRole(role);
+		return projectionCheckpointStore.afterApplied(lectureId, consistencyToken, () -> {
+			List<HomeworkSubmissionsInfoResponse> response = homeworkSubmissionQueryService.getHomeworkSubmissions(
+				lectureId, homeworkId);
+			return CommonResponse.success(response, "숙제 제출 내역 조회 성공");
+		});
+	}
 
-		List<HomeworkSubmissionsInfoResponse> response = homeworkSubmissionQueryService.getHomeworkSubmissions(
-			lectureId, homeworkId);
-		return CommonResponse.success(response, "숙제 제출 내역 조회 성공");
+	// 문항별 정답률 / 점수 구간별 정답 수 조회
+	@GetMapping("/{lectureId}/{homeworkId}/question-stats")
+	public DeferredResult<CommonResponse<?>> getHomeworkQuestionStats(
+		@RequestHeader("X-MEMBER-ROLE") String role,
+		@RequestHeader("X-MEMBER-ID") Long memberId,
+		@PathVariable Long lectureId,
+		@PathVariable Long homeworkId,
+		@RequestHeader(value = ConsistencyToken.HEADER, required = false) String consistencyToken) {
+		checkTeacherRole(role);
+		return projectionCheckpointStore.afterApplied(lectureId, consistencyToken, () -> {
+			List<QuestionStatsResponse> responses = questionStatsQueryService.getQuestionStats(
+				lectureId, AssessmentType.HOMEWORK, homeworkId);
+			return CommonResponse.success(responses, "숙제 문항 분석 조회 성공");
+		});
 	}
 
 	// 특정 학생의 숙제 제출 내역 조회
@@ -9,11 +9,14 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import com.eum.lecture_service.common.RoleType;
 import com.eum.lecture_service.config.exception.ErrorCode;
 import com.eum.lecture_service.config.exception.EumException;
 import com.eum.lecture_service.config.global.CommonResponse;
+import com.eum.lecture_service.event.consistency.ConsistencyToken;
+import com.eum.lecture_service.event.consistency.ProjectionCheckpointStore;
 import com.eum.lecture_service.query.document.eventModel.ClassModel;
 import com.eum.lecture_service.query.dto.lecture.LectureDetailResponse;
 import com.eum.lecture_service.query.dto.lecture.LectureListResponse;
@@ -30,14 +33,18 @@ import lombok.RequiredArgsConstructor;
 public class LectureQueryController {
 
 	private final LectureQueryService lectureQueryService;
+	private final ProjectionCheckpointStore projectionCheckpointStore;
 
 	@GetMapping("/{lectureId}")
-	public CommonResponse<?> getLecture(
+	public DeferredResult<CommonResponse<?>> getLecture(
 		@RequestHeader("X-MEMBER-ROLE") String role,
 		@RequestHeader("X-MEMBER-ID") Long memberId,
-		@PathVariable Long lectureId) {
-		LectureDetailResponse lectureDetail = lectureQueryService.getLectureDetail(role, memberId, lectureId);
-		return CommonResponse.success(lectureDetail, "성공적 조회");
+		@PathVariable Long lectureId,
+		@RequestHeader(value = ConsistencyToken.HEADER, required = false) String consistencyToken) {
+		return projectionCheckpointStore.afterApplied(lectureId, consistencyToken, () -> {
+			LectureDetailResponse lectureDetail = lectureQueryService.getLectureDetail(role, memberId, lectureId);
+			return CommonResponse.success(lectureDetail, "성공적 조회");
+		});
 	}
 
 	@GetMapping
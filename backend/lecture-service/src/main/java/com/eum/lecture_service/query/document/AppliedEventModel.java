@@ -0,0 +1,32 @@
+package com.eum.lecture_service.query.document;
+
+import java.time.Instant;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 읽기 모델에 반영이 끝난 lecture-service 이벤트. id 는 outbox 이벤트 id 이다.
+ * ConsistencyToken 대기에만 쓰므로 대기 시간보다 충분히 긴 시간이 지나면 TTL 인덱스로 지워진다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document(collection = "applied_events")
+public class AppliedEventModel {
+
+	@Id
+	private Long eventId;
+	private Long lectureId;
+	@Indexed(name = "applied_at_ttl", expireAfterSeconds = 600)
+	private Instant appliedAt;
+}
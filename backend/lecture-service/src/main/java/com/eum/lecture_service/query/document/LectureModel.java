@@ -4,6 +4,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import com.eum.lecture_service.query.document.lectureInfo.ExamInfo;
@@ -24,6 +26,14 @@ import lombok.Setter;
 @AllArgsConstructor
 @Builder
 @Document(collection = "lectures")
+@CompoundIndexes({
+	// 반/교사별 요일 시간표 조회, 앞쪽 필드만으로 findByClassId / findByTeacherId 도 처리한다
+	@CompoundIndex(name = "class_schedule_term_idx",
+		def = "{'classId': 1, 'schedule.day': 1, 'year': 1, 'semester': 1}"),
+	@CompoundIndex(name = "teacher_schedule_term_idx",
+		def = "{'teacherId': 1, 'schedule.day': 1, 'year': 1, 'semester': 1}"),
+	@CompoundIndex(name = "term_idx", def = "{'year': 1, 'semester': 1}")
+})
 public class LectureModel {
 
 	@Id
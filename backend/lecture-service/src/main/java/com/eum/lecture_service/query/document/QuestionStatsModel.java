@@ -0,0 +1,58 @@
+package com.eum.lecture_service.query.document;
+
+import java.util.Map;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import com.eum.lecture_service.query.document.studentInfo.AssessmentType;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 숙제/시험 문제 하나의 문항 분석 통계. 제출이 반영될 때 $inc 로만 누적하므로 조회 시 다시 계산하지 않는다.
+ * 점수 구간(scoreBucket) 별 응시/정답 수로 상위권과 하위권의 정답률 차이(변별도)를 볼 수 있다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document(collection = "question_stats")
+@CompoundIndex(name = "lecture_assessment_question_idx",
+	def = "{'lectureId': 1, 'assessmentType': 1, 'assessmentId': 1, 'questionId': 1}")
+public class QuestionStatsModel {
+
+	public static final int SCORE_BUCKET_WIDTH = 10;
+
+	@Id
+	private String id;
+	private Long lectureId;
+	private AssessmentType assessmentType;
+	private Long assessmentId;
+	private Long questionId;
+	private Long attempts;
+	private Long corrects;
+	// 제출 점수 구간의 하한("0", "10", ... "90") -> 그 구간 학생의 응시 / 정답 수
+	private Map<String, Long> bucketAttempts;
+	private Map<String, Long> bucketCorrects;
+
+	public double correctRate() {
+		return attempts == null || attempts == 0L ? 0.0 : (double)(corrects != null ? corrects : 0L) / attempts;
+	}
+
+	// 100점은 90점 구간에 넣는다
+	public static String scoreBucket(double score) {
+		int bucket = (int)Math.floor(Math.max(0.0, score) / SCORE_BUCKET_WIDTH) * SCORE_BUCKET_WIDTH;
+		return String.valueOf(Math.min(bucket, 100 - SCORE_BUCKET_WIDTH));
+	}
+
+	public static String generateId(AssessmentType assessmentType, Long assessmentId, Long questionId) {
+		return "question-stats-" + assessmentType + "-" + assessmentId + "-" + questionId;
+	}
+}
@@ -0,0 +1,37 @@
+package com.eum.lecture_service.query.document;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import com.eum.lecture_service.query.document.studentInfo.DashboardHomeworkInfo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 학생 한 명의 전체 강의 숙제 현황. 숙제 생성/수정/삭제와 제출 이벤트가 갱신하며 조회는 문서 하나로 끝난다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document(collection = "student_homework_dashboard")
+@CompoundIndex(name = "homework_idx", def = "{'homeworks.homeworkId': 1}")
+public class StudentHomeworkDashboardModel {
+
+	@Id
+	private Long studentId;
+	@Indexed
+	private Long classId;
+	@Builder.Default
+	private List<DashboardHomeworkInfo> homeworks = new ArrayList<>();
+}
@@ -1,14 +1,14 @@
 package com.eum.lecture_service.query.document;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
-import com.eum.lecture_service.query.document.studentInfo.ExamSubmissionInfo;
-import com.eum.lecture_service.query.document.studentInfo.HomeworkSubmissionInfo;
 import com.eum.lecture_service.query.document.studentInfo.Overview;
+import com.eum.lecture_service.query.document.studentInfo.ScoreTotals;
 import com.eum.lecture_service.query.document.studentInfo.StudentScores;
 
 import lombok.AllArgsConstructor;
@@ -23,14 +23,18 @@ import lombok.Setter;
 @AllArgsConstructor
 @Builder
 @Document(collection = "student_overviews")
+@CompoundIndex(name = "student_lecture_idx", def = "{'studentId': 1, 'lectureId': 1}")
 public class StudentOverviewModel {
 
     @Id
     private String id;
     private Long studentId;
+    @Indexed
     private Long lectureId;
     private Overview overview;
     private StudentScores studentScores;
-    private List<HomeworkSubmissionInfo> homeworkSubmissionInfo = new ArrayList<>();
-    private List<ExamSubmissionInfo> examSubmissionInfo = new ArrayList<>();
+    private ScoreTotals scoreTotals;
+    // 마지막 집계 증가에서 더한 제출 id (한 배치의 이 학생 제출만 담으므로 크기가 늘지 않는다).
+    // 제출 문서에 totalsApplied 를 표시하기 전에 멈춘 경우 재시도 때 이 목록으로 먼저 표시한다
+    private List<String> lastAppliedSubmissionIds;
 }
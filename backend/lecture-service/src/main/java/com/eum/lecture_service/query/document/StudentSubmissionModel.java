@@ -0,0 +1,84 @@
+package com.eum.lecture_service.query.document;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import com.eum.lecture_service.query.document.studentInfo.AssessmentType;
+import com.eum.lecture_service.query.document.studentInfo.ExamSubmissionInfo;
+import com.eum.lecture_service.query.document.studentInfo.HomeworkSubmissionInfo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 학생 한 명의 숙제/시험 제출 한 건. StudentOverviewModel 에는 개수와 평균만 남기고 제출 내역은 여기에 둔다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document(collection = "student_submissions")
+@CompoundIndexes({
+	@CompoundIndex(name = "student_lecture_assessment_idx",
+		def = "{'studentId': 1, 'lectureId': 1, 'assessmentType': 1, 'assessmentId': 1}", unique = true),
+	@CompoundIndex(name = "lecture_assessment_idx", def = "{'lectureId': 1, 'assessmentType': 1, 'assessmentId': 1}")
+})
+public class StudentSubmissionModel {
+
+	@Id
+	private String id;
+	private Long studentId;
+	private Long lectureId;
+	private AssessmentType assessmentType;
+	private Long assessmentId;
+	private HomeworkSubmissionInfo homeworkSubmission;
+	private ExamSubmissionInfo examSubmission;
+	// 문항 통계에 더해졌는지. 통계를 반영한 뒤에 표시하므로 그 전에 실패하면 재시도 때 다시 반영된다
+	private Boolean statsApplied;
+	// 학생 overview 의 개수/점수 합계에 더해졌는지. 더한 제출은 StudentOverviewModel.lastAppliedSubmissionIds 에도 남기므로
+	// 표시하기 전에 실패해도 재시도 때 먼저 표시되어 다시 더해지지 않는다
+	private Boolean totalsApplied;
+
+	public static StudentSubmissionModel ofHomework(Long studentId, Long lectureId, HomeworkSubmissionInfo submission) {
+		return StudentSubmissionModel.builder()
+			.id(generateId(studentId, lectureId, AssessmentType.HOMEWORK, submission.getHomeworkId()))
+			.studentId(studentId)
+			.lectureId(lectureId)
+			.assessmentType(AssessmentType.HOMEWORK)
+			.assessmentId(submission.getHomeworkId())
+			.homeworkSubmission(submission)
+			.build();
+	}
+
+	public static StudentSubmissionModel ofExam(Long studentId, Long lectureId, ExamSubmissionInfo submission) {
+		return StudentSubmissionModel.builder()
+			.id(generateId(studentId, lectureId, AssessmentType.EXAM, submission.getExamId()))
+			.studentId(studentId)
+			.lectureId(lectureId)
+			.assessmentType(AssessmentType.EXAM)
+			.assessmentId(submission.getExamId())
+			.examSubmission(submission)
+			.build();
+	}
+
+	public boolean completed() {
+		return assessmentType == AssessmentType.HOMEWORK
+			? Boolean.TRUE.equals(homeworkSubmission.getIsComplete())
+			: Boolean.TRUE.equals(examSubmission.getIsCompleted());
+	}
+
+	public double score() {
+		Double score = assessmentType == AssessmentType.HOMEWORK ? homeworkSubmission.getScore() : examSubmission.getScore();
+		return score != null ? score : 0.0;
+	}
+
+	public static String generateId(Long studentId, Long lectureId, AssessmentType assessmentType, Long assessmentId) {
+		return "student-submission-" + studentId + "-" + lectureId + "-" + assessmentType + "-" + assessmentId;
+	}
+}
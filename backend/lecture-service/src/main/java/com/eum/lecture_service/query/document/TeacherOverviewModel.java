@@ -4,9 +4,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import com.eum.lecture_service.query.document.teacherInfo.ClassAverageScores;
+import com.eum.lecture_service.query.document.teacherInfo.ClassScoreTotals;
 import com.eum.lecture_service.query.document.teacherInfo.StudentInfo;
 
 import lombok.AllArgsConstructor;
@@ -21,13 +24,16 @@ import lombok.Setter;
 @AllArgsConstructor
 @Builder
 @Document(collection = "teacher_overviews")
+@CompoundIndex(name = "students_student_id_idx", def = "{'students.studentId': 1}")
 public class TeacherOverviewModel {
 
     @Id
     private String id;
     private Long teacherId;
+    @Indexed
     private Long lectureId;
     private List<StudentInfo> students = new ArrayList<>();
     private ClassAverageScores classAverageScores;
+    private ClassScoreTotals classScoreTotals;
 
 }
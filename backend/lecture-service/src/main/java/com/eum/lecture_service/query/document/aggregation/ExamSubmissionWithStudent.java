@@ -0,0 +1,17 @@
+package com.eum.lecture_service.query.document.aggregation;
+
+import com.eum.lecture_service.query.document.eventModel.StudentModel;
+import com.eum.lecture_service.query.document.studentInfo.ExamSubmissionInfo;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class ExamSubmissionWithStudent {
+
+	private StudentModel student;
+	private ExamSubmissionInfo examSubmission;
+}
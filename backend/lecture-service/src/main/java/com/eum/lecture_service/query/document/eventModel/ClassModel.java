@@ -1,6 +1,7 @@
 package com.eum.lecture_service.query.document.eventModel;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import lombok.AllArgsConstructor;
@@ -15,6 +16,7 @@ import lombok.Setter;
 @AllArgsConstructor
 @Builder
 @Document(collection = "classes")
+@CompoundIndex(name = "school_grade_class_idx", def = "{'school': 1, 'grade': 1, 'classNumber': 1}")
 public class ClassModel {
 
     @Id
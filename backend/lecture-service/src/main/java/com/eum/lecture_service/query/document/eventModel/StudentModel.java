@@ -1,6 +1,7 @@
 package com.eum.lecture_service.query.document.eventModel;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import lombok.AllArgsConstructor;
@@ -21,6 +22,7 @@ public class StudentModel {
 	private Long studentId;
 	private String name;
 	private String image;
+	@Indexed
 	private Long classId;
 	private Long grade;
 	private Long classNumber;
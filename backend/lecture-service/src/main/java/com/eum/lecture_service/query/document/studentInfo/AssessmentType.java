@@ -0,0 +1,6 @@
+package com.eum.lecture_service.query.document.studentInfo;
+
+public enum AssessmentType {
+	HOMEWORK,
+	EXAM
+}
@@ -0,0 +1,77 @@
+package com.eum.lecture_service.query.document.studentInfo;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import com.eum.lecture_service.query.document.LectureModel;
+import com.eum.lecture_service.query.document.lectureInfo.HomeworkInfo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DashboardHomeworkInfo {
+
+	private Long homeworkId;
+	private Long lectureId;
+	private String title;
+	private String subject;
+	private String backgroundColor;
+	private String fontColor;
+	private LocalDateTime startTime;
+	private LocalDateTime endTime;
+	private List<Long> questions;
+	private Double score;
+	private Long correctCount;
+	private Long totalCount;
+	private Boolean isComplete;
+
+	public static DashboardHomeworkInfo of(LectureModel lecture, HomeworkInfo homework) {
+		return DashboardHomeworkInfo.builder()
+			.homeworkId(homework.getHomeworkId())
+			.lectureId(lecture.getLectureId())
+			.title(homework.getTitle())
+			.subject(lecture.getSubject())
+			.backgroundColor(lecture.getBackgroundColor())
+			.fontColor(lecture.getFontColor())
+			.startTime(homework.getStartTime())
+			.endTime(homework.getEndTime())
+			.questions(homework.getQuestions())
+			.isComplete(false)
+			.build();
+	}
+
+	// 강의들의 숙제 목록에 학생의 제출 결과(숙제 id -> 제출)를 채운다
+	public static List<DashboardHomeworkInfo> listOf(Collection<LectureModel> lectures,
+		Map<Long, HomeworkSubmissionInfo> submissionsByHomeworkId) {
+		List<DashboardHomeworkInfo> homeworks = new ArrayList<>();
+		for (LectureModel lecture : lectures) {
+			if (lecture.getHomeworks() == null) {
+				continue;
+			}
+			for (HomeworkInfo homework : lecture.getHomeworks()) {
+				DashboardHomeworkInfo dashboardHomework = of(lecture, homework);
+
+				HomeworkSubmissionInfo submission = submissionsByHomeworkId.get(homework.getHomeworkId());
+				if (submission != null) {
+					dashboardHomework.setScore(submission.getScore());
+					dashboardHomework.setCorrectCount(submission.getCorrectCount());
+					dashboardHomework.setTotalCount(submission.getTotalCount());
+					dashboardHomework.setIsComplete(submission.getIsComplete());
+				}
+				homeworks.add(dashboardHomework);
+			}
+		}
+		return homeworks;
+	}
+}
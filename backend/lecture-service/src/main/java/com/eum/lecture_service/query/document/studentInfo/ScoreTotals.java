@@ -0,0 +1,25 @@
+package com.eum.lecture_service.query.document.studentInfo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 평균 점수를 제출 목록 전체 재계산 없이 $inc 로 갱신하기 위한 누적 합계
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScoreTotals {
+
+	private Double homeworkScoreSum;
+	private Long homeworkCompletedCount;
+	private Double examScoreSum;
+	private Long examCompletedCount;
+	// 점수가 바뀔 때마다 증가, TeacherOverviewModel 에 늦게 도착한 갱신이 최신 값을 덮어쓰지 않도록 사용
+	private Long version;
+}
@@ -0,0 +1,25 @@
+package com.eum.lecture_service.query.document.teacherInfo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 학급 평균을 학생 전체 순회 없이 증분 갱신하기 위한 합계 / 인원 누적값
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClassScoreTotals {
+
+	private Double homeworkScoreSum;
+	private Long homeworkCount;
+	private Double examScoreSum;
+	private Long examCount;
+	private Double attitudeScoreSum;
+	private Long attitudeCount;
+}
@@ -20,4 +20,5 @@ public class StudentInfo {
 	private String studentName;
 	@Builder.Default
 	private StudentScores studentScores = new StudentScores(0.0, 0.0, 100.0);
+	private Long scoreVersion;
 }
@@ -0,0 +1,58 @@
+package com.eum.lecture_service.query.dto.question;
+
+import java.util.List;
+import java.util.Map;
+
+import com.eum.lecture_service.query.document.QuestionStatsModel;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class QuestionStatsResponse {
+
+	private Long questionId;
+	private Long attempts;
+	private Long corrects;
+	private Double correctRate;
+	private List<ScoreBucketResponse> scoreBuckets;
+
+	public static QuestionStatsResponse fromQuestionStats(QuestionStatsModel stats) {
+		Map<String, Long> bucketAttempts = stats.getBucketAttempts() != null ? stats.getBucketAttempts() : Map.of();
+		Map<String, Long> bucketCorrects = stats.getBucketCorrects() != null ? stats.getBucketCorrects() : Map.of();
+
+		return QuestionStatsResponse.builder()
+			.questionId(stats.getQuestionId())
+			.attempts(stats.getAttempts())
+			.corrects(stats.getCorrects())
+			.correctRate(stats.correctRate())
+			.scoreBuckets(bucketAttempts.entrySet().stream()
+				.map(entry -> ScoreBucketResponse.of(Integer.parseInt(entry.getKey()), entry.getValue(),
+					bucketCorrects.getOrDefault(entry.getKey(), 0L)))
+				.sorted((a, b) -> Integer.compare(a.getMinScore(), b.getMinScore()))
+				.toList())
+			.build();
+	}
+
+	@Data
+	@Builder
+	public static class ScoreBucketResponse {
+
+		private Integer minScore;
+		private Integer maxScore;
+		private Long attempts;
+		private Long corrects;
+		private Double correctRate;
+
+		public static ScoreBucketResponse of(int minScore, long attempts, long corrects) {
+			return ScoreBucketResponse.builder()
+				.minScore(minScore)
+				.maxScore(minScore + QuestionStatsModel.SCORE_BUCKET_WIDTH)
+				.attempts(attempts)
+				.corrects(corrects)
+				.correctRate(attempts == 0L ? 0.0 : (double)corrects / attempts)
+				.build();
+		}
+	}
+}
@@ -0,0 +1,14 @@
+package com.eum.lecture_service.query.repository;
+
+import java.util.List;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import com.eum.lecture_service.query.document.QuestionStatsModel;
+import com.eum.lecture_service.query.document.studentInfo.AssessmentType;
+
+public interface QuestionStatsRepository extends MongoRepository<QuestionStatsModel, String> {
+
+	List<QuestionStatsModel> findByLectureIdAndAssessmentTypeAndAssessmentIdOrderByQuestionIdAsc(Long lectureId,
+		AssessmentType assessmentType, Long assessmentId);
+}
@@ -0,0 +1,8 @@
+package com.eum.lecture_service.query.repository;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import com.eum.lecture_service.query.document.StudentHomeworkDashboardModel;
+
+public interface StudentHomeworkDashboardRepository extends MongoRepository<StudentHomeworkDashboardModel, Long> {
+}
@@ -13,5 +13,9 @@ public interface StudentOverviewRepository extends MongoRepository<StudentOvervi
 
 	List<StudentOverviewModel> findByLectureId(Long lectureId);
 
+	long countByLectureId(Long lectureId);
+
+	long deleteByLectureId(Long lectureId);
+
 	List<StudentOverviewModel> findByStudentId(Long studentId);
 }
@@ -0,0 +1,16 @@
+package com.eum.lecture_service.query.repository;
+
+import java.util.List;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import com.eum.lecture_service.query.document.StudentSubmissionModel;
+import com.eum.lecture_service.query.document.studentInfo.AssessmentType;
+
+public interface StudentSubmissionRepository extends MongoRepository<StudentSubmissionModel, String> {
+
+	List<StudentSubmissionModel> findByStudentIdAndLectureIdAndAssessmentType(Long studentId, Long lectureId,
+		AssessmentType assessmentType);
+
+	List<StudentSubmissionModel> findByStudentIdAndAssessmentType(Long studentId, AssessmentType assessmentType);
+}
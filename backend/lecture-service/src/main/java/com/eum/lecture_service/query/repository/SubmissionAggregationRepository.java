@@ -0,0 +1,67 @@
+package com.eum.lecture_service.query.repository;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.*;
+
+import java.util.List;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Repository;
+
+import com.eum.lecture_service.query.document.StudentSubmissionModel;
+import com.eum.lecture_service.query.document.aggregation.ExamSubmissionWithStudent;
+import com.eum.lecture_service.query.document.aggregation.HomeworkSubmissionWithStudent;
+import com.eum.lecture_service.query.document.eventModel.StudentModel;
+import com.eum.lecture_service.query.document.studentInfo.AssessmentType;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 강의의 특정 숙제/시험 제출 목록을 student_submissions 에서 학생 정보와 함께 한 번의 aggregation 으로 조회한다.
+ * 응답에 쓰지 않는 풀이(solution) 본문은 서버에서 제외한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SubmissionAggregationRepository {
+
+	private final MongoTemplate mongoTemplate;
+
+	public List<HomeworkSubmissionWithStudent> findHomeworkSubmissions(Long lectureId, Long homeworkId) {
+		Aggregation aggregation = submissionsWithStudent(lectureId, AssessmentType.HOMEWORK, homeworkId,
+			"homeworkSubmission", List.of("homeworkSubmissionId", "homeworkId", "isComplete",
+				"problemSubmissions.homeworkProblemSubmissionId"));
+
+		return mongoTemplate.aggregate(aggregation, mongoTemplate.getCollectionName(StudentSubmissionModel.class),
+			HomeworkSubmissionWithStudent.class).getMappedResults();
+	}
+
+	public List<ExamSubmissionWithStudent> findExamSubmissions(Long lectureId, Long examId) {
+		Aggregation aggregation = submissionsWithStudent(lectureId, AssessmentType.EXAM, examId,
+			"examSubmission", List.of("examSubmissionId", "examId", "isCompleted",
+				"problemSubmissions.examProblemSubmissionId"));
+
+		return mongoTemplate.aggregate(aggregation, mongoTemplate.getCollectionName(StudentSubmissionModel.class),
+			ExamSubmissionWithStudent.class).getMappedResults();
+	}
+
+	private Aggregation submissionsWithStudent(Long lectureId, AssessmentType assessmentType, Long assessmentId,
+		String submissionField, List<String> submissionFields) {
+		Document projection = new Document("_id", 0)
+			.append("student._id", 1)
+			.append("student.name", 1)
+			.append("student.image", 1);
+		List.of("score", "correctCount", "totalCount", "problemSubmissions.questionId", "problemSubmissions.isCorrect")
+			.forEach(field -> projection.append(submissionField + "." + field, 1));
+		submissionFields.forEach(field -> projection.append(submissionField + "." + field, 1));
+
+		return newAggregation(
+			match(Criteria.where("lectureId").is(lectureId)
+				.and("assessmentType").is(assessmentType.name())
+				.and("assessmentId").is(assessmentId)),
+			lookup(mongoTemplate.getCollectionName(StudentModel.class), "studentId", "_id", "student"),
+			unwind("student"),
+			stage(new Document("$project", projection)));
+	}
+}
@@ -1,6 +1,5 @@
 package com.eum.lecture_service.query.repository;
 
-import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.mongodb.repository.MongoRepository;
@@ -13,7 +12,5 @@ public interface TeacherOverviewRepository extends MongoRepository<TeacherOvervi
 
 	Optional<TeacherOverviewModel> findByTeacherIdAndLectureId(Long memberId, Long lectureId);
 
-	List<TeacherOverviewModel> findByStudents_StudentId(Long studentId);
-
 }
 
@@ -1,6 +1,5 @@
 package com.eum.lecture_service.query.service.exam;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -8,14 +7,15 @@ import org.springframework.stereotype.Service;
 
 import com.eum.lecture_service.config.exception.ErrorCode;
 import com.eum.lecture_service.config.exception.EumException;
-import com.eum.lecture_service.query.document.StudentOverviewModel;
-import com.eum.lecture_service.query.document.eventModel.StudentModel;
+import com.eum.lecture_service.query.document.StudentSubmissionModel;
+import com.eum.lecture_service.query.document.studentInfo.AssessmentType;
 import com.eum.lecture_service.query.document.studentInfo.ExamSubmissionInfo;
 import com.eum.lecture_service.query.dto.exam.ExamProblemSubmissionInfoResponse;
 import com.eum.lecture_service.query.dto.exam.ExamSubmissionInfoResponse;
 import com.eum.lecture_service.query.dto.exam.ExamSubmissionsInfoResponse;
 import com.eum.lecture_service.query.repository.StudentOverviewRepository;
-import com.eum.lecture_service.query.repository.StudentReadRepository;
+import com.eum.lecture_service.query.repository.StudentSubmissionRepository;
+import com.eum.lecture_service.query.repository.SubmissionAggregationRepository;
 
 import lombok.RequiredArgsConstructor;
 
@@ -24,35 +24,21 @@ import lombok.RequiredArgsConstructor;
 public class ExamSubmissionQueryServiceImpl implements ExamSubmissionQueryService {
 
 	private final StudentOverviewRepository studentOverviewRepository;
-	private final StudentReadRepository studentReadRepository;
+	private final StudentSubmissionRepository studentSubmissionRepository;
+	private final SubmissionAggregationRepository submissionAggregationRepository;
 
 	@Override
 	public List<ExamSubmissionsInfoResponse> getExamSubmissions(Long lectureId, Long examId) {
-		List<StudentOverviewModel> studentOverviews = studentOverviewRepository.findByLectureId(lectureId);
-
-		List<ExamSubmissionsInfoResponse> examSubmissions = new ArrayList<>();
-		studentOverviews.forEach(studentOverview -> {
-			StudentModel student = studentReadRepository.findById(studentOverview.getStudentId())
-				.orElseThrow(() -> new EumException(ErrorCode.STUDENT_NOT_FOUND));
-			studentOverview.getExamSubmissionInfo().stream()
-				.filter(examSubmissionInfo -> examSubmissionInfo.getExamId().equals(examId))
-				.forEach(examSubmissionInfo ->
-					examSubmissions.add(ExamSubmissionsInfoResponse.fromExamSubmission(examSubmissionInfo, student))
-				);
-		});
-
-		return examSubmissions;
+		return submissionAggregationRepository.findExamSubmissions(lectureId, examId).stream()
+			.map(row -> ExamSubmissionsInfoResponse.fromExamSubmission(row.getExamSubmission(), row.getStudent()))
+			.collect(Collectors.toList());
 	}
 
 	@Override
 	public ExamSubmissionInfoResponse getStudentExamSubmission(Long lectureId, Long examId, Long studentId) {
-		StudentOverviewModel studentOverview = studentOverviewRepository
-			.findByStudentIdAndLectureId(studentId, lectureId)
-			.orElseThrow(() -> new EumException(ErrorCode.STUDENT_NOT_FOUND));
-
-		ExamSubmissionInfo submissionInfo = studentOverview.getExamSubmissionInfo().stream()
-			.filter(submission -> submission.getExamId().equals(examId))
-			.findFirst()
+		ExamSubmissionInfo submissionInfo = studentSubmissionRepository
+			.findById(StudentSubmissionModel.generateId(studentId, lectureId, AssessmentType.EXAM, examId))
+			.map(StudentSubmissionModel::getExamSubmission)
 			.orElseThrow(() -> new EumException(ErrorCode.EXAM_NOT_FOUND));
 
 		return ExamSubmissionInfoResponse.fromExamSubmission(submissionInfo);
@@ -72,12 +58,13 @@ public class ExamSubmissionQueryServiceImpl implements ExamSubmissionQueryServic
 
 	@Override
 	public List<ExamSubmissionInfoResponse> getAllExamSubmissionsByStudent(Long lectureId, Long studentId) {
-		StudentOverviewModel studentOverview = studentOverviewRepository
-			.findByStudentIdAndLectureId(studentId, lectureId)
-			.orElseThrow(() -> new EumException(ErrorCode.STUDENT_NOT_FOUND));
+		if (studentOverviewRepository.findByStudentIdAndLectureId(studentId, lectureId).isEmpty()) {
+			throw new EumException(ErrorCode.STUDENT_NOT_FOUND);
+		}
 
-		return studentOverview.getExamSubmissionInfo().stream()
-			.map(ExamSubmissionInfoResponse::fromExamSubmission)
+		return studentSubmissionRepository
+			.findByStudentIdAndLectureIdAndAssessmentType(studentId, lectureId, AssessmentType.EXAM).stream()
+			.map(submission -> ExamSubmissionInfoResponse.fromExamSubmission(submission.getExamSubmission()))
 			.collect(Collectors.toList());
 	}
 }
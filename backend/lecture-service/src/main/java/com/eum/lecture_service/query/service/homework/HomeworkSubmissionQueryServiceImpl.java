@@ -3,7 +3,6 @@ package com.eum.lecture_service.query.service.homework;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
@@ -12,17 +11,22 @@ import com.eum.lecture_service.command.entity.lecture.Lecture;
 import com.eum.lecture_service.config.exception.ErrorCode;
 import com.eum.lecture_service.config.exception.EumException;
 import com.eum.lecture_service.query.document.LectureModel;
-import com.eum.lecture_service.query.document.StudentOverviewModel;
+import com.eum.lecture_service.query.document.StudentHomeworkDashboardModel;
+import com.eum.lecture_service.query.document.StudentSubmissionModel;
 import com.eum.lecture_service.query.document.eventModel.StudentModel;
-import com.eum.lecture_service.query.document.lectureInfo.HomeworkInfo;
+import com.eum.lecture_service.query.document.studentInfo.AssessmentType;
+import com.eum.lecture_service.query.document.studentInfo.DashboardHomeworkInfo;
 import com.eum.lecture_service.query.document.studentInfo.HomeworkSubmissionInfo;
 import com.eum.lecture_service.query.dto.homework.HomeworkProblemSubmissionInfoResponse;
 import com.eum.lecture_service.query.dto.homework.HomeworkSubmissionInfoResponse;
 import com.eum.lecture_service.query.dto.homework.HomeworkSubmissionsInfoResponse;
 import com.eum.lecture_service.query.dto.homework.StudentHomeworkResponse;
 import com.eum.lecture_service.query.repository.LectureReadRepository;
+import com.eum.lecture_service.query.repository.StudentHomeworkDashboardRepository;
 import com.eum.lecture_service.query.repository.StudentOverviewRepository;
 import com.eum.lecture_service.query.repository.StudentReadRepository;
+import com.eum.lecture_service.query.repository.StudentSubmissionRepository;
+import com.eum.lecture_service.query.repository.SubmissionAggregationRepository;
 
 import lombok.RequiredArgsConstructor;
 
@@ -31,37 +35,26 @@ import lombok.RequiredArgsConstructor;
 public class HomeworkSubmissionQueryServiceImpl implements HomeworkSubmissionQueryService {
 
 	private final StudentOverviewRepository studentOverviewRepository;
+	private final StudentSubmissionRepository studentSubmissionRepository;
+	private final SubmissionAggregationRepository submissionAggregationRepository;
 	private final StudentReadRepository studentReadRepository;
 	private final LectureReadRepository lectureReadRepository;
+	private final StudentHomeworkDashboardRepository studentHomeworkDashboardRepository;
 
 	//특정 숙제에 대한 학생들 성적 모두 조회
 	@Override
 	public List<HomeworkSubmissionsInfoResponse> getHomeworkSubmissions(Long lectureId, Long homeworkId) {
-		List<StudentOverviewModel> studentOverviews = studentOverviewRepository.findByLectureId(lectureId);
-
-		List<HomeworkSubmissionsInfoResponse> homeworkSubmissions = new ArrayList<>();
-		studentOverviews.forEach(studentOverview -> {
-			StudentModel studentModel = studentReadRepository.findById(studentOverview.getStudentId())
-				.orElseThrow(() -> new EumException(ErrorCode.STUDENT_NOT_FOUND));
-			studentOverview.getHomeworkSubmissionInfo().stream()
-				.filter(homeworkSubmissionInfo -> homeworkSubmissionInfo.getHomeworkId().equals(homeworkId))
-				.forEach(homeworkSubmissionInfo ->
-					homeworkSubmissions.add(HomeworkSubmissionsInfoResponse.fromHomeworkSubmission(homeworkSubmissionInfo, studentModel))
-				);
-		});
-		return homeworkSubmissions;
+		return submissionAggregationRepository.findHomeworkSubmissions(lectureId, homeworkId).stream()
+			.map(row -> HomeworkSubmissionsInfoResponse.fromHomeworkSubmission(row.getHomeworkSubmission(), row.getStudent()))
+			.collect(Collectors.toList());
 	}
 
 	// 특정 학생의 숙제 제출 내역 조회
 	@Override
 	public HomeworkSubmissionInfoResponse getStudentHomeworkSubmission(Long lectureId, Long homeworkId, Long studentId) {
-		StudentOverviewModel studentOverview = studentOverviewRepository
-			.findByStudentIdAndLectureId(studentId, lectureId)
-			.orElseThrow(() -> new EumException(ErrorCode.STUDENT_NOT_FOUND));
-
-		HomeworkSubmissionInfo submissionInfo = studentOverview.getHomeworkSubmissionInfo().stream()
-			.filter(submission -> submission.getHomeworkId().equals(homeworkId))
-			.findFirst()
+		HomeworkSubmissionInfo submissionInfo = studentSubmissionRepository
+			.findById(StudentSubmissionModel.generateId(studentId, lectureId, AssessmentType.HOMEWORK, homeworkId))
+			.map(StudentSubmissionModel::getHomeworkSubmission)
 			.orElseThrow(() -> new EumException(ErrorCode.HOMEWORK_SUBMISSION_NOT_FOUND));
 
 		return HomeworkSubmissionInfoResponse.fromHomeworkSubmission(submissionInfo);
@@ -81,93 +74,76 @@ public class HomeworkSubmissionQueryServiceImpl implements HomeworkSubmissionQue
 
 	@Override
 	public List<HomeworkSubmissionInfoResponse> getAllHomeworkSubmissionsByStudent(Long lectureId, Long studentId) {
-		StudentOverviewModel studentOverview = studentOverviewRepository
-			.findByStudentIdAndLectureId(studentId, lectureId)
-			.orElseThrow(() -> new EumException(ErrorCode.STUDENT_NOT_FOUND));
+		if (studentOverviewRepository.findByStudentIdAndLectureId(studentId, lectureId).isEmpty()) {
+			throw new EumException(ErrorCode.STUDENT_NOT_FOUND);
+		}
 
-		return studentOverview.getHomeworkSubmissionInfo().stream()
-			.map(HomeworkSubmissionInfoResponse::fromHomeworkSubmission)
+		return studentSubmissionRepository
+			.findByStudentIdAndLectureIdAndAssessmentType(studentId, lectureId, AssessmentType.HOMEWORK).stream()
+			.map(submission -> HomeworkSubmissionInfoResponse.fromHomeworkSubmission(submission.getHomeworkSubmission()))
 			.collect(Collectors.toList());
 	}
 
 	@Override
 	public StudentHomeworkResponse getStudentAllLectureHomeworkOverview(Long studentId) {
-		StudentModel student = studentReadRepository.findById(studentId)
-			.orElseThrow(() -> new EumException(ErrorCode.STUDENT_NOT_FOUND));
-
-		Long classId = student.getClassId();
-
-		List<LectureModel> lectures = lectureReadRepository.findByClassId(classId);
-
-		List<StudentOverviewModel> studentOverviews = studentOverviewRepository.findByStudentId(studentId);
-
-		Map<Long, StudentOverviewModel> overviewMap = studentOverviews.stream()
-			.collect(Collectors.toMap(StudentOverviewModel::getLectureId, Function.identity()));
+		StudentHomeworkDashboardModel dashboard = studentHomeworkDashboardRepository.findById(studentId)
+			.orElseGet(() -> currentHomeworkDashboard(studentId));
 
 		List<StudentHomeworkResponse.StudentHomeworkInfo> homeworkDetails = new ArrayList<>();
-		Long totalHomeworkCount = 0L;
 		Long completedHomeworkCount = 0L;
 		Double totalScore = 0.0;
 
-		for (LectureModel lecture : lectures) {
-			List<HomeworkInfo> homeworks = lecture.getHomeworks();
-			for (HomeworkInfo homework : homeworks) {
-				totalHomeworkCount++;
-
-				StudentOverviewModel overview = overviewMap.get(lecture.getLectureId());
-				HomeworkSubmissionInfo submission = null;
-				if (overview != null) {
-					submission = overview.getHomeworkSubmissionInfo().stream()
-						.filter(hs -> hs.getHomeworkId().equals(homework.getHomeworkId()))
-						.findFirst()
-						.orElse(null);
-				}
-
-				if (submission != null && submission.getIsComplete()) {
-					completedHomeworkCount++;
-					totalScore += submission.getScore() != null ? submission.getScore() : 0.0;
-
-					homeworkDetails.add(StudentHomeworkResponse.StudentHomeworkInfo.builder()
-						.homeworkId(homework.getHomeworkId())
-						.title(homework.getTitle())
-						.subject(lecture.getSubject())
-						.backgroundColor(lecture.getBackgroundColor())
-						.fontColor(lecture.getFontColor())
-						.startTime(homework.getStartTime())
-						.endTime(homework.getEndTime())
-						.score(submission.getScore())
-						.correctCount(submission.getCorrectCount())
-						.totalCount(submission.getTotalCount())
-						.isComplete(true)
-						.questions(homework.getQuestions())
-						.build());
-				} else {
-					homeworkDetails.add(StudentHomeworkResponse.StudentHomeworkInfo.builder()
-						.homeworkId(homework.getHomeworkId())
-						.title(homework.getTitle())
-						.subject(lecture.getSubject())
-						.backgroundColor(lecture.getBackgroundColor())
-						.fontColor(lecture.getFontColor())
-						.startTime(homework.getStartTime())
-						.endTime(homework.getEndTime())
-						.questions(homework.getQuestions())
-						.score(null)
-						.correctCount(null)
-						.totalCount(null)
-						.isComplete(false)
-						.build());
-				}
+		for (DashboardHomeworkInfo homework : dashboard.getHomeworks()) {
+			boolean isComplete = Boolean.TRUE.equals(homework.getIsComplete());
+			if (isComplete) {
+				completedHomeworkCount++;
+				totalScore += homework.getScore() != null ? homework.getScore() : 0.0;
 			}
+
+			homeworkDetails.add(StudentHomeworkResponse.StudentHomeworkInfo.builder()
+				.homeworkId(homework.getHomeworkId())
+				.title(homework.getTitle())
+				.subject(homework.getSubject())
+				.backgroundColor(homework.getBackgroundColor())
+				.fontColor(homework.getFontColor())
+				.startTime(homework.getStartTime())
+				.endTime(homework.getEndTime())
+				.questions(homework.getQuestions())
+				.score(isComplete ? homework.getScore() : null)
+				.correctCount(isComplete ? homework.getCorrectCount() : null)
+				.totalCount(isComplete ? homework.getTotalCount() : null)
+				.isComplete(isComplete)
+				.build());
 		}
 
 		Double averageScore = completedHomeworkCount > 0 ? totalScore / completedHomeworkCount : 0.0;
 
 		return StudentHomeworkResponse.builder()
-			.totalHomeworkCount(totalHomeworkCount)
+			.totalHomeworkCount((long)homeworkDetails.size())
 			.completedHomeworkCount(completedHomeworkCount)
 			.averageScore(averageScore)
 			.homeworkDetails(homeworkDetails)
 			.build();
 	}
 
+	// 대시보드 문서는 학생 가입 / 숙제 생성 / 제출 이벤트에서 HomeworkDashboardProjection 이 만든다
+	// 그 전(이전 버전에서 가입한 학생 등)에는 강의/제출 내역으로 응답만 만들고 저장하지 않는다
+	private StudentHomeworkDashboardModel currentHomeworkDashboard(Long studentId) {
+		StudentModel student = studentReadRepository.findById(studentId)
+			.orElseThrow(() -> new EumException(ErrorCode.STUDENT_NOT_FOUND));
+
+		List<LectureModel> lectures = lectureReadRepository.findByClassId(student.getClassId());
+
+		Map<Long, HomeworkSubmissionInfo> submissionMap = studentSubmissionRepository
+			.findByStudentIdAndAssessmentType(studentId, AssessmentType.HOMEWORK).stream()
+			.collect(Collectors.toMap(StudentSubmissionModel::getAssessmentId,
+				StudentSubmissionModel::getHomeworkSubmission, (first, second) -> first));
+
+		return StudentHomeworkDashboardModel.builder()
+			.studentId(studentId)
+			.classId(student.getClassId())
+			.homeworks(DashboardHomeworkInfo.listOf(lectures, submissionMap))
+			.build();
+	}
+
 }
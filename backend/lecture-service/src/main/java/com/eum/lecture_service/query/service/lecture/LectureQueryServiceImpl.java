@@ -1,7 +1,9 @@
 package com.eum.lecture_service.query.service.lecture;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -9,6 +11,7 @@ import org.springframework.stereotype.Service;
 
 import com.eum.lecture_service.config.exception.ErrorCode;
 import com.eum.lecture_service.config.exception.EumException;
+import com.eum.lecture_service.query.cache.ReferenceDataCache;
 import com.eum.lecture_service.query.document.LectureModel;
 import com.eum.lecture_service.query.document.StudentOverviewModel;
 import com.eum.lecture_service.query.document.TeacherOverviewModel;
@@ -39,6 +42,7 @@ public class LectureQueryServiceImpl implements LectureQueryService {
 	private final TeacherOverviewRepository teacherOverviewRepository;
 	private final StudentOverviewRepository studentOverviewRepository;
 	private final ClassReadRepository classReadRepository;
+	private final ReferenceDataCache referenceDataCache;
 
 	@Override
 	public LectureDetailResponse getLectureDetail(String role, Long memberId, Long lectureId) {
@@ -71,27 +75,12 @@ public class LectureQueryServiceImpl implements LectureQueryService {
 	public List<LectureListResponse> getLectureList(String role, Long memberId) {
 		if (ROLE_STUDENT.equals(role)) {
 			return studentReadRepository.findById(memberId)
-				.map(student -> lectureReadRepository.findByClassId(student.getClassId())
-					.stream()
-					.map(lecture -> {
-						ClassModel classModel = classReadRepository.findById(lecture.getClassId())
-							.orElseThrow(() -> new EumException(ErrorCode.CLASS_NOT_FOUND));
-						TeacherModel teacherModel = teacherReadRepository.findById(lecture.getTeacherId())
-							.orElseThrow(() -> new EumException(ErrorCode.TEACHER_NOT_FOUND));
-						return LectureListResponse.fromLectureModel(lecture, classModel, teacherModel);
-					})
-					.collect(Collectors.toList()))
+				.map(student -> toLectureListResponses(lectureReadRepository.findByClassId(student.getClassId()),
+					LectureListResponse::fromLectureModel))
 				.orElseGet(Collections::emptyList);
 		} else if (ROLE_TEACHER.equals(role)) {
-			return lectureReadRepository.findByTeacherId(memberId).stream()
-				.map(lecture -> {
-					ClassModel classModel = classReadRepository.findById(lecture.getClassId())
-						.orElseThrow(() -> new EumException(ErrorCode.CLASS_NOT_FOUND));
-					TeacherModel teacherModel = teacherReadRepository.findById(lecture.getTeacherId())
-						.orElseThrow(() -> new EumException(ErrorCode.TEACHER_NOT_FOUND));
-					return LectureListResponse.fromLectureModel(lecture, classModel, teacherModel);
-				})
-				.collect(Collectors.toList());
+			return toLectureListResponses(lectureReadRepository.findByTeacherId(memberId),
+				LectureListResponse::fromLectureModel);
 		}
 		return Collections.emptyList();
 	}
@@ -100,33 +89,45 @@ public class LectureQueryServiceImpl implements LectureQueryService {
 	public List<LectureListResponse> getLectureListByDay(TodayDto todayDto, String role, Long memberId) {
 		if (ROLE_STUDENT.equals(role)) {
 			return studentReadRepository.findById(memberId)
-				.map(student -> lectureReadRepository.findByClassIdAndSchedule_DayAndYearAndSemester(
-						student.getClassId(), todayDto.getDay(), todayDto.getYear(), todayDto.getSemester())
-					.stream()
-					.map(lecture -> {
-						ClassModel classModel = classReadRepository.findById(lecture.getClassId())
-							.orElseThrow(() -> new EumException(ErrorCode.CLASS_NOT_FOUND));
-						TeacherModel teacherModel = teacherReadRepository.findById(lecture.getTeacherId())
-							.orElseThrow(() -> new EumException(ErrorCode.TEACHER_NOT_FOUND));
-						return LectureListResponse.fromLectureModelWithPeriod(lecture, todayDto.getDay(), classModel, teacherModel);
-					})
-					.collect(Collectors.toList()))
+				.map(student -> toLectureListResponses(lectureReadRepository.findByClassIdAndSchedule_DayAndYearAndSemester(
+						student.getClassId(), todayDto.getDay(), todayDto.getYear(), todayDto.getSemester()),
+					(lecture, classModel, teacherModel) -> LectureListResponse.fromLectureModelWithPeriod(lecture,
+						todayDto.getDay(), classModel, teacherModel)))
 				.orElseGet(Collections::emptyList);
 		} else if (ROLE_TEACHER.equals(role)) {
-			return lectureReadRepository.findByTeacherIdAndSchedule_DayAndYearAndSemester(
-					memberId, todayDto.getDay(), todayDto.getYear(), todayDto.getSemester()).stream()
-				.map(lecture -> {
-					ClassModel classModel = classReadRepository.findById(lecture.getClassId())
-						.orElseThrow(() -> new EumException(ErrorCode.CLASS_NOT_FOUND));
-					TeacherModel teacherModel = teacherReadRepository.findById(lecture.getTeacherId())
-						.orElseThrow(() -> new EumException(ErrorCode.TEACHER_NOT_FOUND));
-					return LectureListResponse.fromLectureModelWithPeriod(lecture, todayDto.getDay(), classModel, teacherModel);
-				})
-				.collect(Collectors.toList());
+			return toLectureListResponses(lectureReadRepository.findByTeacherIdAndSchedule_DayAndYearAndSemester(
+					memberId, todayDto.getDay(), todayDto.getYear(), todayDto.getSemester()),
+				(lecture, classModel, teacherModel) -> LectureListResponse.fromLectureModelWithPeriod(lecture,
+					todayDto.getDay(), classModel, teacherModel));
 		}
 		return Collections.emptyList();
 	}
 
+	// 강의마다 조회하지 않고 학급/교사 ID 를 모아 한 번에 가져온다
+	private List<LectureListResponse> toLectureListResponses(Collection<? extends LectureModel> lectures,
+		LectureListMapper mapper) {
+		Map<Long, ClassModel> classes = referenceDataCache.getClasses(lectures.stream()
+			.map(LectureModel::getClassId)
+			.collect(Collectors.toSet()));
+		Map<Long, TeacherModel> teachers = referenceDataCache.getTeachers(lectures.stream()
+			.map(LectureModel::getTeacherId)
+			.collect(Collectors.toSet()));
+
+		return lectures.stream()
+			.map(lecture -> {
+				ClassModel classModel = Optional.ofNullable(classes.get(lecture.getClassId()))
+					.orElseThrow(() -> new EumException(ErrorCode.CLASS_NOT_FOUND));
+				TeacherModel teacherModel = Optional.ofNullable(teachers.get(lecture.getTeacherId()))
+					.orElseThrow(() -> new EumException(ErrorCode.TEACHER_NOT_FOUND));
+				return mapper.map(lecture, classModel, teacherModel);
+			})
+			.collect(Collectors.toList());
+	}
+
+	@FunctionalInterface
+	private interface LectureListMapper {
+		LectureListResponse map(LectureModel lecture, ClassModel classModel, TeacherModel teacherModel);
+	}
 
 	@Override
 	public LectureUpdateResponse getLectureForUpdate(Long lectureId) {
@@ -0,0 +1,11 @@
+package com.eum.lecture_service.query.service.question;
+
+import java.util.List;
+
+import com.eum.lecture_service.query.document.studentInfo.AssessmentType;
+import com.eum.lecture_service.query.dto.question.QuestionStatsResponse;
+
+public interface QuestionStatsQueryService {
+
+	List<QuestionStatsResponse> getQuestionStats(Long lectureId, AssessmentType assessmentType, Long assessmentId);
+}
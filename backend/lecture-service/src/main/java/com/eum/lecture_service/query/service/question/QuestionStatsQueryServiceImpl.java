@@ -0,0 +1,29 @@
+package com.eum.lecture_service.query.service.question;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.eum.lecture_service.query.document.studentInfo.AssessmentType;
+import com.eum.lecture_service.query.dto.question.QuestionStatsResponse;
+import com.eum.lecture_service.query.repository.QuestionStatsRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class QuestionStatsQueryServiceImpl implements QuestionStatsQueryService {
+
+	private final QuestionStatsRepository questionStatsRepository;
+
+	// 제출이 반영될 때 미리 누적해 둔 문제별 문서만 읽으므로 학생 수와 관계없이 문제 수만큼만 조회한다
+	@Override
+	public List<QuestionStatsResponse> getQuestionStats(Long lectureId, AssessmentType assessmentType,
+		Long assessmentId) {
+		return questionStatsRepository
+			.findByLectureIdAndAssessmentTypeAndAssessmentIdOrderByQuestionIdAsc(lectureId, assessmentType, assessmentId)
+			.stream()
+			.map(QuestionStatsResponse::fromQuestionStats)
+			.toList();
+	}
+}
@@ -0,0 +1,75 @@
+package com.eum.lecture_service.command.service.grading;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class AnswerGraderTest {
+
+	// 빈 등록 시 @Order 순서와 같게 공백 정리 뒤 소문자 변환을 적용한다
+	private final AnswerGrader answerGrader = new AnswerGrader(
+		List.of(new WhitespaceAnswerNormalizer(), new CaseAnswerNormalizer()), 1e-6);
+
+	@Test
+	void 공백과_대소문자는_무시하고_비교한다() {
+		AnswerKey answerKey = answerGrader.toAnswerKey(1L, "New  York");
+
+		assertThat(answerGrader.isCorrect(answerKey, "  new york ")).isTrue();
+		assertThat(answerGrader.isCorrect(answerKey, "NEW\tYORK")).isTrue();
+		assertThat(answerGrader.isCorrect(answerKey, "newyork")).isFalse();
+	}
+
+	@Test
+	void 숫자_정답은_허용_오차_안이면_정답이다() {
+		AnswerKey answerKey = answerGrader.toAnswerKey(1L, "0.5");
+
+		assertThat(answerKey.numericAnswer()).isEqualTo(0.5);
+		assertThat(answerGrader.isCorrect(answerKey, ".50")).isTrue();
+		assertThat(answerGrader.isCorrect(answerKey, "0.5000001")).isTrue();
+		assertThat(answerGrader.isCorrect(answerKey, "0.501")).isFalse();
+	}
+
+	@Test
+	void 분수와_소수는_다르게_취급한다() {
+		AnswerKey answerKey = answerGrader.toAnswerKey(1L, "0.5");
+
+		assertThat(answerGrader.isCorrect(answerKey, "1/2")).isFalse();
+	}
+
+	@Test
+	void 천_단위_쉼표와_지수_표기를_숫자로_읽는다() {
+		AnswerKey answerKey = answerGrader.toAnswerKey(1L, "1,000");
+
+		assertThat(answerKey.numericAnswer()).isEqualTo(1000.0);
+		assertThat(answerGrader.isCorrect(answerKey, "1000")).isTrue();
+		assertThat(answerGrader.isCorrect(answerKey, "1E3")).isTrue();
+	}
+
+	@Test
+	void 숫자_모양이_아닌_정답은_문자열로만_비교한다() {
+		assertThat(answerGrader.toAnswerKey(1L, "abc").numericAnswer()).isNull();
+		assertThat(answerGrader.toAnswerKey(1L, "-").numericAnswer()).isNull();
+		assertThat(answerGrader.toAnswerKey(1L, "1-2-3").numericAnswer()).isNull();
+	}
+
+	@Test
+	void 숫자_정답에_문자_답을_내면_오답이다() {
+		AnswerKey answerKey = answerGrader.toAnswerKey(1L, "3");
+
+		assertThat(answerGrader.isCorrect(answerKey, "three")).isFalse();
+	}
+
+	@Test
+	void 정답이나_학생_답이_없으면_오답이다() {
+		AnswerKey noAnswer = answerGrader.toAnswerKey(1L, null);
+		AnswerKey blankAnswer = answerGrader.toAnswerKey(2L, "   ");
+
+		assertThat(noAnswer.hasAnswer()).isFalse();
+		assertThat(blankAnswer.hasAnswer()).isFalse();
+		assertThat(answerGrader.isCorrect(noAnswer, "1")).isFalse();
+		assertThat(answerGrader.isCorrect(blankAnswer, "")).isFalse();
+		assertThat(answerGrader.isCorrect(answerGrader.toAnswerKey(3L, "1"), null)).isFalse();
+	}
+}
@@ -0,0 +1,38 @@
+package com.eum.lecture_service.command.service.grading;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class WhitespaceAnswerNormalizerTest {
+
+	private final WhitespaceAnswerNormalizer normalizer = new WhitespaceAnswerNormalizer();
+
+	@Test
+	void 앞뒤_공백을_없앤다() {
+		assertThat(normalizer.normalize("  answer \n")).isEqualTo("answer");
+	}
+
+	@Test
+	void 연속된_공백은_공백_하나로_줄인다() {
+		assertThat(normalizer.normalize("a  b \t\n c")).isEqualTo("a b c");
+	}
+
+	@Test
+	void 공백_이외의_공백_문자는_공백으로_바꾼다() {
+		assertThat(normalizer.normalize("a\tb")).isEqualTo("a b");
+		assertThat(normalizer.normalize("a\nb")).isEqualTo("a b");
+	}
+
+	@Test
+	void 바꿀_것이_없으면_같은_문자열을_돌려준다() {
+		String answer = "a b c";
+
+		assertThat(normalizer.normalize(answer)).isSameAs(answer);
+	}
+
+	@Test
+	void 공백만_있으면_빈_문자열이_된다() {
+		assertThat(normalizer.normalize(" \t ")).isEqualTo("");
+	}
+}
@@ -0,0 +1,99 @@
+package com.eum.lecture_service.command.service.lecture;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.Test;
+
+import com.eum.lecture_service.command.dto.lecture.LectureScheduleDto;
+import com.eum.lecture_service.command.entity.lecture.Lecture;
+import com.eum.lecture_service.command.entity.lecture.LectureSchedule;
+import com.eum.lecture_service.config.exception.ErrorCode;
+import com.eum.lecture_service.config.exception.EumException;
+
+class ClassTimetableTest {
+
+	@Test
+	void 기존_시간표의_칸은_다시_차지할_수_없다() {
+		ClassTimetable timetable = ClassTimetable.of(List.of(schedule(1L, "월요일", 1L)), null);
+
+		assertThat(timetable.occupy("월요일", 1L)).isFalse();
+		assertThat(timetable.occupy("월요일", 2L)).isTrue();
+	}
+
+	@Test
+	void 같은_요청_안에서_겹치는_칸은_두_번째부터_거절된다() {
+		ClassTimetable timetable = ClassTimetable.of(List.of(), null);
+
+		assertThat(timetable.occupy("수요일", 3L)).isTrue();
+		assertThat(timetable.occupy("수요일", 3L)).isFalse();
+	}
+
+	@Test
+	void 수정_중인_수업의_시간표는_빼고_만든다() {
+		ClassTimetable timetable = ClassTimetable.of(List.of(
+			schedule(1L, "화요일", 2L),
+			schedule(2L, "화요일", 3L)), 1L);
+
+		assertThat(timetable.occupy("화요일", 2L)).isTrue();
+		assertThat(timetable.occupy("화요일", 3L)).isFalse();
+	}
+
+	@Test
+	void 범위를_벗어난_기존_시간표는_무시한다() {
+		ClassTimetable timetable = ClassTimetable.of(List.of(
+			schedule(1L, "월요일", 0L),
+			schedule(1L, "월요일", (long)ClassTimetable.MAX_PERIOD + 1),
+			schedule(1L, "Monday", 1L),
+			schedule(1L, "월요일", null)), null);
+
+		assertThat(timetable.freeSlots(1, ClassTimetable.MAX_PERIOD)).hasSize(ClassTimetable.MAX_PERIOD);
+	}
+
+	@Test
+	void 잘못된_요일이나_교시는_SCHEDULE_INVALID_로_거절한다() {
+		ClassTimetable timetable = ClassTimetable.of(List.of(), null);
+
+		assertInvalid(() -> timetable.occupy("Monday", 1L));
+		assertInvalid(() -> timetable.occupy("월요일", 0L));
+		assertInvalid(() -> timetable.occupy("월요일", (long)ClassTimetable.MAX_PERIOD + 1));
+		assertInvalid(() -> timetable.occupy("월요일", null));
+	}
+
+	@Test
+	void 빈_칸을_요일_교시_순서로_돌려준다() {
+		ClassTimetable timetable = ClassTimetable.of(List.of(
+			schedule(1L, "월요일", 1L),
+			schedule(1L, "화요일", 2L)), null);
+
+		List<LectureScheduleDto> slots = timetable.freeSlots(2, 2);
+
+		assertThat(slots.stream().map(slot -> slot.getDay() + slot.getPeriod()).toList())
+			.containsExactly("월요일2", "화요일1");
+	}
+
+	@Test
+	void 빈_칸_범위는_요일과_교시_상한으로_잘린다() {
+		ClassTimetable timetable = ClassTimetable.of(List.of(), null);
+
+		assertThat(timetable.freeSlots(100, 100)).hasSize(ClassTimetable.DAYS.size() * ClassTimetable.MAX_PERIOD);
+		assertThat(timetable.freeSlots(0, 8)).isEmpty();
+	}
+
+	private void assertInvalid(ThrowingCallable callable) {
+		assertThatThrownBy(callable)
+			.isInstanceOf(EumException.class)
+			.extracting("errorCode")
+			.isEqualTo(ErrorCode.SCHEDULE_INVALID);
+	}
+
+	private LectureSchedule schedule(Long lectureId, String day, Long period) {
+		return LectureSchedule.builder()
+			.lecture(Lecture.builder().lectureId(lectureId).build())
+			.day(day)
+			.period(period)
+			.build();
+	}
+}
@@ -0,0 +1,141 @@
+package com.eum.lecture_service.config.jpa;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.function.LongFunction;
+import java.util.stream.LongStream;
+
+import javax.sql.DataSource;
+
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.eum.lecture_service.command.entity.exam.ExamProblemSubmission;
+import com.eum.lecture_service.command.entity.homework.HomeworkProblemSubmission;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 학생 한 명이 25문항을 제출할 때 MySQL 로 나가는 INSERT 횟수를 배치 전/후로 비교한다.
+ * 서버의 Com_insert 증가량으로 세므로 rewriteBatchedStatements 가 실제로 multi-row INSERT 로 바꿨는지까지 확인된다.
+ * 배치 전(IDENTITY)은 세션의 JDBC 배치 크기를 1 로 낮춰 행마다 INSERT 가 나가는 상태로 재현한다.
+ * Docker 가 없는 환경에서는 건너뛴다.
+ */
+@DataJpaTest(properties = {
+	"spring.cloud.bootstrap.enabled=false",
+	"spring.cloud.config.enabled=false",
+	"spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class ProblemSubmissionInsertRoundTripTest {
+
+	private static final Logger log = LoggerFactory.getLogger(ProblemSubmissionInsertRoundTripTest.class);
+	private static final int QUESTION_COUNT = 25;
+
+	@Container
+	private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+	@DynamicPropertySource
+	static void dataSourceProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+		registry.add("spring.datasource.username", MYSQL::getUsername);
+		registry.add("spring.datasource.password", MYSQL::getPassword);
+	}
+
+	@Configuration
+	@EntityScan(basePackages = "com.eum.lecture_service.command.entity")
+	@Import(JpaBatchConfig.class)
+	static class JpaTestConfig {
+	}
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private DataSource dataSource;
+
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		// id_generators 의 첫 행 INSERT 가 측정에 섞이지 않도록 블록을 미리 할당해 둔다
+		entityManager.persist(examProblemSubmission(0L));
+		entityManager.persist(homeworkProblemSubmission(0L));
+		entityManager.flush();
+	}
+
+	@Test
+	void 시험_제출의_문항별_INSERT_가_한_번으로_묶인다() {
+		long rowByRow = countInserts(QUESTION_COUNT, 1, this::examProblemSubmission);
+		long batched = countInserts(QUESTION_COUNT, null, this::examProblemSubmission);
+
+		log.info("시험 {}문항 제출 INSERT 왕복: 배치 전 {}, 배치 후 {}", QUESTION_COUNT, rowByRow, batched);
+		assertThat(rowByRow).isEqualTo(QUESTION_COUNT);
+		assertThat(batched).isEqualTo(1);
+	}
+
+	@Test
+	void 숙제_제출의_문항별_INSERT_가_한_번으로_묶인다() {
+		long rowByRow = countInserts(QUESTION_COUNT, 1, this::homeworkProblemSubmission);
+		long batched = countInserts(QUESTION_COUNT, null, this::homeworkProblemSubmission);
+
+		log.info("숙제 {}문항 제출 INSERT 왕복: 배치 전 {}, 배치 후 {}", QUESTION_COUNT, rowByRow, batched);
+		assertThat(rowByRow).isEqualTo(QUESTION_COUNT);
+		assertThat(batched).isEqualTo(1);
+	}
+
+	// jdbcBatchSize 가 null 이면 JpaBatchConfig 의 설정을 그대로 쓴다
+	private long countInserts(int questionCount, Integer jdbcBatchSize, LongFunction<?> entity) {
+		Session session = entityManager.unwrap(Session.class);
+		Integer previousBatchSize = session.getJdbcBatchSize();
+		session.setJdbcBatchSize(jdbcBatchSize);
+		try {
+			long before = comInsert();
+			LongStream.rangeClosed(1, questionCount).mapToObj(entity).forEach(entityManager::persist);
+			entityManager.flush();
+			return comInsert() - before;
+		} finally {
+			session.setJdbcBatchSize(previousBatchSize);
+			entityManager.clear();
+		}
+	}
+
+	private long comInsert() {
+		return jdbcTemplate.queryForObject("SHOW GLOBAL STATUS LIKE 'Com_insert'",
+			(resultSet, rowNum) -> resultSet.getLong("Value"));
+	}
+
+	private ExamProblemSubmission examProblemSubmission(long questionId) {
+		return ExamProblemSubmission.builder()
+			.questionId(questionId)
+			.studentId(1L)
+			.isCorrect(true)
+			.examSolution("풀이")
+			.build();
+	}
+
+	private HomeworkProblemSubmission homeworkProblemSubmission(long questionId) {
+		return HomeworkProblemSubmission.builder()
+			.questionId(questionId)
+			.studentId(1L)
+			.isCorrect(true)
+			.build();
+	}
+}
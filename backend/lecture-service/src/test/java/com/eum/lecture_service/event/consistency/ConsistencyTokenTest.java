@@ -0,0 +1,55 @@
+package com.eum.lecture_service.event.consistency;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class ConsistencyTokenTest {
+
+	@Test
+	void 쉼표로_이은_항목을_읽는다() {
+		ConsistencyToken token = ConsistencyToken.parse("1:exam-create-topic:100, 2:notice-create-topic:200");
+
+		assertThat(token.entries()).containsExactly(
+			new ConsistencyToken.Entry(1L, "exam-create-topic", 100L),
+			new ConsistencyToken.Entry(2L, "notice-create-topic", 200L));
+	}
+
+	@Test
+	void 없거나_빈_토큰은_빈_토큰이다() {
+		assertThat(ConsistencyToken.parse(null).isEmpty()).isTrue();
+		assertThat(ConsistencyToken.parse("  ").isEmpty()).isTrue();
+	}
+
+	@Test
+	void 형식이_맞지_않는_항목만_건너뛴다() {
+		ConsistencyToken token = ConsistencyToken.parse(
+			"1:exam-create-topic:100,abc:topic:1,2:topic,3:topic:later,4:a:b:5,,5:lesson-create-event:500");
+
+		assertThat(token.entries()).containsExactly(
+			new ConsistencyToken.Entry(1L, "exam-create-topic", 100L),
+			new ConsistencyToken.Entry(5L, "lesson-create-event", 500L));
+	}
+
+	@Test
+	void 강의별_항목만_고른다() {
+		ConsistencyToken token = ConsistencyToken.parse("1:a:100,2:b:200,1:c:300");
+
+		assertThat(token.entriesFor(1L)).containsExactly(
+			new ConsistencyToken.Entry(1L, "a", 100L),
+			new ConsistencyToken.Entry(1L, "c", 300L));
+		assertThat(token.entriesFor(3L)).isEmpty();
+	}
+
+	@Test
+	void format_한_값을_다시_읽으면_같은_토큰이다() {
+		ConsistencyToken token = new ConsistencyToken(List.of(
+			new ConsistencyToken.Entry(1L, "exam-create-topic", 100L),
+			new ConsistencyToken.Entry(2L, "homework-update-topic", 200L)));
+
+		assertThat(token.format()).isEqualTo("1:exam-create-topic:100,2:homework-update-topic:200");
+		assertThat(ConsistencyToken.parse(token.format())).isEqualTo(token);
+	}
+}
@@ -0,0 +1,186 @@
+package com.eum.lecture_service.event.projection;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.eum.lecture_service.query.document.LectureModel;
+import com.eum.lecture_service.query.document.lectureInfo.ExamInfo;
+import com.eum.lecture_service.query.document.lectureInfo.HomeworkInfo;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+
+/**
+ * 같은 강의에 대한 생성/삭제 이벤트를 여러 스레드에서 섞어 보내도 변경이 사라지거나 중복되지 않는지 확인한다.
+ * Docker 가 없는 환경에서는 건너뛴다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class LectureModelProjectionTest {
+
+	private static final Long LECTURE_ID = 1L;
+	private static final int THREADS = 8;
+	private static final int ITEMS = 200;
+
+	@Container
+	private static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+	private static MongoClient mongoClient;
+	private static MongoTemplate mongoTemplate;
+	private static LectureModelProjection lectureModelProjection;
+
+	@BeforeAll
+	static void setUp() {
+		mongoClient = MongoClients.create(MONGO.getReplicaSetUrl("lecture"));
+		mongoTemplate = new MongoTemplate(mongoClient, "lecture");
+		lectureModelProjection = new LectureModelProjection(mongoTemplate);
+	}
+
+	@AfterAll
+	static void tearDown() {
+		if (mongoClient != null) {
+			mongoClient.close();
+		}
+	}
+
+	@BeforeEach
+	void resetLecture() {
+		mongoTemplate.dropCollection(LectureModel.class);
+		LectureModel lecture = LectureModel.builder()
+			.lectureId(LECTURE_ID)
+			.homeworks(new ArrayList<>())
+			.exams(new ArrayList<>())
+			.build();
+		mongoTemplate.insert(lecture);
+	}
+
+	@Test
+	void 동시에_섞인_생성과_삭제가_모두_반영된다() throws Exception {
+		// 삭제될 기존 숙제 1001 ~ 1200
+		lectureModelProjection.apply("homeworks", "homeworkId", LongStream.rangeClosed(1001, 1000 + ITEMS)
+			.mapToObj(id -> LectureArrayMutation.upsert(LECTURE_ID, id, homework(id, "기존")))
+			.toList());
+
+		List<Callable<Set<Long>>> tasks = new ArrayList<>();
+		for (long id = 1; id <= ITEMS; id++) {
+			long itemId = id;
+			tasks.add(() -> lectureModelProjection.apply("homeworks", "homeworkId",
+				List.of(LectureArrayMutation.upsert(LECTURE_ID, itemId, homework(itemId, "숙제")))));
+			tasks.add(() -> lectureModelProjection.apply("homeworks", "homeworkId",
+				List.of(LectureArrayMutation.<HomeworkInfo>remove(LECTURE_ID, 1000 + itemId))));
+			tasks.add(() -> lectureModelProjection.apply("exams", "examId",
+				List.of(LectureArrayMutation.upsert(LECTURE_ID, itemId, exam(itemId)))));
+		}
+		List<Set<Long>> missing = runConcurrently(tasks);
+
+		assertThat(missing).allMatch(Set::isEmpty);
+		LectureModel lecture = mongoTemplate.findById(LECTURE_ID, LectureModel.class);
+		assertThat(lecture.getHomeworks()).extracting(HomeworkInfo::getHomeworkId)
+			.containsExactlyInAnyOrderElementsOf(LongStream.rangeClosed(1, ITEMS).boxed().toList());
+		assertThat(lecture.getExams()).extracting(ExamInfo::getExamId)
+			.containsExactlyInAnyOrderElementsOf(LongStream.rangeClosed(1, ITEMS).boxed().toList());
+	}
+
+	@Test
+	void 같은_항목을_동시에_다시_보내도_한_번만_들어간다() throws Exception {
+		List<Callable<Set<Long>>> tasks = new ArrayList<>();
+		for (int i = 0; i < THREADS * 4; i++) {
+			tasks.add(() -> lectureModelProjection.apply("homeworks", "homeworkId",
+				List.of(LectureArrayMutation.upsert(LECTURE_ID, 7L, homework(7L, "숙제")))));
+		}
+		runConcurrently(tasks);
+
+		LectureModel lecture = mongoTemplate.findById(LECTURE_ID, LectureModel.class);
+		assertThat(lecture.getHomeworks()).extracting(HomeworkInfo::getHomeworkId).containsExactly(7L);
+	}
+
+	@Test
+	void 수정은_목록의_위치를_유지한다() {
+		lectureModelProjection.apply("homeworks", "homeworkId", List.of(
+			LectureArrayMutation.upsert(LECTURE_ID, 1L, homework(1L, "첫 숙제")),
+			LectureArrayMutation.upsert(LECTURE_ID, 2L, homework(2L, "둘째 숙제"))));
+
+		lectureModelProjection.apply("homeworks", "homeworkId",
+			List.of(LectureArrayMutation.upsert(LECTURE_ID, 1L, homework(1L, "수정된 숙제"))));
+
+		LectureModel lecture = mongoTemplate.findById(LECTURE_ID, LectureModel.class);
+		assertThat(lecture.getHomeworks()).extracting(HomeworkInfo::getTitle)
+			.containsExactly("수정된 숙제", "둘째 숙제");
+	}
+
+	@Test
+	void 한_배치_안의_생성과_삭제는_마지막_상태로_합쳐진다() {
+		lectureModelProjection.apply("homeworks", "homeworkId", List.of(
+			LectureArrayMutation.upsert(LECTURE_ID, 1L, homework(1L, "숙제")),
+			LectureArrayMutation.<HomeworkInfo>remove(LECTURE_ID, 1L),
+			LectureArrayMutation.upsert(LECTURE_ID, 2L, homework(2L, "숙제"))));
+
+		LectureModel lecture = mongoTemplate.findById(LECTURE_ID, LectureModel.class);
+		assertThat(lecture.getHomeworks()).extracting(HomeworkInfo::getHomeworkId).containsExactly(2L);
+	}
+
+	@Test
+	void 없는_강의에_대한_변경은_돌려준다() {
+		Set<Long> missing = lectureModelProjection.apply("homeworks", "homeworkId", List.of(
+			LectureArrayMutation.upsert(LECTURE_ID, 1L, homework(1L, "숙제")),
+			LectureArrayMutation.upsert(99L, 2L, homework(2L, "숙제"))));
+
+		assertThat(missing).containsExactly(99L);
+		assertThat(mongoTemplate.findById(99L, LectureModel.class)).isNull();
+	}
+
+	private static List<Set<Long>> runConcurrently(List<Callable<Set<Long>>> tasks) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		try {
+			List<Future<Set<Long>>> futures = new ArrayList<>();
+			for (Callable<Set<Long>> task : tasks) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					return task.call();
+				}));
+			}
+			start.countDown();
+
+			List<Set<Long>> results = new ArrayList<>();
+			for (Future<Set<Long>> future : futures) {
+				results.add(future.get());
+			}
+			return results;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static HomeworkInfo homework(Long homeworkId, String title) {
+		return HomeworkInfo.builder()
+			.homeworkId(homeworkId)
+			.title(title)
+			.questions(List.of())
+			.build();
+	}
+
+	private static ExamInfo exam(Long examId) {
+		return ExamInfo.builder()
+			.examId(examId)
+			.title("시험")
+			.questions(List.of())
+			.build();
+	}
+}
@@ -0,0 +1,41 @@
+package com.eum.lecture_service.query.document;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class QuestionStatsModelTest {
+
+	@Test
+	void 점수는_10점_단위_구간의_하한으로_묶인다() {
+		assertThat(QuestionStatsModel.scoreBucket(0.0)).isEqualTo("0");
+		assertThat(QuestionStatsModel.scoreBucket(9.99)).isEqualTo("0");
+		assertThat(QuestionStatsModel.scoreBucket(10.0)).isEqualTo("10");
+		assertThat(QuestionStatsModel.scoreBucket(55.5)).isEqualTo("50");
+		assertThat(QuestionStatsModel.scoreBucket(89.9)).isEqualTo("80");
+	}
+
+	@Test
+	void 만점과_그_이상은_90점_구간에_넣는다() {
+		assertThat(QuestionStatsModel.scoreBucket(90.0)).isEqualTo("90");
+		assertThat(QuestionStatsModel.scoreBucket(100.0)).isEqualTo("90");
+		assertThat(QuestionStatsModel.scoreBucket(120.0)).isEqualTo("90");
+	}
+
+	@Test
+	void 음수_점수는_0점_구간에_넣는다() {
+		assertThat(QuestionStatsModel.scoreBucket(-5.0)).isEqualTo("0");
+	}
+
+	@Test
+	void 정답률은_응시가_없으면_0이다() {
+		assertThat(QuestionStatsModel.builder().build().correctRate()).isEqualTo(0.0);
+		assertThat(QuestionStatsModel.builder().attempts(0L).corrects(0L).build().correctRate()).isEqualTo(0.0);
+	}
+
+	@Test
+	void 정답률은_정답_수를_응시_수로_나눈_값이다() {
+		assertThat(QuestionStatsModel.builder().attempts(4L).corrects(3L).build().correctRate()).isEqualTo(0.75);
+		assertThat(QuestionStatsModel.builder().attempts(4L).build().correctRate()).isEqualTo(0.0);
+	}
+}
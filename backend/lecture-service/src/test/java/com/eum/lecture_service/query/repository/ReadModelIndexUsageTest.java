@@ -0,0 +1,196 @@
+package com.eum.lecture_service.query.repository;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.data.mongodb.core.query.Criteria.*;
+import static org.springframework.data.mongodb.core.query.Query.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.SimpleMongoClientDatabaseFactory;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.eum.lecture_service.config.mongo.MongoIndexInitializer;
+import com.eum.lecture_service.query.document.LectureModel;
+import com.eum.lecture_service.query.document.QuestionStatsModel;
+import com.eum.lecture_service.query.document.StudentHomeworkDashboardModel;
+import com.eum.lecture_service.query.document.StudentOverviewModel;
+import com.eum.lecture_service.query.document.StudentSubmissionModel;
+import com.eum.lecture_service.query.document.TeacherOverviewModel;
+import com.eum.lecture_service.query.document.eventModel.ClassModel;
+import com.eum.lecture_service.query.document.eventModel.StudentModel;
+import com.eum.lecture_service.query.document.eventModel.TeacherModel;
+import com.eum.lecture_service.query.document.studentInfo.AssessmentType;
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+
+/**
+ * 읽기 모델 조회가 MongoIndexInitializer 가 만든 인덱스를 실제로 타는지 explain() 으로 확인한다.
+ * 리포지토리 메서드가 보낸 명령을 CommandListener 로 그대로 잡아 explain 하므로 파생 쿼리의 필드명이 바뀌어도 검사가 따라간다.
+ * Docker 가 없는 환경에서는 건너뛴다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ReadModelIndexUsageTest {
+
+	private static final Set<String> QUERY_COMMANDS = Set.of("find", "aggregate", "count", "delete", "update");
+
+	@Container
+	private static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+	private static final List<BsonDocument> commands = new CopyOnWriteArrayList<>();
+
+	private static MongoClient mongoClient;
+	private static MongoDatabase database;
+	private static MongoTemplate mongoTemplate;
+	private static MongoRepositoryFactory repositoryFactory;
+
+	@BeforeAll
+	static void setUp() throws Exception {
+		mongoClient = MongoClients.create(MongoClientSettings.builder()
+			.applyConnectionString(new ConnectionString(MONGO.getReplicaSetUrl("lecture")))
+			.addCommandListener(new CommandListener() {
+				@Override
+				public void commandStarted(CommandStartedEvent event) {
+					if (QUERY_COMMANDS.contains(event.getCommandName())) {
+						// 이벤트의 명령 문서는 콜백 안에서만 유효하다
+						commands.add(event.getCommand().clone());
+					}
+				}
+			})
+			.build());
+		database = mongoClient.getDatabase("lecture");
+
+		MongoMappingContext mappingContext = new MongoMappingContext();
+		mappingContext.setInitialEntitySet(Set.of(LectureModel.class, QuestionStatsModel.class,
+			StudentHomeworkDashboardModel.class, StudentOverviewModel.class, StudentSubmissionModel.class,
+			TeacherOverviewModel.class, ClassModel.class, StudentModel.class, TeacherModel.class));
+		mappingContext.afterPropertiesSet();
+		MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+		converter.afterPropertiesSet();
+
+		mongoTemplate = new MongoTemplate(new SimpleMongoClientDatabaseFactory(mongoClient, "lecture"), converter);
+		new MongoIndexInitializer(mongoTemplate).afterSingletonsInstantiated();
+		repositoryFactory = new MongoRepositoryFactory(mongoTemplate);
+	}
+
+	@AfterAll
+	static void tearDown() {
+		if (mongoClient != null) {
+			mongoClient.close();
+		}
+	}
+
+	@Test
+	void 강의_조회는_인덱스를_탄다() {
+		LectureReadRepository repository = repositoryFactory.getRepository(LectureReadRepository.class);
+
+		assertNoCollectionScan(() -> repository.findByClassId(1L));
+		assertNoCollectionScan(() -> repository.findByTeacherId(1L));
+		assertNoCollectionScan(() -> repository.findByTeacherIdAndClassId(1L, 1L));
+		assertNoCollectionScan(() -> repository.findByYearAndSemester(2025L, 1L));
+		assertNoCollectionScan(() -> repository.findByClassIdAndSchedule_DayAndYearAndSemester(1L, "MON", 2025L, 1L));
+		assertNoCollectionScan(() -> repository.findByTeacherIdAndSchedule_DayAndYearAndSemester(1L, "MON", 2025L, 1L));
+	}
+
+	@Test
+	void 학생_개요_조회와_삭제는_인덱스를_탄다() {
+		StudentOverviewRepository repository = repositoryFactory.getRepository(StudentOverviewRepository.class);
+
+		assertNoCollectionScan(() -> repository.findByStudentIdAndLectureId(1L, 1L));
+		assertNoCollectionScan(() -> repository.findByLectureId(1L));
+		assertNoCollectionScan(() -> repository.countByLectureId(1L));
+		assertNoCollectionScan(() -> repository.findByStudentId(1L));
+		assertNoCollectionScan(() -> repository.deleteByLectureId(1L));
+	}
+
+	@Test
+	void 교사_개요_조회는_인덱스를_탄다() {
+		TeacherOverviewRepository repository = repositoryFactory.getRepository(TeacherOverviewRepository.class);
+
+		assertNoCollectionScan(() -> repository.findByLectureId(1L));
+		assertNoCollectionScan(() -> repository.findByTeacherIdAndLectureId(1L, 1L));
+		// 학생 이미지 변경 시 OverviewProjection 이 쓰는 필터
+		assertNoCollectionScan(() -> mongoTemplate.find(query(where("students.studentId").is(1L)),
+			TeacherOverviewModel.class));
+	}
+
+	@Test
+	void 반_학생_조회는_인덱스를_탄다() {
+		ClassReadRepository classRepository = repositoryFactory.getRepository(ClassReadRepository.class);
+		StudentReadRepository studentRepository = repositoryFactory.getRepository(StudentReadRepository.class);
+
+		assertNoCollectionScan(() -> classRepository.findBySchoolAndGradeAndClassNumber("이음중학교", 1L, 1L));
+		assertNoCollectionScan(() -> classRepository.findBySchool("이음중학교"));
+		assertNoCollectionScan(() -> studentRepository.findByClassId(1L));
+	}
+
+	@Test
+	void 제출과_문항_통계_조회는_인덱스를_탄다() {
+		StudentSubmissionRepository submissionRepository =
+			repositoryFactory.getRepository(StudentSubmissionRepository.class);
+		QuestionStatsRepository questionStatsRepository = repositoryFactory.getRepository(QuestionStatsRepository.class);
+		SubmissionAggregationRepository aggregationRepository = new SubmissionAggregationRepository(mongoTemplate);
+
+		assertNoCollectionScan(() -> submissionRepository.findByStudentIdAndLectureIdAndAssessmentType(1L, 1L,
+			AssessmentType.HOMEWORK));
+		assertNoCollectionScan(() -> submissionRepository.findByStudentIdAndAssessmentType(1L, AssessmentType.EXAM));
+		assertNoCollectionScan(() -> questionStatsRepository
+			.findByLectureIdAndAssessmentTypeAndAssessmentIdOrderByQuestionIdAsc(1L, AssessmentType.EXAM, 1L));
+		assertNoCollectionScan(() -> aggregationRepository.findHomeworkSubmissions(1L, 1L));
+		assertNoCollectionScan(() -> aggregationRepository.findExamSubmissions(1L, 1L));
+	}
+
+	@Test
+	void 숙제_대시보드_갱신_필터는_인덱스를_탄다() {
+		// HomeworkDashboardProjection 의 updateMulti 필터
+		assertNoCollectionScan(() -> mongoTemplate.find(query(where("homeworks.homeworkId").is(1L)),
+			StudentHomeworkDashboardModel.class));
+		assertNoCollectionScan(() -> mongoTemplate.find(query(where("classId").is(1L)),
+			StudentHomeworkDashboardModel.class));
+	}
+
+	private static void assertNoCollectionScan(Runnable query) {
+		commands.clear();
+		query.run();
+		List<BsonDocument> executed = List.copyOf(commands);
+		assertThat(executed).isNotEmpty();
+
+		for (BsonDocument command : executed) {
+			BsonDocument explain = database.runCommand(new BsonDocument("explain", withoutGenericFields(command))
+				.append("verbosity", new BsonString("queryPlanner")), BsonDocument.class);
+			String plan = explain.toJson();
+			assertThat(plan).as(command.toJson()).doesNotContain("COLLSCAN");
+			// $lookup 이 foreign 컬렉션을 인덱스 없이 훑으면 NestedLoopJoin 으로 표시된다
+			assertThat(plan).as(command.toJson()).doesNotContain("NestedLoopJoin");
+		}
+	}
+
+	// explain 안에 넣을 수 없는 세션/라우팅 필드($db, lsid, $clusterTime 등)를 뺀다
+	private static BsonDocument withoutGenericFields(BsonDocument command) {
+		BsonDocument stripped = new BsonDocument();
+		command.forEach((key, value) -> {
+			if (!key.startsWith("$") && !key.equals("lsid") && !key.equals("txnNumber")) {
+				stripped.append(key, value);
+			}
+		});
+		return stripped;
+	}
+}
@@ -278,15 +278,12 @@ const StudentExamCanvasSection = ({
   };
 
   const handleSubmit = () => {
-    const encodedResponses: ExamProblemSubmission = questionResponses.map((response, index) => {
-      const correctAnswer = problems[index]?.answer || ''; // 정답 기본값 설정
-      return {
-        questionId: response.questionId,
-        studentId: response.studentId,
-        isCorrect: (response.answerText?.trim() || '') === correctAnswer.trim(), // 공백 제거 후 비교
-        examSolution: encodePathsToSolution(response.examSolution),
-      };
-    });
+    const encodedResponses: ExamProblemSubmission = questionResponses.map((response) => ({
+      questionId: response.questionId,
+      studentId: response.studentId,
+      answerText: response.answerText?.trim() || '', // 채점은 서버에서 한다
+      examSolution: encodePathsToSolution(response.examSolution),
+    }));
     submitExamMutation(encodedResponses);
   };
 
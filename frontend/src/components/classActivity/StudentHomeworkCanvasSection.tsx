@@ -279,15 +279,12 @@ const StudentHomeworkCanvasSection = ({
   };
 
   const handleSubmit = () => {
-    const encodedResponses: HomeworkSubmissionRequest = questionResponses.map((response, index) => {
-      const correctAnswer = problems[index]?.answer || ''; // 정답 기본값 설정
-      return {
-        questionId: response.questionId,
-        studentId: response.studentId,
-        isCorrect: (response.answerText?.trim() || '') === correctAnswer.trim(), // 공백 제거 후 비교
-        homeworkSolution: encodePathsToSolution(response.homeworkSolution),
-      };
-    });
+    const encodedResponses: HomeworkSubmissionRequest = questionResponses.map((response) => ({
+      questionId: response.questionId,
+      studentId: response.studentId,
+      answerText: response.answerText?.trim() || '', // 채점은 서버에서 한다
+      homeworkSolution: encodePathsToSolution(response.homeworkSolution),
+    }));
     submitHomeworkMutation(encodedResponses);
   };
 
@@ -51,7 +51,7 @@ export const deleteExam = async (examId: number): Promise<void> => {
 export type ExamProblemSubmission = {
   questionId: number;
   studentId: number;
-  isCorrect: boolean;
+  answerText: string;
   examSolution: string;
 }[];
 
@@ -52,7 +52,7 @@ export const deleteHomework = async (homeworkId: number): Promise<void> => {
 export type HomeworkSubmissionRequest = {
   questionId: number;
   studentId: number;
-  isCorrect: boolean;
+  answerText: string;
   homeworkSolution: string;
 }[];
 